@@ -0,0 +1,108 @@
+#!/usr/bin/env bash
+# Native image smoke suite: runs the same API checks against the JVM jar and the native binary,
+# then reports time to first successful POST /api/auth/login and resident memory (RSS) for each.
+#
+#   ./mvnw package -DskipTests && ./mvnw -Pnative native:compile -DskipTests
+#   bench/native-smoke.sh
+#
+# Expects a migrated database reachable with the active profile (dev by default). Linux only (reads /proc).
+
+set -euo pipefail
+
+BASE_URL=${BASE_URL:-http://localhost:8080}
+JAR=${JAR:-$(ls target/finly-*.jar | grep -v plain | head -n 1)}
+NATIVE=${NATIVE:-target/finly}
+EMAIL=${BENCH_EMAIL:-native-smoke-$(date +%s)@finly.local}
+PASSWORD=${BENCH_PASSWORD:-native-smoke-password}
+export SPRING_PROFILES_ACTIVE=${SPRING_PROFILES_ACTIVE:-dev}
+
+LOGIN_BODY=$(printf '{"email":"%s","password":"%s"}' "$EMAIL" "$PASSWORD")
+REGISTER_BODY=$(printf '{"name":"Native Smoke","email":"%s","password":"%s"}' "$EMAIL" "$PASSWORD")
+FAILURES=0
+RESULTS=()
+
+now_ms() {
+    date +%s%3N
+}
+
+status() {
+    curl -s -o /dev/null -w '%{http_code}' "$@" || true
+}
+
+rss_kb() {
+    awk '/VmRSS/ { print $2 }' "/proc/$1/status"
+}
+
+check() {
+    local label=$1 expected=$2 actual=$3
+    if [ "$actual" = "$expected" ]; then
+        echo "  ok   $label ($actual)"
+    else
+        echo "  FAIL $label (expected $expected, got $actual)"
+        FAILURES=$((FAILURES + 1))
+    fi
+}
+
+stop_app() {
+    if [ -n "${APP_PID:-}" ]; then
+        kill "$APP_PID" 2> /dev/null || true
+        wait "$APP_PID" 2> /dev/null || true
+        APP_PID=
+    fi
+}
+
+trap stop_app EXIT
+
+run_suite() {
+    local name=$1
+    shift
+
+    echo "$name: $*"
+    local started
+    started=$(now_ms)
+    "$@" > "target/smoke-$name.log" 2>&1 &
+    APP_PID=$!
+
+    until [ "$(status -H 'Content-Type: application/json' -d "$LOGIN_BODY" "$BASE_URL/api/auth/login")" != "000" ]; do
+        kill -0 "$APP_PID" 2> /dev/null || { echo "  $name exited, see target/smoke-$name.log" >&2; exit 1; }
+        sleep 0.02
+    done
+    status -H 'Content-Type: application/json' -d "$REGISTER_BODY" "$BASE_URL/api/auth/register" > /dev/null
+    until [ "$(status -H 'Content-Type: application/json' -d "$LOGIN_BODY" "$BASE_URL/api/auth/login")" = "200" ]; do
+        sleep 0.02
+    done
+    local startup=$(( $(now_ms) - started ))
+
+    local token
+    token=$(curl -s -H 'Content-Type: application/json' -d "$LOGIN_BODY" "$BASE_URL/api/auth/login" \
+        | sed -n 's/.*"accessToken":"\([^"]*\)".*/\1/p')
+    local auth="Authorization: Bearer $token"
+
+    check "GET /api/users/me" 200 "$(status -H "$auth" "$BASE_URL/api/users/me")"
+    check "POST /api/accounts" 201 "$(status -H "$auth" -H 'Content-Type: application/json' \
+        -d '{"name":"Smoke","type":"CHECKING","balance":100.00,"currency":"BRL"}' "$BASE_URL/api/accounts")"
+    check "GET /api/accounts" 200 "$(status -H "$auth" "$BASE_URL/api/accounts")"
+    check "GET /api/categories" 200 "$(status -H "$auth" "$BASE_URL/api/categories")"
+    check "GET /api/goals" 200 "$(status -H "$auth" "$BASE_URL/api/goals")"
+    check "GET /api/dashboard" 200 "$(status -H "$auth" "$BASE_URL/api/dashboard")"
+    check "GET /api/transactions" 200 "$(status -H "$auth" "$BASE_URL/api/transactions")"
+    check "GET /api/accounts without token" 401 "$(status "$BASE_URL/api/accounts")"
+
+    local rss
+    rss=$(rss_kb "$APP_PID")
+    stop_app
+
+    RESULTS+=("$(printf '%-8s %12s ms %12s MB' "$name" "$startup" "$((rss / 1024))")")
+}
+
+run_suite jvm java -jar "$JAR"
+run_suite native "$NATIVE"
+
+echo
+printf '%-8s %15s %15s\n' runtime "first login" RSS
+printf '%s\n' "${RESULTS[@]}"
+
+if [ "$FAILURES" -gt 0 ]; then
+    echo "$FAILURES smoke check(s) failed" >&2
+    exit 1
+fi
@@ -0,0 +1,69 @@
+#!/usr/bin/env bash
+# Startup benchmark: time from process start to the first successful POST /api/auth/login.
+# Starts the application RUNS times with the given command and prints each sample plus the median.
+#
+#   bench/startup.sh                                                  # java -jar target/finly-*.jar
+#   bench/startup.sh java -XX:SharedArchiveFile=application/application.jsa \
+#       -Dspring.aot.enabled=true -jar application/app.jar
+#
+# Expects a migrated database reachable with the active profile (dev by default).
+
+set -euo pipefail
+
+BASE_URL=${BASE_URL:-http://localhost:8080}
+RUNS=${RUNS:-5}
+EMAIL=${BENCH_EMAIL:-startup-bench@finly.local}
+PASSWORD=${BENCH_PASSWORD:-startup-bench-password}
+export SPRING_PROFILES_ACTIVE=${SPRING_PROFILES_ACTIVE:-dev,startup}
+
+if [ $# -eq 0 ]; then
+    set -- java -jar "$(ls target/finly-*.jar | grep -v plain | head -n 1)"
+fi
+
+LOGIN_BODY=$(printf '{"email":"%s","password":"%s"}' "$EMAIL" "$PASSWORD")
+REGISTER_BODY=$(printf '{"name":"Startup Bench","email":"%s","password":"%s"}' "$EMAIL" "$PASSWORD")
+
+now_ms() {
+    date +%s%3N
+}
+
+post() {
+    curl -s -o /dev/null -w '%{http_code}' -H 'Content-Type: application/json' -d "$2" "$BASE_URL$1" || true
+}
+
+start_app() {
+    "$@" > /dev/null 2>&1 &
+    APP_PID=$!
+}
+
+stop_app() {
+    kill "$APP_PID" 2> /dev/null || true
+    wait "$APP_PID" 2> /dev/null || true
+}
+
+trap stop_app EXIT
+
+start_app "$@"
+until [ "$(post /api/auth/login "$LOGIN_BODY")" != "000" ]; do
+    kill -0 "$APP_PID" 2> /dev/null || { echo "Application exited during warm-up" >&2; exit 1; }
+    sleep 0.2
+done
+post /api/auth/register "$REGISTER_BODY" > /dev/null
+stop_app
+
+SAMPLES=()
+for run in $(seq 1 "$RUNS"); do
+    started=$(now_ms)
+    start_app "$@"
+    until [ "$(post /api/auth/login "$LOGIN_BODY")" = "200" ]; do
+        kill -0 "$APP_PID" 2> /dev/null || { echo "Application exited during run $run" >&2; exit 1; }
+        sleep 0.05
+    done
+    elapsed=$(( $(now_ms) - started ))
+    stop_app
+    SAMPLES+=("$elapsed")
+    echo "run $run: ${elapsed} ms"
+done
+
+MEDIAN=$(printf '%s\n' "${SAMPLES[@]}" | sort -n | awk '{ a[NR] = $1 } END { print (NR % 2) ? a[(NR + 1) / 2] : int((a[NR / 2] + a[NR / 2 + 1]) / 2) }')
+echo "median time to first login: ${MEDIAN} ms"
@@ -0,0 +1,72 @@
+-- Latency benchmark for GET /api/transactions/search.
+-- Seeds 10M transactions for a dedicated user and times the search query shapes
+-- issued by TransactionSearchRepositoryImpl.
+--
+--   psql "$DB_URL" -v ON_ERROR_STOP=1 -f bench/transaction-search.sql
+--
+-- Run against a disposable database migrated by Flyway; the seed takes several minutes.
+
+\timing on
+
+BEGIN;
+
+INSERT INTO users (id, name, email, password)
+VALUES ('00000000-0000-0000-0000-00000000b001', 'Bench', 'bench@finly.local', 'x')
+ON CONFLICT DO NOTHING;
+
+INSERT INTO accounts (id, user_id, name, type, balance, currency)
+VALUES ('00000000-0000-0000-0000-00000000a001', '00000000-0000-0000-0000-00000000b001', 'Bench checking', 'CHECKING', 0, 'BRL')
+ON CONFLICT DO NOTHING;
+
+INSERT INTO transactions (user_id, account_id, description, amount, type, status, transaction_date, notes)
+SELECT '00000000-0000-0000-0000-00000000b001',
+       '00000000-0000-0000-0000-00000000a001',
+       (ARRAY['Uber trip', 'iFood pedido', 'Supermercado Extra', 'Netflix', 'Posto Shell',
+              'Farmacia Drogasil', 'Amazon compra', 'Spotify', 'Padaria', 'Aluguel'])[1 + (g % 10)]
+           || ' #' || g,
+       round((random() * 500)::numeric, 2),
+       'EXPENSE',
+       'COMPLETED',
+       DATE '2020-01-01' + (g % 2190),
+       CASE WHEN g % 7 = 0 THEN 'reembolso empresa projeto ' || (g % 97) END
+FROM generate_series(1, 10000000) g;
+
+COMMIT;
+
+VACUUM ANALYZE transactions;
+
+-- Full-text match, first page
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.id,
+       (ts_rank_cd(t.search_vector, query) * 2
+           + greatest(word_similarity('uber', t.description),
+                      word_similarity('uber', coalesce(t.notes, ''))))::double precision AS score
+FROM transactions t
+CROSS JOIN websearch_to_tsquery('simple', 'uber') query
+WHERE t.user_id = '00000000-0000-0000-0000-00000000b001'
+AND (t.search_vector @@ query OR 'uber' <% t.description OR 'uber' <% t.notes)
+ORDER BY score DESC, t.transaction_date DESC, t.id DESC
+LIMIT 21;
+
+-- Typo tolerance through trigram similarity
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.id
+FROM transactions t
+CROSS JOIN websearch_to_tsquery('simple', 'drogasill') query
+WHERE t.user_id = '00000000-0000-0000-0000-00000000b001'
+AND (t.search_vector @@ query OR 'drogasill' <% t.description OR 'drogasill' <% t.notes)
+LIMIT 21;
+
+-- Combined filters: text + amount range + date range
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.id
+FROM transactions t
+CROSS JOIN websearch_to_tsquery('simple', 'reembolso') query
+WHERE t.user_id = '00000000-0000-0000-0000-00000000b001'
+AND (t.search_vector @@ query OR 'reembolso' <% t.description OR 'reembolso' <% t.notes)
+AND t.amount BETWEEN 100 AND 200
+AND t.transaction_date BETWEEN DATE '2024-03-01' AND DATE '2024-03-31'
+LIMIT 21;
+
+-- Cleanup
+DELETE FROM users WHERE id = '00000000-0000-0000-0000-00000000b001';
@@ -1,13 +1,18 @@
 package com.vitorsaucedo.finly;
 
+import com.vitorsaucedo.finly.config.NativeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableScheduling
 @ConfigurationPropertiesScan
+@ImportRuntimeHints(NativeHints.class)
 public class FinlyApplication {
 
 	public static void main(String[] args) {
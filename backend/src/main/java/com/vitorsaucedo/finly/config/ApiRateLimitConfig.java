@@ -0,0 +1,17 @@
+package com.vitorsaucedo.finly.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "app.security.api-rate-limit")
+public record ApiRateLimitConfig(
+        Integer burst,
+        Duration interval,
+        Integer slots,
+        Integer concurrency,
+        Integer maxQueuedPerUser,
+        Duration queueTimeout,
+        Map<String, Integer> costs
+) {}
@@ -0,0 +1,215 @@
+package com.vitorsaucedo.finly.config;
+
+import com.vitorsaucedo.finly.dto.response.CursorPageResponse;
+import com.vitorsaucedo.finly.util.FieldSelection;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class ColumnarJsonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.finly.columnar+json";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    private static final List<Column> VALUE_LAYOUT = List.of(new Column("value", null, null));
+    private static final List<Column> EMPTY_LAYOUT = List.of();
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, List<Column>> layouts = new ConcurrentHashMap<>();
+
+    public ColumnarJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(MEDIA_TYPE);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Page.class.isAssignableFrom(clazz)
+                || CursorPageResponse.class.isAssignableFrom(clazz)
+                || Collection.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean canWrite(MediaType mediaType) {
+        return mediaType != null && MEDIA_TYPE.equalsTypeAndSubtype(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Columnar JSON is a response-only format", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Columnar JSON is a response-only format", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        FieldSelection fields = FieldSelection.all();
+        if (body instanceof Selected selected) {
+            body = selected.body();
+            fields = selected.fields();
+        }
+        ResolvableType declared = type != null ? ResolvableType.forType(type) : ResolvableType.forInstance(body);
+
+        try (JsonGenerator generator = objectMapper.createGenerator(StreamUtils.nonClosing(outputMessage.getBody()))) {
+            generator.writeStartObject();
+            switch (body) {
+                case Page<?> page -> {
+                    writeTable(generator, page.getContent(), declared.as(Page.class).getGeneric(0).resolve(), fields);
+                    generator.writeName("totalElements");
+                    generator.writeNumber(page.getTotalElements());
+                    generator.writeName("totalPages");
+                    generator.writeNumber(page.getTotalPages());
+                    generator.writeName("number");
+                    generator.writeNumber(page.getNumber());
+                    generator.writeName("size");
+                    generator.writeNumber(page.getSize());
+                    generator.writeName("first");
+                    generator.writeBoolean(page.isFirst());
+                    generator.writeName("last");
+                    generator.writeBoolean(page.isLast());
+                }
+                case CursorPageResponse<?> cursorPage -> {
+                    writeTable(generator, cursorPage.content(),
+                            declared.as(CursorPageResponse.class).getGeneric(0).resolve(), fields);
+                    generator.writeName("nextCursor");
+                    generator.writeString(cursorPage.nextCursor());
+                }
+                case Collection<?> rows ->
+                        writeTable(generator, rows, declared.as(Collection.class).getGeneric(0).resolve(), fields);
+                default -> throw new HttpMessageNotWritableException(
+                        "Cannot write " + body.getClass().getName() + " as columnar JSON");
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    private void writeTable(JsonGenerator generator, Collection<?> rows, Class<?> rowType, FieldSelection fields) {
+        Object first = rows.isEmpty() ? null : rows.iterator().next();
+        if (first != null && (rowType == null || !rowType.isInstance(first))) {
+            rowType = first.getClass();
+        }
+        List<Column> layout = first instanceof Map<?, ?> ? mapLayout(rows)
+                : rowType != null && rowType.isRecord() ? selected(layout(rowType), rowType, fields)
+                : first != null ? VALUE_LAYOUT
+                : EMPTY_LAYOUT;
+
+        generator.writeName("columns");
+        generator.writeStartArray();
+        for (Column column : layout) {
+            generator.writeString(column.name());
+        }
+        generator.writeEndArray();
+
+        generator.writeName("rows");
+        generator.writeStartArray();
+        for (Object row : rows) {
+            generator.writeStartArray();
+            for (Column column : layout) {
+                Object value = column.accessor() != null ? read(column.accessor(), row)
+                        : row instanceof Map<?, ?> map ? map.get(column.name()) : row;
+                if (column.nestedType() != null && value instanceof Collection<?> nested) {
+                    generator.writeStartObject();
+                    writeTable(generator, nested, column.nestedType(), FieldSelection.all());
+                    generator.writeEndObject();
+                } else {
+                    writeCell(generator, value);
+                }
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndArray();
+    }
+
+    private void writeCell(JsonGenerator generator, Object value) {
+        switch (value) {
+            case null -> generator.writeNull();
+            case String text -> generator.writeString(text);
+            case UUID id -> generator.writeString(id.toString());
+            case BigDecimal decimal -> generator.writeNumber(decimal);
+            case Integer number -> generator.writeNumber(number);
+            case Long number -> generator.writeNumber(number);
+            case Boolean flag -> generator.writeBoolean(flag);
+            default -> generator.writePOJO(value);
+        }
+    }
+
+    private List<Column> layout(Class<?> rowType) {
+        return layouts.computeIfAbsent(rowType, type -> {
+            List<Column> columns = new ArrayList<>();
+            for (RecordComponent component : type.getRecordComponents()) {
+                Class<?> nestedType = Collection.class.isAssignableFrom(component.getType())
+                        ? ResolvableType.forType(component.getGenericType()).as(Collection.class).getGeneric(0).resolve()
+                        : null;
+                columns.add(new Column(component.getName(), component.getAccessor(),
+                        nestedType != null && nestedType.isRecord() ? nestedType : null));
+            }
+            return List.copyOf(columns);
+        });
+    }
+
+    private static List<Column> selected(List<Column> layout, Class<?> rowType, FieldSelection fields) {
+        if (!fields.selects(rowType)) return layout;
+        return layout.stream().filter(column -> fields.includes(column.name())).toList();
+    }
+
+    private static List<Column> mapLayout(Collection<?> rows) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (Object row : rows) {
+            if (row instanceof Map<?, ?> map) {
+                map.keySet().forEach(key -> keys.add(String.valueOf(key)));
+            }
+        }
+        return keys.stream().map(key -> new Column(key, null, null)).toList();
+    }
+
+    private static Object read(Method accessor, Object row) {
+        try {
+            return accessor.invoke(row);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new HttpMessageNotWritableException("Could not read " + accessor.getName() + " for columnar JSON", e);
+        }
+    }
+
+    private record Column(String name, Method accessor, Class<?> nestedType) {}
+
+    public record Selected(Object body, FieldSelection fields) {}
+}
@@ -0,0 +1,14 @@
+package com.vitorsaucedo.finly.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public record DataSourceReplicaConfig(
+        String url,
+        String username,
+        String password,
+        Integer maximumPoolSize,
+        Duration stickyWindow
+) {}
@@ -0,0 +1,50 @@
+package com.vitorsaucedo.finly.config;
+
+import com.vitorsaucedo.finly.dto.response.CursorPageResponse;
+import com.vitorsaucedo.finly.util.FieldSelection;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Collection;
+
+@ControllerAdvice
+public class FieldSelectionResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType contentType,
+                                  Class<? extends HttpMessageConverter<?>> converterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)
+                || !(servletRequest.getServletRequest().getAttribute(FieldSelection.REQUEST_ATTRIBUTE)
+                        instanceof FieldSelection selection)
+                || selection.isAll()
+                || body == null) {
+            return body;
+        }
+
+        if (ColumnarJsonHttpMessageConverter.class.isAssignableFrom(converterType)) {
+            return new ColumnarJsonHttpMessageConverter.Selected(body, selection);
+        }
+
+        return switch (body) {
+            case Page<?> page -> page.map(selection::pruneIfSelected);
+            case CursorPageResponse<?> cursorPage -> new CursorPageResponse<>(
+                    cursorPage.content().stream().map(selection::pruneIfSelected).toList(),
+                    cursorPage.nextCursor());
+            case Collection<?> rows -> rows.stream().map(selection::pruneIfSelected).toList();
+            default -> selection.pruneIfSelected(body);
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package com.vitorsaucedo.finly.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.ValidateResult;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FlywayDeferredValidation {
+
+    private final ObjectProvider<Flyway> flyway;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void validate() {
+        Flyway instance = flyway.getIfAvailable();
+        if (instance == null || instance.getConfiguration().isValidateOnMigrate()) return;
+
+        Thread.ofVirtual().name("flyway-deferred-validation").start(() -> check(instance));
+    }
+
+    void check(Flyway instance) {
+        try {
+            ValidateResult result = instance.validateWithResult();
+            if (result.validationSuccessful) {
+                log.info("Deferred Flyway validation passed");
+                return;
+            }
+            log.error("Deferred Flyway validation failed: {}", result.getAllErrorMessages());
+        } catch (RuntimeException e) {
+            log.error("Deferred Flyway validation could not run", e);
+        }
+
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        AvailabilityChangeEvent.publish(eventPublisher, this, LivenessState.BROKEN);
+    }
+}
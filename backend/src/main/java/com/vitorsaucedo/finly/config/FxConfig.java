@@ -0,0 +1,10 @@
+package com.vitorsaucedo.finly.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.io.Resource;
+
+@ConfigurationProperties(prefix = "app.fx")
+public record FxConfig(
+        Resource ratesFile,
+        String referenceCurrency
+) {}
@@ -2,8 +2,12 @@ package com.vitorsaucedo.finly.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 @ConfigurationProperties(prefix = "app.jwt")
 public record JwtConfig(
         String privateKeyLocation,
-        Long expirationSeconds
+        Long expirationSeconds,
+        Long refreshExpirationSeconds,
+        Duration refreshReuseGrace
 ) {}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.vitorsaucedo.finly.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "app.security.login-rate-limit")
+public record LoginRateLimitConfig(
+        Integer ipBurst,
+        Duration ipInterval,
+        Integer emailBurst,
+        Duration emailInterval,
+        Integer slots,
+        List<String> trustedProxies
+) {}
@@ -0,0 +1,107 @@
+package com.vitorsaucedo.finly.config;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyType;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.vitorsaucedo.finly.domain.account.Account;
+import com.vitorsaucedo.finly.domain.account.AccountBalanceSnapshot;
+import com.vitorsaucedo.finly.domain.account.AccountType;
+import com.vitorsaucedo.finly.domain.budget.Budget;
+import com.vitorsaucedo.finly.domain.budget.BudgetStatus;
+import com.vitorsaucedo.finly.domain.category.Category;
+import com.vitorsaucedo.finly.domain.category.CategoryType;
+import com.vitorsaucedo.finly.domain.goal.Goal;
+import com.vitorsaucedo.finly.domain.goal.GoalDeposit;
+import com.vitorsaucedo.finly.domain.goal.GoalDepositedPayload;
+import com.vitorsaucedo.finly.domain.goal.GoalStatus;
+import com.vitorsaucedo.finly.domain.installment.Installment;
+import com.vitorsaucedo.finly.domain.installment.InstallmentChangedPayload;
+import com.vitorsaucedo.finly.domain.installment.InstallmentGroup;
+import com.vitorsaucedo.finly.domain.installment.InstallmentStatus;
+import com.vitorsaucedo.finly.domain.transaction.Transaction;
+import com.vitorsaucedo.finly.domain.transaction.TransactionChangedPayload;
+import com.vitorsaucedo.finly.domain.transaction.TransactionStatus;
+import com.vitorsaucedo.finly.domain.transaction.TransactionType;
+import com.vitorsaucedo.finly.domain.user.User;
+import com.vitorsaucedo.finly.dto.response.DashboardResponse;
+import com.vitorsaucedo.finly.dto.response.LiveUpdateResponse;
+import com.vitorsaucedo.finly.dto.response.TransactionResponse;
+import com.vitorsaucedo.finly.outbox.OutboxEvent;
+import com.vitorsaucedo.finly.outbox.OutboxEventType;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.util.List;
+
+public class NativeHints implements RuntimeHintsRegistrar {
+
+    static final List<Class<?>> ENTITIES = List.of(
+            User.class,
+            Account.class,
+            AccountBalanceSnapshot.class,
+            Category.class,
+            Transaction.class,
+            InstallmentGroup.class,
+            Installment.class,
+            Budget.class,
+            Goal.class,
+            GoalDeposit.class,
+            OutboxEvent.class);
+
+    static final List<Class<?>> NAMED_ENUMS = List.of(
+            AccountType.class,
+            CategoryType.class,
+            TransactionType.class,
+            TransactionStatus.class,
+            InstallmentStatus.class,
+            BudgetStatus.class,
+            GoalStatus.class,
+            OutboxEventType.class);
+
+    static final List<Class<?>> JSON_PAYLOADS = List.of(
+            TransactionChangedPayload.class,
+            InstallmentChangedPayload.class,
+            GoalDepositedPayload.class,
+            LiveUpdateResponse.class,
+            TransactionResponse.class,
+            DashboardResponse.class);
+
+    static final List<Class<?>> NIMBUS_TYPES = List.of(
+            RSAKey.class,
+            JWKSet.class,
+            KeyType.class,
+            KeyUse.class,
+            JWSAlgorithm.class,
+            JWSHeader.class,
+            JWTClaimsSet.class);
+
+    static final String PEM_PATTERN = "certs/*.pem";
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        ENTITIES.forEach(type -> hints.reflection().registerType(type,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS,
+                MemberCategory.ACCESS_DECLARED_FIELDS));
+
+        NAMED_ENUMS.forEach(type -> hints.reflection().registerType(type,
+                MemberCategory.INVOKE_PUBLIC_METHODS,
+                MemberCategory.ACCESS_PUBLIC_FIELDS));
+
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                JSON_PAYLOADS.toArray(Class<?>[]::new));
+
+        NIMBUS_TYPES.forEach(type -> hints.reflection().registerType(type,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS,
+                MemberCategory.ACCESS_PUBLIC_FIELDS));
+
+        hints.resources().registerPattern(PEM_PATTERN);
+    }
+}
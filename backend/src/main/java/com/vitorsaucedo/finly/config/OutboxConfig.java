@@ -0,0 +1,15 @@
+package com.vitorsaucedo.finly.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.outbox")
+public record OutboxConfig(
+        Integer batchSize,
+        Duration lease,
+        Duration maxBackoff,
+        Integer maxAttempts,
+        Duration retention,
+        Duration broadcastOverlap
+) {}
@@ -0,0 +1,13 @@
+package com.vitorsaucedo.finly.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.security.hashing")
+public record PasswordHashingConfig(
+        String encoder,
+        Integer threads,
+        Integer queueCapacity,
+        Duration timeout
+) {}
@@ -0,0 +1,67 @@
+package com.vitorsaucedo.finly.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Slf4j
+@Component
+public class ReadReplicaDataSourcePostProcessor implements BeanPostProcessor, EnvironmentAware, DisposableBean {
+
+    private static final String PRIMARY_BEAN_NAME = "dataSource";
+    private static final Duration DEFAULT_STICKY_WINDOW = Duration.ofSeconds(5);
+    private static final int DEFAULT_REPLICA_POOL_SIZE = 5;
+
+    private Environment environment;
+    private HikariDataSource replica;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!PRIMARY_BEAN_NAME.equals(beanName) || !(bean instanceof HikariDataSource primary)) return bean;
+
+        DataSourceReplicaConfig config = Binder.get(environment)
+                .bind("app.datasource.replica", DataSourceReplicaConfig.class)
+                .orElse(null);
+        if (config == null || config.url() == null || config.url().isBlank()) return bean;
+
+        replica = new HikariDataSource();
+        replica.setPoolName("finly-replica");
+        replica.setJdbcUrl(config.url());
+        replica.setUsername(config.username() != null ? config.username() : primary.getUsername());
+        replica.setPassword(config.password() != null ? config.password() : primary.getPassword());
+        replica.setMaximumPoolSize(config.maximumPoolSize() != null
+                ? config.maximumPoolSize() : DEFAULT_REPLICA_POOL_SIZE);
+        replica.setReadOnly(true);
+
+        ReadReplicaRoutingDataSource routing = new ReadReplicaRoutingDataSource(new ReplicaLagGuard(
+                config.stickyWindow() != null ? config.stickyWindow() : DEFAULT_STICKY_WINDOW));
+        routing.setTargetDataSources(Map.of(
+                ReadReplicaRoutingDataSource.Route.PRIMARY, primary,
+                ReadReplicaRoutingDataSource.Route.REPLICA, replica
+        ));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+
+        log.info("Routing read-only transactions to the read replica");
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Override
+    public void destroy() {
+        if (replica != null) replica.close();
+    }
+}
@@ -0,0 +1,57 @@
+package com.vitorsaucedo.finly.config;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ReplicaLagGuard {
+
+    private static final int PRUNE_THRESHOLD = 10_000;
+
+    private final long stickyWindowNanos;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReplicaLagGuard(Duration stickyWindow) {
+        this.stickyWindowNanos = stickyWindow.toNanos();
+    }
+
+    public void recordWrite() {
+        String subject = currentSubject();
+        if (subject == null || stickyWindowNanos == 0) return;
+
+        long now = System.nanoTime();
+        lastWrites.put(subject, now);
+
+        if (lastWrites.size() > PRUNE_THRESHOLD) {
+            lastWrites.values().removeIf(writtenAt -> now - writtenAt > stickyWindowNanos);
+        }
+    }
+
+    public boolean mustReadFromPrimary() {
+        String subject = currentSubject();
+        if (subject == null) return false;
+
+        Long writtenAt = lastWrites.get(subject);
+        if (writtenAt == null) return false;
+
+        if (System.nanoTime() - writtenAt > stickyWindowNanos) {
+            lastWrites.remove(subject, writtenAt);
+            return false;
+        }
+        return true;
+    }
+
+    private String currentSubject() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null
+                || authentication instanceof AnonymousAuthenticationToken
+                || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
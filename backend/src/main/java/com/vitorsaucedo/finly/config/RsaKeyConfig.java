@@ -3,12 +3,8 @@ package com.vitorsaucedo.finly.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.core.io.Resource;
 
-import java.security.KeyFactory;
-import java.security.PrivateKey;
-import java.security.PublicKey;
-import java.security.spec.PKCS8EncodedKeySpec;
-import java.security.spec.X509EncodedKeySpec;
-import java.util.Base64;
+import java.util.ArrayList;
+import java.util.List;
 
 @ConfigurationProperties(prefix = "app.rsa")
 public class RsaKeyConfig {
@@ -19,53 +15,54 @@ public class RsaKeyConfig {
     private String publicKey;
     private String privateKey;
 
+    private List<Resource> previousPublicKeyLocations = new ArrayList<>();
+    private List<String> previousPublicKeys = new ArrayList<>();
+
+    public Resource getPublicKeyLocation() {
+        return publicKeyLocation;
+    }
+
     public void setPublicKeyLocation(Resource publicKeyLocation) {
         this.publicKeyLocation = publicKeyLocation;
     }
 
+    public Resource getPrivateKeyLocation() {
+        return privateKeyLocation;
+    }
+
     public void setPrivateKeyLocation(Resource privateKeyLocation) {
         this.privateKeyLocation = privateKeyLocation;
     }
 
+    public String getPublicKey() {
+        return publicKey;
+    }
+
     public void setPublicKey(String publicKey) {
         this.publicKey = publicKey;
     }
 
+    public String getPrivateKey() {
+        return privateKey;
+    }
+
     public void setPrivateKey(String privateKey) {
         this.privateKey = privateKey;
     }
 
-    public PublicKey publicKey() {
-        try {
-            byte[] der = resolveKeyBytes(publicKeyLocation, publicKey);
-            return KeyFactory.getInstance("RSA").generatePublic(new X509EncodedKeySpec(der));
-        } catch (Exception e) {
-            throw new IllegalStateException("Falha ao carregar RSA public key", e);
-        }
+    public List<Resource> getPreviousPublicKeyLocations() {
+        return previousPublicKeyLocations;
     }
 
-    public PrivateKey privateKey() {
-        try {
-            byte[] der = resolveKeyBytes(privateKeyLocation, privateKey);
-            return KeyFactory.getInstance("RSA").generatePrivate(new PKCS8EncodedKeySpec(der));
-        } catch (Exception e) {
-            throw new IllegalStateException("Falha ao carregar RSA private key", e);
-        }
+    public void setPreviousPublicKeyLocations(List<Resource> previousPublicKeyLocations) {
+        this.previousPublicKeyLocations = previousPublicKeyLocations;
     }
 
-    private byte[] resolveKeyBytes(Resource location, String base64String) throws Exception {
-        if (location != null) {
-            String pem = new String(location.getInputStream().readAllBytes());
-            return Base64.getDecoder().decode(stripPemHeaders(pem));
-        }
-        if (base64String != null && !base64String.isBlank()) {
-            String pem = new String(Base64.getDecoder().decode(base64String.trim()));
-            return Base64.getDecoder().decode(stripPemHeaders(pem));
-        }
-        throw new IllegalStateException("Nenhuma chave RSA configurada (nem location nem string base64)");
+    public List<String> getPreviousPublicKeys() {
+        return previousPublicKeys;
     }
 
-    private String stripPemHeaders(String pem) {
-        return pem.replaceAll("-----.*?-----", "").replaceAll("\\s", "");
+    public void setPreviousPublicKeys(List<String> previousPublicKeys) {
+        this.previousPublicKeys = previousPublicKeys;
     }
-}
\ No newline at end of file
+}
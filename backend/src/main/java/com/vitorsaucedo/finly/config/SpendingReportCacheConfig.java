@@ -0,0 +1,12 @@
+package com.vitorsaucedo.finly.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.report.cache")
+public record SpendingReportCacheConfig(
+        Integer maxUsers,
+        Integer maxReportsPerUser,
+        Duration ttl
+) {}
@@ -0,0 +1,37 @@
+package com.vitorsaucedo.finly.config;
+
+import com.vitorsaucedo.finly.FinlyApplication;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.EntityManagerFactoryInfo;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.web.SecurityFilterChain;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class StartupConfig {
+
+    private static final String APPLICATION_PACKAGE = FinlyApplication.class.getPackageName();
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerInfrastructure() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                DataSource.class,
+                Flyway.class,
+                EntityManagerFactoryInfo.class,
+                SecurityFilterChain.class,
+                JwtDecoder.class,
+                JwtEncoder.class);
+    }
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerApplicationBeans() {
+        return (beanName, beanDefinition, beanType) ->
+                beanType.getPackageName().startsWith(APPLICATION_PACKAGE)
+                        && beanType != OpenApiConfig.class;
+    }
+}
@@ -0,0 +1,12 @@
+package com.vitorsaucedo.finly.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.stream")
+public record StreamConfig(
+        Integer bufferSize,
+        Duration heartbeatInterval,
+        Duration timeout
+) {}
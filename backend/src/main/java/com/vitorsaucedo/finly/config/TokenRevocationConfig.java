@@ -0,0 +1,12 @@
+package com.vitorsaucedo.finly.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.jwt.revocation")
+public record TokenRevocationConfig(
+        Duration rebuildInterval,
+        Integer expectedRevocations,
+        Integer cacheSize
+) {}
@@ -0,0 +1,10 @@
+package com.vitorsaucedo.finly.domain.account;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record AccountBalanceChangedEvent(
+        UUID userId,
+        UUID accountId,
+        BigDecimal balance
+) {}
@@ -0,0 +1,60 @@
+package com.vitorsaucedo.finly.domain.account;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface AccountBalanceSnapshotRepository extends JpaRepository<AccountBalanceSnapshot, UUID> {
+
+    List<AccountBalanceSnapshot> findAllByAccountIdAndSnapshotDateBetweenOrderBySnapshotDateAsc(
+            UUID accountId, LocalDate from, LocalDate to);
+
+    @Query(value = """
+            SELECT s.balance FROM account_balance_snapshots s
+            WHERE s.account_id = :accountId
+            AND s.snapshot_date < :date
+            ORDER BY s.snapshot_date DESC
+            LIMIT 1
+            """, nativeQuery = true)
+    Optional<BigDecimal> findClosingBalanceBefore(UUID accountId, LocalDate date);
+
+    @Query(value = """
+            SELECT s.balance - s.net_change FROM account_balance_snapshots s
+            WHERE s.account_id = :accountId
+            AND s.snapshot_date >= :date
+            ORDER BY s.snapshot_date ASC
+            LIMIT 1
+            """, nativeQuery = true)
+    Optional<BigDecimal> findOpeningBalanceFrom(UUID accountId, LocalDate date);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO account_balance_snapshots (account_id, snapshot_date, balance, net_change)
+            VALUES (:accountId, :date, COALESCE(
+                (SELECT s.balance FROM account_balance_snapshots s
+                 WHERE s.account_id = :accountId AND s.snapshot_date < :date
+                 ORDER BY s.snapshot_date DESC LIMIT 1),
+                (SELECT s.balance - s.net_change FROM account_balance_snapshots s
+                 WHERE s.account_id = :accountId AND s.snapshot_date >= :date
+                 ORDER BY s.snapshot_date ASC LIMIT 1),
+                :fallbackBalance), 0)
+            ON CONFLICT (account_id, snapshot_date) DO NOTHING
+            """, nativeQuery = true)
+    void insertIfAbsent(UUID accountId, LocalDate date, BigDecimal fallbackBalance);
+
+    @Modifying
+    @Query(value = """
+            UPDATE account_balance_snapshots
+            SET balance = balance + :delta,
+                net_change = net_change + CASE WHEN snapshot_date = :date THEN :delta ELSE 0 END
+            WHERE account_id = :accountId
+            AND snapshot_date >= :date
+            """, nativeQuery = true)
+    void shiftFrom(UUID accountId, LocalDate date, BigDecimal delta);
+}
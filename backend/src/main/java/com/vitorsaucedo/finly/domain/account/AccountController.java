@@ -2,16 +2,19 @@ package com.vitorsaucedo.finly.domain.account;
 
 import com.vitorsaucedo.finly.dto.request.AccountRequest;
 import com.vitorsaucedo.finly.dto.response.AccountResponse;
+import com.vitorsaucedo.finly.dto.response.BalanceHistoryResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -23,6 +26,7 @@ import java.util.UUID;
 public class AccountController {
 
     private final AccountService accountService;
+    private final BalanceHistoryService balanceHistoryService;
 
     @GetMapping
     @Operation(summary = "List all accounts")
@@ -38,6 +42,16 @@ public class AccountController {
         return ResponseEntity.ok(accountService.findById(id, extractUserId(token)));
     }
 
+    @GetMapping("/{id}/balance-history")
+    @Operation(summary = "Get daily balance history of an account")
+    public ResponseEntity<List<BalanceHistoryResponse>> balanceHistory(
+            @PathVariable UUID id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            JwtAuthenticationToken token) {
+        return ResponseEntity.ok(balanceHistoryService.getHistory(id, extractUserId(token), from, to));
+    }
+
     @PostMapping
     @Operation(summary = "Create a new account")
     public ResponseEntity<AccountResponse> create(
@@ -1,6 +1,7 @@
 package com.vitorsaucedo.finly.domain.account;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,4 +11,7 @@ public interface AccountRepository extends JpaRepository<Account, UUID> {
     List<Account> findAllByUserId(UUID userId);
     Optional<Account> findByIdAndUserId(UUID id, UUID userId);
     boolean existsByIdAndUserId(UUID id, UUID userId);
+
+    @Query("SELECT DISTINCT a.currency FROM Account a WHERE a.user.id = :userId")
+    List<String> findDistinctCurrenciesByUserId(UUID userId);
 }
\ No newline at end of file
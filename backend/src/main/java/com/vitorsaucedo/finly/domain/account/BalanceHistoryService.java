@@ -0,0 +1,64 @@
+package com.vitorsaucedo.finly.domain.account;
+
+import com.vitorsaucedo.finly.dto.response.BalanceHistoryResponse;
+import com.vitorsaucedo.finly.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class BalanceHistoryService {
+
+    private static final long MAX_HISTORY_DAYS = 730;
+
+    private final AccountBalanceSnapshotRepository snapshotRepository;
+    private final AccountService accountService;
+
+    @Transactional
+    public void recordChange(Account account, LocalDate date, BigDecimal delta) {
+        if (delta.signum() == 0) return;
+
+        snapshotRepository.insertIfAbsent(account.getId(), date, account.getBalance().subtract(delta));
+        snapshotRepository.shiftFrom(account.getId(), date, delta);
+    }
+
+    @Transactional(readOnly = true)
+    public List<BalanceHistoryResponse> getHistory(UUID accountId, UUID userId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new BusinessException("Start date must be before end date");
+        }
+
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_HISTORY_DAYS) {
+            throw new BusinessException("Balance history range must be at most " + MAX_HISTORY_DAYS + " days");
+        }
+
+        Account account = accountService.getAccount(accountId, userId);
+
+        BigDecimal balance = snapshotRepository.findClosingBalanceBefore(accountId, from)
+                .or(() -> snapshotRepository.findOpeningBalanceFrom(accountId, from))
+                .orElse(account.getBalance());
+
+        List<AccountBalanceSnapshot> snapshots = snapshotRepository
+                .findAllByAccountIdAndSnapshotDateBetweenOrderBySnapshotDateAsc(accountId, from, to);
+
+        List<BalanceHistoryResponse> history = new ArrayList<>();
+        int next = 0;
+
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            if (next < snapshots.size() && snapshots.get(next).getSnapshotDate().equals(date)) {
+                balance = snapshots.get(next++).getBalance();
+            }
+            history.add(new BalanceHistoryResponse(date, balance));
+        }
+
+        return history;
+    }
+}
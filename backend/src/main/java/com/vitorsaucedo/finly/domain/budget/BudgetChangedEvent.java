@@ -0,0 +1,11 @@
+package com.vitorsaucedo.finly.domain.budget;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record BudgetChangedEvent(
+        UUID userId,
+        UUID budgetId,
+        BigDecimal spent,
+        BudgetStatus status
+) {}
@@ -0,0 +1,56 @@
+package com.vitorsaucedo.finly.domain.budget;
+
+import com.vitorsaucedo.finly.domain.transaction.TransactionChangedPayload;
+import com.vitorsaucedo.finly.outbox.OutboxEvent;
+import com.vitorsaucedo.finly.outbox.OutboxEventConsumer;
+import com.vitorsaucedo.finly.outbox.OutboxEventType;
+import com.vitorsaucedo.finly.outbox.OutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class BudgetRecalculationConsumer implements OutboxEventConsumer {
+
+    private final BudgetService budgetService;
+    private final OutboxService outboxService;
+
+    @Override
+    public String name() {
+        return "budget-recalculation";
+    }
+
+    @Override
+    public Set<OutboxEventType> eventTypes() {
+        return EnumSet.of(
+                OutboxEventType.TRANSACTION_CREATED,
+                OutboxEventType.TRANSACTIONS_CREATED,
+                OutboxEventType.TRANSACTION_UPDATED,
+                OutboxEventType.TRANSACTION_DELETED
+        );
+    }
+
+    @Override
+    public void consume(OutboxEvent event) {
+        TransactionChangedPayload payload = outboxService.readPayload(event, TransactionChangedPayload.class);
+
+        recalculate(event.getUserId(), payload.categoryId(), payload.transactionDate());
+
+        if (payload.previousCategoryId() != null
+                && (!payload.previousCategoryId().equals(payload.categoryId())
+                || !YearMonth.from(payload.previousTransactionDate()).equals(YearMonth.from(payload.transactionDate())))) {
+            recalculate(event.getUserId(), payload.previousCategoryId(), payload.previousTransactionDate());
+        }
+    }
+
+    private void recalculate(UUID userId, UUID categoryId, LocalDate date) {
+        if (categoryId == null) return;
+        budgetService.recalculateSpent(userId, categoryId, date.getMonthValue(), date.getYear());
+    }
+}
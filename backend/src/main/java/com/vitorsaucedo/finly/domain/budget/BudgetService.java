@@ -1,17 +1,20 @@
 package com.vitorsaucedo.finly.domain.budget;
 
 import com.vitorsaucedo.finly.domain.category.CategoryService;
+import com.vitorsaucedo.finly.domain.transaction.TransactionRepository;
 import com.vitorsaucedo.finly.domain.user.UserService;
 import com.vitorsaucedo.finly.dto.request.BudgetRequest;
 import com.vitorsaucedo.finly.dto.response.BudgetResponse;
 import com.vitorsaucedo.finly.exception.BusinessException;
 import com.vitorsaucedo.finly.exception.ResourceNotFoundException;
+import com.vitorsaucedo.finly.util.DateUtils;
+import com.vitorsaucedo.finly.util.Money;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,6 +25,8 @@ public class BudgetService {
     private final BudgetRepository budgetRepository;
     private final UserService userService;
     private final CategoryService categoryService;
+    private final TransactionRepository transactionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<BudgetResponse> findAllByMonthAndYear(UUID userId, int month, int year) {
@@ -76,24 +81,29 @@ public class BudgetService {
     }
 
     @Transactional
-    public void updateSpentAmount(UUID userId, UUID categoryId, int month, int year, BigDecimal amount) {
+    public void recalculateSpent(UUID userId, UUID categoryId, int month, int year) {
         budgetRepository.findByUserIdAndCategoryIdAndMonthAndYear(userId, categoryId, month, year)
                 .ifPresent(budget -> {
-                    budget.setSpent(budget.getSpent().add(amount));
+                    BigDecimal spent = transactionRepository.sumCompletedExpensesByCategory(
+                            userId, categoryId,
+                            DateUtils.firstDayOfMonth(month, year),
+                            DateUtils.lastDayOfMonth(month, year));
+
+                    if (spent.compareTo(budget.getSpent()) == 0) return;
+
+                    budget.setSpent(spent);
                     budget.setStatus(budget.getSpent().compareTo(budget.getAmount()) >= 0
                             ? BudgetStatus.EXCEEDED : BudgetStatus.ACTIVE);
                     budgetRepository.save(budget);
+                    eventPublisher.publishEvent(new BudgetChangedEvent(
+                            userId, budget.getId(), budget.getSpent(), budget.getStatus()));
                 });
     }
 
     private BudgetResponse toResponse(Budget budget) {
-        BigDecimal remaining = budget.getAmount().subtract(budget.getSpent());
-        double percentageUsed = budget.getAmount().compareTo(BigDecimal.ZERO) > 0
-                ? budget.getSpent()
-                .divide(budget.getAmount(), 4, RoundingMode.HALF_UP)
-                .multiply(BigDecimal.valueOf(100))
-                .doubleValue()
-                : 0.0;
+        long amount = Money.cents(budget.getAmount());
+        long spent = Money.cents(budget.getSpent());
+        double percentageUsed = amount > 0 ? Money.percentage(spent, amount) : 0.0;
 
         return new BudgetResponse(
                 budget.getId(),
@@ -102,7 +112,7 @@ public class BudgetService {
                 budget.getCategory().getColor(),
                 budget.getAmount(),
                 budget.getSpent(),
-                remaining,
+                Money.toBigDecimal(amount - spent),
                 percentageUsed,
                 budget.getMonth(),
                 budget.getYear(),
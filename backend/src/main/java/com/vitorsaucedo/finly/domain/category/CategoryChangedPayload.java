@@ -0,0 +1,7 @@
+package com.vitorsaucedo.finly.domain.category;
+
+import java.util.UUID;
+
+public record CategoryChangedPayload(
+        UUID categoryId
+) {}
@@ -5,6 +5,8 @@ import com.vitorsaucedo.finly.dto.request.CategoryRequest;
 import com.vitorsaucedo.finly.dto.response.CategoryResponse;
 import com.vitorsaucedo.finly.exception.BusinessException;
 import com.vitorsaucedo.finly.exception.ResourceNotFoundException;
+import com.vitorsaucedo.finly.outbox.OutboxEventType;
+import com.vitorsaucedo.finly.outbox.OutboxService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,6 +20,7 @@ public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final UserService userService;
+    private final OutboxService outboxService;
 
     @Transactional(readOnly = true)
     public List<CategoryResponse> findAll(UUID userId) {
@@ -62,7 +65,9 @@ public class CategoryService {
         category.setColor(request.color());
         category.setIcon(request.icon());
 
-        return toResponse(categoryRepository.save(category));
+        Category saved = categoryRepository.save(category);
+        outboxService.append(userId, OutboxEventType.CATEGORY_UPDATED, id, new CategoryChangedPayload(id));
+        return toResponse(saved);
     }
 
     @Transactional
@@ -75,6 +80,7 @@ public class CategoryService {
         }
 
         categoryRepository.delete(category);
+        outboxService.append(userId, OutboxEventType.CATEGORY_DELETED, id, new CategoryChangedPayload(id));
     }
 
     public Category getCategory(UUID id, UUID userId) {
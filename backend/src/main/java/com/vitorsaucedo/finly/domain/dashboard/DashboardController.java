@@ -1,6 +1,7 @@
 package com.vitorsaucedo.finly.domain.dashboard;
 
 import com.vitorsaucedo.finly.dto.response.DashboardResponse;
+import com.vitorsaucedo.finly.util.FieldSelection;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -9,6 +10,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.UUID;
@@ -24,8 +26,12 @@ public class DashboardController {
 
     @GetMapping
     @Operation(summary = "Get financial dashboard summary")
-    public ResponseEntity<DashboardResponse> getDashboard(JwtAuthenticationToken token) {
-        return ResponseEntity.ok(dashboardService.getDashboard(extractUserId(token)));
+    public ResponseEntity<DashboardResponse> getDashboard(
+            @RequestParam(required = false) String fields,
+            JwtAuthenticationToken token) {
+        FieldSelection selection = FieldSelection.parse(fields, DashboardResponse.class,
+                "baseCurrency", "unavailableSections").bindToCurrentRequest();
+        return ResponseEntity.ok(dashboardService.getDashboard(extractUserId(token), selection));
     }
 
     private UUID extractUserId(JwtAuthenticationToken token) {
@@ -0,0 +1,112 @@
+package com.vitorsaucedo.finly.domain.dashboard;
+
+import com.vitorsaucedo.finly.config.DashboardConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class DashboardSectionExecutor {
+
+    private static final int DEFAULT_MAX_CONCURRENCY = 2;
+    private static final Duration DEFAULT_SECTION_TIMEOUT = Duration.ofSeconds(2);
+
+    private final boolean parallel;
+    private final Duration sectionTimeout;
+    private final Semaphore connectionBudget;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate sectionTransaction;
+    private final ExecutorService executor;
+
+    public DashboardSectionExecutor(DashboardConfig config, PlatformTransactionManager transactionManager) {
+        this.parallel = config.parallel();
+        this.sectionTimeout = config.sectionTimeout() != null ? config.sectionTimeout() : DEFAULT_SECTION_TIMEOUT;
+        this.connectionBudget = new Semaphore(
+                config.maxConcurrency() != null ? config.maxConcurrency() : DEFAULT_MAX_CONCURRENCY, true);
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        this.sectionTransaction = new TransactionTemplate(transactionManager);
+        this.sectionTransaction.setReadOnly(true);
+        this.sectionTransaction.setTimeout((int) Math.max(1, sectionTimeout.plusMillis(999).toSeconds()));
+
+        this.executor = new DelegatingSecurityContextExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public <T> T runReadOnly(Supplier<T> work) {
+        return readOnlyTransaction.execute(status -> work.get());
+    }
+
+    public <T> Section<T> submit(String name, Supplier<T> work) {
+        long deadline = System.nanoTime() + sectionTimeout.toNanos();
+        Future<T> future = executor.submit(() -> {
+            connectionBudget.acquire();
+            try {
+                return sectionTransaction.execute(status -> work.get());
+            } finally {
+                connectionBudget.release();
+            }
+        });
+        return new Section<>(name, future, deadline);
+    }
+
+    public <T> Section<T> skip(String name) {
+        return new Section<>(name, CompletableFuture.completedFuture(null), System.nanoTime());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public static final class Section<T> {
+
+        private final String name;
+        private final Future<T> future;
+        private final long deadline;
+        private boolean failed;
+
+        private Section(String name, Future<T> future, long deadline) {
+            this.name = name;
+            this.future = future;
+            this.deadline = deadline;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public boolean failed() {
+            return failed;
+        }
+
+        public T join() {
+            try {
+                return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                log.warn("Dashboard section '{}' timed out", name);
+            } catch (ExecutionException e) {
+                log.warn("Dashboard section '{}' failed", name, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+            }
+            failed = true;
+            return null;
+        }
+    }
+}
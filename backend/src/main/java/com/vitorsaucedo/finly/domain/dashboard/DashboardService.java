@@ -2,19 +2,27 @@ package com.vitorsaucedo.finly.domain.dashboard;
 
 import com.vitorsaucedo.finly.domain.account.AccountService;
 import com.vitorsaucedo.finly.domain.budget.BudgetService;
+import com.vitorsaucedo.finly.domain.fx.FxService;
 import com.vitorsaucedo.finly.domain.goal.GoalService;
+import com.vitorsaucedo.finly.domain.transaction.CurrencyTotal;
 import com.vitorsaucedo.finly.domain.transaction.TransactionRepository;
 import com.vitorsaucedo.finly.domain.transaction.TransactionType;
+import com.vitorsaucedo.finly.dto.response.AccountResponse;
+import com.vitorsaucedo.finly.dto.response.BudgetResponse;
 import com.vitorsaucedo.finly.dto.response.DashboardResponse;
+import com.vitorsaucedo.finly.dto.response.GoalResponse;
 import com.vitorsaucedo.finly.dto.response.TransactionResponse;
+import com.vitorsaucedo.finly.util.FieldSelection;
+import com.vitorsaucedo.finly.util.Money;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -24,56 +32,142 @@ public class DashboardService {
     private final BudgetService budgetService;
     private final GoalService goalService;
     private final TransactionRepository transactionRepository;
+    private final DashboardSectionExecutor sectionExecutor;
+    private final FxService fxService;
 
-    @Transactional(readOnly = true)
-    public DashboardResponse getDashboard(UUID userId) {
+    public DashboardResponse getDashboard(UUID userId, FieldSelection fields) {
         LocalDate now = LocalDate.now();
         int month = now.getMonthValue();
         int year = now.getYear();
+        String baseCurrency = fxService.baseCurrency(userId);
 
-        BigDecimal totalBalance = accountService.findAll(userId)
-                .stream()
-                .map(a -> a.balance())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal totalIncome = transactionRepository
-                .sumByUserIdAndTypeAndMonthAndYear(userId, TransactionType.INCOME, month, year);
-
-        BigDecimal totalExpenses = transactionRepository
-                .sumByUserIdAndTypeAndMonthAndYear(userId, TransactionType.EXPENSE, month, year);
-
-        BigDecimal netBalance = totalIncome.subtract(totalExpenses);
-
-        List<TransactionResponse> recentTransactions = transactionRepository
-                .findTop5ByUserIdOrderByTransactionDateDesc(userId)
-                .stream()
-                .map(t -> new TransactionResponse(
-                        t.getId(),
-                        t.getAccount().getId(),
-                        t.getAccount().getName(),
-                        t.getCategory() != null ? t.getCategory().getId() : null,
-                        t.getCategory() != null ? t.getCategory().getName() : null,
-                        t.getDestinationAccount() != null ? t.getDestinationAccount().getId() : null,
-                        t.getDestinationAccount() != null ? t.getDestinationAccount().getName() : null,
-                        t.getDescription(),
-                        t.getAmount(),
-                        t.getType(),
-                        t.getStatus(),
-                        t.getTransactionDate(),
-                        t.getNotes(),
-                        t.getCreatedAt()
-                ))
-                .toList();
+        if (sectionExecutor.isParallel()) {
+            return composeInParallel(userId, baseCurrency, now, fields);
+        }
+
+        return sectionExecutor.runReadOnly(() -> compose(
+                baseCurrency,
+                now,
+                wantsAccounts(fields) ? accountService.findAll(userId) : null,
+                wantsTotals(fields) ? monthlyTotals(userId, baseCurrency, now) : null,
+                fields.includes("budgets") ? budgetService.findAllByMonthAndYear(userId, month, year) : null,
+                fields.includes("goals") ? goalService.findAll(userId) : null,
+                fields.includes("recentTransactions") ? recentTransactions(userId) : null,
+                List.of()
+        ));
+    }
+
+    private DashboardResponse composeInParallel(UUID userId, String baseCurrency, LocalDate now,
+                                                FieldSelection fields) {
+        int month = now.getMonthValue();
+        int year = now.getYear();
+
+        var accounts = section(wantsAccounts(fields), "accounts", () -> accountService.findAll(userId));
+        var totals = section(wantsTotals(fields), "monthlyTotals", () -> monthlyTotals(userId, baseCurrency, now));
+        var budgets = section(fields.includes("budgets"), "budgets",
+                () -> budgetService.findAllByMonthAndYear(userId, month, year));
+        var goals = section(fields.includes("goals"), "goals", () -> goalService.findAll(userId));
+        var recent = section(fields.includes("recentTransactions"), "recentTransactions",
+                () -> recentTransactions(userId));
+
+        List<AccountResponse> accountResponses = accounts.join();
+        MonthlyTotals monthlyTotals = totals.join();
+        List<BudgetResponse> budgetResponses = budgets.join();
+        List<GoalResponse> goalResponses = goals.join();
+        List<TransactionResponse> recentTransactions = recent.join();
+
+        List<String> unavailableSections = new ArrayList<>();
+        for (var section : List.of(accounts, totals, budgets, goals, recent)) {
+            if (section.failed()) unavailableSections.add(section.name());
+        }
+
+        return compose(baseCurrency, now, accountResponses, monthlyTotals, budgetResponses, goalResponses,
+                recentTransactions, unavailableSections);
+    }
+
+    private <T> DashboardSectionExecutor.Section<T> section(boolean requested, String name, Supplier<T> work) {
+        return requested ? sectionExecutor.submit(name, work) : sectionExecutor.skip(name);
+    }
+
+    private static boolean wantsAccounts(FieldSelection fields) {
+        return fields.includesAny("accounts", "totalBalance");
+    }
+
+    private static boolean wantsTotals(FieldSelection fields) {
+        return fields.includesAny("totalIncome", "totalExpenses", "netBalance");
+    }
+
+    private DashboardResponse compose(
+            String baseCurrency,
+            LocalDate date,
+            List<AccountResponse> accounts,
+            MonthlyTotals totals,
+            List<BudgetResponse> budgets,
+            List<GoalResponse> goals,
+            List<TransactionResponse> recentTransactions,
+            List<String> unavailableSections) {
+        List<String> unavailable = new ArrayList<>(unavailableSections);
+        Money totalBalance = accounts != null ? totalBalance(accounts, baseCurrency, date) : null;
+        if (accounts != null && totalBalance == null) {
+            unavailable.add("totalBalance");
+        }
+        if (totals != null && !totals.converted()) {
+            unavailable.add("monthlyTotals");
+            totals = null;
+        }
 
         return new DashboardResponse(
-                totalBalance,
-                totalIncome,
-                totalExpenses,
-                netBalance,
-                accountService.findAll(userId),
-                budgetService.findAllByMonthAndYear(userId, month, year),
-                goalService.findAll(userId),
-                recentTransactions
+                baseCurrency,
+                totalBalance != null ? totalBalance.toBigDecimal() : null,
+                totals != null ? totals.income().toBigDecimal() : null,
+                totals != null ? totals.expenses().toBigDecimal() : null,
+                totals != null ? totals.income().subtract(totals.expenses()).toBigDecimal() : null,
+                accounts,
+                budgets,
+                goals,
+                recentTransactions,
+                unavailable
         );
     }
-}
\ No newline at end of file
+
+    private Money totalBalance(List<AccountResponse> accounts, String baseCurrency, LocalDate date) {
+        Money total = Money.ZERO;
+        for (AccountResponse account : accounts) {
+            Money converted = convert(account.balance(), account.currency(), baseCurrency, date);
+            if (converted == null) return null;
+            total = total.add(converted);
+        }
+        return total;
+    }
+
+    private MonthlyTotals monthlyTotals(UUID userId, String baseCurrency, LocalDate date) {
+        Money income = Money.ZERO;
+        Money expenses = Money.ZERO;
+
+        for (CurrencyTotal total : transactionRepository.sumByUserIdAndMonthAndYearPerCurrency(
+                userId, date.getMonthValue(), date.getYear())) {
+            Money converted = convert(total.total(), total.currency(), baseCurrency, date);
+            if (converted == null) return new MonthlyTotals(Money.ZERO, Money.ZERO, false);
+            if (total.type() == TransactionType.INCOME) {
+                income = income.add(converted);
+            } else {
+                expenses = expenses.add(converted);
+            }
+        }
+
+        return new MonthlyTotals(income, expenses, true);
+    }
+
+    private Money convert(BigDecimal amount, String currency, String baseCurrency, LocalDate date) {
+        return fxService.findConversion(currency, baseCurrency)
+                .flatMap(conversion -> conversion.tryConvert(amount, date))
+                .map(Money::of)
+                .orElse(null);
+    }
+
+    private List<TransactionResponse> recentTransactions(UUID userId) {
+        return transactionRepository.findRecentResponsesByUserId(userId);
+    }
+
+    private record MonthlyTotals(Money income, Money expenses, boolean converted) {}
+}
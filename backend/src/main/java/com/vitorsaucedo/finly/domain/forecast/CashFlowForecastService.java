@@ -0,0 +1,142 @@
+package com.vitorsaucedo.finly.domain.forecast;
+
+import com.vitorsaucedo.finly.domain.account.Account;
+import com.vitorsaucedo.finly.domain.account.AccountRepository;
+import com.vitorsaucedo.finly.dto.response.CashFlowForecastResponse;
+import com.vitorsaucedo.finly.dto.response.CashFlowForecastResponse.AccountForecast;
+import com.vitorsaucedo.finly.dto.response.CashFlowForecastResponse.DailyBalance;
+import com.vitorsaucedo.finly.exception.BusinessException;
+import com.vitorsaucedo.finly.util.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class CashFlowForecastService {
+
+    private static final int MAX_HORIZON_DAYS = 90;
+    private static final int PATTERN_LOOKBACK_DAYS = 180;
+    private static final int MIN_PATTERN_OCCURRENCES = 3;
+    private static final int MIN_PATTERN_INTERVAL_DAYS = 6;
+    private static final int MAX_PATTERN_INTERVAL_DAYS = 35;
+
+    private final AccountRepository accountRepository;
+    private final ForecastRepository forecastRepository;
+    private final ForecastCache cache;
+
+    @Transactional(readOnly = true)
+    public CashFlowForecastResponse forecast(UUID userId, int days) {
+        if (days < 1 || days > MAX_HORIZON_DAYS) {
+            throw new BusinessException("Forecast horizon must be between 1 and " + MAX_HORIZON_DAYS + " days");
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDate end = today.plusDays(days);
+
+        List<Account> accounts = accountRepository.findAllByUserId(userId);
+        List<ScheduledFlow> scheduledFlows = cache.scheduledFlows(userId, today, () ->
+                forecastRepository.findScheduledFlows(userId, today, today.plusDays(MAX_HORIZON_DAYS)));
+        List<RecurringPattern> patterns = cache.patterns(userId, today, () ->
+                forecastRepository.findRecurringPatterns(userId, today.minusDays(PATTERN_LOOKBACK_DAYS), today,
+                        MIN_PATTERN_OCCURRENCES, MIN_PATTERN_INTERVAL_DAYS, MAX_PATTERN_INTERVAL_DAYS));
+
+        Map<UUID, long[]> deltas = new HashMap<>();
+        for (Account account : accounts) {
+            deltas.put(account.getId(), new long[days + 1]);
+        }
+
+        for (ScheduledFlow flow : scheduledFlows) {
+            addDelta(deltas, flow.accountId(), (int) ChronoUnit.DAYS.between(today, flow.date()), flow.amount());
+        }
+
+        Map<String, List<LocalDate>> pendingByMerchant = scheduledFlows.stream()
+                .filter(flow -> flow.merchant() != null)
+                .collect(Collectors.groupingBy(
+                        flow -> flow.accountId() + "|" + flow.merchant(),
+                        Collectors.mapping(ScheduledFlow::date, Collectors.toList())));
+
+        for (RecurringPattern pattern : patterns) {
+            if (pattern.intervalDays() <= 0) continue;
+
+            List<LocalDate> pending = pendingByMerchant.getOrDefault(
+                    pattern.accountId() + "|" + pattern.merchant(), List.of());
+
+            for (LocalDate next = pattern.lastDate().plusDays(pattern.intervalDays());
+                 !next.isAfter(end);
+                 next = next.plusDays(pattern.intervalDays())) {
+                if (next.isBefore(today) || coveredByPending(pending, next, pattern.intervalDays())) continue;
+                addDelta(deltas, pattern.accountId(), (int) ChronoUnit.DAYS.between(today, next), pattern.amount());
+            }
+        }
+
+        List<AccountForecast> forecasts = accounts.stream()
+                .map(account -> project(account, deltas.get(account.getId()), today))
+                .toList();
+
+        long currentBalance = 0;
+        long projectedBalance = 0;
+        for (AccountForecast forecast : forecasts) {
+            currentBalance = Math.addExact(currentBalance, Money.cents(forecast.currentBalance()));
+            projectedBalance = Math.addExact(projectedBalance, Money.cents(forecast.projectedBalance()));
+        }
+
+        return new CashFlowForecastResponse(
+                today,
+                end,
+                Money.toBigDecimal(currentBalance),
+                Money.toBigDecimal(projectedBalance),
+                forecasts
+        );
+    }
+
+    private void addDelta(Map<UUID, long[]> deltas, UUID accountId, int day, BigDecimal amount) {
+        long[] accountDeltas = deltas.get(accountId);
+        if (accountDeltas == null || day < 0 || day >= accountDeltas.length) return;
+
+        accountDeltas[day] = Math.addExact(accountDeltas[day], Money.cents(amount));
+    }
+
+    private boolean coveredByPending(List<LocalDate> pending, LocalDate occurrence, int intervalDays) {
+        return pending.stream()
+                .anyMatch(date -> Math.abs(ChronoUnit.DAYS.between(date, occurrence)) <= intervalDays / 2);
+    }
+
+    private AccountForecast project(Account account, long[] accountDeltas, LocalDate today) {
+        List<DailyBalance> days = new ArrayList<>(accountDeltas.length);
+        long balance = Money.cents(account.getBalance());
+        long lowest = Long.MAX_VALUE;
+        LocalDate lowestDate = today;
+
+        for (int day = 0; day < accountDeltas.length; day++) {
+            balance = Math.addExact(balance, accountDeltas[day]);
+            LocalDate date = today.plusDays(day);
+            days.add(new DailyBalance(date, Money.toBigDecimal(balance)));
+
+            if (balance < lowest) {
+                lowest = balance;
+                lowestDate = date;
+            }
+        }
+
+        return new AccountForecast(
+                account.getId(),
+                account.getName(),
+                account.getBalance(),
+                Money.toBigDecimal(balance),
+                Money.toBigDecimal(lowest),
+                lowestDate,
+                days
+        );
+    }
+}
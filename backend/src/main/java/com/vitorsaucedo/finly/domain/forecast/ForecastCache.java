@@ -0,0 +1,58 @@
+package com.vitorsaucedo.finly.domain.forecast;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Component
+public class ForecastCache {
+
+    private final Slot<List<RecurringPattern>> patterns = new Slot<>();
+    private final Slot<List<ScheduledFlow>> scheduledFlows = new Slot<>();
+
+    List<RecurringPattern> patterns(UUID userId, LocalDate today, Supplier<List<RecurringPattern>> loader) {
+        return patterns.get(userId, today, loader);
+    }
+
+    List<ScheduledFlow> scheduledFlows(UUID userId, LocalDate today, Supplier<List<ScheduledFlow>> loader) {
+        return scheduledFlows.get(userId, today, loader);
+    }
+
+    public void invalidatePatterns(UUID userId) {
+        patterns.invalidate(userId);
+    }
+
+    public void invalidateScheduledFlows(UUID userId) {
+        scheduledFlows.invalidate(userId);
+    }
+
+    private static final class Slot<T> {
+
+        private final Map<UUID, Entry<T>> entries = new ConcurrentHashMap<>();
+        private final Map<UUID, Long> versions = new ConcurrentHashMap<>();
+
+        T get(UUID userId, LocalDate today, Supplier<T> loader) {
+            long version = versions.getOrDefault(userId, 0L);
+            Entry<T> entry = entries.get(userId);
+            if (entry != null && entry.version() == version && entry.computedOn().equals(today)) {
+                return entry.value();
+            }
+
+            T value = loader.get();
+            entries.put(userId, new Entry<>(value, today, version));
+            return value;
+        }
+
+        void invalidate(UUID userId) {
+            versions.merge(userId, 1L, Long::sum);
+            entries.remove(userId);
+        }
+    }
+
+    private record Entry<T>(T value, LocalDate computedOn, long version) {}
+}
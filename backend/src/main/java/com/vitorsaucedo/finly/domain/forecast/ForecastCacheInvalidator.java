@@ -0,0 +1,62 @@
+package com.vitorsaucedo.finly.domain.forecast;
+
+import com.vitorsaucedo.finly.domain.transaction.TransactionChangedPayload;
+import com.vitorsaucedo.finly.domain.transaction.TransactionStatus;
+import com.vitorsaucedo.finly.outbox.OutboxEvent;
+import com.vitorsaucedo.finly.outbox.OutboxEventConsumer;
+import com.vitorsaucedo.finly.outbox.OutboxEventType;
+import com.vitorsaucedo.finly.outbox.OutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class ForecastCacheInvalidator implements OutboxEventConsumer {
+
+    private final ForecastCache cache;
+    private final OutboxService outboxService;
+
+    @Override
+    public String name() {
+        return "forecast-cache";
+    }
+
+    @Override
+    public boolean perInstance() {
+        return true;
+    }
+
+    @Override
+    public Set<OutboxEventType> eventTypes() {
+        return EnumSet.of(
+                OutboxEventType.TRANSACTION_CREATED,
+                OutboxEventType.TRANSACTIONS_CREATED,
+                OutboxEventType.TRANSACTION_UPDATED,
+                OutboxEventType.TRANSACTION_DELETED,
+                OutboxEventType.INSTALLMENT_GROUP_CREATED,
+                OutboxEventType.INSTALLMENT_PAID,
+                OutboxEventType.INSTALLMENT_GROUP_CANCELLED
+        );
+    }
+
+    @Override
+    public void consume(OutboxEvent event) {
+        switch (event.getEventType()) {
+            case TRANSACTION_CREATED, TRANSACTIONS_CREATED -> {
+                TransactionStatus status = outboxService
+                        .readPayload(event, TransactionChangedPayload.class)
+                        .status();
+                if (status == TransactionStatus.COMPLETED) cache.invalidatePatterns(event.getUserId());
+                if (status == TransactionStatus.PENDING) cache.invalidateScheduledFlows(event.getUserId());
+            }
+            case TRANSACTION_UPDATED, TRANSACTION_DELETED -> {
+                cache.invalidatePatterns(event.getUserId());
+                cache.invalidateScheduledFlows(event.getUserId());
+            }
+            default -> cache.invalidateScheduledFlows(event.getUserId());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.vitorsaucedo.finly.domain.forecast;
+
+import com.vitorsaucedo.finly.dto.response.CashFlowForecastResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/forecast")
+@RequiredArgsConstructor
+@Tag(name = "Forecast", description = "Cash-flow forecast endpoints")
+@SecurityRequirement(name = "bearerAuth")
+public class ForecastController {
+
+    private final CashFlowForecastService cashFlowForecastService;
+
+    @GetMapping
+    @Operation(summary = "Get projected daily balances per account")
+    public ResponseEntity<CashFlowForecastResponse> forecast(
+            @RequestParam(defaultValue = "90") int days,
+            JwtAuthenticationToken token) {
+        return ResponseEntity.ok(cashFlowForecastService.forecast(extractUserId(token), days));
+    }
+
+    private UUID extractUserId(JwtAuthenticationToken token) {
+        return UUID.fromString(token.getToken().getSubject());
+    }
+}
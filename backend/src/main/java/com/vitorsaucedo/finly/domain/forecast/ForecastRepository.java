@@ -0,0 +1,103 @@
+package com.vitorsaucedo.finly.domain.forecast;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class ForecastRepository {
+
+    private static final String SCHEDULED_FLOWS_SQL = """
+            SELECT g.account_id, GREATEST(i.due_date, :from) AS flow_date, -i.amount AS amount, NULL AS merchant
+            FROM installments i
+            JOIN installment_groups g ON g.id = i.group_id
+            WHERE g.user_id = :userId
+            AND i.status = 'PENDING'
+            AND i.due_date <= :to
+            UNION ALL
+            SELECT t.account_id, GREATEST(t.transaction_date, :from),
+                   CASE WHEN t.type = 'INCOME' THEN t.amount ELSE -t.amount END,
+                   lower(trim(t.description))
+            FROM transactions t
+            WHERE t.user_id = :userId
+            AND t.status = 'PENDING'
+            AND t.transaction_date <= :to
+            UNION ALL
+            SELECT t.destination_account_id, GREATEST(t.transaction_date, :from), t.amount, NULL
+            FROM transactions t
+            WHERE t.user_id = :userId
+            AND t.status = 'PENDING'
+            AND t.type = 'TRANSFER'
+            AND t.destination_account_id IS NOT NULL
+            AND t.transaction_date <= :to
+            """;
+
+    private static final String RECURRING_PATTERNS_SQL = """
+            WITH history AS (
+                SELECT t.account_id,
+                       lower(trim(t.description)) AS merchant,
+                       CASE WHEN t.type = 'INCOME' THEN t.amount ELSE -t.amount END AS amount,
+                       t.transaction_date,
+                       t.transaction_date - LAG(t.transaction_date) OVER (
+                           PARTITION BY t.account_id, lower(trim(t.description)), t.type
+                           ORDER BY t.transaction_date) AS gap
+                FROM transactions t
+                WHERE t.user_id = :userId
+                AND t.status = 'COMPLETED'
+                AND t.type IN ('INCOME', 'EXPENSE')
+                AND t.transaction_date >= :since
+                AND t.description !~ '\\(\\d+/\\d+\\)$'
+            )
+            SELECT account_id, merchant,
+                   ROUND(AVG(amount), 2) AS amount,
+                   ROUND(AVG(gap))::int AS interval_days,
+                   MAX(transaction_date) AS last_date
+            FROM history
+            GROUP BY account_id, merchant, SIGN(amount)
+            HAVING COUNT(*) >= :minOccurrences
+            AND AVG(gap) BETWEEN :minInterval AND :maxInterval
+            AND COALESCE(STDDEV_SAMP(gap), 0) <= AVG(gap) * 0.25
+            AND :today - MAX(transaction_date) <= 2 * AVG(gap)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<ScheduledFlow> findScheduledFlows(UUID userId, LocalDate from, LocalDate to) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("from", from)
+                .addValue("to", to);
+
+        return jdbcTemplate.query(SCHEDULED_FLOWS_SQL, params, (rs, rowNum) -> new ScheduledFlow(
+                rs.getObject("account_id", UUID.class),
+                rs.getObject("flow_date", LocalDate.class),
+                rs.getBigDecimal("amount"),
+                rs.getString("merchant")
+        ));
+    }
+
+    public List<RecurringPattern> findRecurringPatterns(UUID userId, LocalDate since, LocalDate today,
+                                                        int minOccurrences, int minInterval, int maxInterval) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("since", since)
+                .addValue("today", today)
+                .addValue("minOccurrences", minOccurrences)
+                .addValue("minInterval", minInterval)
+                .addValue("maxInterval", maxInterval);
+
+        return jdbcTemplate.query(RECURRING_PATTERNS_SQL, params, (rs, rowNum) -> new RecurringPattern(
+                rs.getObject("account_id", UUID.class),
+                rs.getString("merchant"),
+                rs.getBigDecimal("amount"),
+                rs.getInt("interval_days"),
+                rs.getObject("last_date", LocalDate.class)
+        ));
+    }
+}
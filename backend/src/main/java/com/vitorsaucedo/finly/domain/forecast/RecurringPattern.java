@@ -0,0 +1,7 @@
+package com.vitorsaucedo.finly.domain.forecast;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+record RecurringPattern(UUID accountId, String merchant, BigDecimal amount, int intervalDays, LocalDate lastDate) {}
@@ -0,0 +1,7 @@
+package com.vitorsaucedo.finly.domain.forecast;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+record ScheduledFlow(UUID accountId, LocalDate date, BigDecimal amount, String merchant) {}
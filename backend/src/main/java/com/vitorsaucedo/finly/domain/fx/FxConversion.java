@@ -0,0 +1,73 @@
+package com.vitorsaucedo.finly.domain.fx;
+
+import com.vitorsaucedo.finly.exception.BusinessException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Optional;
+
+public final class FxConversion {
+
+    public static final FxConversion IDENTITY = new FxConversion(null, null, true);
+
+    private final FxSeries source;
+    private final FxSeries target;
+    private final boolean identity;
+
+    FxConversion(FxSeries source, FxSeries target) {
+        this(source, target, false);
+    }
+
+    private FxConversion(FxSeries source, FxSeries target, boolean identity) {
+        this.source = source;
+        this.target = target;
+        this.identity = identity;
+    }
+
+    public boolean isIdentity() {
+        return identity;
+    }
+
+    public double rateOn(LocalDate date) {
+        if (isIdentity()) return 1.0;
+
+        long epochDay = date.toEpochDay();
+        double sourceRate = source != null ? source.rateOn(epochDay) : 1.0;
+        double targetRate = target != null ? target.rateOn(epochDay) : 1.0;
+        return sourceRate / targetRate;
+    }
+
+    public BigDecimal convert(BigDecimal amount, LocalDate date) {
+        return tryConvert(amount, date)
+                .orElseThrow(() -> new BusinessException("No FX rate available on or before " + date));
+    }
+
+    public Optional<BigDecimal> tryConvert(BigDecimal amount, LocalDate date) {
+        if (isIdentity()) return Optional.of(amount);
+
+        double rate = rateOn(date);
+        if (Double.isNaN(rate)) return Optional.empty();
+        return Optional.of(amount.multiply(BigDecimal.valueOf(rate)).setScale(2, RoundingMode.HALF_UP));
+    }
+
+    public void fillDaily(LocalDate from, double[] out) {
+        long day = from.toEpochDay();
+        int sourceIndex = source != null ? source.floorIndex(day) : 0;
+        int targetIndex = target != null ? target.floorIndex(day) : 0;
+
+        for (int i = 0; i < out.length; i++, day++) {
+            double sourceRate = 1.0;
+            double targetRate = 1.0;
+            if (source != null) {
+                sourceIndex = source.advance(sourceIndex, day);
+                sourceRate = source.rateAt(sourceIndex);
+            }
+            if (target != null) {
+                targetIndex = target.advance(targetIndex, day);
+                targetRate = target.rateAt(targetIndex);
+            }
+            out[i] = sourceRate / targetRate;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.vitorsaucedo.finly.domain.fx;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+public record FxDailyRates(
+        String[] currencies,
+        int[] epochDays,
+        double[] rates
+) {
+    public static final FxDailyRates EMPTY = new FxDailyRates(new String[0], new int[0], new double[0]);
+
+    static FxDailyRates of(String[] currencies, FxConversion[] conversions, LocalDate from, LocalDate to) {
+        int days = (int) (to.toEpochDay() - from.toEpochDay()) + 1;
+        int capacity = currencies.length * days;
+
+        String[] rowCurrencies = new String[capacity];
+        int[] rowDays = new int[capacity];
+        double[] rowRates = new double[capacity];
+        double[] daily = new double[days];
+        int size = 0;
+
+        for (int c = 0; c < currencies.length; c++) {
+            conversions[c].fillDaily(from, daily);
+            for (int d = 0; d < days; d++) {
+                if (Double.isNaN(daily[d])) continue;
+
+                rowCurrencies[size] = currencies[c];
+                rowDays[size] = (int) from.toEpochDay() + d;
+                rowRates[size] = daily[d];
+                size++;
+            }
+        }
+
+        return new FxDailyRates(Arrays.copyOf(rowCurrencies, size), Arrays.copyOf(rowDays, size),
+                Arrays.copyOf(rowRates, size));
+    }
+
+    public boolean isEmpty() {
+        return rates.length == 0;
+    }
+}
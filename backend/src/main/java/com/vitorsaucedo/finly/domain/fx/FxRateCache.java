@@ -0,0 +1,101 @@
+package com.vitorsaucedo.finly.domain.fx;
+
+import com.vitorsaucedo.finly.config.FxConfig;
+import com.vitorsaucedo.finly.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
+@Component
+public class FxRateCache {
+
+    private static final String DEFAULT_REFERENCE_CURRENCY = "BRL";
+    private static final int INITIAL_CAPACITY = 512;
+
+    private final FxRateRepository fxRateRepository;
+    private final String referenceCurrency;
+    private volatile Map<String, FxSeries> series = Map.of();
+
+    public FxRateCache(FxRateRepository fxRateRepository, FxConfig config) {
+        this.fxRateRepository = fxRateRepository;
+        this.referenceCurrency = config.referenceCurrency() != null
+                ? config.referenceCurrency() : DEFAULT_REFERENCE_CURRENCY;
+    }
+
+    public void reload() {
+        Map<String, FxSeries> loaded = new HashMap<>();
+        SeriesBuilder builder = new SeriesBuilder();
+
+        fxRateRepository.streamAll(rs -> {
+            String currency = rs.getString("currency");
+            if (!currency.equals(builder.currency)) {
+                builder.flushInto(loaded);
+                builder.currency = currency;
+            }
+            builder.add((int) rs.getDate("rate_date").toLocalDate().toEpochDay(), rs.getDouble("rate"));
+        });
+        builder.flushInto(loaded);
+
+        series = Map.copyOf(loaded);
+        log.info("Loaded FX rates for {} currencies", loaded.size());
+    }
+
+    public FxConversion conversion(String from, String to) {
+        if (from.equals(to)) return FxConversion.IDENTITY;
+
+        Map<String, FxSeries> snapshot = series;
+        for (String currency : List.of(from, to)) {
+            if (!hasRates(snapshot, currency)) {
+                throw new BusinessException("No FX rates available for " + currency);
+            }
+        }
+        return new FxConversion(seriesOf(snapshot, from), seriesOf(snapshot, to));
+    }
+
+    public Optional<FxConversion> findConversion(String from, String to) {
+        if (from.equals(to)) return Optional.of(FxConversion.IDENTITY);
+
+        Map<String, FxSeries> snapshot = series;
+        if (!hasRates(snapshot, from) || !hasRates(snapshot, to)) return Optional.empty();
+        return Optional.of(new FxConversion(seriesOf(snapshot, from), seriesOf(snapshot, to)));
+    }
+
+    private boolean hasRates(Map<String, FxSeries> snapshot, String currency) {
+        return currency.equals(referenceCurrency) || snapshot.containsKey(currency);
+    }
+
+    private FxSeries seriesOf(Map<String, FxSeries> snapshot, String currency) {
+        return currency.equals(referenceCurrency) ? null : snapshot.get(currency);
+    }
+
+    private static final class SeriesBuilder {
+
+        private String currency;
+        private int[] epochDays = new int[INITIAL_CAPACITY];
+        private double[] rates = new double[INITIAL_CAPACITY];
+        private int size;
+
+        void add(int epochDay, double rate) {
+            if (size == epochDays.length) {
+                epochDays = Arrays.copyOf(epochDays, size * 2);
+                rates = Arrays.copyOf(rates, size * 2);
+            }
+            epochDays[size] = epochDay;
+            rates[size] = rate;
+            size++;
+        }
+
+        void flushInto(Map<String, FxSeries> target) {
+            if (currency != null && size > 0) {
+                target.put(currency, new FxSeries(Arrays.copyOf(epochDays, size), Arrays.copyOf(rates, size)));
+            }
+            size = 0;
+        }
+    }
+}
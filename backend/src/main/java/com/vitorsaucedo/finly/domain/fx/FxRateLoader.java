@@ -0,0 +1,75 @@
+package com.vitorsaucedo.finly.domain.fx;
+
+import com.vitorsaucedo.finly.config.FxConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FxRateLoader {
+
+    private final FxRateRepository fxRateRepository;
+    private final FxRateCache fxRateCache;
+    private final FxConfig config;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void load() {
+        Resource ratesFile = config.ratesFile();
+        if (ratesFile != null) {
+            List<FxRateRow> rows = parse(ratesFile);
+            fxRateRepository.upsert(rows);
+            log.info("Imported {} FX rates from {}", rows.size(), ratesFile.getDescription());
+        }
+        fxRateCache.reload();
+    }
+
+    static List<FxRateRow> parse(Resource resource) {
+        List<FxRateRow> rows = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String trimmed = line.strip();
+                if (trimmed.isEmpty() || trimmed.startsWith("#") || trimmed.startsWith("date,")) continue;
+
+                String[] columns = trimmed.split(",");
+                if (columns.length != 3) {
+                    throw new IllegalStateException("Invalid FX rate at line " + lineNumber + ": " + line);
+                }
+
+                try {
+                    rows.add(new FxRateRow(
+                            columns[1].strip().toUpperCase(Locale.ROOT),
+                            LocalDate.parse(columns[0].strip()),
+                            new BigDecimal(columns[2].strip())));
+                } catch (RuntimeException e) {
+                    throw new IllegalStateException("Invalid FX rate at line " + lineNumber + ": " + line, e);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read FX rates from " + resource.getDescription(), e);
+        }
+
+        return rows;
+    }
+}
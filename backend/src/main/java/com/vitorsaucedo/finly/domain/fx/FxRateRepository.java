@@ -0,0 +1,44 @@
+package com.vitorsaucedo.finly.domain.fx;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class FxRateRepository {
+
+    private static final String FIND_ALL_SQL = """
+            SELECT currency, rate_date, rate::double precision AS rate
+            FROM fx_rates
+            ORDER BY currency, rate_date
+            """;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO fx_rates (currency, rate_date, rate)
+            VALUES (:currency, :date, :rate)
+            ON CONFLICT (currency, rate_date) DO UPDATE SET rate = EXCLUDED.rate
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void streamAll(RowCallbackHandler handler) {
+        jdbcTemplate.query(FIND_ALL_SQL, handler);
+    }
+
+    int upsert(List<FxRateRow> rows) {
+        SqlParameterSource[] batch = rows.stream()
+                .map(row -> new MapSqlParameterSource()
+                        .addValue("currency", row.currency())
+                        .addValue("date", row.date())
+                        .addValue("rate", row.rate()))
+                .toArray(SqlParameterSource[]::new);
+
+        return jdbcTemplate.batchUpdate(UPSERT_SQL, batch).length;
+    }
+}
@@ -0,0 +1,10 @@
+package com.vitorsaucedo.finly.domain.fx;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+record FxRateRow(
+        String currency,
+        LocalDate date,
+        BigDecimal rate
+) {}
@@ -0,0 +1,36 @@
+package com.vitorsaucedo.finly.domain.fx;
+
+import java.util.Arrays;
+
+final class FxSeries {
+
+    private final int[] epochDays;
+    private final double[] rates;
+
+    FxSeries(int[] epochDays, double[] rates) {
+        this.epochDays = epochDays;
+        this.rates = rates;
+    }
+
+    int floorIndex(long epochDay) {
+        int index = Arrays.binarySearch(epochDays, (int) epochDay);
+        if (index >= 0) return index;
+
+        return -index - 2;
+    }
+
+    int advance(int index, long epochDay) {
+        while (index + 1 < epochDays.length && epochDays[index + 1] <= epochDay) {
+            index++;
+        }
+        return index;
+    }
+
+    double rateAt(int index) {
+        return index >= 0 ? rates[index] : Double.NaN;
+    }
+
+    double rateOn(long epochDay) {
+        return rateAt(floorIndex(epochDay));
+    }
+}
@@ -0,0 +1,49 @@
+package com.vitorsaucedo.finly.domain.fx;
+
+import com.vitorsaucedo.finly.domain.account.AccountRepository;
+import com.vitorsaucedo.finly.domain.user.UserRepository;
+import com.vitorsaucedo.finly.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class FxService {
+
+    private final FxRateCache fxRateCache;
+    private final UserRepository userRepository;
+    private final AccountRepository accountRepository;
+
+    public String baseCurrency(UUID userId) {
+        return userRepository.findBaseCurrencyById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    }
+
+    public FxConversion conversion(String from, String to) {
+        return fxRateCache.conversion(from, to);
+    }
+
+    public Optional<FxConversion> findConversion(String from, String to) {
+        return fxRateCache.findConversion(from, to);
+    }
+
+    public FxDailyRates dailyRates(UUID userId, String baseCurrency, LocalDate from, LocalDate to) {
+        List<String> foreign = accountRepository.findDistinctCurrenciesByUserId(userId).stream()
+                .filter(currency -> !currency.equals(baseCurrency))
+                .toList();
+        if (foreign.isEmpty()) return FxDailyRates.EMPTY;
+
+        String[] currencies = foreign.toArray(String[]::new);
+        FxConversion[] conversions = new FxConversion[currencies.length];
+        for (int i = 0; i < currencies.length; i++) {
+            conversions[i] = fxRateCache.conversion(currencies[i], baseCurrency);
+        }
+
+        return FxDailyRates.of(currencies, conversions, from, to);
+    }
+}
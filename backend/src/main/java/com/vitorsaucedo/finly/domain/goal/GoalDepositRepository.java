@@ -0,0 +1,8 @@
+package com.vitorsaucedo.finly.domain.goal;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface GoalDepositRepository extends JpaRepository<GoalDeposit, UUID> {
+}
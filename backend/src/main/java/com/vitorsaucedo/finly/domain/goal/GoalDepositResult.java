@@ -0,0 +1,10 @@
+package com.vitorsaucedo.finly.domain.goal;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record GoalDepositResult(
+        UUID goalId,
+        BigDecimal currentAmount,
+        GoalStatus status
+) {}
@@ -0,0 +1,11 @@
+package com.vitorsaucedo.finly.domain.goal;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record GoalDepositedPayload(
+        UUID goalId,
+        BigDecimal amount,
+        BigDecimal currentAmount,
+        GoalStatus status
+) {}
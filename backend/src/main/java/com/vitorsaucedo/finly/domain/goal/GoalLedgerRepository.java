@@ -0,0 +1,52 @@
+package com.vitorsaucedo.finly.domain.goal;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class GoalLedgerRepository {
+
+    private static final String DEPOSIT_SQL = """
+            WITH updated AS (
+                UPDATE goals
+                SET current_amount = current_amount + :amount,
+                    status = CASE WHEN current_amount + :amount >= target_amount
+                                  THEN 'COMPLETED'::goal_status ELSE status END,
+                    updated_at = now()
+                WHERE id = :goalId
+                AND user_id = :userId
+                AND status = 'IN_PROGRESS'
+                RETURNING id, current_amount, status
+            ),
+            ledger AS (
+                INSERT INTO goal_deposits (goal_id, amount, balance_after)
+                SELECT id, :amount, current_amount FROM updated
+            )
+            SELECT id, current_amount, status::text AS status FROM updated
+            """;
+
+    private static final RowMapper<GoalDepositResult> ROW_MAPPER = (rs, rowNum) -> new GoalDepositResult(
+            rs.getObject("id", UUID.class),
+            rs.getBigDecimal("current_amount"),
+            GoalStatus.valueOf(rs.getString("status"))
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public Optional<GoalDepositResult> deposit(UUID goalId, UUID userId, BigDecimal amount) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("goalId", goalId)
+                .addValue("userId", userId)
+                .addValue("amount", amount);
+
+        return jdbcTemplate.query(DEPOSIT_SQL, params, ROW_MAPPER).stream().findFirst();
+    }
+}
@@ -0,0 +1,11 @@
+package com.vitorsaucedo.finly.domain.goal;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record GoalProgressChangedEvent(
+        UUID userId,
+        UUID goalId,
+        BigDecimal currentAmount,
+        GoalStatus status
+) {}
@@ -0,0 +1,13 @@
+package com.vitorsaucedo.finly.domain.goal;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record GoalProjection(
+        BigDecimal averageMonthlyContribution,
+        BigDecimal requiredMonthlyContribution,
+        LocalDate projectedCompletionDate,
+        Boolean onTrack
+) {
+    static final GoalProjection NONE = new GoalProjection(null, null, null, null);
+}
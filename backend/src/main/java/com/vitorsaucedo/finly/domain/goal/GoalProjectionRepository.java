@@ -0,0 +1,41 @@
+package com.vitorsaucedo.finly.domain.goal;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class GoalProjectionRepository {
+
+    private static final String CONTRIBUTIONS_SQL = """
+            SELECT d.goal_id, SUM(d.amount) AS total
+            FROM goal_deposits d
+            WHERE d.goal_id IN (:goalIds)
+            AND NOT d.opening
+            AND d.deposited_at >= :since
+            GROUP BY d.goal_id
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public Map<UUID, BigDecimal> sumContributionsSince(Collection<UUID> goalIds, LocalDateTime since) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("goalIds", goalIds)
+                .addValue("since", since);
+
+        Map<UUID, BigDecimal> totals = new HashMap<>();
+        jdbcTemplate.query(CONTRIBUTIONS_SQL, params, rs -> {
+            totals.put(rs.getObject("goal_id", UUID.class), rs.getBigDecimal("total"));
+        });
+        return totals;
+    }
+}
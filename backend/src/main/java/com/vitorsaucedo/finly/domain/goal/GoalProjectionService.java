@@ -0,0 +1,87 @@
+package com.vitorsaucedo.finly.domain.goal;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class GoalProjectionService {
+
+    private static final int VELOCITY_WINDOW_DAYS = 90;
+    private static final int MIN_OBSERVED_DAYS = 30;
+    private static final long MAX_PROJECTION_DAYS = 36_500;
+    private static final BigDecimal DAYS_PER_MONTH = BigDecimal.valueOf(30);
+
+    private final GoalProjectionRepository projectionRepository;
+
+    public GoalProjection project(Goal goal) {
+        return projectAll(List.of(goal)).getOrDefault(goal.getId(), GoalProjection.NONE);
+    }
+
+    public Map<UUID, GoalProjection> projectAll(List<Goal> goals) {
+        List<Goal> inProgress = goals.stream()
+                .filter(goal -> goal.getStatus() == GoalStatus.IN_PROGRESS)
+                .toList();
+        if (inProgress.isEmpty()) {
+            return Map.of();
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDate since = today.minusDays(VELOCITY_WINDOW_DAYS);
+        Map<UUID, BigDecimal> contributions = projectionRepository.sumContributionsSince(
+                inProgress.stream().map(Goal::getId).toList(), since.atStartOfDay());
+
+        Map<UUID, GoalProjection> projections = new HashMap<>();
+        for (Goal goal : inProgress) {
+            projections.put(goal.getId(), project(goal,
+                    contributions.getOrDefault(goal.getId(), BigDecimal.ZERO), since, today));
+        }
+        return projections;
+    }
+
+    private GoalProjection project(Goal goal, BigDecimal contributed, LocalDate since, LocalDate today) {
+        BigDecimal remaining = goal.getTargetAmount().subtract(goal.getCurrentAmount()).max(BigDecimal.ZERO);
+
+        LocalDate observedFrom = goal.getCreatedAt() != null && goal.getCreatedAt().toLocalDate().isAfter(since)
+                ? goal.getCreatedAt().toLocalDate()
+                : since;
+        long observedDays = Math.max(MIN_OBSERVED_DAYS, ChronoUnit.DAYS.between(observedFrom, today));
+
+        BigDecimal averageMonthly = contributed
+                .multiply(DAYS_PER_MONTH)
+                .divide(BigDecimal.valueOf(observedDays), 2, RoundingMode.HALF_UP);
+
+        LocalDate projectedCompletion = null;
+        if (remaining.signum() == 0) {
+            projectedCompletion = today;
+        } else if (contributed.signum() > 0) {
+            long daysToGo = remaining
+                    .multiply(BigDecimal.valueOf(observedDays))
+                    .divide(contributed, 0, RoundingMode.CEILING)
+                    .min(BigDecimal.valueOf(MAX_PROJECTION_DAYS + 1))
+                    .longValueExact();
+            projectedCompletion = daysToGo <= MAX_PROJECTION_DAYS ? today.plusDays(daysToGo) : null;
+        }
+
+        if (goal.getDeadline() == null) {
+            return new GoalProjection(averageMonthly, null, projectedCompletion, null);
+        }
+
+        long daysLeft = ChronoUnit.DAYS.between(today, goal.getDeadline());
+        BigDecimal requiredMonthly = daysLeft <= 0
+                ? remaining
+                : remaining.multiply(DAYS_PER_MONTH).divide(BigDecimal.valueOf(daysLeft), 2, RoundingMode.HALF_UP);
+        boolean onTrack = projectedCompletion != null && !projectedCompletion.isAfter(goal.getDeadline());
+
+        return new GoalProjection(averageMonthly, requiredMonthly, projectedCompletion, onTrack);
+    }
+}
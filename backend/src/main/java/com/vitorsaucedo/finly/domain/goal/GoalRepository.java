@@ -10,4 +10,5 @@ public interface GoalRepository extends JpaRepository<Goal, UUID> {
     List<Goal> findAllByUserId(UUID userId);
     List<Goal> findAllByUserIdAndStatus(UUID userId, GoalStatus status);
     Optional<Goal> findByIdAndUserId(UUID id, UUID userId);
+    boolean existsByIdAndUserId(UUID id, UUID userId);
 }
\ No newline at end of file
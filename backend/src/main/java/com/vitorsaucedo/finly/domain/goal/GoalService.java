@@ -5,13 +5,17 @@ import com.vitorsaucedo.finly.dto.request.GoalRequest;
 import com.vitorsaucedo.finly.dto.response.GoalResponse;
 import com.vitorsaucedo.finly.exception.BusinessException;
 import com.vitorsaucedo.finly.exception.ResourceNotFoundException;
+import com.vitorsaucedo.finly.outbox.OutboxEventType;
+import com.vitorsaucedo.finly.outbox.OutboxService;
+import com.vitorsaucedo.finly.util.Money;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -20,12 +24,19 @@ public class GoalService {
 
     private final GoalRepository goalRepository;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxService outboxService;
+    private final GoalDepositRepository depositRepository;
+    private final GoalLedgerRepository ledgerRepository;
+    private final GoalProjectionService projectionService;
 
     @Transactional(readOnly = true)
     public List<GoalResponse> findAll(UUID userId) {
-        return goalRepository.findAllByUserId(userId)
-                .stream()
-                .map(this::toResponse)
+        List<Goal> goals = goalRepository.findAllByUserId(userId);
+        Map<UUID, GoalProjection> projections = projectionService.projectAll(goals);
+
+        return goals.stream()
+                .map(goal -> toResponse(goal, projections.getOrDefault(goal.getId(), GoalProjection.NONE)))
                 .toList();
     }
 
@@ -48,7 +59,12 @@ public class GoalService {
                 .notes(request.notes())
                 .build();
 
-        return toResponse(goalRepository.save(goal));
+        Goal saved = goalRepository.save(goal);
+        if (saved.getCurrentAmount().signum() > 0) {
+            recordOpeningDeposit(saved);
+        }
+
+        return toResponse(saved);
     }
 
     @Transactional
@@ -70,20 +86,19 @@ public class GoalService {
 
     @Transactional
     public GoalResponse addAmount(UUID id, BigDecimal amount, UUID userId) {
-        Goal goal = goalRepository.findByIdAndUserId(id, userId)
-                .orElseThrow(() -> new ResourceNotFoundException("Goal not found"));
+        GoalDepositResult result = ledgerRepository.deposit(id, userId, amount)
+                .orElseThrow(() -> goalRepository.existsByIdAndUserId(id, userId)
+                        ? new BusinessException("Only in-progress goals can receive deposits")
+                        : new ResourceNotFoundException("Goal not found"));
 
-        if (goal.getStatus() != GoalStatus.IN_PROGRESS) {
-            throw new BusinessException("Only in-progress goals can receive deposits");
-        }
+        outboxService.append(userId, OutboxEventType.GOAL_DEPOSITED, id, new GoalDepositedPayload(
+                id, amount, result.currentAmount(), result.status()));
+        eventPublisher.publishEvent(new GoalProgressChangedEvent(
+                userId, id, result.currentAmount(), result.status()));
 
-        goal.setCurrentAmount(goal.getCurrentAmount().add(amount));
-
-        if (goal.getCurrentAmount().compareTo(goal.getTargetAmount()) >= 0) {
-            goal.setStatus(GoalStatus.COMPLETED);
-        }
-
-        return toResponse(goalRepository.save(goal));
+        return goalRepository.findByIdAndUserId(id, userId)
+                .map(this::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Goal not found"));
     }
 
     @Transactional
@@ -94,26 +109,39 @@ public class GoalService {
         goalRepository.delete(goal);
     }
 
+    private void recordOpeningDeposit(Goal goal) {
+        depositRepository.save(GoalDeposit.builder()
+                .goal(goal)
+                .amount(goal.getCurrentAmount())
+                .balanceAfter(goal.getCurrentAmount())
+                .opening(true)
+                .build());
+    }
+
     private GoalResponse toResponse(Goal goal) {
-        BigDecimal remaining = goal.getTargetAmount().subtract(goal.getCurrentAmount());
-        double percentageCompleted = goal.getTargetAmount().compareTo(BigDecimal.ZERO) > 0
-                ? goal.getCurrentAmount()
-                .divide(goal.getTargetAmount(), 4, RoundingMode.HALF_UP)
-                .multiply(BigDecimal.valueOf(100))
-                .doubleValue()
-                : 0.0;
+        return toResponse(goal, projectionService.project(goal));
+    }
+
+    private GoalResponse toResponse(Goal goal, GoalProjection projection) {
+        long target = Money.cents(goal.getTargetAmount());
+        long current = Money.cents(goal.getCurrentAmount());
+        double percentageCompleted = target > 0 ? Money.percentage(current, target) : 0.0;
 
         return new GoalResponse(
                 goal.getId(),
                 goal.getName(),
                 goal.getTargetAmount(),
                 goal.getCurrentAmount(),
-                remaining,
+                Money.toBigDecimal(target - current),
                 percentageCompleted,
                 goal.getDeadline(),
                 goal.getStatus(),
                 goal.getNotes(),
-                goal.getCreatedAt()
+                goal.getCreatedAt(),
+                projection.averageMonthlyContribution(),
+                projection.requiredMonthlyContribution(),
+                projection.projectedCompletionDate(),
+                projection.onTrack()
         );
     }
 }
\ No newline at end of file
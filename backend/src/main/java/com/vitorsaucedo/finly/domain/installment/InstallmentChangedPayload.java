@@ -0,0 +1,14 @@
+package com.vitorsaucedo.finly.domain.installment;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record InstallmentChangedPayload(
+        UUID groupId,
+        UUID installmentId,
+        UUID accountId,
+        UUID categoryId,
+        BigDecimal amount,
+        LocalDate dueDate
+) {}
@@ -1,5 +1,7 @@
 package com.vitorsaucedo.finly.domain.installment;
 
+import com.vitorsaucedo.finly.dto.request.InstallmentCancellationRequest;
+import com.vitorsaucedo.finly.dto.request.InstallmentPaymentRequest;
 import com.vitorsaucedo.finly.dto.request.InstallmentRequest;
 import com.vitorsaucedo.finly.dto.response.InstallmentGroupResponse;
 import com.vitorsaucedo.finly.dto.response.InstallmentResponse;
@@ -16,6 +18,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -60,12 +63,38 @@ public class InstallmentController {
         return ResponseEntity.ok(installmentService.payInstallment(id, extractUserId(token)));
     }
 
+    @PostMapping("/pay")
+    @Operation(summary = "Pay several installments at once")
+    public ResponseEntity<List<InstallmentResponse>> payAll(
+            @Valid @RequestBody InstallmentPaymentRequest request,
+            JwtAuthenticationToken token) {
+        return ResponseEntity.ok(installmentService.payInstallments(request, extractUserId(token)));
+    }
+
+    @PostMapping("/{id}/settle")
+    @Operation(summary = "Pay all pending installments of a group early")
+    public ResponseEntity<InstallmentGroupResponse> settle(
+            @PathVariable UUID id,
+            JwtAuthenticationToken token) {
+        return ResponseEntity.ok(installmentService.settle(id, extractUserId(token)));
+    }
+
     @DeleteMapping("/{id}/cancel")
-    @Operation(summary = "Cancel all pending installments of a group")
+    @Operation(summary = "Cancel the pending installments of a group, optionally from a given installment onward")
     public ResponseEntity<Void> cancel(
             @PathVariable UUID id,
+            @RequestParam(defaultValue = "1") int fromInstallment,
+            JwtAuthenticationToken token) {
+        installmentService.cancel(id, fromInstallment, extractUserId(token));
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/cancel")
+    @Operation(summary = "Cancel all pending installments of several groups")
+    public ResponseEntity<Void> cancelAll(
+            @Valid @RequestBody InstallmentCancellationRequest request,
             JwtAuthenticationToken token) {
-        installmentService.cancel(id, extractUserId(token));
+        installmentService.cancelAll(request, extractUserId(token));
         return ResponseEntity.noContent().build();
     }
 
@@ -4,10 +4,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface InstallmentGroupRepository extends JpaRepository<InstallmentGroup, UUID> {
     Page<InstallmentGroup> findAllByUserId(UUID userId, Pageable pageable);
     Optional<InstallmentGroup> findByIdAndUserId(UUID id, UUID userId);
+    List<InstallmentGroup> findAllByIdInAndUserId(Collection<UUID> ids, UUID userId);
 }
\ No newline at end of file
@@ -1,8 +1,12 @@
 package com.vitorsaucedo.finly.domain.installment;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,4 +16,34 @@ public interface InstallmentRepository extends JpaRepository<Installment, UUID>
     Optional<Installment> findByIdAndGroupUserId(UUID id, UUID userId);
     List<Installment> findAllByGroupUserIdAndDueDateBetween(UUID userId, LocalDate start, LocalDate end);
     List<Installment> findAllByGroupUserIdAndStatus(UUID userId, InstallmentStatus status);
-}
\ No newline at end of file
+
+    @Query("""
+            SELECT i FROM Installment i
+            JOIN FETCH i.group g
+            JOIN FETCH g.account
+            LEFT JOIN FETCH g.category
+            WHERE i.id IN :ids
+            AND g.user.id = :userId
+            ORDER BY g.id, i.installmentNumber
+            """)
+    List<Installment> findAllForPayment(Collection<UUID> ids, UUID userId);
+
+    @Query("""
+            SELECT i FROM Installment i
+            WHERE i.group.id = :groupId
+            AND i.status = 'PENDING'
+            ORDER BY i.installmentNumber
+            """)
+    List<Installment> findPendingByGroupId(UUID groupId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Installment i
+            SET i.status = com.vitorsaucedo.finly.domain.installment.InstallmentStatus.CANCELLED,
+                i.updatedAt = :now
+            WHERE i.group.id IN :groupIds
+            AND i.status = 'PENDING'
+            AND i.installmentNumber >= :fromNumber
+            """)
+    int cancelPending(Collection<UUID> groupIds, int fromNumber, LocalDateTime now);
+}
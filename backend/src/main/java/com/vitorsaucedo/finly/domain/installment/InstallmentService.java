@@ -2,16 +2,20 @@ package com.vitorsaucedo.finly.domain.installment;
 
 import com.vitorsaucedo.finly.domain.account.AccountService;
 import com.vitorsaucedo.finly.domain.category.CategoryService;
+import com.vitorsaucedo.finly.domain.transaction.Transaction;
 import com.vitorsaucedo.finly.domain.transaction.TransactionService;
 import com.vitorsaucedo.finly.domain.transaction.TransactionStatus;
 import com.vitorsaucedo.finly.domain.transaction.TransactionType;
 import com.vitorsaucedo.finly.domain.user.UserService;
+import com.vitorsaucedo.finly.dto.request.InstallmentCancellationRequest;
+import com.vitorsaucedo.finly.dto.request.InstallmentPaymentRequest;
 import com.vitorsaucedo.finly.dto.request.InstallmentRequest;
-import com.vitorsaucedo.finly.dto.request.TransactionRequest;
 import com.vitorsaucedo.finly.dto.response.InstallmentGroupResponse;
 import com.vitorsaucedo.finly.dto.response.InstallmentResponse;
 import com.vitorsaucedo.finly.exception.BusinessException;
 import com.vitorsaucedo.finly.exception.ResourceNotFoundException;
+import com.vitorsaucedo.finly.outbox.OutboxEventType;
+import com.vitorsaucedo.finly.outbox.OutboxService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -21,8 +25,13 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -35,6 +44,7 @@ public class InstallmentService {
     private final CategoryService categoryService;
     private final UserService userService;
     private final TransactionService transactionService;
+    private final OutboxService outboxService;
 
     @Transactional(readOnly = true)
     public Page<InstallmentGroupResponse> findAll(UUID userId, Pageable pageable) {
@@ -69,6 +79,9 @@ public class InstallmentService {
         installmentRepository.saveAll(installments);
 
         saved.setInstallments(installments);
+        outboxService.append(userId, OutboxEventType.INSTALLMENT_GROUP_CREATED, saved.getId(),
+                toPayload(saved, null));
+
         return toGroupResponse(saved);
     }
 
@@ -77,46 +90,111 @@ public class InstallmentService {
         Installment installment = installmentRepository.findByIdAndGroupUserId(id, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Installment not found"));
 
-        if (installment.getStatus() == InstallmentStatus.COMPLETED) {
-            throw new BusinessException("Installment already paid");
-        }
+        return toInstallmentResponse(pay(List.of(installment), userId).getFirst());
+    }
 
-        if (installment.getStatus() == InstallmentStatus.CANCELLED) {
-            throw new BusinessException("Installment is cancelled");
-        }
+    @Transactional
+    public List<InstallmentResponse> payInstallments(InstallmentPaymentRequest request, UUID userId) {
+        Set<UUID> ids = new LinkedHashSet<>(request.installmentIds());
+        List<Installment> installments = installmentRepository.findAllForPayment(ids, userId);
 
-        InstallmentGroup group = installment.getGroup();
+        if (installments.size() != ids.size()) {
+            throw new ResourceNotFoundException("Installment not found");
+        }
 
-        TransactionRequest transactionRequest = new TransactionRequest(
-                group.getAccount().getId(),
-                group.getCategory() != null ? group.getCategory().getId() : null,
-                null,
-                group.getDescription() + " (" + installment.getInstallmentNumber() + "/" + group.getInstallmentCount() + ")",
-                installment.getAmount(),
-                TransactionType.EXPENSE,
-                TransactionStatus.COMPLETED,
-                LocalDate.now(),
-                null
-        );
+        return pay(installments, userId).stream().map(this::toInstallmentResponse).toList();
+    }
 
-        var transaction = transactionService.create(transactionRequest, userId);
+    @Transactional
+    public InstallmentGroupResponse settle(UUID id, UUID userId) {
+        InstallmentGroup group = installmentGroupRepository.findByIdAndUserId(id, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Installment group not found"));
 
-        installment.setStatus(InstallmentStatus.COMPLETED);
-        installment.setTransaction(transactionService.getTransaction(transaction.id(), userId));
+        List<Installment> pending = installmentRepository.findPendingByGroupId(group.getId());
+        if (pending.isEmpty()) {
+            throw new BusinessException("Installment group has no pending installments");
+        }
 
-        return toInstallmentResponse(installmentRepository.save(installment));
+        pay(pending, userId);
+        return toGroupResponse(group);
     }
 
     @Transactional
-    public void cancel(UUID id, UUID userId) {
+    public void cancel(UUID id, int fromInstallment, UUID userId) {
         InstallmentGroup group = installmentGroupRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Installment group not found"));
 
-        group.getInstallments().stream()
-                .filter(i -> i.getStatus() == InstallmentStatus.PENDING)
-                .forEach(i -> i.setStatus(InstallmentStatus.CANCELLED));
+        if (fromInstallment < 1 || fromInstallment > group.getInstallmentCount()) {
+            throw new BusinessException("Installment number must be between 1 and " + group.getInstallmentCount());
+        }
+
+        cancelPending(List.of(group), fromInstallment, userId);
+    }
+
+    @Transactional
+    public void cancelAll(InstallmentCancellationRequest request, UUID userId) {
+        Set<UUID> ids = new LinkedHashSet<>(request.groupIds());
+        List<InstallmentGroup> groups = installmentGroupRepository.findAllByIdInAndUserId(ids, userId);
+
+        if (groups.size() != ids.size()) {
+            throw new ResourceNotFoundException("Installment group not found");
+        }
+
+        cancelPending(groups, 1, userId);
+    }
+
+    private void cancelPending(List<InstallmentGroup> groups, int fromInstallment, UUID userId) {
+        List<InstallmentChangedPayload> payloads = groups.stream().map(group -> toPayload(group, null)).toList();
+
+        installmentRepository.cancelPending(
+                groups.stream().map(InstallmentGroup::getId).toList(), fromInstallment, LocalDateTime.now());
 
-        installmentGroupRepository.save(group);
+        payloads.forEach(payload -> outboxService.append(userId, OutboxEventType.INSTALLMENT_GROUP_CANCELLED,
+                payload.groupId(), payload));
+    }
+
+    private List<Installment> pay(List<Installment> installments, UUID userId) {
+        LocalDate today = LocalDate.now();
+        List<Transaction> transactions = new ArrayList<>(installments.size());
+
+        for (Installment installment : installments) {
+            if (installment.getStatus() == InstallmentStatus.COMPLETED) {
+                throw new BusinessException("Installment already paid");
+            }
+
+            if (installment.getStatus() == InstallmentStatus.CANCELLED) {
+                throw new BusinessException("Installment is cancelled");
+            }
+
+            InstallmentGroup group = installment.getGroup();
+            transactions.add(Transaction.builder()
+                    .user(group.getUser())
+                    .account(group.getAccount())
+                    .category(group.getCategory())
+                    .description(group.getDescription()
+                            + " (" + installment.getInstallmentNumber() + "/" + group.getInstallmentCount() + ")")
+                    .amount(installment.getAmount())
+                    .type(TransactionType.EXPENSE)
+                    .status(TransactionStatus.COMPLETED)
+                    .transactionDate(today)
+                    .build());
+        }
+
+        List<Transaction> saved = transactionService.createBatch(transactions, userId);
+
+        Map<InstallmentGroup, List<Installment>> paidByGroup = new LinkedHashMap<>();
+        for (int i = 0; i < installments.size(); i++) {
+            Installment installment = installments.get(i);
+            installment.setStatus(InstallmentStatus.COMPLETED);
+            installment.setTransaction(saved.get(i));
+            paidByGroup.computeIfAbsent(installment.getGroup(), group -> new ArrayList<>()).add(installment);
+        }
+
+        List<Installment> paid = installmentRepository.saveAll(installments);
+        paidByGroup.forEach((group, groupInstallments) -> outboxService.append(userId,
+                OutboxEventType.INSTALLMENT_PAID, group.getId(), toPaidPayload(group, groupInstallments)));
+
+        return paid;
     }
 
     private List<Installment> generateInstallments(InstallmentGroup group, InstallmentRequest request) {
@@ -143,6 +221,32 @@ public class InstallmentService {
         return installments;
     }
 
+    private InstallmentChangedPayload toPayload(InstallmentGroup group, Installment installment) {
+        return new InstallmentChangedPayload(
+                group.getId(),
+                installment != null ? installment.getId() : null,
+                group.getAccount().getId(),
+                group.getCategory() != null ? group.getCategory().getId() : null,
+                installment != null ? installment.getAmount() : group.getTotalAmount(),
+                installment != null ? installment.getDueDate() : group.getStartDate()
+        );
+    }
+
+    private InstallmentChangedPayload toPaidPayload(InstallmentGroup group, List<Installment> paid) {
+        if (paid.size() == 1) {
+            return toPayload(group, paid.getFirst());
+        }
+
+        return new InstallmentChangedPayload(
+                group.getId(),
+                null,
+                group.getAccount().getId(),
+                group.getCategory() != null ? group.getCategory().getId() : null,
+                paid.stream().map(Installment::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add),
+                paid.getLast().getDueDate()
+        );
+    }
+
     private InstallmentGroupResponse toGroupResponse(InstallmentGroup group) {
         List<Installment> installments = installmentRepository.findAllByGroupId(group.getId());
 
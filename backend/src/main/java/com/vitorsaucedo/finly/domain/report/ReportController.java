@@ -0,0 +1,41 @@
+package com.vitorsaucedo.finly.domain.report;
+
+import com.vitorsaucedo.finly.dto.response.SpendingReportResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/reports")
+@RequiredArgsConstructor
+@Tag(name = "Reports", description = "Spending analytics endpoints")
+@SecurityRequirement(name = "bearerAuth")
+public class ReportController {
+
+    private final SpendingReportService spendingReportService;
+
+    @GetMapping("/spending")
+    @Operation(summary = "Get per-category spending with month-over-month and year-over-year comparison")
+    public ResponseEntity<SpendingReportResponse> getSpending(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "10") int top,
+            JwtAuthenticationToken token) {
+        return ResponseEntity.ok(spendingReportService.getSpending(extractUserId(token), from, to, top));
+    }
+
+    private UUID extractUserId(JwtAuthenticationToken token) {
+        return UUID.fromString(token.getToken().getSubject());
+    }
+}
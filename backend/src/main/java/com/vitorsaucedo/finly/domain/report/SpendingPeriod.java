@@ -0,0 +1,26 @@
+package com.vitorsaucedo.finly.domain.report;
+
+import java.time.LocalDate;
+
+public record SpendingPeriod(LocalDate from, LocalDate to) {
+
+    public SpendingPeriod minusMonths(long months) {
+        return new SpendingPeriod(from.minusMonths(months), to.minusMonths(months));
+    }
+
+    public SpendingPeriod minusYears(long years) {
+        return new SpendingPeriod(from.minusYears(years), to.minusYears(years));
+    }
+
+    public boolean contains(LocalDate date) {
+        return !date.isBefore(from) && !date.isAfter(to);
+    }
+
+    public boolean affectedBy(LocalDate date) {
+        return contains(date) || minusMonths(1).contains(date) || minusYears(1).contains(date);
+    }
+
+    public boolean isClosed(LocalDate today) {
+        return to.isBefore(today.withDayOfMonth(1));
+    }
+}
@@ -0,0 +1,118 @@
+package com.vitorsaucedo.finly.domain.report;
+
+import com.vitorsaucedo.finly.config.SpendingReportCacheConfig;
+import com.vitorsaucedo.finly.dto.response.SpendingReportResponse;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+@Component
+public class SpendingReportCache {
+
+    private static final int DEFAULT_MAX_USERS = 10_000;
+    private static final int DEFAULT_MAX_REPORTS_PER_USER = 64;
+    private static final Duration DEFAULT_TTL = Duration.ofHours(1);
+
+    private final int maxReportsPerUser;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final AtomicLong versions = new AtomicLong();
+    private final Map<UUID, UserReports> users;
+
+    public SpendingReportCache(SpendingReportCacheConfig config) {
+        this(config, System::nanoTime);
+    }
+
+    SpendingReportCache(SpendingReportCacheConfig config, LongSupplier clock) {
+        int maxUsers = config.maxUsers() != null ? config.maxUsers() : DEFAULT_MAX_USERS;
+        this.maxReportsPerUser = config.maxReportsPerUser() != null
+                ? config.maxReportsPerUser() : DEFAULT_MAX_REPORTS_PER_USER;
+        this.ttlNanos = (config.ttl() != null ? config.ttl() : DEFAULT_TTL).toNanos();
+        this.clock = clock;
+        this.users = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, UserReports> eldest) {
+                return size() > maxUsers;
+            }
+        });
+    }
+
+    public long version(UUID userId) {
+        UserReports reports = users.computeIfAbsent(userId, id -> new UserReports(versions.incrementAndGet()));
+        synchronized (reports) {
+            return reports.version;
+        }
+    }
+
+    public Optional<SpendingReportResponse> get(UUID userId, Key key) {
+        UserReports reports = users.get(userId);
+        if (reports == null) return Optional.empty();
+
+        synchronized (reports) {
+            Cached cached = reports.entries.get(key);
+            if (cached == null) return Optional.empty();
+
+            if (clock.getAsLong() - cached.storedAt() > ttlNanos) {
+                reports.entries.remove(key);
+                return Optional.empty();
+            }
+            return Optional.of(cached.report());
+        }
+    }
+
+    public void put(UUID userId, Key key, SpendingReportResponse report, long expectedVersion) {
+        UserReports reports = users.computeIfAbsent(userId, id -> new UserReports(versions.incrementAndGet()));
+        synchronized (reports) {
+            if (reports.version == expectedVersion) {
+                reports.entries.put(key, new Cached(report, clock.getAsLong()));
+            }
+        }
+    }
+
+    public void invalidate(UUID userId, LocalDate date) {
+        UserReports reports = users.get(userId);
+        if (reports == null) return;
+
+        synchronized (reports) {
+            reports.version = versions.incrementAndGet();
+            reports.entries.keySet().removeIf(key -> key.period().affectedBy(date));
+        }
+    }
+
+    public void invalidateAll(UUID userId) {
+        UserReports reports = users.get(userId);
+        if (reports == null) return;
+
+        synchronized (reports) {
+            reports.version = versions.incrementAndGet();
+            reports.entries.clear();
+        }
+    }
+
+    public record Key(SpendingPeriod period, int merchantLimit, String currency) {}
+
+    private record Cached(SpendingReportResponse report, long storedAt) {}
+
+    private final class UserReports {
+
+        private long version;
+        private final LinkedHashMap<Key, Cached> entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Cached> eldest) {
+                return size() > maxReportsPerUser;
+            }
+        };
+
+        private UserReports(long version) {
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.vitorsaucedo.finly.domain.report;
+
+import com.vitorsaucedo.finly.domain.transaction.TransactionChangedPayload;
+import com.vitorsaucedo.finly.outbox.OutboxEvent;
+import com.vitorsaucedo.finly.outbox.OutboxEventConsumer;
+import com.vitorsaucedo.finly.outbox.OutboxEventType;
+import com.vitorsaucedo.finly.outbox.OutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class SpendingReportCacheInvalidator implements OutboxEventConsumer {
+
+    private final SpendingReportCache cache;
+    private final OutboxService outboxService;
+
+    @Override
+    public String name() {
+        return "spending-report-cache";
+    }
+
+    @Override
+    public boolean perInstance() {
+        return true;
+    }
+
+    @Override
+    public Set<OutboxEventType> eventTypes() {
+        return EnumSet.of(
+                OutboxEventType.TRANSACTION_CREATED,
+                OutboxEventType.TRANSACTIONS_CREATED,
+                OutboxEventType.TRANSACTION_UPDATED,
+                OutboxEventType.TRANSACTION_DELETED,
+                OutboxEventType.CATEGORY_UPDATED,
+                OutboxEventType.CATEGORY_DELETED
+        );
+    }
+
+    @Override
+    public void consume(OutboxEvent event) {
+        if (event.getEventType() == OutboxEventType.CATEGORY_UPDATED
+                || event.getEventType() == OutboxEventType.CATEGORY_DELETED) {
+            cache.invalidateAll(event.getUserId());
+            return;
+        }
+
+        TransactionChangedPayload payload = outboxService.readPayload(event, TransactionChangedPayload.class);
+
+        cache.invalidate(event.getUserId(), payload.transactionDate());
+        if (payload.previousTransactionDate() != null) {
+            cache.invalidate(event.getUserId(), payload.previousTransactionDate());
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.vitorsaucedo.finly.domain.report;
+
+import com.vitorsaucedo.finly.domain.fx.FxDailyRates;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.SqlArrayValue;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class SpendingReportRepository {
+
+    private static final String SPENDING_SQL = """
+            WITH fx AS (
+                SELECT *
+                FROM unnest(:fxCurrencies::varchar[], :fxDays::int[], :fxRates::float8[])
+                    AS fx(currency, epoch_day, rate)
+            ),
+            scoped AS (
+                SELECT t.category_id, t.description, t.transaction_date,
+                       CASE WHEN a.currency = :currency THEN t.amount
+                            WHEN fx.rate IS NOT NULL THEN ROUND(t.amount * fx.rate::numeric, 2) END AS amount
+                FROM transactions t
+                JOIN accounts a ON a.id = t.account_id
+                LEFT JOIN fx ON fx.currency = a.currency
+                    AND fx.epoch_day = t.transaction_date - DATE '1970-01-01'
+                WHERE t.user_id = :userId
+                AND t.type = 'EXPENSE'
+                AND t.status = 'COMPLETED'
+                AND (t.transaction_date BETWEEN :from AND :to
+                    OR t.transaction_date BETWEEN :previousMonthFrom AND :previousMonthTo
+                    OR t.transaction_date BETWEEN :previousYearFrom AND :previousYearTo)
+            ),
+            by_category AS (
+                SELECT category_id,
+                       COALESCE(SUM(amount) FILTER (WHERE transaction_date BETWEEN :from AND :to), 0) AS total,
+                       COALESCE(SUM(amount) FILTER (
+                           WHERE transaction_date BETWEEN :previousMonthFrom AND :previousMonthTo), 0) AS previous_month_total,
+                       COALESCE(SUM(amount) FILTER (
+                           WHERE transaction_date BETWEEN :previousYearFrom AND :previousYearTo), 0) AS previous_year_total
+                FROM scoped
+                GROUP BY category_id
+            ),
+            by_merchant AS (
+                SELECT MIN(description) AS description,
+                       SUM(amount) AS total,
+                       COUNT(*) AS occurrences,
+                       RANK() OVER (ORDER BY SUM(amount) DESC) AS position
+                FROM scoped
+                WHERE transaction_date BETWEEN :from AND :to
+                GROUP BY lower(trim(description))
+            )
+            SELECT 'CATEGORY' AS kind, b.category_id, c.name AS label, c.color,
+                   b.total, b.previous_month_total, b.previous_year_total,
+                   COALESCE(b.total / NULLIF(SUM(b.total) OVER (), 0), 0)::double precision AS share,
+                   0::bigint AS occurrences
+            FROM by_category b
+            LEFT JOIN categories c ON c.id = b.category_id
+            UNION ALL
+            SELECT 'MERCHANT', NULL, m.description, NULL,
+                   m.total, 0, 0, 0, m.occurrences
+            FROM by_merchant m
+            WHERE m.position <= :merchantLimit
+            UNION ALL
+            SELECT 'UNCONVERTED', NULL, NULL, NULL, 0, 0, 0, 0, COUNT(*)
+            FROM scoped
+            WHERE amount IS NULL
+            HAVING COUNT(*) > 0
+            """;
+
+    private static final RowMapper<SpendingRow> ROW_MAPPER = (rs, rowNum) -> new SpendingRow(
+            SpendingRow.Kind.valueOf(rs.getString("kind")),
+            rs.getObject("category_id", UUID.class),
+            rs.getString("label"),
+            rs.getString("color"),
+            rs.getBigDecimal("total"),
+            rs.getBigDecimal("previous_month_total"),
+            rs.getBigDecimal("previous_year_total"),
+            rs.getDouble("share"),
+            rs.getLong("occurrences")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<SpendingRow> findSpending(UUID userId, SpendingPeriod period, int merchantLimit,
+                                         String currency, FxDailyRates rates) {
+        SpendingPeriod previousMonth = period.minusMonths(1);
+        SpendingPeriod previousYear = period.minusYears(1);
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("from", period.from())
+                .addValue("to", period.to())
+                .addValue("previousMonthFrom", previousMonth.from())
+                .addValue("previousMonthTo", previousMonth.to())
+                .addValue("previousYearFrom", previousYear.from())
+                .addValue("previousYearTo", previousYear.to())
+                .addValue("merchantLimit", merchantLimit)
+                .addValue("currency", currency)
+                .addValue("fxCurrencies", new SqlArrayValue("varchar", (Object[]) rates.currencies()))
+                .addValue("fxDays", new SqlArrayValue("int4", boxed(rates.epochDays())))
+                .addValue("fxRates", new SqlArrayValue("float8", boxed(rates.rates())));
+
+        return jdbcTemplate.query(SPENDING_SQL, params, ROW_MAPPER);
+    }
+
+    private static Object[] boxed(int[] values) {
+        Object[] boxed = new Object[values.length];
+        for (int i = 0; i < values.length; i++) boxed[i] = values[i];
+        return boxed;
+    }
+
+    private static Object[] boxed(double[] values) {
+        Object[] boxed = new Object[values.length];
+        for (int i = 0; i < values.length; i++) boxed[i] = values[i];
+        return boxed;
+    }
+}
@@ -0,0 +1,116 @@
+package com.vitorsaucedo.finly.domain.report;
+
+import com.vitorsaucedo.finly.domain.fx.FxDailyRates;
+import com.vitorsaucedo.finly.domain.fx.FxService;
+import com.vitorsaucedo.finly.dto.response.SpendingReportResponse;
+import com.vitorsaucedo.finly.dto.response.SpendingReportResponse.CategorySpending;
+import com.vitorsaucedo.finly.dto.response.SpendingReportResponse.MerchantSpending;
+import com.vitorsaucedo.finly.exception.BusinessException;
+import com.vitorsaucedo.finly.util.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class SpendingReportService {
+
+    private static final long MAX_PERIOD_DAYS = 1096;
+    private static final int MAX_MERCHANT_LIMIT = 50;
+
+    private final SpendingReportRepository spendingReportRepository;
+    private final SpendingReportCache cache;
+    private final FxService fxService;
+
+    @Transactional(readOnly = true)
+    public SpendingReportResponse getSpending(UUID userId, LocalDate from, LocalDate to, int top) {
+        if (from.isAfter(to)) {
+            throw new BusinessException("Start date must be before end date");
+        }
+
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_PERIOD_DAYS) {
+            throw new BusinessException("Report period must be at most " + MAX_PERIOD_DAYS + " days");
+        }
+
+        SpendingPeriod period = new SpendingPeriod(from, to);
+        int merchantLimit = Math.clamp(top, 1, MAX_MERCHANT_LIMIT);
+        String currency = fxService.baseCurrency(userId);
+
+        if (!period.isClosed(LocalDate.now())) {
+            return compute(userId, period, merchantLimit, currency);
+        }
+
+        SpendingReportCache.Key key = new SpendingReportCache.Key(period, merchantLimit, currency);
+        long version = cache.version(userId);
+
+        return cache.get(userId, key).orElseGet(() -> {
+            SpendingReportResponse report = compute(userId, period, merchantLimit, currency);
+            cache.put(userId, key, report, version);
+            return report;
+        });
+    }
+
+    private SpendingReportResponse compute(UUID userId, SpendingPeriod period, int merchantLimit, String currency) {
+        FxDailyRates rates = fxService.dailyRates(userId, currency, period.minusYears(1).from(), period.to());
+        List<SpendingRow> rows = spendingReportRepository.findSpending(userId, period, merchantLimit, currency, rates);
+        rows.stream()
+                .filter(row -> row.kind() == SpendingRow.Kind.UNCONVERTED)
+                .findFirst()
+                .ifPresent(row -> {
+                    throw new BusinessException("No FX rate available for " + row.occurrences()
+                            + " transactions in the report period");
+                });
+
+        List<CategorySpending> categories = rows.stream()
+                .filter(row -> row.kind() == SpendingRow.Kind.CATEGORY)
+                .sorted(Comparator.comparing(SpendingRow::total).reversed())
+                .map(this::toCategorySpending)
+                .toList();
+
+        List<MerchantSpending> merchants = rows.stream()
+                .filter(row -> row.kind() == SpendingRow.Kind.MERCHANT)
+                .sorted(Comparator.comparing(SpendingRow::total).reversed())
+                .map(row -> new MerchantSpending(row.label(), row.total(), row.occurrences()))
+                .toList();
+
+        long totalSpent = 0;
+        for (CategorySpending category : categories) {
+            totalSpent = Math.addExact(totalSpent, Money.cents(category.total()));
+        }
+
+        return new SpendingReportResponse(period.from(), period.to(), currency, Money.toBigDecimal(totalSpent),
+                categories, merchants);
+    }
+
+    private CategorySpending toCategorySpending(SpendingRow row) {
+        long total = Money.cents(row.total());
+        long previousMonth = Money.cents(row.previousMonthTotal());
+        long previousYear = Money.cents(row.previousYearTotal());
+
+        return new CategorySpending(
+                row.categoryId(),
+                row.label(),
+                row.color(),
+                row.total(),
+                row.share() * 100,
+                row.previousMonthTotal(),
+                Money.toBigDecimal(total - previousMonth),
+                percentageChange(total, previousMonth),
+                row.previousYearTotal(),
+                Money.toBigDecimal(total - previousYear),
+                percentageChange(total, previousYear)
+        );
+    }
+
+    private Double percentageChange(long current, long previous) {
+        if (previous == 0) return null;
+
+        return Money.percentage(current - previous, previous);
+    }
+}
@@ -0,0 +1,18 @@
+package com.vitorsaucedo.finly.domain.report;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+record SpendingRow(
+        Kind kind,
+        UUID categoryId,
+        String label,
+        String color,
+        BigDecimal total,
+        BigDecimal previousMonthTotal,
+        BigDecimal previousYearTotal,
+        double share,
+        long occurrences
+) {
+    enum Kind { CATEGORY, MERCHANT, UNCONVERTED }
+}
@@ -0,0 +1,135 @@
+package com.vitorsaucedo.finly.domain.stream;
+
+import com.vitorsaucedo.finly.config.StreamConfig;
+import com.vitorsaucedo.finly.dto.response.LiveUpdateResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class LiveUpdateHub {
+
+    private static final int DEFAULT_BUFFER_SIZE = 32;
+    private static final Duration DEFAULT_HEARTBEAT_INTERVAL = Duration.ofSeconds(25);
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(30);
+
+    private final int bufferSize;
+    private final Duration heartbeatInterval;
+    private final Duration timeout;
+
+    private final ConcurrentHashMap<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong droppedSubscribers = new AtomicLong();
+
+    public LiveUpdateHub(StreamConfig config) {
+        this.bufferSize = config.bufferSize() != null ? config.bufferSize() : DEFAULT_BUFFER_SIZE;
+        this.heartbeatInterval = config.heartbeatInterval() != null
+                ? config.heartbeatInterval() : DEFAULT_HEARTBEAT_INTERVAL;
+        this.timeout = config.timeout() != null ? config.timeout() : DEFAULT_TIMEOUT;
+    }
+
+    public SseEmitter subscribe(UUID userId) {
+        return subscribe(userId, new SseEmitter(timeout.toMillis()));
+    }
+
+    SseEmitter subscribe(UUID userId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(userId, emitter, new ArrayBlockingQueue<>(bufferSize));
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        subscribers.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        Thread.ofVirtual().name("sse-" + userId).start(subscriber);
+
+        return emitter;
+    }
+
+    public void publish(UUID userId, LiveUpdateResponse update) {
+        Set<Subscriber> userSubscribers = subscribers.get(userId);
+        if (userSubscribers == null) return;
+
+        for (Subscriber subscriber : userSubscribers) {
+            if (!subscriber.queue.offer(update)) {
+                droppedSubscribers.incrementAndGet();
+                log.debug("Dropping slow live update subscriber of user {}", userId);
+                subscriber.close();
+                subscriber.emitter.complete();
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    public long droppedSubscriberCount() {
+        return droppedSubscribers.get();
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private final class Subscriber implements Runnable {
+
+        private final UUID userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<LiveUpdateResponse> queue;
+        private volatile boolean closed;
+        private volatile Thread worker;
+
+        private Subscriber(UUID userId, SseEmitter emitter, BlockingQueue<LiveUpdateResponse> queue) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        @Override
+        public void run() {
+            worker = Thread.currentThread();
+            try {
+                while (!closed) {
+                    LiveUpdateResponse update = queue.poll(heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+                    if (closed) break;
+
+                    if (update == null) {
+                        emitter.send(SseEmitter.event().comment("keepalive"));
+                    } else {
+                        emitter.send(SseEmitter.event().name(update.type()).data(update));
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Live update subscriber of user {} disconnected", userId);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                close();
+            }
+        }
+
+        private void close() {
+            if (closed) return;
+            closed = true;
+            remove(this);
+
+            Thread current = worker;
+            if (current != null && current != Thread.currentThread()) {
+                current.interrupt();
+            }
+        }
+    }
+}
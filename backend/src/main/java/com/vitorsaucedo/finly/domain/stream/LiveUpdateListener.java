@@ -0,0 +1,34 @@
+package com.vitorsaucedo.finly.domain.stream;
+
+import com.vitorsaucedo.finly.domain.account.AccountBalanceChangedEvent;
+import com.vitorsaucedo.finly.domain.budget.BudgetChangedEvent;
+import com.vitorsaucedo.finly.domain.goal.GoalProgressChangedEvent;
+import com.vitorsaucedo.finly.dto.response.LiveUpdateResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class LiveUpdateListener {
+
+    private final LiveUpdateHub hub;
+
+    @TransactionalEventListener
+    public void onAccountBalanceChanged(AccountBalanceChangedEvent event) {
+        hub.publish(event.userId(), new LiveUpdateResponse(
+                "account.balance", event.accountId(), event.balance(), null));
+    }
+
+    @TransactionalEventListener
+    public void onBudgetChanged(BudgetChangedEvent event) {
+        hub.publish(event.userId(), new LiveUpdateResponse(
+                "budget.spent", event.budgetId(), event.spent(), event.status().name()));
+    }
+
+    @TransactionalEventListener
+    public void onGoalProgressChanged(GoalProgressChangedEvent event) {
+        hub.publish(event.userId(), new LiveUpdateResponse(
+                "goal.progress", event.goalId(), event.currentAmount(), event.status().name()));
+    }
+}
@@ -0,0 +1,34 @@
+package com.vitorsaucedo.finly.domain.stream;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/stream")
+@RequiredArgsConstructor
+@Tag(name = "Stream", description = "Live balance, budget and goal updates")
+@SecurityRequirement(name = "bearerAuth")
+public class StreamController {
+
+    private final LiveUpdateHub liveUpdateHub;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Subscribe to live updates of the authenticated user")
+    public SseEmitter stream(JwtAuthenticationToken token) {
+        return liveUpdateHub.subscribe(extractUserId(token));
+    }
+
+    private UUID extractUserId(JwtAuthenticationToken token) {
+        return UUID.fromString(token.getToken().getSubject());
+    }
+}
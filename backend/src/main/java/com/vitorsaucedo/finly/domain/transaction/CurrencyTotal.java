@@ -0,0 +1,9 @@
+package com.vitorsaucedo.finly.domain.transaction;
+
+import java.math.BigDecimal;
+
+public record CurrencyTotal(
+        String currency,
+        TransactionType type,
+        BigDecimal total
+) {}
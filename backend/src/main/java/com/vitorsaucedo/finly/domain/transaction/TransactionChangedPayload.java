@@ -0,0 +1,17 @@
+package com.vitorsaucedo.finly.domain.transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record TransactionChangedPayload(
+        UUID transactionId,
+        UUID accountId,
+        UUID categoryId,
+        TransactionType type,
+        TransactionStatus status,
+        BigDecimal amount,
+        LocalDate transactionDate,
+        UUID previousCategoryId,
+        LocalDate previousTransactionDate
+) {}
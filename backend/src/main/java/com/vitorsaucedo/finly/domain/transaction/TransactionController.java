@@ -1,7 +1,9 @@
 package com.vitorsaucedo.finly.domain.transaction;
 
 import com.vitorsaucedo.finly.dto.request.TransactionRequest;
+import com.vitorsaucedo.finly.dto.response.CursorPageResponse;
 import com.vitorsaucedo.finly.dto.response.TransactionResponse;
+import com.vitorsaucedo.finly.util.FieldSelection;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -9,12 +11,16 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.UUID;
 
 @RestController
@@ -29,17 +35,60 @@ public class TransactionController {
     @GetMapping
     @Operation(summary = "List all transactions paginated")
     public ResponseEntity<Page<TransactionResponse>> findAll(
+            @RequestParam(required = false) String fields,
             @PageableDefault(size = 10, sort = "transactionDate") Pageable pageable,
             JwtAuthenticationToken token) {
-        return ResponseEntity.ok(transactionService.findAll(extractUserId(token), pageable));
+        return ResponseEntity.ok(transactionService.findAll(extractUserId(token), pageable, selectFields(fields)));
+    }
+
+    @GetMapping("/filter")
+    @Operation(summary = "Filter transactions by account, category, type, status, date, amount and text")
+    public ResponseEntity<Page<TransactionResponse>> filter(
+            @RequestParam(required = false) UUID accountId,
+            @RequestParam(required = false) UUID categoryId,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false) TransactionStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(required = false) String text,
+            @RequestParam(required = false) String fields,
+            @PageableDefault(size = 10, sort = "transactionDate", direction = Sort.Direction.DESC) Pageable pageable,
+            JwtAuthenticationToken token) {
+        TransactionFilter filter = new TransactionFilter(
+                accountId, categoryId, type, status, from, to, minAmount, maxAmount, text);
+        return ResponseEntity.ok(transactionService.filter(extractUserId(token), filter, pageable,
+                selectFields(fields)));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search transactions by description and notes")
+    public ResponseEntity<CursorPageResponse<TransactionResponse>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) UUID accountId,
+            @RequestParam(required = false) UUID categoryId,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String fields,
+            JwtAuthenticationToken token) {
+        selectFields(fields);
+        TransactionSearchCriteria criteria = new TransactionSearchCriteria(
+                q, accountId, categoryId, minAmount, maxAmount, from, to);
+        return ResponseEntity.ok(transactionService.search(extractUserId(token), criteria, cursor, size));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get transaction by id")
     public ResponseEntity<TransactionResponse> findById(
             @PathVariable UUID id,
+            @RequestParam(required = false) String fields,
             JwtAuthenticationToken token) {
-        return ResponseEntity.ok(transactionService.findById(id, extractUserId(token)));
+        return ResponseEntity.ok(transactionService.findById(id, extractUserId(token), selectFields(fields)));
     }
 
     @PostMapping
@@ -69,6 +118,10 @@ public class TransactionController {
         return ResponseEntity.noContent().build();
     }
 
+    private static FieldSelection selectFields(String fields) {
+        return FieldSelection.parse(fields, TransactionResponse.class, "id").bindToCurrentRequest();
+    }
+
     private UUID extractUserId(JwtAuthenticationToken token) {
         return UUID.fromString(token.getToken().getSubject());
     }
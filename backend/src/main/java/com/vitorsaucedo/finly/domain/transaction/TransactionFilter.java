@@ -0,0 +1,17 @@
+package com.vitorsaucedo.finly.domain.transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record TransactionFilter(
+        UUID accountId,
+        UUID categoryId,
+        TransactionType type,
+        TransactionStatus status,
+        LocalDate startDate,
+        LocalDate endDate,
+        BigDecimal minAmount,
+        BigDecimal maxAmount,
+        String text
+) {}
@@ -0,0 +1,13 @@
+package com.vitorsaucedo.finly.domain.transaction;
+
+import com.vitorsaucedo.finly.dto.response.TransactionResponse;
+import com.vitorsaucedo.finly.util.FieldSelection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface TransactionFilterRepository {
+
+    Page<TransactionResponse> findAllProjected(Specification<Transaction> spec, Pageable pageable,
+                                               FieldSelection fields);
+}
@@ -0,0 +1,146 @@
+package com.vitorsaucedo.finly.domain.transaction;
+
+import com.vitorsaucedo.finly.domain.account.Account;
+import com.vitorsaucedo.finly.domain.category.Category;
+import com.vitorsaucedo.finly.dto.response.TransactionResponse;
+import com.vitorsaucedo.finly.util.FieldSelection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class TransactionFilterRepositoryImpl implements TransactionFilterRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<TransactionResponse> findAllProjected(Specification<Transaction> spec, Pageable pageable,
+                                                      FieldSelection fields) {
+        if (!fields.isAll()) {
+            return findAllSparse(spec, pageable, fields);
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TransactionResponse> query = cb.createQuery(TransactionResponse.class);
+        Root<Transaction> root = query.from(Transaction.class);
+        Join<Transaction, Account> account = root.join("account");
+        Join<Transaction, Category> category = root.join("category", JoinType.LEFT);
+        Join<Transaction, Account> destination = root.join("destinationAccount", JoinType.LEFT);
+
+        query.select(cb.construct(TransactionResponse.class,
+                        root.get("id"),
+                        account.get("id"),
+                        account.get("name"),
+                        category.get("id"),
+                        category.get("name"),
+                        destination.get("id"),
+                        destination.get("name"),
+                        root.get("description"),
+                        root.get("amount"),
+                        root.get("type"),
+                        root.get("status"),
+                        root.get("transactionDate"),
+                        root.get("notes"),
+                        root.get("createdAt")))
+                .where(spec.toPredicate(root, query, cb))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<TransactionResponse> typedQuery = paged(entityManager.createQuery(query), pageable);
+
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable, () -> count(spec));
+    }
+
+    private Page<TransactionResponse> findAllSparse(Specification<Transaction> spec, Pageable pageable,
+                                                    FieldSelection fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Transaction> root = query.from(Transaction.class);
+        Map<String, Join<Transaction, Object>> joins = new HashMap<>();
+
+        query.multiselect(fields.names().stream()
+                        .<Selection<?>>map(field -> column(root, joins, field).alias(field))
+                        .toList())
+                .where(spec.toPredicate(root, query, cb))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        List<TransactionResponse> content = paged(entityManager.createQuery(query), pageable).getResultList()
+                .stream()
+                .map(tuple -> toResponse(tuple, fields))
+                .toList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    private static Expression<?> column(Root<Transaction> root, Map<String, Join<Transaction, Object>> joins,
+                                        String field) {
+        return switch (field) {
+            case "accountId" -> root.get("account").get("id");
+            case "accountName" -> join(root, joins, "account", JoinType.INNER).get("name");
+            case "categoryId" -> root.get("category").get("id");
+            case "categoryName" -> join(root, joins, "category", JoinType.LEFT).get("name");
+            case "destinationAccountId" -> root.get("destinationAccount").get("id");
+            case "destinationAccountName" -> join(root, joins, "destinationAccount", JoinType.LEFT).get("name");
+            default -> root.get(field);
+        };
+    }
+
+    private static Join<Transaction, Object> join(Root<Transaction> root, Map<String, Join<Transaction, Object>> joins,
+                                                  String attribute, JoinType joinType) {
+        return joins.computeIfAbsent(attribute, name -> root.join(name, joinType));
+    }
+
+    private static TransactionResponse toResponse(Tuple tuple, FieldSelection fields) {
+        return new TransactionResponse(
+                value(tuple, fields, "id", UUID.class),
+                value(tuple, fields, "accountId", UUID.class),
+                value(tuple, fields, "accountName", String.class),
+                value(tuple, fields, "categoryId", UUID.class),
+                value(tuple, fields, "categoryName", String.class),
+                value(tuple, fields, "destinationAccountId", UUID.class),
+                value(tuple, fields, "destinationAccountName", String.class),
+                value(tuple, fields, "description", String.class),
+                value(tuple, fields, "amount", BigDecimal.class),
+                value(tuple, fields, "type", TransactionType.class),
+                value(tuple, fields, "status", TransactionStatus.class),
+                value(tuple, fields, "transactionDate", LocalDate.class),
+                value(tuple, fields, "notes", String.class),
+                value(tuple, fields, "createdAt", LocalDateTime.class));
+    }
+
+    private static <T> T value(Tuple tuple, FieldSelection fields, String field, Class<T> type) {
+        return fields.includes(field) ? tuple.get(field, type) : null;
+    }
+
+    private static <T> TypedQuery<T> paged(TypedQuery<T> query, Pageable pageable) {
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return query;
+    }
+
+    private long count(Specification<Transaction> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Transaction> root = query.from(Transaction.class);
+
+        query.select(cb.count(root)).where(spec.toPredicate(root, query, cb));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -1,5 +1,6 @@
 package com.vitorsaucedo.finly.domain.transaction;
 
+import com.vitorsaucedo.finly.dto.response.TransactionResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -7,35 +8,75 @@ import org.springframework.data.jpa.repository.Query;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface TransactionRepository extends JpaRepository<Transaction, UUID> {
-
-    Page<Transaction> findAllByUserId(UUID userId, Pageable pageable);
+public interface TransactionRepository extends JpaRepository<Transaction, UUID>,
+        TransactionSearchRepository, TransactionFilterRepository {
 
     Optional<Transaction> findByIdAndUserId(UUID id, UUID userId);
 
-    Page<Transaction> findAllByUserIdAndType(UUID userId, TransactionType type, Pageable pageable);
-
-    Page<Transaction> findAllByUserIdAndTransactionDateBetween(
-            UUID userId, LocalDate startDate, LocalDate endDate, Pageable pageable);
-
     @Query("""
-            SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t
+            SELECT new com.vitorsaucedo.finly.domain.transaction.CurrencyTotal(
+                t.account.currency, t.type, SUM(t.amount))
+            FROM Transaction t
             WHERE t.user.id = :userId
-            AND t.type = :type
+            AND t.type IN ('INCOME', 'EXPENSE')
             AND MONTH(t.transactionDate) = :month
             AND YEAR(t.transactionDate) = :year
             AND t.status = 'COMPLETED'
+            GROUP BY t.account.currency, t.type
+            """)
+    List<CurrencyTotal> sumByUserIdAndMonthAndYearPerCurrency(UUID userId, int month, int year);
+
+    @Query("""
+            SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t
+            WHERE t.user.id = :userId
+            AND t.category.id = :categoryId
+            AND t.type = 'EXPENSE'
+            AND t.status = 'COMPLETED'
+            AND t.transactionDate BETWEEN :startDate AND :endDate
+            """)
+    BigDecimal sumCompletedExpensesByCategory(UUID userId, UUID categoryId, LocalDate startDate, LocalDate endDate);
+
+    @Query(value = """
+            SELECT new com.vitorsaucedo.finly.dto.response.TransactionResponse(
+                t.id, a.id, a.name, c.id, c.name, d.id, d.name,
+                t.description, t.amount, t.type, t.status, t.transactionDate, t.notes, t.createdAt)
+            FROM Transaction t
+            JOIN t.account a
+            LEFT JOIN t.category c
+            LEFT JOIN t.destinationAccount d
+            WHERE t.user.id = :userId
+            """,
+            countQuery = "SELECT COUNT(t) FROM Transaction t WHERE t.user.id = :userId")
+    Page<TransactionResponse> findAllResponsesByUserId(UUID userId, Pageable pageable);
+
+    @Query("""
+            SELECT new com.vitorsaucedo.finly.dto.response.TransactionResponse(
+                t.id, a.id, a.name, c.id, c.name, d.id, d.name,
+                t.description, t.amount, t.type, t.status, t.transactionDate, t.notes, t.createdAt)
+            FROM Transaction t
+            JOIN t.account a
+            LEFT JOIN t.category c
+            LEFT JOIN t.destinationAccount d
+            WHERE t.id = :id
+            AND t.user.id = :userId
             """)
-    BigDecimal sumByUserIdAndTypeAndMonthAndYear(UUID userId, TransactionType type, int month, int year);
+    Optional<TransactionResponse> findResponseByIdAndUserId(UUID id, UUID userId);
 
     @Query("""
-            SELECT t FROM Transaction t
+            SELECT new com.vitorsaucedo.finly.dto.response.TransactionResponse(
+                t.id, a.id, a.name, c.id, c.name, d.id, d.name,
+                t.description, t.amount, t.type, t.status, t.transactionDate, t.notes, t.createdAt)
+            FROM Transaction t
+            JOIN t.account a
+            LEFT JOIN t.category c
+            LEFT JOIN t.destinationAccount d
             WHERE t.user.id = :userId
             ORDER BY t.transactionDate DESC, t.createdAt DESC
             LIMIT 5
             """)
-    java.util.List<Transaction> findTop5ByUserIdOrderByTransactionDateDesc(UUID userId);
+    List<TransactionResponse> findRecentResponsesByUserId(UUID userId);
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.vitorsaucedo.finly.domain.transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record TransactionSearchCriteria(
+        String query,
+        UUID accountId,
+        UUID categoryId,
+        BigDecimal minAmount,
+        BigDecimal maxAmount,
+        LocalDate startDate,
+        LocalDate endDate
+) {}
@@ -0,0 +1,28 @@
+package com.vitorsaucedo.finly.domain.transaction;
+
+import com.vitorsaucedo.finly.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+public record TransactionSearchCursor(double score, LocalDate transactionDate, UUID id) {
+
+    public static TransactionSearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            return new TransactionSearchCursor(
+                    Double.parseDouble(parts[0]), LocalDate.parse(parts[1]), UUID.fromString(parts[2]));
+        } catch (RuntimeException e) {
+            throw new BusinessException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = score + "|" + transactionDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
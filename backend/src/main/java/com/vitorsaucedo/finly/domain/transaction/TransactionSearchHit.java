@@ -0,0 +1,10 @@
+package com.vitorsaucedo.finly.domain.transaction;
+
+import com.vitorsaucedo.finly.dto.response.TransactionResponse;
+
+public record TransactionSearchHit(TransactionResponse transaction, double score) {
+
+    public TransactionSearchCursor toCursor() {
+        return new TransactionSearchCursor(score, transaction.transactionDate(), transaction.id());
+    }
+}
@@ -0,0 +1,10 @@
+package com.vitorsaucedo.finly.domain.transaction;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface TransactionSearchRepository {
+
+    List<TransactionSearchHit> search(UUID userId, TransactionSearchCriteria criteria,
+                                      TransactionSearchCursor after, int limit);
+}
@@ -0,0 +1,106 @@
+package com.vitorsaucedo.finly.domain.transaction;
+
+import com.vitorsaucedo.finly.dto.response.TransactionResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class TransactionSearchRepositoryImpl implements TransactionSearchRepository {
+
+    private static final String SEARCH_SQL = """
+            SELECT * FROM (
+                SELECT t.id, t.account_id, a.name AS account_name,
+                       t.category_id, c.name AS category_name,
+                       t.destination_account_id, d.name AS destination_account_name,
+                       t.description, t.amount, t.type, t.status, t.transaction_date, t.notes, t.created_at,
+                       (ts_rank_cd(t.search_vector, query) * 2
+                           + greatest(word_similarity(:q, t.description),
+                                      word_similarity(:q, coalesce(t.notes, ''))))::double precision AS score
+                FROM transactions t
+                CROSS JOIN websearch_to_tsquery('simple', :q) query
+                JOIN accounts a ON a.id = t.account_id
+                LEFT JOIN categories c ON c.id = t.category_id
+                LEFT JOIN accounts d ON d.id = t.destination_account_id
+                WHERE t.user_id = :userId
+                AND (t.search_vector @@ query OR :q <%% t.description OR :q <%% t.notes)
+                %s
+            ) hits
+            %s
+            ORDER BY score DESC, transaction_date DESC, id DESC
+            LIMIT :limit
+            """;
+
+    private static final RowMapper<TransactionSearchHit> HIT_MAPPER = (rs, rowNum) -> new TransactionSearchHit(
+            new TransactionResponse(
+                    rs.getObject("id", UUID.class),
+                    rs.getObject("account_id", UUID.class),
+                    rs.getString("account_name"),
+                    rs.getObject("category_id", UUID.class),
+                    rs.getString("category_name"),
+                    rs.getObject("destination_account_id", UUID.class),
+                    rs.getString("destination_account_name"),
+                    rs.getString("description"),
+                    rs.getBigDecimal("amount"),
+                    TransactionType.valueOf(rs.getString("type")),
+                    TransactionStatus.valueOf(rs.getString("status")),
+                    rs.getObject("transaction_date", LocalDate.class),
+                    rs.getString("notes"),
+                    rs.getObject("created_at", LocalDateTime.class)
+            ),
+            rs.getDouble("score")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<TransactionSearchHit> search(UUID userId, TransactionSearchCriteria criteria,
+                                             TransactionSearchCursor after, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("q", criteria.query().trim())
+                .addValue("limit", limit);
+
+        StringBuilder filters = new StringBuilder();
+        if (criteria.accountId() != null) {
+            filters.append(" AND (t.account_id = :accountId OR t.destination_account_id = :accountId)");
+            params.addValue("accountId", criteria.accountId());
+        }
+        if (criteria.categoryId() != null) {
+            filters.append(" AND t.category_id = :categoryId");
+            params.addValue("categoryId", criteria.categoryId());
+        }
+        if (criteria.minAmount() != null) {
+            filters.append(" AND t.amount >= :minAmount");
+            params.addValue("minAmount", criteria.minAmount());
+        }
+        if (criteria.maxAmount() != null) {
+            filters.append(" AND t.amount <= :maxAmount");
+            params.addValue("maxAmount", criteria.maxAmount());
+        }
+        if (criteria.startDate() != null) {
+            filters.append(" AND t.transaction_date >= :startDate");
+            params.addValue("startDate", criteria.startDate());
+        }
+        if (criteria.endDate() != null) {
+            filters.append(" AND t.transaction_date <= :endDate");
+            params.addValue("endDate", criteria.endDate());
+        }
+
+        String keyset = "";
+        if (after != null) {
+            keyset = "WHERE (score, transaction_date, id) < (:afterScore, :afterDate, :afterId)";
+            params.addValue("afterScore", after.score())
+                    .addValue("afterDate", after.transactionDate())
+                    .addValue("afterId", after.id());
+        }
+
+        return jdbcTemplate.query(SEARCH_SQL.formatted(filters, keyset), params, HIT_MAPPER);
+    }
+}
@@ -1,48 +1,105 @@
 package com.vitorsaucedo.finly.domain.transaction;
 
 import com.vitorsaucedo.finly.domain.account.Account;
+import com.vitorsaucedo.finly.domain.account.AccountBalanceChangedEvent;
 import com.vitorsaucedo.finly.domain.account.AccountRepository;
 import com.vitorsaucedo.finly.domain.account.AccountService;
-import com.vitorsaucedo.finly.domain.budget.BudgetService;
+import com.vitorsaucedo.finly.domain.account.BalanceHistoryService;
 import com.vitorsaucedo.finly.domain.category.CategoryService;
+import com.vitorsaucedo.finly.domain.user.User;
 import com.vitorsaucedo.finly.domain.user.UserService;
 import com.vitorsaucedo.finly.dto.request.TransactionRequest;
+import com.vitorsaucedo.finly.dto.response.CursorPageResponse;
 import com.vitorsaucedo.finly.dto.response.TransactionResponse;
 import com.vitorsaucedo.finly.exception.BusinessException;
 import com.vitorsaucedo.finly.exception.ResourceNotFoundException;
+import com.vitorsaucedo.finly.outbox.OutboxEventType;
+import com.vitorsaucedo.finly.outbox.OutboxService;
+import com.vitorsaucedo.finly.util.FieldSelection;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class TransactionService {
 
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
     private final TransactionRepository transactionRepository;
     private final AccountService accountService;
     private final CategoryService categoryService;
     private final AccountRepository accountRepository;
     private final UserService userService;
-    private final BudgetService budgetService;
+    private final BalanceHistoryService balanceHistoryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxService outboxService;
 
     @Transactional(readOnly = true)
-    public Page<TransactionResponse> findAll(UUID userId, Pageable pageable) {
-        return transactionRepository.findAllByUserId(userId, pageable)
-                .map(this::toResponse);
+    public Page<TransactionResponse> findAll(UUID userId, Pageable pageable, FieldSelection fields) {
+        if (!fields.isAll()) {
+            return transactionRepository.findAllProjected(
+                    TransactionSpecifications.belongsTo(userId), pageable, fields);
+        }
+        return transactionRepository.findAllResponsesByUserId(userId, pageable);
     }
 
     @Transactional(readOnly = true)
-    public TransactionResponse findById(UUID id, UUID userId) {
-        return transactionRepository.findByIdAndUserId(id, userId)
-                .map(this::toResponse)
+    public TransactionResponse findById(UUID id, UUID userId, FieldSelection fields) {
+        if (!fields.isAll()) {
+            return transactionRepository.findAllProjected(
+                            TransactionSpecifications.belongsTo(userId).and(TransactionSpecifications.hasId(id)),
+                            Pageable.unpaged(), fields)
+                    .stream()
+                    .findFirst()
+                    .orElseThrow(() -> new ResourceNotFoundException("Transaction not found"));
+        }
+        return transactionRepository.findResponseByIdAndUserId(id, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Transaction not found"));
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TransactionResponse> search(UUID userId, TransactionSearchCriteria criteria,
+                                                          String cursor, int size) {
+        if (criteria.query() == null || criteria.query().isBlank()) {
+            throw new BusinessException("Search query must not be blank");
+        }
+
+        validateRanges(criteria.minAmount(), criteria.maxAmount(), criteria.startDate(), criteria.endDate());
+
+        int pageSize = Math.clamp(size, 1, MAX_SEARCH_PAGE_SIZE);
+        List<TransactionSearchHit> hits = transactionRepository.search(
+                userId, criteria, TransactionSearchCursor.decode(cursor), pageSize + 1);
+
+        boolean hasMore = hits.size() > pageSize;
+        List<TransactionSearchHit> page = hasMore ? hits.subList(0, pageSize) : hits;
+
+        return new CursorPageResponse<>(
+                page.stream().map(TransactionSearchHit::transaction).toList(),
+                hasMore ? page.getLast().toCursor().encode() : null
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public Page<TransactionResponse> filter(UUID userId, TransactionFilter filter, Pageable pageable,
+                                            FieldSelection fields) {
+        validateRanges(filter.minAmount(), filter.maxAmount(), filter.startDate(), filter.endDate());
+
+        return transactionRepository.findAllProjected(TransactionSpecifications.of(userId, filter), pageable, fields);
+    }
+
     @Transactional
     public TransactionResponse create(TransactionRequest request, UUID userId) {
         validateTransactionRequest(request, userId);
@@ -72,21 +129,33 @@ public class TransactionService {
 
         Transaction saved = transactionRepository.save(transaction);
 
-        if (saved.getStatus() == TransactionStatus.COMPLETED
-                && saved.getType() == TransactionType.EXPENSE
-                && saved.getCategory() != null) {
-            budgetService.updateSpentAmount(
-                    userId,
-                    saved.getCategory().getId(),
-                    saved.getTransactionDate().getMonthValue(),
-                    saved.getTransactionDate().getYear(),
-                    saved.getAmount()
-            );
-        }
+        appendChanged(userId, OutboxEventType.TRANSACTION_CREATED, saved, null, null);
 
         return toResponse(saved);
     }
 
+    @Transactional
+    public List<Transaction> createBatch(List<Transaction> transactions, UUID userId) {
+        transactions.forEach(transaction -> validateBatchTransaction(transaction, userId));
+
+        List<Transaction> saved = transactionRepository.saveAll(transactions);
+
+        Map<Account, Map<LocalDate, BigDecimal>> balanceDeltas = new LinkedHashMap<>();
+        Map<BatchSlice, List<Transaction>> slices = new LinkedHashMap<>();
+        for (Transaction transaction : saved) {
+            if (transaction.getStatus() == TransactionStatus.COMPLETED) {
+                balanceDeltas.computeIfAbsent(transaction.getAccount(), account -> new TreeMap<>())
+                        .merge(transaction.getTransactionDate(), balanceDelta(transaction), BigDecimal::add);
+            }
+            slices.computeIfAbsent(BatchSlice.of(transaction), slice -> new ArrayList<>()).add(transaction);
+        }
+
+        balanceDeltas.forEach(this::applyBalanceDeltas);
+        slices.forEach((slice, sliceTransactions) -> appendBatchCreated(userId, slice, sliceTransactions));
+
+        return saved;
+    }
+
     @Transactional
     public TransactionResponse update(UUID id, TransactionRequest request, UUID userId) {
         Transaction transaction = transactionRepository.findByIdAndUserId(id, userId)
@@ -94,6 +163,9 @@ public class TransactionService {
 
         reverseAccountBalance(transaction);
 
+        UUID previousCategoryId = transaction.getCategory() != null ? transaction.getCategory().getId() : null;
+        LocalDate previousTransactionDate = transaction.getTransactionDate();
+
         transaction.setAccount(accountService.getAccount(request.accountId(), userId));
         transaction.setCategory(request.categoryId() != null
                 ? categoryService.getCategory(request.categoryId(), userId) : null);
@@ -112,7 +184,10 @@ public class TransactionService {
             updateDestinationAccountBalance(transaction);
         }
 
-        return toResponse(transactionRepository.save(transaction));
+        Transaction saved = transactionRepository.save(transaction);
+        appendChanged(userId, OutboxEventType.TRANSACTION_UPDATED, saved, previousCategoryId, previousTransactionDate);
+
+        return toResponse(saved);
     }
 
     @Transactional
@@ -121,9 +196,28 @@ public class TransactionService {
                 .orElseThrow(() -> new ResourceNotFoundException("Transaction not found"));
 
         reverseAccountBalance(transaction);
+        appendChanged(userId, OutboxEventType.TRANSACTION_DELETED, transaction, null, null);
         transactionRepository.delete(transaction);
     }
 
+    private static void validateBatchTransaction(Transaction transaction, UUID userId) {
+        if (transaction.getType() == TransactionType.TRANSFER) {
+            throw new BusinessException("Transfers cannot be created in a batch");
+        }
+
+        if (!ownedBy(transaction.getUser(), userId) || !ownedBy(transaction.getAccount().getUser(), userId)) {
+            throw new ResourceNotFoundException("Account not found");
+        }
+
+        if (transaction.getCategory() != null && !ownedBy(transaction.getCategory().getUser(), userId)) {
+            throw new ResourceNotFoundException("Category not found");
+        }
+    }
+
+    private static boolean ownedBy(User user, UUID userId) {
+        return user != null && userId.equals(user.getId());
+    }
+
     private void validateTransactionRequest(TransactionRequest request, UUID userId) {
         if (request.type() == TransactionType.TRANSFER && request.destinationAccountId() == null) {
             throw new BusinessException("Destination account is required for transfers");
@@ -135,16 +229,39 @@ public class TransactionService {
         }
     }
 
+    private void validateRanges(BigDecimal minAmount, BigDecimal maxAmount, LocalDate startDate, LocalDate endDate) {
+        if (minAmount != null && maxAmount != null && minAmount.compareTo(maxAmount) > 0) {
+            throw new BusinessException("Minimum amount must not exceed maximum amount");
+        }
+
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new BusinessException("Start date must be before end date");
+        }
+    }
+
     private void updateAccountBalance(Transaction transaction, Account account) {
         if (transaction.getStatus() != TransactionStatus.COMPLETED) return;
 
-        if (transaction.getType() == TransactionType.INCOME) {
-            account.setBalance(account.getBalance().add(transaction.getAmount()));
-        } else {
-            account.setBalance(account.getBalance().subtract(transaction.getAmount()));
-        }
+        BigDecimal delta = balanceDelta(transaction);
+
+        account.setBalance(account.getBalance().add(delta));
+        accountRepository.save(account);
+        balanceHistoryService.recordChange(account, transaction.getTransactionDate(), delta);
+        publishBalanceChanged(account);
+    }
 
+    private void applyBalanceDeltas(Account account, Map<LocalDate, BigDecimal> deltasByDate) {
+        BigDecimal total = deltasByDate.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        account.setBalance(account.getBalance().add(total));
         accountRepository.save(account);
+        deltasByDate.forEach((date, delta) -> balanceHistoryService.recordChange(account, date, delta));
+        publishBalanceChanged(account);
+    }
+
+    private static BigDecimal balanceDelta(Transaction transaction) {
+        return transaction.getType() == TransactionType.INCOME
+                ? transaction.getAmount() : transaction.getAmount().negate();
     }
 
     private void updateDestinationAccountBalance(Transaction transaction) {
@@ -153,6 +270,8 @@ public class TransactionService {
         Account destination = transaction.getDestinationAccount();
         destination.setBalance(destination.getBalance().add(transaction.getAmount()));
         accountRepository.save(destination);
+        balanceHistoryService.recordChange(destination, transaction.getTransactionDate(), transaction.getAmount());
+        publishBalanceChanged(destination);
     }
 
     private void reverseAccountBalance(Transaction transaction) {
@@ -160,25 +279,64 @@ public class TransactionService {
 
         Account account = transaction.getAccount();
 
-        if (transaction.getType() == TransactionType.INCOME) {
-            account.setBalance(account.getBalance().subtract(transaction.getAmount()));
-        } else {
-            account.setBalance(account.getBalance().add(transaction.getAmount()));
-        }
+        BigDecimal delta = transaction.getType() == TransactionType.INCOME
+                ? transaction.getAmount().negate() : transaction.getAmount();
 
+        account.setBalance(account.getBalance().add(delta));
         accountRepository.save(account);
+        balanceHistoryService.recordChange(account, transaction.getTransactionDate(), delta);
+        publishBalanceChanged(account);
 
         if (transaction.getType() == TransactionType.TRANSFER
                 && transaction.getDestinationAccount() != null) {
             Account destination = transaction.getDestinationAccount();
             destination.setBalance(destination.getBalance().subtract(transaction.getAmount()));
             accountRepository.save(destination);
+            balanceHistoryService.recordChange(
+                    destination, transaction.getTransactionDate(), transaction.getAmount().negate());
+            publishBalanceChanged(destination);
         }
     }
 
-    public Transaction getTransaction(UUID id, UUID userId) {
-        return transactionRepository.findByIdAndUserId(id, userId)
-                .orElseThrow(() -> new ResourceNotFoundException("Transaction not found"));
+    private void publishBalanceChanged(Account account) {
+        eventPublisher.publishEvent(new AccountBalanceChangedEvent(
+                account.getUser().getId(), account.getId(), account.getBalance()));
+    }
+
+    private void appendChanged(UUID userId, OutboxEventType eventType, Transaction transaction,
+                               UUID previousCategoryId, LocalDate previousTransactionDate) {
+        outboxService.append(userId, eventType, transaction.getId(), new TransactionChangedPayload(
+                transaction.getId(),
+                transaction.getAccount().getId(),
+                transaction.getCategory() != null ? transaction.getCategory().getId() : null,
+                transaction.getType(),
+                transaction.getStatus(),
+                transaction.getAmount(),
+                transaction.getTransactionDate(),
+                previousCategoryId,
+                previousTransactionDate
+        ));
+    }
+
+    private void appendBatchCreated(UUID userId, BatchSlice slice, List<Transaction> transactions) {
+        if (transactions.size() == 1) {
+            appendChanged(userId, OutboxEventType.TRANSACTION_CREATED, transactions.getFirst(), null, null);
+            return;
+        }
+
+        BigDecimal total = transactions.stream().map(Transaction::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+        outboxService.append(userId, OutboxEventType.TRANSACTIONS_CREATED, slice.accountId(),
+                new TransactionChangedPayload(
+                        null,
+                        slice.accountId(),
+                        slice.categoryId(),
+                        slice.type(),
+                        slice.status(),
+                        total,
+                        slice.transactionDate(),
+                        null,
+                        null
+                ));
     }
 
     private TransactionResponse toResponse(Transaction t) {
@@ -199,4 +357,17 @@ public class TransactionService {
                 t.getCreatedAt()
         );
     }
-}
\ No newline at end of file
+
+    private record BatchSlice(UUID accountId, UUID categoryId, TransactionType type, TransactionStatus status,
+                              LocalDate transactionDate) {
+
+        static BatchSlice of(Transaction transaction) {
+            return new BatchSlice(
+                    transaction.getAccount().getId(),
+                    transaction.getCategory() != null ? transaction.getCategory().getId() : null,
+                    transaction.getType(),
+                    transaction.getStatus(),
+                    transaction.getTransactionDate());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.vitorsaucedo.finly.domain.transaction;
+
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public final class TransactionSpecifications {
+
+    private TransactionSpecifications() {}
+
+    public static Specification<Transaction> of(UUID userId, TransactionFilter filter) {
+        List<Specification<Transaction>> specs = new ArrayList<>();
+        specs.add(belongsTo(userId));
+
+        if (filter.accountId() != null) specs.add(involvesAccount(filter.accountId()));
+        if (filter.categoryId() != null) specs.add(hasCategory(filter.categoryId()));
+        if (filter.type() != null) specs.add(hasType(filter.type()));
+        if (filter.status() != null) specs.add(hasStatus(filter.status()));
+        if (filter.startDate() != null) specs.add(onOrAfter(filter.startDate()));
+        if (filter.endDate() != null) specs.add(onOrBefore(filter.endDate()));
+        if (filter.minAmount() != null) specs.add(amountAtLeast(filter.minAmount()));
+        if (filter.maxAmount() != null) specs.add(amountAtMost(filter.maxAmount()));
+        if (filter.text() != null && !filter.text().isBlank()) specs.add(matchesText(filter.text()));
+
+        return Specification.allOf(specs);
+    }
+
+    public static Specification<Transaction> belongsTo(UUID userId) {
+        return (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+    }
+
+    public static Specification<Transaction> hasId(UUID id) {
+        return (root, query, cb) -> cb.equal(root.get("id"), id);
+    }
+
+    public static Specification<Transaction> involvesAccount(UUID accountId) {
+        return (root, query, cb) -> cb.or(
+                cb.equal(root.get("account").get("id"), accountId),
+                cb.equal(root.get("destinationAccount").get("id"), accountId));
+    }
+
+    public static Specification<Transaction> hasCategory(UUID categoryId) {
+        return (root, query, cb) -> cb.equal(root.get("category").get("id"), categoryId);
+    }
+
+    public static Specification<Transaction> hasType(TransactionType type) {
+        return (root, query, cb) -> cb.equal(root.get("type"), type);
+    }
+
+    public static Specification<Transaction> hasStatus(TransactionStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Transaction> onOrAfter(LocalDate date) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("transactionDate"), date);
+    }
+
+    public static Specification<Transaction> onOrBefore(LocalDate date) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("transactionDate"), date);
+    }
+
+    public static Specification<Transaction> amountAtLeast(BigDecimal amount) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("amount"), amount);
+    }
+
+    public static Specification<Transaction> amountAtMost(BigDecimal amount) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("amount"), amount);
+    }
+
+    public static Specification<Transaction> matchesText(String text) {
+        String pattern = "%" + escapeLike(text.trim()) + "%";
+        return (root, query, cb) -> {
+            HibernateCriteriaBuilder hcb = (HibernateCriteriaBuilder) cb;
+            return cb.or(
+                    hcb.ilike(root.get("description"), pattern, '\\'),
+                    hcb.ilike(root.get("notes"), pattern, '\\'));
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
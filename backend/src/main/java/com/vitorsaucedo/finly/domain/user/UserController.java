@@ -36,6 +36,14 @@ public class UserController {
         return ResponseEntity.ok(userService.update(extractUserId(token), request));
     }
 
+    @PatchMapping("/me/base-currency")
+    @Operation(summary = "Change the currency used for dashboard and report totals")
+    public ResponseEntity<UserResponse> updateBaseCurrency(
+            @RequestParam String currency,
+            JwtAuthenticationToken token) {
+        return ResponseEntity.ok(userService.updateBaseCurrency(extractUserId(token), currency));
+    }
+
     @DeleteMapping("/me")
     @Operation(summary = "Delete authenticated user account")
     public ResponseEntity<Void> delete(JwtAuthenticationToken token) {
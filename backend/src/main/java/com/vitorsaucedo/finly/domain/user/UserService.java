@@ -2,18 +2,23 @@ package com.vitorsaucedo.finly.domain.user;
 
 import com.vitorsaucedo.finly.dto.request.RegisterRequest;
 import com.vitorsaucedo.finly.dto.response.UserResponse;
+import com.vitorsaucedo.finly.exception.BusinessException;
 import com.vitorsaucedo.finly.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Locale;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
+    private static final Pattern CURRENCY_CODE = Pattern.compile("[A-Za-z]{3}");
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
 
@@ -39,6 +44,20 @@ public class UserService {
         return toResponse(userRepository.save(user));
     }
 
+    @Transactional
+    public UserResponse updateBaseCurrency(UUID id, String currency) {
+        if (currency == null || !CURRENCY_CODE.matcher(currency).matches()) {
+            throw new BusinessException("Currency must be a 3-letter code");
+        }
+
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        user.setBaseCurrency(currency.toUpperCase(Locale.ROOT));
+
+        return toResponse(userRepository.save(user));
+    }
+
     @Transactional
     public void delete(UUID id) {
         if (!userRepository.existsById(id)) {
@@ -53,6 +72,6 @@ public class UserService {
     }
 
     private UserResponse toResponse(User user) {
-        return new UserResponse(user.getId(), user.getName(), user.getEmail(), user.getCreatedAt());
+        return new UserResponse(user.getId(), user.getName(), user.getEmail(), user.getBaseCurrency(), user.getCreatedAt());
     }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.vitorsaucedo.finly.dto.request;
+
+import jakarta.validation.constraints.*;
+
+import java.util.List;
+import java.util.UUID;
+
+public record InstallmentCancellationRequest(
+
+        @NotEmpty(message = "At least one installment group is required")
+        @Size(max = 100, message = "At most 100 installment groups can be cancelled at once")
+        List<@NotNull UUID> groupIds
+) {}
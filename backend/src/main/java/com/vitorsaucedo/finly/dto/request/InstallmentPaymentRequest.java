@@ -0,0 +1,13 @@
+package com.vitorsaucedo.finly.dto.request;
+
+import jakarta.validation.constraints.*;
+
+import java.util.List;
+import java.util.UUID;
+
+public record InstallmentPaymentRequest(
+
+        @NotEmpty(message = "At least one installment is required")
+        @Size(max = 360, message = "At most 360 installments can be paid at once")
+        List<@NotNull UUID> installmentIds
+) {}
@@ -0,0 +1,9 @@
+package com.vitorsaucedo.finly.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequest(
+
+        @NotBlank(message = "Refresh token is required")
+        String refreshToken
+) {}
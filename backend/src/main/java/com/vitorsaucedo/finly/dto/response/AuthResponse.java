@@ -4,5 +4,7 @@ public record AuthResponse(
         String accessToken,
         String tokenType,
         Long expiresIn,
+        String refreshToken,
+        Long refreshExpiresIn,
         UserResponse user
 ) {}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.vitorsaucedo.finly.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record BalanceHistoryResponse(
+        LocalDate date,
+        BigDecimal balance
+) {}
@@ -0,0 +1,29 @@
+package com.vitorsaucedo.finly.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public record CashFlowForecastResponse(
+        LocalDate from,
+        LocalDate to,
+        BigDecimal currentBalance,
+        BigDecimal projectedBalance,
+        List<AccountForecast> accounts
+) {
+    public record AccountForecast(
+            UUID accountId,
+            String accountName,
+            BigDecimal currentBalance,
+            BigDecimal projectedBalance,
+            BigDecimal lowestBalance,
+            LocalDate lowestBalanceDate,
+            List<DailyBalance> days
+    ) {}
+
+    public record DailyBalance(
+            LocalDate date,
+            BigDecimal balance
+    ) {}
+}
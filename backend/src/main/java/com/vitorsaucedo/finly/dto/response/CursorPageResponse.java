@@ -0,0 +1,8 @@
+package com.vitorsaucedo.finly.dto.response;
+
+import java.util.List;
+
+public record CursorPageResponse<T>(
+        List<T> content,
+        String nextCursor
+) {}
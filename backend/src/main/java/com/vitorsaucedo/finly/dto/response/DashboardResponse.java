@@ -4,6 +4,7 @@ import java.math.BigDecimal;
 import java.util.List;
 
 public record DashboardResponse(
+        String baseCurrency,
         BigDecimal totalBalance,
         BigDecimal totalIncome,
         BigDecimal totalExpenses,
@@ -11,5 +12,6 @@ public record DashboardResponse(
         List<AccountResponse> accounts,
         List<BudgetResponse> budgets,
         List<GoalResponse> goals,
-        List<TransactionResponse> recentTransactions
+        List<TransactionResponse> recentTransactions,
+        List<String> unavailableSections
 ) {}
\ No newline at end of file
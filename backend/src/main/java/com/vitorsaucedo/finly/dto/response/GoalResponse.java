@@ -17,5 +17,9 @@ public record GoalResponse(
         LocalDate deadline,
         GoalStatus status,
         String notes,
-        LocalDateTime createdAt
+        LocalDateTime createdAt,
+        BigDecimal averageMonthlyContribution,
+        BigDecimal requiredMonthlyContribution,
+        LocalDate projectedCompletionDate,
+        Boolean onTrack
 ) {}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.vitorsaucedo.finly.dto.response;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record LiveUpdateResponse(
+        String type,
+        UUID id,
+        BigDecimal amount,
+        String status
+) {}
@@ -0,0 +1,35 @@
+package com.vitorsaucedo.finly.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public record SpendingReportResponse(
+        LocalDate from,
+        LocalDate to,
+        String currency,
+        BigDecimal totalSpent,
+        List<CategorySpending> categories,
+        List<MerchantSpending> topMerchants
+) {
+    public record CategorySpending(
+            UUID categoryId,
+            String categoryName,
+            String color,
+            BigDecimal total,
+            double share,
+            BigDecimal previousMonthTotal,
+            BigDecimal monthOverMonthChange,
+            Double monthOverMonthPercentage,
+            BigDecimal previousYearTotal,
+            BigDecimal yearOverYearChange,
+            Double yearOverYearPercentage
+    ) {}
+
+    public record MerchantSpending(
+            String description,
+            BigDecimal total,
+            long occurrences
+    ) {}
+}
@@ -7,5 +7,6 @@ public record UserResponse(
         UUID id,
         String name,
         String email,
+        String baseCurrency,
         LocalDateTime createdAt
 ) {}
\ No newline at end of file
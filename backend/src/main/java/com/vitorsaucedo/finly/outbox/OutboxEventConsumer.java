@@ -0,0 +1,16 @@
+package com.vitorsaucedo.finly.outbox;
+
+import java.util.Set;
+
+public interface OutboxEventConsumer {
+
+    String name();
+
+    Set<OutboxEventType> eventTypes();
+
+    void consume(OutboxEvent event);
+
+    default boolean perInstance() {
+        return false;
+    }
+}
@@ -0,0 +1,47 @@
+package com.vitorsaucedo.finly.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+
+    @Query(value = """
+            SELECT * FROM outbox_events
+            WHERE processed_at IS NULL
+            AND failed_at IS NULL
+            AND available_at <= :now
+            ORDER BY available_at, created_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(LocalDateTime now, int limit);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO outbox_consumed_events (consumer, event_id)
+            VALUES (:consumer, :eventId)
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int markConsumed(String consumer, UUID eventId);
+
+    @Query("SELECT e FROM OutboxEvent e WHERE e.createdAt >= :since AND e.eventType IN :types ORDER BY e.createdAt")
+    List<OutboxEvent> findCreatedSince(LocalDateTime since, Collection<OutboxEventType> types);
+
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEvent e WHERE e.processedAt IS NULL AND e.failedAt IS NULL")
+    Optional<LocalDateTime> findOldestPendingCreatedAt();
+
+    long countByProcessedAtIsNullAndFailedAtIsNull();
+
+    long countByFailedAtIsNotNull();
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.processedAt < :before")
+    int deleteProcessedBefore(LocalDateTime before);
+}
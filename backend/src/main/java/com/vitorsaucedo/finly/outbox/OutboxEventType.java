@@ -0,0 +1,19 @@
+package com.vitorsaucedo.finly.outbox;
+
+public enum OutboxEventType {
+    TRANSACTION_CREATED,
+    /**
+     * Several transactions created together that share account, category, type, status and date.
+     * The aggregate id is the account id; the payload is a {@code TransactionChangedPayload} with a
+     * null {@code transactionId} and {@code amount} holding the sum of the batch.
+     */
+    TRANSACTIONS_CREATED,
+    TRANSACTION_UPDATED,
+    TRANSACTION_DELETED,
+    INSTALLMENT_GROUP_CREATED,
+    INSTALLMENT_PAID,
+    INSTALLMENT_GROUP_CANCELLED,
+    GOAL_DEPOSITED,
+    CATEGORY_UPDATED,
+    CATEGORY_DELETED
+}
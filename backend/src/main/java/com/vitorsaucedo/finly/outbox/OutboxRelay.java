@@ -0,0 +1,219 @@
+package com.vitorsaucedo.finly.outbox;
+
+import com.vitorsaucedo.finly.config.OutboxConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final Duration DEFAULT_LEASE = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_MAX_BACKOFF = Duration.ofMinutes(5);
+    private static final int DEFAULT_MAX_ATTEMPTS = 10;
+    private static final Duration DEFAULT_RETENTION = Duration.ofDays(7);
+    private static final Duration DEFAULT_BROADCAST_OVERLAP = Duration.ofSeconds(10);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxEventConsumer> consumers;
+    private final List<OutboxEventConsumer> localConsumers;
+    private final Set<OutboxEventType> localEventTypes = EnumSet.noneOf(OutboxEventType.class);
+    private final TransactionTemplate transaction;
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+    private final Duration retention;
+    private final Duration broadcastOverlap;
+
+    private final Counter dispatched;
+    private final Counter failed;
+    private final Counter deadLettered;
+    private final Timer dispatchTimer;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong dead = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    private final Map<UUID, LocalDateTime> broadcastSeen = new HashMap<>();
+    private LocalDateTime broadcastCursor = LocalDateTime.now();
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       List<OutboxEventConsumer> consumers,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       OutboxConfig config) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.consumers = consumers.stream().filter(consumer -> !consumer.perInstance()).toList();
+        this.localConsumers = consumers.stream().filter(OutboxEventConsumer::perInstance).toList();
+        this.localConsumers.forEach(consumer -> localEventTypes.addAll(consumer.eventTypes()));
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.batchSize = config.batchSize() != null ? config.batchSize() : DEFAULT_BATCH_SIZE;
+        this.lease = config.lease() != null ? config.lease() : DEFAULT_LEASE;
+        this.maxBackoff = config.maxBackoff() != null ? config.maxBackoff() : DEFAULT_MAX_BACKOFF;
+        this.maxAttempts = config.maxAttempts() != null ? config.maxAttempts() : DEFAULT_MAX_ATTEMPTS;
+        this.retention = config.retention() != null ? config.retention() : DEFAULT_RETENTION;
+        this.broadcastOverlap = config.broadcastOverlap() != null
+                ? config.broadcastOverlap() : DEFAULT_BROADCAST_OVERLAP;
+
+        this.dispatched = Counter.builder("finly.outbox.dispatched")
+                .description("Outbox events delivered to every consumer")
+                .register(meterRegistry);
+        this.failed = Counter.builder("finly.outbox.failed")
+                .description("Outbox deliveries that failed and were scheduled for retry")
+                .register(meterRegistry);
+        this.deadLettered = Counter.builder("finly.outbox.dead-lettered")
+                .description("Outbox events that exhausted their attempts and were marked as failed")
+                .register(meterRegistry);
+        this.dispatchTimer = Timer.builder("finly.outbox.dispatch")
+                .description("Time spent delivering a single outbox event")
+                .register(meterRegistry);
+        Gauge.builder("finly.outbox.pending", pending, AtomicLong::get)
+                .description("Outbox events not yet processed")
+                .register(meterRegistry);
+        Gauge.builder("finly.outbox.dead", dead, AtomicLong::get)
+                .description("Outbox events marked as failed after exhausting their attempts")
+                .register(meterRegistry);
+        Gauge.builder("finly.outbox.lag", lagSeconds, AtomicLong::get)
+                .description("Age of the oldest unprocessed outbox event")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval:PT1S}")
+    public void relay() {
+        List<UUID> batch;
+        do {
+            batch = claimBatch();
+            batch.forEach(this::dispatch);
+        } while (batch.size() == batchSize);
+
+        refreshBacklogMetrics();
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval:PT1S}")
+    public synchronized void broadcast() {
+        if (localConsumers.isEmpty()) return;
+
+        LocalDateTime since = broadcastCursor.minus(broadcastOverlap);
+        List<OutboxEvent> events = transaction.execute(status ->
+                outboxEventRepository.findCreatedSince(since, localEventTypes));
+        for (OutboxEvent event : events) {
+            if (broadcastSeen.putIfAbsent(event.getId(), event.getCreatedAt()) != null) continue;
+            if (event.getCreatedAt().isAfter(broadcastCursor)) broadcastCursor = event.getCreatedAt();
+
+            for (OutboxEventConsumer consumer : localConsumers) {
+                if (!consumer.eventTypes().contains(event.getEventType())) continue;
+                try {
+                    consumer.consume(event);
+                } catch (RuntimeException e) {
+                    log.warn("Per-instance outbox consumer {} failed on event {}", consumer.name(), event.getId(), e);
+                }
+            }
+        }
+
+        LocalDateTime horizon = broadcastCursor.minus(broadcastOverlap);
+        broadcastSeen.values().removeIf(createdAt -> createdAt.isBefore(horizon));
+    }
+
+    @Scheduled(cron = "${app.outbox.purge-cron:0 0 * * * *}")
+    public void purgeProcessed() {
+        Integer deleted = transaction.execute(status ->
+                outboxEventRepository.deleteProcessedBefore(LocalDateTime.now().minus(retention)));
+        if (deleted != null && deleted > 0) {
+            log.info("Purged {} processed outbox events", deleted);
+        }
+    }
+
+    List<UUID> claimBatch() {
+        return transaction.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> events = outboxEventRepository.lockNextBatch(now, batchSize);
+            events.forEach(event -> event.setAvailableAt(now.plus(lease)));
+            return events.stream().map(OutboxEvent::getId).toList();
+        });
+    }
+
+    void dispatch(UUID eventId) {
+        Timer.Sample sample = Timer.start();
+        try {
+            OutboxEvent event = transaction.execute(status -> outboxEventRepository.findById(eventId)
+                    .filter(pending -> pending.getProcessedAt() == null && pending.getFailedAt() == null)
+                    .orElse(null));
+            if (event == null) return;
+
+            RuntimeException error = null;
+            for (OutboxEventConsumer consumer : consumers) {
+                if (!consumer.eventTypes().contains(event.getEventType())) continue;
+                try {
+                    deliver(consumer, event);
+                } catch (RuntimeException e) {
+                    log.warn("Outbox consumer {} failed on event {}", consumer.name(), eventId, e);
+                    error = e;
+                }
+            }
+
+            RuntimeException failure = error;
+            transaction.executeWithoutResult(status -> outboxEventRepository.findById(eventId).ifPresent(current -> {
+                if (failure == null) {
+                    current.setProcessedAt(LocalDateTime.now());
+                } else {
+                    scheduleRetry(current, failure);
+                }
+            }));
+            if (failure == null) dispatched.increment();
+        } finally {
+            sample.stop(dispatchTimer);
+        }
+    }
+
+    private void deliver(OutboxEventConsumer consumer, OutboxEvent event) {
+        transaction.executeWithoutResult(status -> {
+            if (outboxEventRepository.markConsumed(consumer.name(), event.getId()) > 0) {
+                consumer.consume(event);
+            }
+        });
+    }
+
+    private void scheduleRetry(OutboxEvent event, RuntimeException error) {
+        int attempts = event.getAttempts() + 1;
+        event.setAttempts(attempts);
+        event.setLastError(error.toString());
+
+        if (attempts >= maxAttempts) {
+            event.setFailedAt(LocalDateTime.now());
+            deadLettered.increment();
+            log.error("Outbox event {} failed {} times, marking it as failed", event.getId(), attempts);
+            return;
+        }
+
+        failed.increment();
+        Duration backoff = Duration.ofSeconds(1L << Math.min(attempts, 16));
+        event.setAvailableAt(LocalDateTime.now().plus(backoff.compareTo(maxBackoff) < 0 ? backoff : maxBackoff));
+    }
+
+    private void refreshBacklogMetrics() {
+        pending.set(outboxEventRepository.countByProcessedAtIsNullAndFailedAtIsNull());
+        dead.set(outboxEventRepository.countByFailedAtIsNotNull());
+        lagSeconds.set(outboxEventRepository.findOldestPendingCreatedAt()
+                .map(oldest -> Math.max(0, Duration.between(oldest, LocalDateTime.now()).toSeconds()))
+                .orElse(0L));
+    }
+}
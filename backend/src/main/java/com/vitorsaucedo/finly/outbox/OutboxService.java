@@ -0,0 +1,37 @@
+package com.vitorsaucedo.finly.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(UUID userId, OutboxEventType eventType, UUID aggregateId, Object payload) {
+        LocalDateTime now = LocalDateTime.now();
+
+        outboxEventRepository.save(OutboxEvent.builder()
+                .userId(userId)
+                .eventType(eventType)
+                .aggregateId(aggregateId)
+                .payload(objectMapper.writeValueAsString(payload))
+                .attempts(0)
+                .createdAt(now)
+                .availableAt(now)
+                .build());
+    }
+
+    public <T> T readPayload(OutboxEvent event, Class<T> type) {
+        return objectMapper.readValue(event.getPayload(), type);
+    }
+}
@@ -0,0 +1,55 @@
+package com.vitorsaucedo.finly.security;
+
+import com.vitorsaucedo.finly.exception.ServiceUnavailableException;
+import com.vitorsaucedo.finly.exception.TooManyRequestsException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+
+@RequiredArgsConstructor
+public class ApiRateLimitFilter extends OncePerRequestFilter {
+
+    private static final String API_PREFIX = "/api/";
+    private static final String AUTH_PREFIX = "/api/auth/";
+    private static final String STREAM_PREFIX = "/api/stream";
+
+    private final ApiRequestScheduler scheduler;
+    private final HandlerExceptionResolver exceptionResolver;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return !path.startsWith(API_PREFIX) || path.startsWith(AUTH_PREFIX) || path.startsWith(STREAM_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (!(authentication instanceof JwtAuthenticationToken)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        ApiRequestScheduler.Permit permit;
+        try {
+            permit = scheduler.admit(authentication.getName(), request.getRequestURI());
+        } catch (TooManyRequestsException | ServiceUnavailableException e) {
+            exceptionResolver.resolveException(request, response, null, e);
+            return;
+        }
+
+        try (permit) {
+            chain.doFilter(request, response);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.vitorsaucedo.finly.security;
+
+import com.vitorsaucedo.finly.config.ApiRateLimitConfig;
+import com.vitorsaucedo.finly.exception.ServiceUnavailableException;
+import com.vitorsaucedo.finly.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+@Component
+public class ApiRequestScheduler {
+
+    private static final int DEFAULT_BURST = 60;
+    private static final Duration DEFAULT_INTERVAL = Duration.ofMillis(250);
+    private static final int DEFAULT_SLOTS = 65_536;
+    private static final int DEFAULT_CONCURRENCY = 4;
+    private static final int DEFAULT_MAX_QUEUED_PER_USER = 16;
+    private static final Duration DEFAULT_QUEUE_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration QUEUE_FULL_RETRY_AFTER = Duration.ofSeconds(1);
+    private static final int DEFAULT_COST = 1;
+
+    private final TokenBucketTable buckets;
+    private final FairQueue queue;
+    private final List<Map.Entry<String, Integer>> costs;
+    private final long queueTimeoutNanos;
+    private final LongSupplier clock;
+    private final long origin;
+
+    private final Counter rateLimited;
+    private final Counter queueFull;
+    private final Counter timedOut;
+    private final Timer queueWait;
+
+    public ApiRequestScheduler(ApiRateLimitConfig config, MeterRegistry meterRegistry) {
+        this(config, meterRegistry, System::nanoTime);
+    }
+
+    ApiRequestScheduler(ApiRateLimitConfig config, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.buckets = new TokenBucketTable(
+                config.slots() != null ? config.slots() : DEFAULT_SLOTS,
+                config.burst() != null ? config.burst() : DEFAULT_BURST,
+                (config.interval() != null ? config.interval() : DEFAULT_INTERVAL).toNanos());
+        this.queue = new FairQueue(
+                config.concurrency() != null ? config.concurrency() : DEFAULT_CONCURRENCY,
+                config.maxQueuedPerUser() != null ? config.maxQueuedPerUser() : DEFAULT_MAX_QUEUED_PER_USER);
+        this.costs = (config.costs() != null ? config.costs() : Map.<String, Integer>of()).entrySet().stream()
+                .sorted(Comparator.comparingInt((Map.Entry<String, Integer> entry) -> entry.getKey().length()).reversed())
+                .toList();
+        this.queueTimeoutNanos = (config.queueTimeout() != null ? config.queueTimeout() : DEFAULT_QUEUE_TIMEOUT)
+                .toNanos();
+        this.clock = clock;
+        this.origin = clock.getAsLong() - 1;
+
+        this.rateLimited = rejections(meterRegistry, "rate_limit");
+        this.queueFull = rejections(meterRegistry, "queue_full");
+        this.timedOut = rejections(meterRegistry, "queue_timeout");
+        this.queueWait = Timer.builder("finly.api.scheduler.wait")
+                .description("Time a request waited in the fair queue before running")
+                .register(meterRegistry);
+        Gauge.builder("finly.api.scheduler.queued", queue, FairQueue::queued)
+                .description("Requests waiting in the fair queue")
+                .register(meterRegistry);
+        Gauge.builder("finly.api.scheduler.active", queue, FairQueue::active)
+                .description("Requests currently running past the fair queue")
+                .register(meterRegistry);
+    }
+
+    public Permit admit(String subject, String path) {
+        long wait = buckets.tryAcquire(subject, clock.getAsLong() - origin);
+        if (wait > 0) {
+            rateLimited.increment();
+            throw new TooManyRequestsException("Too many requests, please retry later", Duration.ofNanos(wait));
+        }
+
+        long began = System.nanoTime();
+        FairQueue.Admission admission;
+        try {
+            admission = queue.acquire(subject, cost(path), queueTimeoutNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Request was interrupted while waiting", QUEUE_FULL_RETRY_AFTER);
+        }
+
+        return switch (admission) {
+            case GRANTED -> {
+                queueWait.record(System.nanoTime() - began, TimeUnit.NANOSECONDS);
+                AtomicBoolean released = new AtomicBoolean();
+                yield () -> {
+                    if (released.compareAndSet(false, true)) queue.release(subject);
+                };
+            }
+            case QUEUE_FULL -> {
+                queueFull.increment();
+                throw new TooManyRequestsException("Too many concurrent requests, please retry later",
+                        QUEUE_FULL_RETRY_AFTER);
+            }
+            case TIMED_OUT -> {
+                timedOut.increment();
+                throw new ServiceUnavailableException("Server is busy, please retry later",
+                        Duration.ofNanos(queueTimeoutNanos));
+            }
+        };
+    }
+
+    int queued() {
+        return queue.queued();
+    }
+
+    private int cost(String path) {
+        for (Map.Entry<String, Integer> entry : costs) {
+            if (path.startsWith(entry.getKey())) return Math.max(1, entry.getValue());
+        }
+        return DEFAULT_COST;
+    }
+
+    private static Counter rejections(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("finly.api.scheduler.rejected")
+                .description("Requests rejected by the per-user rate limiter or the fair queue")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    public interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
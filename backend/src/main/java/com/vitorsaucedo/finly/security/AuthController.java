@@ -1,23 +1,30 @@
 package com.vitorsaucedo.finly.security;
 
 import com.vitorsaucedo.finly.dto.request.LoginRequest;
+import com.vitorsaucedo.finly.dto.request.RefreshTokenRequest;
 import com.vitorsaucedo.finly.dto.request.RegisterRequest;
 import com.vitorsaucedo.finly.dto.response.AuthResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.UUID;
+
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
-@Tag(name = "Authentication", description = "Register and login endpoints")
+@Tag(name = "Authentication", description = "Register, login and session endpoints")
 public class AuthController {
 
     private final AuthService authService;
+    private final ClientAddressResolver clientAddressResolver;
 
     @PostMapping("/register")
     @ResponseStatus(HttpStatus.CREATED)
@@ -28,7 +35,29 @@ public class AuthController {
 
     @PostMapping("/login")
     @Operation(summary = "Authenticate user and return JWT token")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
-        return ResponseEntity.ok(authService.login(request));
+    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request,
+                                              HttpServletRequest httpRequest) {
+        return ResponseEntity.ok(authService.login(request, clientAddressResolver.resolve(httpRequest)));
+    }
+
+    @PostMapping("/refresh")
+    @Operation(summary = "Exchange a refresh token for a new access and refresh token pair")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(authService.refresh(request));
+    }
+
+    @PostMapping("/logout")
+    @Operation(summary = "Revoke the session of a refresh token")
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequest request) {
+        authService.logout(request);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/logout-all")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(summary = "Revoke every session of the authenticated user")
+    public ResponseEntity<Void> logoutAll(JwtAuthenticationToken token) {
+        authService.logoutEverywhere(UUID.fromString(token.getToken().getSubject()));
+        return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
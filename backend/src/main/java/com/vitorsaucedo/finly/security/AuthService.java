@@ -3,24 +3,30 @@ package com.vitorsaucedo.finly.security;
 import com.vitorsaucedo.finly.domain.user.User;
 import com.vitorsaucedo.finly.domain.user.UserRepository;
 import com.vitorsaucedo.finly.dto.request.LoginRequest;
+import com.vitorsaucedo.finly.dto.request.RefreshTokenRequest;
 import com.vitorsaucedo.finly.dto.request.RegisterRequest;
 import com.vitorsaucedo.finly.dto.response.AuthResponse;
 import com.vitorsaucedo.finly.dto.response.UserResponse;
 import com.vitorsaucedo.finly.exception.BusinessException;
+import com.vitorsaucedo.finly.exception.InvalidTokenException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.UUID;
+
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
+    private static final String DEFAULT_BASE_CURRENCY = "BRL";
+
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
-    private final AuthenticationManager authenticationManager;
+    private final PasswordHasher passwordHasher;
+    private final LoginRateLimiter loginRateLimiter;
     private final JwtService jwtService;
+    private final RefreshTokenService refreshTokenService;
 
     public AuthResponse register(RegisterRequest request) {
         if (userRepository.existsByEmail(request.email())) {
@@ -30,33 +36,70 @@ public class AuthService {
         User user = User.builder()
                 .name(request.name())
                 .email(request.email())
-                .password(passwordEncoder.encode(request.password()))
+                .password(passwordHasher.encode(request.password()))
+                .baseCurrency(DEFAULT_BASE_CURRENCY)
                 .build();
 
         userRepository.save(user);
 
-        String token = jwtService.generateToken(user);
-        return buildAuthResponse(token, user);
+        return issueTokens(user);
     }
 
-    public AuthResponse login(LoginRequest request) {
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.email(), request.password())
-        );
+    public AuthResponse login(LoginRequest request, String clientIp) {
+        loginRateLimiter.check(clientIp, request.email());
+
+        User user = userRepository.findByEmail(request.email()).orElse(null);
+
+        if (!passwordHasher.matches(request.password(), user != null ? user.getPassword() : null)) {
+            throw new BadCredentialsException("Bad credentials");
+        }
+
+        if (passwordHasher.upgradeEncoding(user.getPassword())) {
+            String rehashed = passwordHasher.encode(request.password());
+            userRepository.updatePassword(user.getId(), rehashed);
+            user.setPassword(rehashed);
+        }
+
+        return issueTokens(user);
+    }
+
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        UUID jti = UUID.randomUUID();
+        Instant issuedAt = Instant.now();
+
+        RotatedRefreshToken rotated = refreshTokenService.rotate(
+                request.refreshToken(), jti, jwtService.expiresAt(issuedAt));
+        User user = userRepository.findById(rotated.userId())
+                .orElseThrow(() -> new InvalidTokenException("Invalid or expired refresh token"));
+
+        return buildAuthResponse(jwtService.generateToken(user, jti, issuedAt), rotated.token(), user);
+    }
+
+    public void logout(RefreshTokenRequest request) {
+        refreshTokenService.revoke(request.refreshToken());
+    }
+
+    public void logoutEverywhere(UUID userId) {
+        refreshTokenService.revokeAll(userId);
+    }
 
-        User user = userRepository.findByEmail(request.email())
-                .orElseThrow(() -> new BusinessException("User not found"));
+    private AuthResponse issueTokens(User user) {
+        UUID jti = UUID.randomUUID();
+        Instant issuedAt = Instant.now();
 
-        String token = jwtService.generateToken(user);
-        return buildAuthResponse(token, user);
+        String accessToken = jwtService.generateToken(user, jti, issuedAt);
+        String refreshToken = refreshTokenService.issue(user.getId(), jti, jwtService.expiresAt(issuedAt));
+        return buildAuthResponse(accessToken, refreshToken, user);
     }
 
-    private AuthResponse buildAuthResponse(String token, User user) {
+    private AuthResponse buildAuthResponse(String accessToken, String refreshToken, User user) {
         return new AuthResponse(
-                token,
+                accessToken,
                 "Bearer",
                 jwtService.getExpirationSeconds(),
-                new UserResponse(user.getId(), user.getName(), user.getEmail(), user.getCreatedAt())
+                refreshToken,
+                refreshTokenService.getExpirationSeconds(),
+                new UserResponse(user.getId(), user.getName(), user.getEmail(), user.getBaseCurrency(), user.getCreatedAt())
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.vitorsaucedo.finly.security;
+
+import com.vitorsaucedo.finly.config.LoginRateLimitConfig;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+@Component
+public class ClientAddressResolver {
+
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+    private static final Pattern IPV4 = Pattern.compile("\\d{1,3}(\\.\\d{1,3}){3}");
+
+    private final List<Subnet> trustedProxies;
+
+    public ClientAddressResolver(LoginRateLimitConfig config) {
+        this.trustedProxies = (config.trustedProxies() != null ? config.trustedProxies() : List.<String>of())
+                .stream()
+                .map(Subnet::parse)
+                .toList();
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String client = request.getRemoteAddr();
+        if (!isTrusted(parse(client))) return client;
+
+        List<String> hops = new ArrayList<>();
+        for (String header : Collections.list(request.getHeaders(FORWARDED_FOR))) {
+            for (String hop : header.split(",")) {
+                if (!hop.isBlank()) hops.add(hop.strip());
+            }
+        }
+
+        for (int i = hops.size() - 1; i >= 0; i--) {
+            InetAddress address = parse(hops.get(i));
+            if (address == null) return client;
+            client = address.getHostAddress();
+            if (!isTrusted(address)) return client;
+        }
+        return client;
+    }
+
+    private boolean isTrusted(InetAddress address) {
+        if (address == null) return false;
+        for (Subnet subnet : trustedProxies) {
+            if (subnet.contains(address)) return true;
+        }
+        return false;
+    }
+
+    private static InetAddress parse(String value) {
+        if (value == null || !(IPV4.matcher(value).matches() || value.indexOf(':') >= 0)) return null;
+        try {
+            return InetAddress.getByName(value);
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+
+    private record Subnet(byte[] network, int prefix) {
+
+        static Subnet parse(String cidr) {
+            int slash = cidr.indexOf('/');
+            String host = slash < 0 ? cidr.strip() : cidr.substring(0, slash).strip();
+            InetAddress address = ClientAddressResolver.parse(host);
+            if (address == null) throw new IllegalArgumentException("Invalid trusted proxy address: " + cidr);
+            byte[] network = address.getAddress();
+            int prefix = slash < 0 ? network.length * 8 : Integer.parseInt(cidr.substring(slash + 1).strip());
+            if (prefix < 0 || prefix > network.length * 8) {
+                throw new IllegalArgumentException("Invalid trusted proxy prefix: " + cidr);
+            }
+            return new Subnet(network, prefix);
+        }
+
+        boolean contains(InetAddress address) {
+            byte[] bytes = address.getAddress();
+            if (bytes.length != network.length) return false;
+            int full = prefix / 8;
+            for (int i = 0; i < full; i++) {
+                if (bytes[i] != network[i]) return false;
+            }
+            int remaining = prefix % 8;
+            if (remaining == 0) return true;
+            int mask = 0xFF << (8 - remaining);
+            return (bytes[full] & mask) == (network[full] & mask);
+        }
+    }
+}
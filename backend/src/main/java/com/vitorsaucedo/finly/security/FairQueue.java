@@ -0,0 +1,161 @@
+package com.vitorsaucedo.finly.security;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+final class FairQueue {
+
+    enum Admission { GRANTED, QUEUE_FULL, TIMED_OUT }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final PriorityQueue<Waiter> waiting = new PriorityQueue<>(
+            Comparator.comparingLong((Waiter waiter) -> waiter.start).thenComparingLong(waiter -> waiter.sequence));
+    private final Map<String, Flow> flows = new HashMap<>();
+    private final int maxQueuedPerSubject;
+
+    private int available;
+    private int active;
+    private long virtualTime;
+    private long sequence;
+
+    FairQueue(int concurrency, int maxQueuedPerSubject) {
+        if (concurrency < 1) throw new IllegalArgumentException("Concurrency must be at least 1");
+        this.available = concurrency;
+        this.maxQueuedPerSubject = maxQueuedPerSubject;
+    }
+
+    Admission acquire(String subject, int cost, long timeoutNanos) throws InterruptedException {
+        lock.lock();
+        try {
+            Flow flow = flows.computeIfAbsent(subject, key -> new Flow());
+
+            if (available > 0 && waiting.isEmpty()) {
+                virtualTime = stamp(flow, cost);
+                available--;
+                flow.running++;
+                active++;
+                return Admission.GRANTED;
+            }
+
+            if (flow.queued >= maxQueuedPerSubject) {
+                removeIfIdle(subject, flow);
+                return Admission.QUEUE_FULL;
+            }
+
+            Waiter waiter = new Waiter(flow, stamp(flow, cost), sequence++, lock.newCondition());
+            flow.queued++;
+            waiting.add(waiter);
+
+            long remaining = timeoutNanos;
+            try {
+                while (!waiter.granted) {
+                    if (remaining <= 0) {
+                        abandon(subject, waiter);
+                        return Admission.TIMED_OUT;
+                    }
+                    remaining = waiter.condition.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                if (waiter.granted) {
+                    releaseLocked(subject);
+                } else {
+                    abandon(subject, waiter);
+                }
+                throw e;
+            }
+            return Admission.GRANTED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void release(String subject) {
+        lock.lock();
+        try {
+            releaseLocked(subject);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int queued() {
+        lock.lock();
+        try {
+            return waiting.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int active() {
+        lock.lock();
+        try {
+            return active;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long stamp(Flow flow, int cost) {
+        long start = Math.max(virtualTime, flow.finish);
+        flow.finish = start + cost;
+        return start;
+    }
+
+    private void releaseLocked(String subject) {
+        Flow flow = flows.get(subject);
+        flow.running--;
+        active--;
+        removeIfIdle(subject, flow);
+
+        Waiter next = waiting.poll();
+        if (next == null) {
+            available++;
+            return;
+        }
+
+        virtualTime = next.start;
+        next.flow.queued--;
+        next.flow.running++;
+        active++;
+        next.granted = true;
+        next.condition.signal();
+    }
+
+    private void abandon(String subject, Waiter waiter) {
+        waiting.remove(waiter);
+        waiter.flow.queued--;
+        removeIfIdle(subject, waiter.flow);
+    }
+
+    private void removeIfIdle(String subject, Flow flow) {
+        if (flow.queued == 0 && flow.running == 0) {
+            flows.remove(subject);
+        }
+    }
+
+    private static final class Flow {
+        private long finish;
+        private int queued;
+        private int running;
+    }
+
+    private static final class Waiter {
+        private final Flow flow;
+        private final long start;
+        private final long sequence;
+        private final Condition condition;
+        private boolean granted;
+
+        private Waiter(Flow flow, long start, long sequence, Condition condition) {
+            this.flow = flow;
+            this.start = start;
+            this.sequence = sequence;
+            this.condition = condition;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.security.oauth2.jwt.*;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -15,22 +16,24 @@ public class JwtService {
     private final JwtEncoder jwtEncoder;
     private final JwtConfig jwtConfig;
 
-    public String generateToken(User user) {
-        Instant now = Instant.now();
-        Instant expiry = now.plusSeconds(jwtConfig.expirationSeconds());
-
+    public String generateToken(User user, UUID jti, Instant issuedAt) {
         JwtClaimsSet claims = JwtClaimsSet.builder()
+                .id(jti.toString())
                 .issuer("finly")
                 .subject(user.getId().toString())
                 .claim("email", user.getEmail())
                 .claim("name", user.getName())
-                .issuedAt(now)
-                .expiresAt(expiry)
+                .issuedAt(issuedAt)
+                .expiresAt(expiresAt(issuedAt))
                 .build();
 
         return jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
     }
 
+    public Instant expiresAt(Instant issuedAt) {
+        return issuedAt.plusSeconds(jwtConfig.expirationSeconds());
+    }
+
     public Long getExpirationSeconds() {
         return jwtConfig.expirationSeconds();
     }
@@ -0,0 +1,53 @@
+package com.vitorsaucedo.finly.security;
+
+import com.vitorsaucedo.finly.config.LoginRateLimitConfig;
+import com.vitorsaucedo.finly.exception.TooManyRequestsException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+@Component
+public class LoginRateLimiter {
+
+    private static final int DEFAULT_IP_BURST = 20;
+    private static final Duration DEFAULT_IP_INTERVAL = Duration.ofSeconds(3);
+    private static final int DEFAULT_EMAIL_BURST = 5;
+    private static final Duration DEFAULT_EMAIL_INTERVAL = Duration.ofSeconds(12);
+    private static final int DEFAULT_SLOTS = 65_536;
+
+    private final TokenBucketTable byIp;
+    private final TokenBucketTable byEmail;
+    private final LongSupplier clock;
+    private final long origin;
+
+    public LoginRateLimiter(LoginRateLimitConfig config) {
+        this(config, System::nanoTime);
+    }
+
+    LoginRateLimiter(LoginRateLimitConfig config, LongSupplier clock) {
+        int slots = config.slots() != null ? config.slots() : DEFAULT_SLOTS;
+        this.byIp = new TokenBucketTable(slots,
+                config.ipBurst() != null ? config.ipBurst() : DEFAULT_IP_BURST,
+                (config.ipInterval() != null ? config.ipInterval() : DEFAULT_IP_INTERVAL).toNanos());
+        this.byEmail = new TokenBucketTable(slots,
+                config.emailBurst() != null ? config.emailBurst() : DEFAULT_EMAIL_BURST,
+                (config.emailInterval() != null ? config.emailInterval() : DEFAULT_EMAIL_INTERVAL).toNanos());
+        this.clock = clock;
+        this.origin = clock.getAsLong() - 1;
+    }
+
+    public void check(String clientIp, String email) {
+        long now = clock.getAsLong() - origin;
+
+        long wait = byIp.tryAcquire(clientIp, now);
+        if (wait == 0) {
+            wait = byEmail.tryAcquire(email.strip().toLowerCase(Locale.ROOT), now);
+        }
+        if (wait > 0) {
+            throw new TooManyRequestsException("Too many login attempts, please retry later",
+                    Duration.ofNanos(wait));
+        }
+    }
+}
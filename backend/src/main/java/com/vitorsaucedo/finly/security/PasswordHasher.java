@@ -0,0 +1,103 @@
+package com.vitorsaucedo.finly.security;
+
+import com.vitorsaucedo.finly.config.PasswordHashingConfig;
+import com.vitorsaucedo.finly.exception.ServiceUnavailableException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+    private static final int DEFAULT_QUEUE_CAPACITY = 256;
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(1);
+    private static final String USER_NOT_FOUND_PASSWORD = "userNotFoundPassword";
+
+    private final PasswordEncoder passwordEncoder;
+    private final Duration timeout;
+    private final ThreadPoolExecutor executor;
+    private volatile String userNotFoundHash;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, PasswordHashingConfig config) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = config.timeout() != null ? config.timeout() : DEFAULT_TIMEOUT;
+
+        int threads = config.threads() != null ? config.threads() : Runtime.getRuntime().availableProcessors();
+        int queueCapacity = config.queueCapacity() != null ? config.queueCapacity() : DEFAULT_QUEUE_CAPACITY;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "password-hashing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (encodedPassword == null) {
+            String dummy = userNotFoundHash();
+            run(() -> passwordEncoder.matches(rawPassword, dummy));
+            return false;
+        }
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    int queuedTasks() {
+        return executor.getQueue().size();
+    }
+
+    private String userNotFoundHash() {
+        String hash = userNotFoundHash;
+        if (hash == null) {
+            hash = run(() -> passwordEncoder.encode(USER_NOT_FOUND_PASSWORD));
+            userNotFoundHash = hash;
+        }
+        return hash;
+    }
+
+    private <T> T run(Callable<T> work) {
+        Future<T> future;
+        try {
+            future = executor.submit(work);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceUnavailableException("Authentication is busy, please retry", RETRY_AFTER);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("Password hashing timed out after {}", timeout);
+            throw new ServiceUnavailableException("Authentication is busy, please retry", RETRY_AFTER);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ServiceUnavailableException("Authentication was interrupted", RETRY_AFTER);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,132 @@
+package com.vitorsaucedo.finly.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO refresh_tokens (user_id, family_id, token_hash, access_jti, access_expires_at, expires_at, created_at)
+            VALUES (:userId, :familyId, :tokenHash, :accessJti, :accessExpiresAt, :expiresAt, :now)
+            """;
+
+    private static final String ROTATE_SQL = """
+            WITH consumed AS (
+                UPDATE refresh_tokens
+                SET revoked_at = :now, rotated_at = :now
+                WHERE token_hash = :presentedHash
+                AND revoked_at IS NULL
+                AND expires_at > :now
+                RETURNING user_id, family_id
+            )
+            INSERT INTO refresh_tokens (user_id, family_id, token_hash, access_jti, access_expires_at, expires_at, created_at)
+            SELECT user_id, family_id, :tokenHash, :accessJti, :accessExpiresAt, :expiresAt, :now FROM consumed
+            RETURNING user_id, family_id
+            """;
+
+    private static final String FIND_FAMILY_SQL = """
+            SELECT family_id FROM refresh_tokens WHERE token_hash = :tokenHash
+            """;
+
+    private static final String FIND_ROTATION_SQL = """
+            SELECT family_id, rotated_at FROM refresh_tokens
+            WHERE token_hash = :tokenHash
+            AND rotated_at IS NOT NULL
+            """;
+
+    private static final String REVOKE_SQL = """
+            WITH revoked AS (
+                UPDATE refresh_tokens
+                SET revoked_at = COALESCE(revoked_at, :now)
+                WHERE %s
+                AND (revoked_at IS NULL OR access_expires_at > :now)
+                RETURNING access_jti, access_expires_at
+            )
+            INSERT INTO revoked_access_tokens (jti, expires_at, revoked_at)
+            SELECT access_jti, access_expires_at, :now FROM revoked
+            WHERE access_expires_at > :now
+            ON CONFLICT (jti) DO NOTHING
+            RETURNING jti
+            """;
+
+    private static final String REVOKE_FAMILY_SQL = REVOKE_SQL.formatted("family_id = :familyId");
+    private static final String REVOKE_USER_SQL = REVOKE_SQL.formatted("user_id = :userId");
+
+    private static final String DELETE_EXPIRED_SQL = """
+            DELETE FROM refresh_tokens WHERE expires_at < :now
+            """;
+
+    private static final RowMapper<RefreshTokenGrant> GRANT_MAPPER = (rs, rowNum) -> new RefreshTokenGrant(
+            rs.getObject("user_id", UUID.class),
+            rs.getObject("family_id", UUID.class)
+    );
+
+    private static final RowMapper<UUID> JTI_MAPPER = (rs, rowNum) -> rs.getObject("jti", UUID.class);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void insert(RefreshTokenGrant grant, String tokenHash, UUID accessJti,
+                       LocalDateTime accessExpiresAt, LocalDateTime expiresAt, LocalDateTime now) {
+        jdbcTemplate.update(INSERT_SQL, tokenParams(tokenHash, accessJti, accessExpiresAt, expiresAt, now)
+                .addValue("userId", grant.userId())
+                .addValue("familyId", grant.familyId()));
+    }
+
+    public Optional<RefreshTokenGrant> rotate(String presentedHash, String tokenHash, UUID accessJti,
+                                              LocalDateTime accessExpiresAt, LocalDateTime expiresAt,
+                                              LocalDateTime now) {
+        MapSqlParameterSource params = tokenParams(tokenHash, accessJti, accessExpiresAt, expiresAt, now)
+                .addValue("presentedHash", presentedHash);
+
+        return jdbcTemplate.query(ROTATE_SQL, params, GRANT_MAPPER).stream().findFirst();
+    }
+
+    public Optional<UUID> findFamilyId(String tokenHash) {
+        return jdbcTemplate.query(FIND_FAMILY_SQL, new MapSqlParameterSource("tokenHash", tokenHash),
+                (rs, rowNum) -> rs.getObject("family_id", UUID.class)).stream().findFirst();
+    }
+
+    public Optional<RefreshTokenRotation> findRotation(String tokenHash) {
+        return jdbcTemplate.query(FIND_ROTATION_SQL, new MapSqlParameterSource("tokenHash", tokenHash),
+                (rs, rowNum) -> new RefreshTokenRotation(
+                        rs.getObject("family_id", UUID.class),
+                        rs.getObject("rotated_at", LocalDateTime.class)
+                )).stream().findFirst();
+    }
+
+    public List<UUID> revokeFamily(UUID familyId, LocalDateTime now) {
+        return jdbcTemplate.query(REVOKE_FAMILY_SQL, new MapSqlParameterSource()
+                .addValue("familyId", familyId)
+                .addValue("now", now), JTI_MAPPER);
+    }
+
+    public List<UUID> revokeUser(UUID userId, LocalDateTime now) {
+        return jdbcTemplate.query(REVOKE_USER_SQL, new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("now", now), JTI_MAPPER);
+    }
+
+    public int deleteExpired(LocalDateTime now) {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL, new MapSqlParameterSource("now", now));
+    }
+
+    private MapSqlParameterSource tokenParams(String tokenHash, UUID accessJti, LocalDateTime accessExpiresAt,
+                                              LocalDateTime expiresAt, LocalDateTime now) {
+        return new MapSqlParameterSource()
+                .addValue("tokenHash", tokenHash)
+                .addValue("accessJti", accessJti)
+                .addValue("accessExpiresAt", accessExpiresAt)
+                .addValue("expiresAt", expiresAt)
+                .addValue("now", now);
+    }
+}
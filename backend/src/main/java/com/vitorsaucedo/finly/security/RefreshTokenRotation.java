@@ -0,0 +1,9 @@
+package com.vitorsaucedo.finly.security;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record RefreshTokenRotation(
+        UUID familyId,
+        LocalDateTime rotatedAt
+) {}
@@ -0,0 +1,113 @@
+package com.vitorsaucedo.finly.security;
+
+import com.vitorsaucedo.finly.config.JwtConfig;
+import com.vitorsaucedo.finly.exception.InvalidTokenException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final long DEFAULT_REFRESH_EXPIRATION_SECONDS = 2_592_000L;
+    private static final Duration DEFAULT_REUSE_GRACE = Duration.ofSeconds(10);
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final TokenRevocationList revocationList;
+    private final JwtConfig jwtConfig;
+    private final SecureRandom random = new SecureRandom();
+
+    public String issue(UUID userId, UUID accessJti, Instant accessExpiresAt) {
+        String token = newToken();
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.insert(new RefreshTokenGrant(userId, UUID.randomUUID()), hash(token), accessJti,
+                toLocal(accessExpiresAt), now.plusSeconds(getExpirationSeconds()), now);
+        return token;
+    }
+
+    public RotatedRefreshToken rotate(String presented, UUID accessJti, Instant accessExpiresAt) {
+        String token = newToken();
+        LocalDateTime now = LocalDateTime.now();
+        String presentedHash = hash(presented);
+
+        return refreshTokenRepository.rotate(presentedHash, hash(token), accessJti, toLocal(accessExpiresAt),
+                        now.plusSeconds(getExpirationSeconds()), now)
+                .map(grant -> new RotatedRefreshToken(grant.userId(), token))
+                .orElseThrow(() -> {
+                    refreshTokenRepository.findRotation(presentedHash)
+                            .filter(rotation -> rotation.rotatedAt().plus(reuseGrace()).isBefore(now))
+                            .ifPresent(rotation -> {
+                                log.warn("Refresh token reuse detected, revoking token family {}",
+                                        rotation.familyId());
+                                revocationList.revoked(refreshTokenRepository.revokeFamily(rotation.familyId(), now));
+                            });
+                    return new InvalidTokenException("Invalid or expired refresh token");
+                });
+    }
+
+    public void revoke(String presented) {
+        refreshTokenRepository.findFamilyId(hash(presented)).ifPresent(familyId ->
+                revocationList.revoked(refreshTokenRepository.revokeFamily(familyId, LocalDateTime.now())));
+    }
+
+    public void revokeAll(UUID userId) {
+        List<UUID> jtis = refreshTokenRepository.revokeUser(userId, LocalDateTime.now());
+        revocationList.revoked(jtis);
+    }
+
+    public long getExpirationSeconds() {
+        return jwtConfig.refreshExpirationSeconds() != null
+                ? jwtConfig.refreshExpirationSeconds() : DEFAULT_REFRESH_EXPIRATION_SECONDS;
+    }
+
+    @Scheduled(cron = "${app.jwt.revocation.purge-cron:0 */15 * * * *}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int refreshTokens = refreshTokenRepository.deleteExpired(now);
+        int revokedTokens = revokedAccessTokenRepository.deleteExpired(now);
+        if (refreshTokens > 0 || revokedTokens > 0) {
+            log.info("Purged {} expired refresh tokens and {} expired revocations", refreshTokens, revokedTokens);
+        }
+    }
+
+    private Duration reuseGrace() {
+        return jwtConfig.refreshReuseGrace() != null ? jwtConfig.refreshReuseGrace() : DEFAULT_REUSE_GRACE;
+    }
+
+    private String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static LocalDateTime toLocal(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,54 @@
+package com.vitorsaucedo.finly.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class RevokedAccessTokenRepository {
+
+    private static final String FIND_ACTIVE_SQL = """
+            SELECT jti FROM revoked_access_tokens
+            WHERE expires_at > :now
+            AND revoked_at >= :since
+            """;
+
+    private static final String IS_REVOKED_SQL = """
+            SELECT EXISTS (
+                SELECT 1 FROM revoked_access_tokens
+                WHERE jti = :jti
+                AND expires_at > :now
+            )
+            """;
+
+    private static final String DELETE_EXPIRED_SQL = """
+            DELETE FROM revoked_access_tokens WHERE expires_at < :now
+            """;
+
+    private static final RowMapper<UUID> JTI_MAPPER = (rs, rowNum) -> rs.getObject("jti", UUID.class);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<UUID> findActiveRevokedSince(LocalDateTime since, LocalDateTime now) {
+        return jdbcTemplate.query(FIND_ACTIVE_SQL, new MapSqlParameterSource()
+                .addValue("since", since)
+                .addValue("now", now), JTI_MAPPER);
+    }
+
+    public boolean isRevoked(UUID jti, LocalDateTime now) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_REVOKED_SQL, new MapSqlParameterSource()
+                .addValue("jti", jti)
+                .addValue("now", now), Boolean.class));
+    }
+
+    public int deleteExpired(LocalDateTime now) {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL, new MapSqlParameterSource("now", now));
+    }
+}
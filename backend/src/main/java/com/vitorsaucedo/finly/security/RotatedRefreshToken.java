@@ -0,0 +1,8 @@
+package com.vitorsaucedo.finly.security;
+
+import java.util.UUID;
+
+public record RotatedRefreshToken(
+        UUID userId,
+        String token
+) {}
@@ -0,0 +1,156 @@
+package com.vitorsaucedo.finly.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.JWSKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.vitorsaucedo.finly.config.RsaKeyConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Component
+public class RsaKeyRing {
+
+    private static final JWSAlgorithm ALGORITHM = JWSAlgorithm.RS256;
+    private static final Pattern PEM_NOISE = Pattern.compile("-----.*?-----|\\s+");
+
+    private final RsaKeyConfig config;
+
+    private volatile Keys keys;
+
+    public RsaKeyRing(RsaKeyConfig config) {
+        this.config = config;
+        this.keys = load();
+    }
+
+    public JWKSource<SecurityContext> signingKeys() {
+        return (selector, context) -> selector.select(keys.signing());
+    }
+
+    public JWSKeySelector<SecurityContext> verificationKeys() {
+        return (header, context) -> ALGORITHM.equals(header.getAlgorithm())
+                ? keys.publicKeys(header.getKeyID())
+                : List.of();
+    }
+
+    public String signingKeyId() {
+        return keys.signingKeyId();
+    }
+
+    @Scheduled(fixedDelayString = "${app.rsa.reload-interval:PT1M}")
+    public synchronized void reload() {
+        Keys current = keys;
+        try {
+            Keys loaded = load();
+            if (!loaded.publicKeysById().keySet().equals(current.publicKeysById().keySet())
+                    || !loaded.signingKeyId().equals(current.signingKeyId())) {
+                keys = loaded;
+                log.info("Reloaded RSA key ring, signing with kid {} and verifying {} keys",
+                        loaded.signingKeyId(), loaded.publicKeysById().size());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not reload the RSA key ring, keeping the current keys", e);
+        }
+    }
+
+    private Keys load() {
+        RSAPublicKey publicKey = parsePublicKey(config.getPublicKeyLocation(), config.getPublicKey());
+        RSAPrivateKey privateKey = parsePrivateKey(config.getPrivateKeyLocation(), config.getPrivateKey());
+        String signingKeyId = keyId(publicKey);
+
+        RSAKey signingKey = new RSAKey.Builder(publicKey)
+                .privateKey(privateKey)
+                .keyID(signingKeyId)
+                .keyUse(KeyUse.SIGNATURE)
+                .algorithm(ALGORITHM)
+                .build();
+
+        Map<String, List<Key>> publicKeysById = new LinkedHashMap<>();
+        publicKeysById.put(signingKeyId, List.of(publicKey));
+        for (Resource location : config.getPreviousPublicKeyLocations()) {
+            RSAPublicKey previous = parsePublicKey(location, null);
+            publicKeysById.putIfAbsent(keyId(previous), List.of(previous));
+        }
+        for (String base64 : config.getPreviousPublicKeys()) {
+            if (base64 == null || base64.isBlank()) continue;
+            RSAPublicKey previous = parsePublicKey(null, base64);
+            publicKeysById.putIfAbsent(keyId(previous), List.of(previous));
+        }
+
+        List<Key> allPublicKeys = new ArrayList<>();
+        publicKeysById.values().forEach(allPublicKeys::addAll);
+
+        return new Keys(signingKeyId, new JWKSet(signingKey), Map.copyOf(publicKeysById), List.copyOf(allPublicKeys));
+    }
+
+    private static RSAPublicKey parsePublicKey(Resource location, String base64String) {
+        try {
+            byte[] der = resolveKeyBytes(location, base64String);
+            return (RSAPublicKey) KeyFactory.getInstance("RSA").generatePublic(new X509EncodedKeySpec(der));
+        } catch (IOException | GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Falha ao carregar RSA public key", e);
+        }
+    }
+
+    private static RSAPrivateKey parsePrivateKey(Resource location, String base64String) {
+        try {
+            byte[] der = resolveKeyBytes(location, base64String);
+            return (RSAPrivateKey) KeyFactory.getInstance("RSA").generatePrivate(new PKCS8EncodedKeySpec(der));
+        } catch (IOException | GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Falha ao carregar RSA private key", e);
+        }
+    }
+
+    private static byte[] resolveKeyBytes(Resource location, String base64String) throws IOException {
+        if (location != null) {
+            return decodePem(location.getContentAsString(StandardCharsets.US_ASCII));
+        }
+        if (base64String != null && !base64String.isBlank()) {
+            return decodePem(new String(Base64.getDecoder().decode(base64String.trim()), StandardCharsets.US_ASCII));
+        }
+        throw new IllegalStateException("Nenhuma chave RSA configurada (nem location nem string base64)");
+    }
+
+    private static byte[] decodePem(String pem) {
+        return Base64.getDecoder().decode(PEM_NOISE.matcher(pem).replaceAll(""));
+    }
+
+    private static String keyId(RSAPublicKey publicKey) {
+        try {
+            return new RSAKey.Builder(publicKey).build().computeThumbprint().toString();
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Falha ao calcular o kid da RSA public key", e);
+        }
+    }
+
+    private record Keys(String signingKeyId, JWKSet signing, Map<String, List<Key>> publicKeysById,
+                        List<Key> allPublicKeys) {
+
+        List<Key> publicKeys(String keyId) {
+            return keyId == null ? allPublicKeys : publicKeysById.getOrDefault(keyId, List.of());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.vitorsaucedo.finly.security;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+final class TokenBucketTable {
+
+    private final AtomicLongArray theoreticalArrival;
+    private final int mask;
+    private final int seed;
+    private final long emissionInterval;
+    private final long burstTolerance;
+
+    TokenBucketTable(int slots, int burst, long emissionIntervalNanos) {
+        if (burst < 1) throw new IllegalArgumentException("Burst must be at least 1");
+        int size = Integer.highestOneBit(Math.max(1, slots - 1)) << 1;
+        this.theoreticalArrival = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.seed = ThreadLocalRandom.current().nextInt();
+        this.emissionInterval = emissionIntervalNanos;
+        this.burstTolerance = emissionIntervalNanos * (burst - 1);
+    }
+
+    long tryAcquire(String key, long now) {
+        int slot = slot(key);
+        while (true) {
+            long current = theoreticalArrival.get(slot);
+            long arrival = Math.max(current, now);
+            long wait = arrival - now - burstTolerance;
+            if (wait > 0) return wait;
+            if (theoreticalArrival.compareAndSet(slot, current, arrival + emissionInterval)) return 0;
+        }
+    }
+
+    int size() {
+        return mask + 1;
+    }
+
+    private int slot(String key) {
+        int h = key.hashCode() ^ seed;
+        h *= 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,109 @@
+package com.vitorsaucedo.finly.security;
+
+import com.vitorsaucedo.finly.config.TokenRevocationConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    private static final Duration DEFAULT_REBUILD_INTERVAL = Duration.ofMinutes(10);
+    private static final int DEFAULT_EXPECTED_REVOCATIONS = 100_000;
+    private static final int DEFAULT_CACHE_SIZE = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final Duration POLL_OVERLAP = Duration.ofSeconds(5);
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final RevokedAccessTokenRepository repository;
+    private final Duration rebuildInterval;
+    private final int expectedRevocations;
+    private final Map<UUID, Boolean> confirmed;
+
+    private volatile JtiBloomFilter filter;
+    private LocalDateTime watermark;
+    private LocalDateTime rebuiltAt;
+
+    public TokenRevocationList(RevokedAccessTokenRepository repository, TokenRevocationConfig config) {
+        this.repository = repository;
+        this.rebuildInterval = config.rebuildInterval() != null ? config.rebuildInterval() : DEFAULT_REBUILD_INTERVAL;
+        this.expectedRevocations = config.expectedRevocations() != null
+                ? config.expectedRevocations() : DEFAULT_EXPECTED_REVOCATIONS;
+
+        int cacheSize = config.cacheSize() != null ? config.cacheSize() : DEFAULT_CACHE_SIZE;
+        this.confirmed = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Boolean> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    public boolean isRevoked(UUID jti) {
+        JtiBloomFilter current = filter;
+        if (current != null && !current.mightContain(jti)) return false;
+
+        synchronized (confirmed) {
+            Boolean cached = confirmed.get(jti);
+            if (cached != null) return cached;
+        }
+
+        boolean revoked = repository.isRevoked(jti, LocalDateTime.now());
+        synchronized (confirmed) {
+            confirmed.putIfAbsent(jti, revoked);
+        }
+        return revoked;
+    }
+
+    public void revoked(Collection<UUID> jtis) {
+        JtiBloomFilter current = filter;
+        for (UUID jti : jtis) {
+            if (current != null) current.add(jti);
+            synchronized (confirmed) {
+                confirmed.put(jti, true);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.poll-interval:PT5S}")
+    public synchronized void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            if (filter == null || rebuiltAt.plus(rebuildInterval).isBefore(now)) {
+                rebuild(now);
+            } else {
+                List<UUID> recent = repository.findActiveRevokedSince(watermark.minus(POLL_OVERLAP), now);
+                revoked(recent);
+                watermark = now;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh the access token revocation list", e);
+        }
+    }
+
+    private void rebuild(LocalDateTime now) {
+        List<UUID> active = repository.findActiveRevokedSince(BEGINNING, now);
+        JtiBloomFilter rebuilt = new JtiBloomFilter(Math.max(expectedRevocations, active.size() * 2), FALSE_POSITIVE_RATE);
+        active.forEach(rebuilt::add);
+
+        synchronized (confirmed) {
+            confirmed.forEach((jti, revoked) -> {
+                if (revoked) rebuilt.add(jti);
+            });
+        }
+
+        filter = rebuilt;
+        watermark = now;
+        rebuiltAt = now;
+        log.debug("Rebuilt access token revocation filter with {} entries", active.size());
+    }
+}
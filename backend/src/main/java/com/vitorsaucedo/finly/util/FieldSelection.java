@@ -0,0 +1,117 @@
+package com.vitorsaucedo.finly.util;
+
+import com.vitorsaucedo.finly.exception.BusinessException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class FieldSelection {
+
+    public static final String REQUEST_ATTRIBUTE = FieldSelection.class.getName();
+
+    private static final FieldSelection ALL = new FieldSelection(null, null, List.of());
+    private static final Map<Class<?>, Map<String, RecordComponent>> COMPONENTS = new ConcurrentHashMap<>();
+
+    private final Class<? extends Record> type;
+    private final Set<String> names;
+    private final List<RecordComponent> components;
+
+    private FieldSelection(Class<? extends Record> type, Set<String> names, List<RecordComponent> components) {
+        this.type = type;
+        this.names = names;
+        this.components = components;
+    }
+
+    public static FieldSelection all() {
+        return ALL;
+    }
+
+    public static FieldSelection parse(String fields, Class<? extends Record> type, String... required) {
+        if (fields == null || fields.isBlank()) return ALL;
+
+        Map<String, RecordComponent> available = components(type);
+        Set<String> requested = new HashSet<>(Arrays.asList(required));
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) continue;
+            if (!available.containsKey(name)) {
+                throw new BusinessException("Unknown field '" + name + "'. Allowed fields: "
+                        + String.join(", ", available.keySet()));
+            }
+            requested.add(name);
+        }
+
+        if (requested.size() == available.size()) return ALL;
+
+        List<RecordComponent> selected = new ArrayList<>();
+        for (RecordComponent component : available.values()) {
+            if (requested.contains(component.getName())) selected.add(component);
+        }
+        return new FieldSelection(type, Set.copyOf(requested), List.copyOf(selected));
+    }
+
+    public boolean isAll() {
+        return names == null;
+    }
+
+    public boolean includes(String field) {
+        return names == null || names.contains(field);
+    }
+
+    public boolean includesAny(String... fields) {
+        for (String field : fields) {
+            if (includes(field)) return true;
+        }
+        return false;
+    }
+
+    public List<String> names() {
+        return components.stream().map(RecordComponent::getName).toList();
+    }
+
+    public FieldSelection bindToCurrentRequest() {
+        RequestContextHolder.currentRequestAttributes()
+                .setAttribute(REQUEST_ATTRIBUTE, this, RequestAttributes.SCOPE_REQUEST);
+        return this;
+    }
+
+    public boolean selects(Class<?> rowType) {
+        return type != null && type.equals(rowType);
+    }
+
+    public Object pruneIfSelected(Object value) {
+        return type != null && type.isInstance(value) ? prune((Record) value) : value;
+    }
+
+    public Map<String, Object> prune(Record value) {
+        Map<String, Object> pruned = new LinkedHashMap<>();
+        for (RecordComponent component : components) {
+            try {
+                pruned.put(component.getName(), component.getAccessor().invoke(value));
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("Could not read " + component.getName(), e);
+            }
+        }
+        return pruned;
+    }
+
+    private static Map<String, RecordComponent> components(Class<? extends Record> type) {
+        return COMPONENTS.computeIfAbsent(type, recordType -> {
+            Map<String, RecordComponent> components = new LinkedHashMap<>();
+            for (RecordComponent component : recordType.getRecordComponents()) {
+                components.put(component.getName(), component);
+            }
+            return components;
+        });
+    }
+}
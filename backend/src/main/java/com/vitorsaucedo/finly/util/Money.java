@@ -0,0 +1,63 @@
+package com.vitorsaucedo.finly.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public record Money(long cents) {
+
+    public static final Money ZERO = new Money(0);
+
+    private static final int SCALE = 2;
+    private static final long PERCENT_SCALE = 10_000;
+    private static final long MAX_FAST_PERCENT_OPERAND = Long.MAX_VALUE / PERCENT_SCALE;
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+    public static Money of(BigDecimal amount) {
+        return new Money(cents(amount));
+    }
+
+    public static long cents(BigDecimal amount) {
+        return amount.movePointRight(SCALE).longValueExact();
+    }
+
+    public static BigDecimal toBigDecimal(long cents) {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    public static double percentage(long part, long whole) {
+        if (Math.abs(part) > MAX_FAST_PERCENT_OPERAND || whole == Long.MIN_VALUE) {
+            return exactPercentage(part, whole);
+        }
+
+        long numerator = part * PERCENT_SCALE;
+        long quotient = numerator / whole;
+        long remainder = numerator % whole;
+        if (remainder != 0 && Math.abs(remainder) >= Math.abs(whole) - Math.abs(remainder)) {
+            quotient += (numerator < 0) == (whole < 0) ? 1 : -1;
+        }
+
+        if (Math.abs(quotient) > MAX_EXACT_DOUBLE) {
+            return exactPercentage(part, whole);
+        }
+        return quotient / 100.0;
+    }
+
+    private static double exactPercentage(long part, long whole) {
+        return toBigDecimal(part)
+                .divide(toBigDecimal(whole), 4, RoundingMode.HALF_UP)
+                .multiply(BigDecimal.valueOf(100))
+                .doubleValue();
+    }
+
+    public Money add(Money other) {
+        return new Money(Math.addExact(cents, other.cents));
+    }
+
+    public Money subtract(Money other) {
+        return new Money(Math.subtractExact(cents, other.cents));
+    }
+
+    public BigDecimal toBigDecimal() {
+        return toBigDecimal(cents);
+    }
+}
@@ -0,0 +1,12 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE transactions
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(description, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(notes, '')), 'B')
+        ) STORED;
+
+CREATE INDEX idx_transactions_search_vector ON transactions USING GIN (search_vector);
+CREATE INDEX idx_transactions_description_trgm ON transactions USING GIN (description gin_trgm_ops);
+CREATE INDEX idx_transactions_notes_trgm ON transactions USING GIN (notes gin_trgm_ops);
+CREATE INDEX idx_transactions_user_date ON transactions (user_id, transaction_date DESC, id DESC);
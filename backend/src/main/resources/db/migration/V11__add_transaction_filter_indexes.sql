@@ -0,0 +1,7 @@
+CREATE INDEX idx_transactions_account_date ON transactions (account_id, transaction_date DESC);
+CREATE INDEX idx_transactions_destination_account_date ON transactions (destination_account_id, transaction_date DESC)
+    WHERE destination_account_id IS NOT NULL;
+CREATE INDEX idx_transactions_category_date ON transactions (category_id, transaction_date DESC)
+    WHERE category_id IS NOT NULL;
+CREATE INDEX idx_transactions_user_type_status_date ON transactions (user_id, type, status, transaction_date DESC);
+CREATE INDEX idx_transactions_user_amount ON transactions (user_id, amount);
@@ -0,0 +1,3 @@
+CREATE INDEX idx_transactions_pending ON transactions (user_id, transaction_date) WHERE status = 'PENDING';
+CREATE INDEX idx_installment_groups_user ON installment_groups (user_id);
+CREATE INDEX idx_installments_pending ON installments (group_id, due_date) WHERE status = 'PENDING';
@@ -0,0 +1,15 @@
+CREATE TABLE goal_deposits (
+                               id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+                               goal_id UUID NOT NULL REFERENCES goals(id) ON DELETE CASCADE,
+                               amount NUMERIC(15,2) NOT NULL,
+                               balance_after NUMERIC(15,2) NOT NULL,
+                               opening BOOLEAN NOT NULL DEFAULT FALSE,
+                               deposited_at TIMESTAMP NOT NULL DEFAULT now()
+);
+
+CREATE INDEX idx_goal_deposits_goal_date ON goal_deposits (goal_id, deposited_at);
+
+INSERT INTO goal_deposits (goal_id, amount, balance_after, opening, deposited_at)
+SELECT id, current_amount, current_amount, TRUE, created_at
+FROM goals
+WHERE current_amount > 0;
@@ -0,0 +1,8 @@
+ALTER TABLE users ADD COLUMN base_currency VARCHAR(3) NOT NULL DEFAULT 'BRL';
+
+CREATE TABLE fx_rates (
+                          currency VARCHAR(3) NOT NULL,
+                          rate_date DATE NOT NULL,
+                          rate NUMERIC(20,10) NOT NULL,
+                          PRIMARY KEY (currency, rate_date)
+);
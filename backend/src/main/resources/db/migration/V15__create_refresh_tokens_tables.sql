@@ -0,0 +1,24 @@
+CREATE TABLE refresh_tokens (
+                                id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+                                user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+                                family_id UUID NOT NULL,
+                                token_hash VARCHAR(64) NOT NULL UNIQUE,
+                                access_jti UUID NOT NULL,
+                                access_expires_at TIMESTAMP NOT NULL,
+                                expires_at TIMESTAMP NOT NULL,
+                                created_at TIMESTAMP NOT NULL DEFAULT now(),
+                                revoked_at TIMESTAMP
+);
+
+CREATE INDEX idx_refresh_tokens_family ON refresh_tokens (family_id);
+CREATE INDEX idx_refresh_tokens_user ON refresh_tokens (user_id);
+CREATE INDEX idx_refresh_tokens_expires ON refresh_tokens (expires_at);
+
+CREATE TABLE revoked_access_tokens (
+                                       jti UUID PRIMARY KEY,
+                                       expires_at TIMESTAMP NOT NULL,
+                                       revoked_at TIMESTAMP NOT NULL DEFAULT now()
+);
+
+CREATE INDEX idx_revoked_access_tokens_revoked_at ON revoked_access_tokens (revoked_at);
+CREATE INDEX idx_revoked_access_tokens_expires ON revoked_access_tokens (expires_at);
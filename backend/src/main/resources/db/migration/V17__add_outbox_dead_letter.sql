@@ -0,0 +1,4 @@
+ALTER TABLE outbox_events ADD COLUMN failed_at TIMESTAMP;
+
+DROP INDEX idx_outbox_events_pending;
+CREATE INDEX idx_outbox_events_pending ON outbox_events (available_at) WHERE processed_at IS NULL AND failed_at IS NULL;
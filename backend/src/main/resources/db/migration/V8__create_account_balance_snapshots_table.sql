@@ -0,0 +1,33 @@
+CREATE TABLE account_balance_snapshots (
+                                           id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+                                           account_id UUID NOT NULL REFERENCES accounts(id) ON DELETE CASCADE,
+                                           snapshot_date DATE NOT NULL,
+                                           balance NUMERIC(15,2) NOT NULL,
+                                           net_change NUMERIC(15,2) NOT NULL DEFAULT 0.00,
+                                           UNIQUE (account_id, snapshot_date)
+);
+
+INSERT INTO account_balance_snapshots (account_id, snapshot_date, balance, net_change)
+SELECT d.account_id,
+       d.snapshot_date,
+       a.balance - (SUM(d.net_change) OVER (PARTITION BY d.account_id)
+           - SUM(d.net_change) OVER (PARTITION BY d.account_id ORDER BY d.snapshot_date)),
+       d.net_change
+FROM (
+         SELECT m.account_id, m.snapshot_date, SUM(m.amount) AS net_change
+         FROM (
+                  SELECT account_id,
+                         transaction_date AS snapshot_date,
+                         CASE WHEN type = 'INCOME' THEN amount ELSE -amount END AS amount
+                  FROM transactions
+                  WHERE status = 'COMPLETED'
+                  UNION ALL
+                  SELECT destination_account_id, transaction_date, amount
+                  FROM transactions
+                  WHERE status = 'COMPLETED'
+                    AND type = 'TRANSFER'
+                    AND destination_account_id IS NOT NULL
+              ) m
+         GROUP BY m.account_id, m.snapshot_date
+     ) d
+         JOIN accounts a ON a.id = d.account_id;
@@ -0,0 +1,21 @@
+CREATE TABLE outbox_events (
+                               id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+                               user_id UUID NOT NULL,
+                               event_type VARCHAR(50) NOT NULL,
+                               aggregate_id UUID NOT NULL,
+                               payload TEXT NOT NULL,
+                               attempts INT NOT NULL DEFAULT 0,
+                               last_error TEXT,
+                               created_at TIMESTAMP NOT NULL DEFAULT now(),
+                               available_at TIMESTAMP NOT NULL DEFAULT now(),
+                               processed_at TIMESTAMP
+);
+
+CREATE INDEX idx_outbox_events_pending ON outbox_events (available_at) WHERE processed_at IS NULL;
+
+CREATE TABLE outbox_consumed_events (
+                                        consumer VARCHAR(100) NOT NULL,
+                                        event_id UUID NOT NULL REFERENCES outbox_events(id) ON DELETE CASCADE,
+                                        consumed_at TIMESTAMP NOT NULL DEFAULT now(),
+                                        PRIMARY KEY (consumer, event_id)
+);
@@ -0,0 +1,90 @@
+package com.vitorsaucedo.finly.config;
+
+import com.vitorsaucedo.finly.dto.response.TransactionResponse;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Tag("benchmark")
+class ColumnarJsonBenchmarkTest {
+
+    private static final int ROWS = 1_000;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 500;
+    private static final Type TRANSACTION_PAGE = new ParameterizedTypeReference<Page<TransactionResponse>>() {}.getType();
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private final ColumnarJsonHttpMessageConverter converter = new ColumnarJsonHttpMessageConverter(objectMapper);
+
+    @Test
+    void shouldShrinkThousandRowPages() throws Exception {
+        List<TransactionResponse> rows = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(ColumnarJsonHttpMessageConverterTest.transaction("Purchase " + (i % 40),
+                    BigDecimal.valueOf(1_000 + i, 2)));
+        }
+        Page<TransactionResponse> page = new PageImpl<>(rows, PageRequest.of(0, ROWS), ROWS * 10L);
+
+        Result json = measure("json", () -> objectMapper.writeValueAsBytes(page));
+        Result columnar = measure("columnar", () -> {
+            MockHttpOutputMessage output = new MockHttpOutputMessage();
+            converter.write(page, TRANSACTION_PAGE, ColumnarJsonHttpMessageConverter.MEDIA_TYPE, output);
+            return output.getBodyAsBytes();
+        });
+
+        System.out.printf("%-10s %12s %12s %12s%n", "format", "bytes", "gzip bytes", "us/page");
+        for (Result result : List.of(json, columnar)) {
+            System.out.printf("%-10s %12d %12d %12.1f%n", result.format(), result.bytes(), result.gzipBytes(),
+                    result.micros());
+        }
+
+        assertThat(columnar.bytes()).isLessThan(json.bytes() * 2 / 3);
+        assertThat(columnar.gzipBytes()).isLessThan(json.gzipBytes());
+    }
+
+    private Result measure(String format, Serializer serializer) throws Exception {
+        byte[] body = serializer.serialize();
+        for (int i = 0; i < WARMUP; i++) {
+            serializer.serialize();
+        }
+
+        long began = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            body = serializer.serialize();
+        }
+        double micros = (System.nanoTime() - began) / 1_000.0 / ITERATIONS;
+
+        return new Result(format, body.length, gzip(body).length, micros);
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body);
+        }
+        return compressed.toByteArray();
+    }
+
+    @FunctionalInterface
+    private interface Serializer {
+        byte[] serialize() throws Exception;
+    }
+
+    private record Result(String format, int bytes, int gzipBytes, double micros) {}
+}
@@ -0,0 +1,196 @@
+package com.vitorsaucedo.finly.config;
+
+import com.vitorsaucedo.finly.domain.installment.InstallmentStatus;
+import com.vitorsaucedo.finly.domain.transaction.TransactionStatus;
+import com.vitorsaucedo.finly.domain.transaction.TransactionType;
+import com.vitorsaucedo.finly.dto.response.CursorPageResponse;
+import com.vitorsaucedo.finly.dto.response.InstallmentGroupResponse;
+import com.vitorsaucedo.finly.dto.response.InstallmentResponse;
+import com.vitorsaucedo.finly.dto.response.TransactionResponse;
+import com.vitorsaucedo.finly.util.FieldSelection;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ColumnarJsonHttpMessageConverterTest {
+
+    private static final Type TRANSACTION_PAGE = new ParameterizedTypeReference<Page<TransactionResponse>>() {}.getType();
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private final ColumnarJsonHttpMessageConverter converter = new ColumnarJsonHttpMessageConverter(objectMapper);
+
+    @Test
+    void shouldOnlyWriteWhenColumnarIsExplicitlyRequested() {
+        assertThat(converter.canWrite(TRANSACTION_PAGE, Page.class, ColumnarJsonHttpMessageConverter.MEDIA_TYPE)).isTrue();
+        assertThat(converter.canWrite(TRANSACTION_PAGE, Page.class, null)).isFalse();
+        assertThat(converter.canWrite(TRANSACTION_PAGE, Page.class, MediaType.ALL)).isFalse();
+        assertThat(converter.canWrite(TRANSACTION_PAGE, Page.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canWrite(TransactionResponse.class, TransactionResponse.class,
+                ColumnarJsonHttpMessageConverter.MEDIA_TYPE)).isFalse();
+        assertThat(converter.canRead(TRANSACTION_PAGE, null, ColumnarJsonHttpMessageConverter.MEDIA_TYPE)).isFalse();
+    }
+
+    @Test
+    void shouldWritePageAsColumnsAndRows() throws Exception {
+        TransactionResponse first = transaction("Groceries", new BigDecimal("120.50"));
+        TransactionResponse second = transaction("Rent", new BigDecimal("1800.00"));
+        Page<TransactionResponse> page = new PageImpl<>(List.of(first, second), PageRequest.of(0, 2), 5);
+
+        JsonNode json = write(page, TRANSACTION_PAGE);
+
+        assertThat(columns(json)).containsExactlyElementsOf(componentNames(TransactionResponse.class));
+        assertThat(json.get("rows")).hasSize(2);
+        JsonNode row = json.get("rows").get(0);
+        assertThat(row.get(0).asString()).isEqualTo(first.id().toString());
+        assertThat(row.get(column(json, "description")).asString()).isEqualTo("Groceries");
+        assertThat(row.get(column(json, "amount")).decimalValue()).isEqualByComparingTo("120.50");
+        assertThat(row.get(column(json, "type")).asString()).isEqualTo("EXPENSE");
+        assertThat(row.get(column(json, "transactionDate")).asString()).isEqualTo("2026-03-10");
+        assertThat(row.get(column(json, "notes")).isNull()).isTrue();
+        assertThat(json.get("totalElements").asLong()).isEqualTo(5);
+        assertThat(json.get("totalPages").asInt()).isEqualTo(3);
+        assertThat(json.get("first").asBoolean()).isTrue();
+        assertThat(json.get("last").asBoolean()).isFalse();
+    }
+
+    @Test
+    void shouldWriteSparseFieldsetRowsWithOnlyTheSelectedColumns() throws Exception {
+        FieldSelection fields = FieldSelection.parse("amount,description", TransactionResponse.class, "id");
+        TransactionResponse transaction = transaction("Groceries", new BigDecimal("120.50"));
+        Page<TransactionResponse> page = new PageImpl<>(List.of(transaction), PageRequest.of(0, 10), 1);
+
+        JsonNode json = write(new ColumnarJsonHttpMessageConverter.Selected(page, fields), TRANSACTION_PAGE);
+
+        assertThat(columns(json)).containsExactly("id", "description", "amount");
+        JsonNode row = json.get("rows").get(0);
+        assertThat(row.get(0).asString()).isEqualTo(transaction.id().toString());
+        assertThat(row.get(1).asString()).isEqualTo("Groceries");
+        assertThat(row.get(2).decimalValue()).isEqualByComparingTo("120.50");
+    }
+
+    @Test
+    void shouldKeepSelectedColumnsForEmptySparsePages() throws Exception {
+        FieldSelection fields = FieldSelection.parse("amount", TransactionResponse.class, "id");
+
+        JsonNode json = write(new ColumnarJsonHttpMessageConverter.Selected(Page.empty(), fields), TRANSACTION_PAGE);
+
+        assertThat(columns(json)).containsExactly("id", "amount");
+        assertThat(json.get("rows")).isEmpty();
+    }
+
+    @Test
+    void shouldUseMapKeysAsColumns() throws Exception {
+        List<Map<String, Object>> rows = List.of(Map.of("id", "a"), new LinkedHashMap<>(Map.of("amount", 10)));
+
+        JsonNode json = write(rows, List.class);
+
+        assertThat(columns(json)).containsExactly("id", "amount");
+        assertThat(json.get("rows").get(0).get(1).isNull()).isTrue();
+        assertThat(json.get("rows").get(1).get(1).asInt()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldKeepColumnsForEmptyPages() throws Exception {
+        JsonNode json = write(Page.empty(), TRANSACTION_PAGE);
+
+        assertThat(columns(json)).containsExactlyElementsOf(componentNames(TransactionResponse.class));
+        assertThat(json.get("rows")).isEmpty();
+        assertThat(columns(write(Page.empty(), Page.class))).isEmpty();
+    }
+
+    @Test
+    void shouldNestEmbeddedRecordListsAsTables() throws Exception {
+        UUID groupId = UUID.randomUUID();
+        List<InstallmentResponse> installments = List.of(
+                new InstallmentResponse(UUID.randomUUID(), groupId, null, 1, new BigDecimal("100.00"),
+                        LocalDate.of(2026, 3, 10), InstallmentStatus.COMPLETED, LocalDateTime.of(2026, 3, 1, 9, 0)),
+                new InstallmentResponse(UUID.randomUUID(), groupId, null, 2, new BigDecimal("100.00"),
+                        LocalDate.of(2026, 4, 10), InstallmentStatus.PENDING, LocalDateTime.of(2026, 3, 1, 9, 0)));
+        InstallmentGroupResponse group = new InstallmentGroupResponse(groupId, UUID.randomUUID(), "Card",
+                UUID.randomUUID(), "Electronics", "Laptop", new BigDecimal("200.00"), 2, 1,
+                LocalDate.of(2026, 3, 10), null, installments, LocalDateTime.of(2026, 3, 1, 9, 0));
+        Type type = new ParameterizedTypeReference<Page<InstallmentGroupResponse>>() {}.getType();
+
+        JsonNode json = write(new PageImpl<>(List.of(group)), type);
+
+        JsonNode nested = json.get("rows").get(0).get(column(json, "installments"));
+        assertThat(columns(nested)).containsExactlyElementsOf(componentNames(InstallmentResponse.class));
+        assertThat(nested.get("rows")).hasSize(2);
+        assertThat(nested.get("rows").get(1).get(column(nested, "status")).asString()).isEqualTo("PENDING");
+    }
+
+    @Test
+    void shouldWriteCursorPagesAndPlainLists() throws Exception {
+        TransactionResponse row = transaction("Coffee", new BigDecimal("8.90"));
+        Type cursorType = new ParameterizedTypeReference<CursorPageResponse<TransactionResponse>>() {}.getType();
+        Type listType = new ParameterizedTypeReference<List<TransactionResponse>>() {}.getType();
+
+        JsonNode cursorPage = write(new CursorPageResponse<>(List.of(row), "abc"), cursorType);
+        JsonNode list = write(List.of(row), listType);
+
+        assertThat(cursorPage.get("nextCursor").asString()).isEqualTo("abc");
+        assertThat(cursorPage.get("rows")).hasSize(1);
+        assertThat(list.get("rows")).hasSize(1);
+        assertThat(columns(list)).containsExactlyElementsOf(columns(cursorPage));
+    }
+
+    @Test
+    void shouldWriteNonRecordListsAsSingleColumn() throws Exception {
+        Type type = new ParameterizedTypeReference<List<String>>() {}.getType();
+
+        JsonNode json = write(List.of("BRL", "USD"), type);
+
+        assertThat(columns(json)).containsExactly("value");
+        assertThat(json.get("rows").get(1).get(0).asString()).isEqualTo("USD");
+    }
+
+    private JsonNode write(Object body, Type type) throws Exception {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(body, type, ColumnarJsonHttpMessageConverter.MEDIA_TYPE, output);
+        assertThat(output.getHeaders().getContentType()).isEqualTo(ColumnarJsonHttpMessageConverter.MEDIA_TYPE);
+        return objectMapper.readTree(output.getBodyAsBytes());
+    }
+
+    private static List<String> columns(JsonNode json) {
+        List<String> columns = new ArrayList<>();
+        for (JsonNode column : json.get("columns")) {
+            columns.add(column.asString());
+        }
+        return columns;
+    }
+
+    private static int column(JsonNode json, String name) {
+        return columns(json).indexOf(name);
+    }
+
+    private static List<String> componentNames(Class<?> type) {
+        return Arrays.stream(type.getRecordComponents()).map(RecordComponent::getName).toList();
+    }
+
+    static TransactionResponse transaction(String description, BigDecimal amount) {
+        return new TransactionResponse(UUID.randomUUID(), UUID.randomUUID(), "Checking", UUID.randomUUID(),
+                "Food", null, null, description, amount, TransactionType.EXPENSE, TransactionStatus.COMPLETED,
+                LocalDate.of(2026, 3, 10), null, LocalDateTime.of(2026, 3, 10, 12, 30));
+    }
+}
@@ -0,0 +1,86 @@
+package com.vitorsaucedo.finly.config;
+
+import com.vitorsaucedo.finly.domain.transaction.TransactionStatus;
+import com.vitorsaucedo.finly.domain.transaction.TransactionType;
+import com.vitorsaucedo.finly.dto.response.CursorPageResponse;
+import com.vitorsaucedo.finly.dto.response.ErrorResponse;
+import com.vitorsaucedo.finly.dto.response.TransactionResponse;
+import com.vitorsaucedo.finly.util.FieldSelection;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FieldSelectionResponseAdviceTest {
+
+    private final FieldSelectionResponseAdvice advice = new FieldSelectionResponseAdvice();
+    private final TransactionResponse transaction = new TransactionResponse(
+            UUID.randomUUID(), UUID.randomUUID(), "Checking", null, null, null, null,
+            "Groceries", new BigDecimal("120.50"), TransactionType.EXPENSE, TransactionStatus.COMPLETED,
+            LocalDate.of(2026, 3, 10), null, LocalDateTime.now());
+
+    @Test
+    void shouldLeaveBodyUntouchedWithoutSelection() {
+        assertThat(write(transaction, null)).isSameAs(transaction);
+        assertThat(write(transaction, FieldSelection.all())).isSameAs(transaction);
+    }
+
+    @Test
+    void shouldPruneSingleRecordAndPageRows() {
+        FieldSelection fields = FieldSelection.parse("amount", TransactionResponse.class, "id");
+
+        assertThat(write(transaction, fields))
+                .isEqualTo(Map.of("id", transaction.id(), "amount", transaction.amount()));
+        assertThat(write(new PageImpl<>(List.of(transaction)), fields))
+                .isInstanceOfSatisfying(Page.class, page -> assertThat(page.getContent().getFirst())
+                        .isEqualTo(Map.of("id", transaction.id(), "amount", transaction.amount())));
+        assertThat(write(new CursorPageResponse<>(List.of(transaction), "next"), fields))
+                .isInstanceOfSatisfying(CursorPageResponse.class, page -> {
+                    assertThat(page.nextCursor()).isEqualTo("next");
+                    assertThat(page.content()).hasSize(1).first().isInstanceOf(Map.class);
+                });
+    }
+
+    @Test
+    void shouldNotPruneErrorResponses() {
+        ErrorResponse error = new ErrorResponse(422, "Business Error", "Unknown field", LocalDateTime.now(), null);
+
+        assertThat(write(error, FieldSelection.parse("amount", TransactionResponse.class, "id"))).isSameAs(error);
+    }
+
+    @Test
+    void shouldHandRecordsAndSelectionToColumnarConverter() {
+        FieldSelection fields = FieldSelection.parse("amount", TransactionResponse.class, "id");
+        Page<TransactionResponse> page = new PageImpl<>(List.of(transaction));
+
+        assertThat(write(page, fields, ColumnarJsonHttpMessageConverter.class))
+                .isEqualTo(new ColumnarJsonHttpMessageConverter.Selected(page, fields));
+    }
+
+    private Object write(Object body, FieldSelection selection) {
+        return write(body, selection, JacksonJsonHttpMessageConverter.class);
+    }
+
+    private Object write(Object body, FieldSelection selection,
+                         Class<? extends HttpMessageConverter<?>> converterType) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (selection != null) request.setAttribute(FieldSelection.REQUEST_ATTRIBUTE, selection);
+        return advice.beforeBodyWrite(body, null, MediaType.APPLICATION_JSON, converterType,
+                new ServletServerHttpRequest(request), new ServletServerHttpResponse(new MockHttpServletResponse()));
+    }
+}
@@ -0,0 +1,61 @@
+package com.vitorsaucedo.finly.config;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.ValidateResult;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class FlywayDeferredValidationTest {
+
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    @SuppressWarnings("unchecked")
+    private final FlywayDeferredValidation validation =
+            new FlywayDeferredValidation(mock(ObjectProvider.class), eventPublisher);
+
+    @Test
+    void shouldKeepInstanceAvailableWhenValidationPasses() {
+        validation.check(flywayReturning(true));
+
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void shouldTakeInstanceOutOfServiceWhenValidationFails() {
+        validation.check(flywayReturning(false));
+
+        assertThat(publishedStates()).containsExactly(ReadinessState.REFUSING_TRAFFIC, LivenessState.BROKEN);
+    }
+
+    @Test
+    void shouldTakeInstanceOutOfServiceWhenValidationCannotRun() {
+        Flyway flyway = mock(Flyway.class);
+        when(flyway.validateWithResult()).thenThrow(new IllegalStateException("connection refused"));
+
+        validation.check(flyway);
+
+        assertThat(publishedStates()).containsExactly(ReadinessState.REFUSING_TRAFFIC, LivenessState.BROKEN);
+    }
+
+    private static Flyway flywayReturning(boolean successful) {
+        ValidateResult result = new ValidateResult("11", "finly", null, successful, 1, List.of(), List.of());
+        Flyway flyway = mock(Flyway.class);
+        when(flyway.validateWithResult()).thenReturn(result);
+        return flyway;
+    }
+
+    private List<Object> publishedStates() {
+        ArgumentCaptor<AvailabilityChangeEvent<?>> events = ArgumentCaptor.captor();
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        return events.getAllValues().stream().<Object>map(AvailabilityChangeEvent::getState).toList();
+    }
+}
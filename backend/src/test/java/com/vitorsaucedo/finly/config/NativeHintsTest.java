@@ -0,0 +1,54 @@
+package com.vitorsaucedo.finly.config;
+
+import com.nimbusds.jose.jwk.RSAKey;
+import com.vitorsaucedo.finly.domain.transaction.TransactionChangedPayload;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.*;
+
+class NativeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new NativeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void shouldRegisterEntitiesForHibernate() {
+        NativeHints.ENTITIES.forEach(type -> assertThat(RuntimeHintsPredicates.reflection()
+                .onType(type).withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.ACCESS_DECLARED_FIELDS))
+                .accepts(hints));
+    }
+
+    @Test
+    void shouldRegisterNamedEnums() {
+        NativeHints.NAMED_ENUMS.forEach(type -> assertThat(RuntimeHintsPredicates.reflection()
+                .onType(type).withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS))
+                .accepts(hints));
+    }
+
+    @Test
+    void shouldRegisterOutboxPayloadsForJsonBinding() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(TransactionChangedPayload.class)).accepts(hints);
+    }
+
+    @Test
+    void shouldRegisterNimbusKeyTypes() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(RSAKey.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS)).accepts(hints);
+    }
+
+    @Test
+    void shouldRegisterPemKeysAsResources() {
+        assertThat(RuntimeHintsPredicates.resource().forResource("certs/public.pem")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("certs/private.pem")).accepts(hints);
+    }
+}
@@ -0,0 +1,47 @@
+package com.vitorsaucedo.finly.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ReadReplicaDataSourcePostProcessorTest {
+
+    private final HikariDataSource primary = new HikariDataSource();
+    private final ReadReplicaDataSourcePostProcessor postProcessor = new ReadReplicaDataSourcePostProcessor();
+
+    @AfterEach
+    void tearDown() {
+        postProcessor.destroy();
+        primary.close();
+    }
+
+    @Test
+    void shouldKeepPrimaryWhenReplicaIsNotConfigured() {
+        postProcessor.setEnvironment(new MockEnvironment());
+
+        assertThat(postProcessor.postProcessAfterInitialization(primary, "dataSource")).isSameAs(primary);
+    }
+
+    @Test
+    void shouldRouteWhenReplicaUrlIsSetAtRuntime() {
+        postProcessor.setEnvironment(new MockEnvironment()
+                .withProperty("app.datasource.replica.url", "jdbc:postgresql://replica:5432/finly"));
+
+        Object routed = postProcessor.postProcessAfterInitialization(primary, "dataSource");
+
+        assertThat(routed).isInstanceOfSatisfying(LazyConnectionDataSourceProxy.class,
+                proxy -> assertThat(proxy.getTargetDataSource()).isInstanceOf(ReadReplicaRoutingDataSource.class));
+    }
+
+    @Test
+    void shouldOnlyWrapThePrimaryDataSourceBean() {
+        postProcessor.setEnvironment(new MockEnvironment()
+                .withProperty("app.datasource.replica.url", "jdbc:postgresql://replica:5432/finly"));
+
+        assertThat(postProcessor.postProcessAfterInitialization(primary, "otherDataSource")).isSameAs(primary);
+    }
+}
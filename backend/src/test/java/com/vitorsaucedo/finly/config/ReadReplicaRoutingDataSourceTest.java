@@ -0,0 +1,94 @@
+package com.vitorsaucedo.finly.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ReadReplicaRoutingDataSourceTest {
+
+    private ReadReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReadReplicaRoutingDataSource(new ReplicaLagGuard(Duration.ofMinutes(1)));
+
+        TestingAuthenticationToken authentication = new TestingAuthenticationToken("user-1", null);
+        authentication.setAuthenticated(true);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void shouldRouteReadOnlyTransactionsToReplica() {
+        beginTransaction(true);
+
+        assertThat(routingDataSource.determineCurrentLookupKey())
+                .isEqualTo(ReadReplicaRoutingDataSource.Route.REPLICA);
+    }
+
+    @Test
+    void shouldRouteWritesToPrimary() {
+        beginTransaction(false);
+
+        assertThat(routingDataSource.determineCurrentLookupKey())
+                .isEqualTo(ReadReplicaRoutingDataSource.Route.PRIMARY);
+    }
+
+    @Test
+    void shouldRouteConnectionsOutsideTransactionsToPrimary() {
+        assertThat(routingDataSource.determineCurrentLookupKey())
+                .isEqualTo(ReadReplicaRoutingDataSource.Route.PRIMARY);
+    }
+
+    @Test
+    void shouldKeepUserReadsOnPrimaryRightAfterTheirWriteCommits() {
+        beginTransaction(false);
+        routingDataSource.determineCurrentLookupKey();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        beginTransaction(true);
+
+        assertThat(routingDataSource.determineCurrentLookupKey())
+                .isEqualTo(ReadReplicaRoutingDataSource.Route.PRIMARY);
+    }
+
+    @Test
+    void shouldNotStickOtherUsersToPrimary() {
+        beginTransaction(false);
+        routingDataSource.determineCurrentLookupKey();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TestingAuthenticationToken other = new TestingAuthenticationToken("user-2", null);
+        other.setAuthenticated(true);
+        SecurityContextHolder.getContext().setAuthentication(other);
+        beginTransaction(true);
+
+        assertThat(routingDataSource.determineCurrentLookupKey())
+                .isEqualTo(ReadReplicaRoutingDataSource.Route.REPLICA);
+    }
+
+    private void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+}
@@ -0,0 +1,104 @@
+package com.vitorsaucedo.finly.domain.account;
+
+import com.vitorsaucedo.finly.dto.response.BalanceHistoryResponse;
+import com.vitorsaucedo.finly.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceHistoryServiceTest {
+
+    @Mock private AccountBalanceSnapshotRepository snapshotRepository;
+    @Mock private AccountService accountService;
+
+    @InjectMocks
+    private BalanceHistoryService balanceHistoryService;
+
+    private UUID userId;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        account = Account.builder()
+                .id(UUID.randomUUID())
+                .name("Checking")
+                .type(AccountType.CHECKING)
+                .balance(new BigDecimal("1000.00"))
+                .currency("BRL")
+                .build();
+    }
+
+    @Test
+    void shouldInsertSnapshotAndShiftLaterDays() {
+        LocalDate date = LocalDate.of(2026, 3, 10);
+
+        balanceHistoryService.recordChange(account, date, new BigDecimal("-50.00"));
+
+        verify(snapshotRepository).insertIfAbsent(account.getId(), date, new BigDecimal("1050.00"));
+        verify(snapshotRepository).shiftFrom(account.getId(), date, new BigDecimal("-50.00"));
+    }
+
+    @Test
+    void shouldCarryBalanceForwardBetweenSnapshots() {
+        LocalDate from = LocalDate.of(2026, 3, 1);
+        LocalDate to = LocalDate.of(2026, 3, 4);
+
+        when(accountService.getAccount(account.getId(), userId)).thenReturn(account);
+        when(snapshotRepository.findClosingBalanceBefore(account.getId(), from))
+                .thenReturn(Optional.of(new BigDecimal("800.00")));
+        when(snapshotRepository.findAllByAccountIdAndSnapshotDateBetweenOrderBySnapshotDateAsc(account.getId(), from, to))
+                .thenReturn(List.of(AccountBalanceSnapshot.builder()
+                        .account(account)
+                        .snapshotDate(LocalDate.of(2026, 3, 3))
+                        .balance(new BigDecimal("900.00"))
+                        .netChange(new BigDecimal("100.00"))
+                        .build()));
+
+        List<BalanceHistoryResponse> history = balanceHistoryService.getHistory(account.getId(), userId, from, to);
+
+        assertThat(history).hasSize(4);
+        assertThat(history.get(0).balance()).isEqualByComparingTo("800.00");
+        assertThat(history.get(1).balance()).isEqualByComparingTo("800.00");
+        assertThat(history.get(2).balance()).isEqualByComparingTo("900.00");
+        assertThat(history.get(3).balance()).isEqualByComparingTo("900.00");
+    }
+
+    @Test
+    void shouldUseCurrentBalanceWhenAccountHasNoSnapshots() {
+        LocalDate from = LocalDate.of(2026, 3, 1);
+        LocalDate to = LocalDate.of(2026, 3, 2);
+
+        when(accountService.getAccount(account.getId(), userId)).thenReturn(account);
+        when(snapshotRepository.findClosingBalanceBefore(account.getId(), from)).thenReturn(Optional.empty());
+        when(snapshotRepository.findOpeningBalanceFrom(account.getId(), from)).thenReturn(Optional.empty());
+        when(snapshotRepository.findAllByAccountIdAndSnapshotDateBetweenOrderBySnapshotDateAsc(account.getId(), from, to))
+                .thenReturn(List.of());
+
+        List<BalanceHistoryResponse> history = balanceHistoryService.getHistory(account.getId(), userId, from, to);
+
+        assertThat(history).extracting(BalanceHistoryResponse::balance)
+                .allSatisfy(balance -> assertThat(balance).isEqualByComparingTo("1000.00"));
+    }
+
+    @Test
+    void shouldThrowWhenRangeIsInverted() {
+        assertThatThrownBy(() -> balanceHistoryService.getHistory(
+                account.getId(), userId, LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 1)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Start date must be before end date");
+    }
+}
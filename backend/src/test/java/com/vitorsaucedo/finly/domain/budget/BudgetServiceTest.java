@@ -3,6 +3,7 @@ package com.vitorsaucedo.finly.domain.budget;
 import com.vitorsaucedo.finly.domain.category.Category;
 import com.vitorsaucedo.finly.domain.category.CategoryService;
 import com.vitorsaucedo.finly.domain.category.CategoryType;
+import com.vitorsaucedo.finly.domain.transaction.TransactionRepository;
 import com.vitorsaucedo.finly.domain.user.User;
 import com.vitorsaucedo.finly.domain.user.UserService;
 import com.vitorsaucedo.finly.dto.request.BudgetRequest;
@@ -15,8 +16,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -30,6 +33,8 @@ class BudgetServiceTest {
     @Mock private BudgetRepository budgetRepository;
     @Mock private UserService userService;
     @Mock private CategoryService categoryService;
+    @Mock private TransactionRepository transactionRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private BudgetService budgetService;
@@ -92,7 +97,7 @@ class BudgetServiceTest {
     }
 
     @Test
-    void shouldUpdateSpentAmountAndSetExceededStatus() {
+    void shouldRecalculateSpentAmountAndSetExceededStatus() {
         Budget budget = Budget.builder()
                 .id(UUID.randomUUID())
                 .user(user)
@@ -106,12 +111,17 @@ class BudgetServiceTest {
 
         when(budgetRepository.findByUserIdAndCategoryIdAndMonthAndYear(userId, category.getId(), 1, 2026))
                 .thenReturn(Optional.of(budget));
+        when(transactionRepository.sumCompletedExpensesByCategory(
+                userId, category.getId(), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31)))
+                .thenReturn(new BigDecimal("550.00"));
 
-        budgetService.updateSpentAmount(userId, category.getId(), 1, 2026, new BigDecimal("100.00"));
+        budgetService.recalculateSpent(userId, category.getId(), 1, 2026);
 
         assertThat(budget.getSpent()).isEqualByComparingTo("550.00");
         assertThat(budget.getStatus()).isEqualTo(BudgetStatus.EXCEEDED);
         verify(budgetRepository).save(budget);
+        verify(eventPublisher).publishEvent(new BudgetChangedEvent(
+                userId, budget.getId(), budget.getSpent(), BudgetStatus.EXCEEDED));
     }
 
     @Test
@@ -129,13 +139,41 @@ class BudgetServiceTest {
 
         when(budgetRepository.findByUserIdAndCategoryIdAndMonthAndYear(userId, category.getId(), 1, 2026))
                 .thenReturn(Optional.of(budget));
+        when(transactionRepository.sumCompletedExpensesByCategory(
+                userId, category.getId(), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31)))
+                .thenReturn(new BigDecimal("150.00"));
 
-        budgetService.updateSpentAmount(userId, category.getId(), 1, 2026, new BigDecimal("50.00"));
+        budgetService.recalculateSpent(userId, category.getId(), 1, 2026);
 
         assertThat(budget.getSpent()).isEqualByComparingTo("150.00");
         assertThat(budget.getStatus()).isEqualTo(BudgetStatus.ACTIVE);
     }
 
+    @Test
+    void shouldSkipSaveWhenRecalculatedSpentIsUnchanged() {
+        Budget budget = Budget.builder()
+                .id(UUID.randomUUID())
+                .user(user)
+                .category(category)
+                .amount(new BigDecimal("500.00"))
+                .spent(new BigDecimal("100.00"))
+                .month(1)
+                .year(2026)
+                .status(BudgetStatus.ACTIVE)
+                .build();
+
+        when(budgetRepository.findByUserIdAndCategoryIdAndMonthAndYear(userId, category.getId(), 1, 2026))
+                .thenReturn(Optional.of(budget));
+        when(transactionRepository.sumCompletedExpensesByCategory(
+                userId, category.getId(), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31)))
+                .thenReturn(new BigDecimal("100.00"));
+
+        budgetService.recalculateSpent(userId, category.getId(), 1, 2026);
+
+        verify(budgetRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
     @Test
     void shouldThrowWhenBudgetNotFound() {
         UUID id = UUID.randomUUID();
@@ -0,0 +1,252 @@
+package com.vitorsaucedo.finly.domain.dashboard;
+
+import com.vitorsaucedo.finly.config.DashboardConfig;
+import com.vitorsaucedo.finly.domain.account.AccountService;
+import com.vitorsaucedo.finly.domain.account.AccountType;
+import com.vitorsaucedo.finly.domain.budget.BudgetService;
+import com.vitorsaucedo.finly.domain.fx.FxConversion;
+import com.vitorsaucedo.finly.domain.fx.FxService;
+import com.vitorsaucedo.finly.domain.goal.GoalService;
+import com.vitorsaucedo.finly.domain.transaction.CurrencyTotal;
+import com.vitorsaucedo.finly.domain.transaction.TransactionRepository;
+import com.vitorsaucedo.finly.domain.transaction.TransactionType;
+import com.vitorsaucedo.finly.dto.response.AccountResponse;
+import com.vitorsaucedo.finly.dto.response.DashboardResponse;
+import com.vitorsaucedo.finly.util.FieldSelection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceTest {
+
+    private static final long SECTION_LATENCY_MS = 200;
+
+    @Mock private AccountService accountService;
+    @Mock private BudgetService budgetService;
+    @Mock private GoalService goalService;
+    @Mock private TransactionRepository transactionRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private FxService fxService;
+
+    private DashboardSectionExecutor sectionExecutor;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+
+        lenient().when(fxService.baseCurrency(userId)).thenReturn("BRL");
+        lenient().when(fxService.findConversion("BRL", "BRL")).thenReturn(Optional.of(FxConversion.IDENTITY));
+    }
+
+    @AfterEach
+    void tearDown() {
+        sectionExecutor.shutdown();
+    }
+
+    @Test
+    void shouldComputeSectionsSequentiallyByDefault() {
+        DashboardService dashboardService = dashboardService(new DashboardConfig(false, null, null));
+        stubSections(0);
+
+        DashboardResponse response = dashboardService.getDashboard(userId, FieldSelection.all());
+
+        assertThat(response.baseCurrency()).isEqualTo("BRL");
+        assertThat(response.totalBalance()).isEqualByComparingTo("1500.00");
+        assertThat(response.totalIncome()).isEqualByComparingTo("3000.00");
+        assertThat(response.totalExpenses()).isEqualByComparingTo("1200.00");
+        assertThat(response.netBalance()).isEqualByComparingTo("1800.00");
+        assertThat(response.unavailableSections()).isEmpty();
+        verify(accountService, times(1)).findAll(userId);
+    }
+
+    @Test
+    void shouldTakeRoughlyTheSlowestSectionWhenParallel() {
+        DashboardService dashboardService = dashboardService(new DashboardConfig(true, 5, Duration.ofSeconds(5)));
+        stubSections(SECTION_LATENCY_MS);
+
+        long start = System.nanoTime();
+        DashboardResponse response = dashboardService.getDashboard(userId, FieldSelection.all());
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertThat(response.totalBalance()).isEqualByComparingTo("1500.00");
+        assertThat(response.netBalance()).isEqualByComparingTo("1800.00");
+        assertThat(response.unavailableSections()).isEmpty();
+        assertThat(elapsedMs).isLessThan(SECTION_LATENCY_MS * 5 / 2);
+    }
+
+    @Test
+    void shouldReturnPartialResultWhenSectionTimesOut() {
+        DashboardService dashboardService = dashboardService(new DashboardConfig(true, 5, Duration.ofMillis(100)));
+        stubSections(0);
+        when(goalService.findAll(userId)).thenAnswer(delayed(List.of(), 1_000));
+
+        DashboardResponse response = dashboardService.getDashboard(userId, FieldSelection.all());
+
+        assertThat(response.goals()).isNull();
+        assertThat(response.unavailableSections()).containsExactly("goals");
+        assertThat(response.totalBalance()).isEqualByComparingTo("1500.00");
+    }
+
+    @Test
+    void shouldLeaveTotalsEmptyInsteadOfZeroWhenTheirSectionTimesOut() {
+        DashboardService dashboardService = dashboardService(new DashboardConfig(true, 5, Duration.ofMillis(100)));
+        stubSections(0);
+        when(transactionRepository.sumByUserIdAndMonthAndYearPerCurrency(eq(userId), anyInt(), anyInt()))
+                .thenAnswer(delayed(List.of(), 1_000));
+
+        DashboardResponse response = dashboardService.getDashboard(userId, FieldSelection.all());
+
+        assertThat(response.unavailableSections()).containsExactly("monthlyTotals");
+        assertThat(response.totalIncome()).isNull();
+        assertThat(response.totalExpenses()).isNull();
+        assertThat(response.netBalance()).isNull();
+        assertThat(response.totalBalance()).isEqualByComparingTo("1500.00");
+    }
+
+    @Test
+    void shouldBoundSectionQueriesByTransactionTimeout() {
+        DashboardService dashboardService = dashboardService(new DashboardConfig(true, 5, Duration.ofMillis(1500)));
+        stubSections(0);
+
+        dashboardService.getDashboard(userId, FieldSelection.parse("goals", DashboardResponse.class));
+
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertThat(definition.getValue().isReadOnly()).isTrue();
+        assertThat(definition.getValue().getTimeout()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldOnlyComputeRequestedSections() {
+        DashboardService dashboardService = dashboardService(new DashboardConfig(false, null, null));
+        stubSections(0);
+        FieldSelection fields = FieldSelection.parse("totalBalance,goals", DashboardResponse.class);
+
+        DashboardResponse response = dashboardService.getDashboard(userId, fields);
+
+        assertThat(response.totalBalance()).isEqualByComparingTo("1500.00");
+        verify(accountService).findAll(userId);
+        verify(goalService).findAll(userId);
+        verifyNoInteractions(budgetService);
+        verify(transactionRepository, never()).sumByUserIdAndMonthAndYearPerCurrency(any(), anyInt(), anyInt());
+        verify(transactionRepository, never()).findRecentResponsesByUserId(any());
+    }
+
+    @Test
+    void shouldSkipUnrequestedSectionsWhenParallel() {
+        DashboardService dashboardService = dashboardService(new DashboardConfig(true, 5, Duration.ofSeconds(5)));
+        stubSections(0);
+        FieldSelection fields = FieldSelection.parse("netBalance", DashboardResponse.class);
+
+        DashboardResponse response = dashboardService.getDashboard(userId, fields);
+
+        assertThat(response.netBalance()).isEqualByComparingTo("1800.00");
+        assertThat(response.unavailableSections()).isEmpty();
+        verifyNoInteractions(accountService, budgetService, goalService);
+        verify(transactionRepository, never()).findRecentResponsesByUserId(any());
+    }
+
+    @Test
+    void shouldConvertForeignCurrencyTotalsToBaseCurrency() {
+        DashboardService dashboardService = dashboardService(new DashboardConfig(false, null, null));
+        stubSections(0);
+        FxConversion usdToBrl = mock(FxConversion.class);
+        when(usdToBrl.tryConvert(any(), any())).thenAnswer(inv ->
+                Optional.of(inv.<BigDecimal>getArgument(0).multiply(new BigDecimal("5.00"))));
+        when(fxService.findConversion("USD", "BRL")).thenReturn(Optional.of(usdToBrl));
+
+        when(accountService.findAll(userId)).thenReturn(List.of(
+                new AccountResponse(UUID.randomUUID(), "Checking", AccountType.CHECKING,
+                        new BigDecimal("1000.00"), "BRL", LocalDateTime.now()),
+                new AccountResponse(UUID.randomUUID(), "Broker", AccountType.INVESTMENT,
+                        new BigDecimal("100.00"), "USD", LocalDateTime.now())));
+        when(transactionRepository.sumByUserIdAndMonthAndYearPerCurrency(eq(userId), anyInt(), anyInt()))
+                .thenReturn(List.of(
+                        new CurrencyTotal("BRL", TransactionType.INCOME, new BigDecimal("3000.00")),
+                        new CurrencyTotal("USD", TransactionType.EXPENSE, new BigDecimal("20.00"))));
+
+        DashboardResponse response = dashboardService.getDashboard(userId, FieldSelection.all());
+
+        assertThat(response.totalBalance()).isEqualByComparingTo("1500.00");
+        assertThat(response.totalIncome()).isEqualByComparingTo("3000.00");
+        assertThat(response.totalExpenses()).isEqualByComparingTo("100.00");
+    }
+
+    @Test
+    void shouldReportTotalsAsUnavailableWhenAccountCurrencyHasNoRates() {
+        DashboardService dashboardService = dashboardService(new DashboardConfig(false, null, null));
+        stubSections(0);
+        when(fxService.findConversion("JPY", "BRL")).thenReturn(Optional.empty());
+
+        when(accountService.findAll(userId)).thenReturn(List.of(
+                new AccountResponse(UUID.randomUUID(), "Checking", AccountType.CHECKING,
+                        new BigDecimal("1000.00"), "BRL", LocalDateTime.now()),
+                new AccountResponse(UUID.randomUUID(), "Travel", AccountType.WALLET,
+                        new BigDecimal("5000.00"), "JPY", LocalDateTime.now())));
+        when(transactionRepository.sumByUserIdAndMonthAndYearPerCurrency(eq(userId), anyInt(), anyInt()))
+                .thenReturn(List.of(
+                        new CurrencyTotal("BRL", TransactionType.INCOME, new BigDecimal("3000.00")),
+                        new CurrencyTotal("JPY", TransactionType.EXPENSE, new BigDecimal("800.00"))));
+
+        DashboardResponse response = dashboardService.getDashboard(userId, FieldSelection.all());
+
+        assertThat(response.totalBalance()).isNull();
+        assertThat(response.totalIncome()).isNull();
+        assertThat(response.netBalance()).isNull();
+        assertThat(response.accounts()).hasSize(2);
+        assertThat(response.unavailableSections()).containsExactly("totalBalance", "monthlyTotals");
+    }
+
+    private DashboardService dashboardService(DashboardConfig config) {
+        sectionExecutor = new DashboardSectionExecutor(config, transactionManager);
+        return new DashboardService(accountService, budgetService, goalService, transactionRepository,
+                sectionExecutor, fxService);
+    }
+
+    private void stubSections(long latencyMs) {
+        List<AccountResponse> accounts = List.of(
+                new AccountResponse(UUID.randomUUID(), "Checking", AccountType.CHECKING,
+                        new BigDecimal("1000.00"), "BRL", LocalDateTime.now()),
+                new AccountResponse(UUID.randomUUID(), "Wallet", AccountType.WALLET,
+                        new BigDecimal("500.00"), "BRL", LocalDateTime.now())
+        );
+
+        lenient().when(accountService.findAll(userId)).thenAnswer(delayed(accounts, latencyMs));
+        lenient().when(transactionRepository.sumByUserIdAndMonthAndYearPerCurrency(eq(userId), anyInt(), anyInt()))
+                .thenAnswer(delayed(List.of(
+                        new CurrencyTotal("BRL", TransactionType.INCOME, new BigDecimal("3000.00")),
+                        new CurrencyTotal("BRL", TransactionType.EXPENSE, new BigDecimal("1200.00"))), latencyMs));
+        lenient().when(budgetService.findAllByMonthAndYear(eq(userId), anyInt(), anyInt()))
+                .thenAnswer(delayed(List.of(), latencyMs));
+        lenient().when(goalService.findAll(userId)).thenAnswer(delayed(List.of(), latencyMs));
+        lenient().when(transactionRepository.findRecentResponsesByUserId(userId))
+                .thenAnswer(delayed(List.of(), latencyMs));
+    }
+
+    private static <T> Answer<T> delayed(T value, long latencyMs) {
+        return invocation -> {
+            Thread.sleep(latencyMs);
+            return value;
+        };
+    }
+}
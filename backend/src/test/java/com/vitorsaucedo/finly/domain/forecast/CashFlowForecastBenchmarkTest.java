@@ -0,0 +1,104 @@
+package com.vitorsaucedo.finly.domain.forecast;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CashFlowForecastService.class, ForecastRepository.class, ForecastCache.class})
+@Testcontainers(disabledWithoutDocker = true)
+class CashFlowForecastBenchmarkTest {
+
+    private static final UUID USER_ID = UUID.fromString("00000000-0000-0000-0000-0000000000f1");
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASURED_ITERATIONS = 50;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+    @Autowired private CashFlowForecastService forecastService;
+    @Autowired private ForecastCache cache;
+    @Autowired private EntityManager entityManager;
+
+    @BeforeEach
+    void seed() {
+        entityManager.createNativeQuery("""
+                INSERT INTO users (id, name, email, password)
+                VALUES ('00000000-0000-0000-0000-0000000000f1', 'Bench', 'forecast@finly.local', 'x')
+                """).executeUpdate();
+        entityManager.createNativeQuery("""
+                INSERT INTO accounts (id, user_id, name, type, balance)
+                SELECT ('00000000-0000-0000-0001-' || lpad(a::text, 12, '0'))::uuid,
+                       '00000000-0000-0000-0000-0000000000f1', 'Account ' || a, 'CHECKING', 5000
+                FROM generate_series(0, 4) a
+                """).executeUpdate();
+        entityManager.createNativeQuery("""
+                INSERT INTO transactions (user_id, account_id, description, amount, type, status, transaction_date)
+                SELECT '00000000-0000-0000-0000-0000000000f1',
+                       ('00000000-0000-0000-0001-' || lpad((g % 5)::text, 12, '0'))::uuid,
+                       CASE WHEN g % 50 = 0 THEN 'Subscription ' || (g % 40) ELSE 'Purchase ' || g END,
+                       (g % 300) + 0.9,
+                       'EXPENSE',
+                       (CASE WHEN g % 400 = 0 THEN 'PENDING' ELSE 'COMPLETED' END)::transaction_status,
+                       CURRENT_DATE - (g % 1095) + CASE WHEN g % 400 = 0 THEN 1095 ELSE 0 END
+                FROM generate_series(1, 100000) g
+                """).executeUpdate();
+        entityManager.createNativeQuery("ANALYZE").executeUpdate();
+        entityManager.flush();
+    }
+
+    @Test
+    void coldForecastShouldFinishWithinFiftyMilliseconds() {
+        long[] cold = new long[MEASURED_ITERATIONS];
+        long[] warm = new long[MEASURED_ITERATIONS];
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            invalidate();
+            forecastService.forecast(USER_ID, 90);
+        }
+
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            invalidate();
+            long start = System.nanoTime();
+            forecastService.forecast(USER_ID, 90);
+            cold[i] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            forecastService.forecast(USER_ID, 90);
+            warm[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(cold);
+        Arrays.sort(warm);
+        System.out.printf("forecast cold p50=%.2fms p95=%.2fms, warm p50=%.2fms p95=%.2fms%n",
+                millis(cold, 0.5), millis(cold, 0.95), millis(warm, 0.5), millis(warm, 0.95));
+
+        assertThat(millis(cold, 0.95)).isLessThan(50.0);
+    }
+
+    private void invalidate() {
+        cache.invalidatePatterns(USER_ID);
+        cache.invalidateScheduledFlows(USER_ID);
+    }
+
+    private static double millis(long[] sorted, double percentile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.floor(percentile * sorted.length))] / 1e6;
+    }
+}
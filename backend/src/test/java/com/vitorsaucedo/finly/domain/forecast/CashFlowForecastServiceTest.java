@@ -0,0 +1,117 @@
+package com.vitorsaucedo.finly.domain.forecast;
+
+import com.vitorsaucedo.finly.domain.account.Account;
+import com.vitorsaucedo.finly.domain.account.AccountRepository;
+import com.vitorsaucedo.finly.domain.account.AccountType;
+import com.vitorsaucedo.finly.dto.response.CashFlowForecastResponse;
+import com.vitorsaucedo.finly.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CashFlowForecastServiceTest {
+
+    @Mock private AccountRepository accountRepository;
+    @Mock private ForecastRepository forecastRepository;
+
+    private ForecastCache cache;
+    private CashFlowForecastService forecastService;
+    private UUID userId;
+    private Account account;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ForecastCache();
+        forecastService = new CashFlowForecastService(accountRepository, forecastRepository, cache);
+        userId = UUID.randomUUID();
+        today = LocalDate.now();
+
+        account = Account.builder()
+                .id(UUID.randomUUID())
+                .name("Checking")
+                .type(AccountType.CHECKING)
+                .balance(new BigDecimal("1000.00"))
+                .currency("BRL")
+                .build();
+
+        lenient().when(accountRepository.findAllByUserId(userId)).thenReturn(List.of(account));
+    }
+
+    @Test
+    void shouldApplyScheduledFlowsOnTheirDueDates() {
+        when(forecastRepository.findScheduledFlows(eq(userId), any(), any())).thenReturn(List.of(
+                new ScheduledFlow(account.getId(), today, new BigDecimal("-100.00"), null),
+                new ScheduledFlow(account.getId(), today.plusDays(10), new BigDecimal("-300.00"), null),
+                new ScheduledFlow(account.getId(), today.plusDays(20), new BigDecimal("500.00"), "freelance")
+        ));
+        when(forecastRepository.findRecurringPatterns(eq(userId), any(), any(), anyInt(), anyInt(), anyInt()))
+                .thenReturn(List.of());
+
+        CashFlowForecastResponse forecast = forecastService.forecast(userId, 30);
+        CashFlowForecastResponse.AccountForecast accountForecast = forecast.accounts().getFirst();
+
+        assertThat(accountForecast.days()).hasSize(31);
+        assertThat(accountForecast.days().getFirst().balance()).isEqualByComparingTo("900.00");
+        assertThat(accountForecast.days().get(10).balance()).isEqualByComparingTo("600.00");
+        assertThat(accountForecast.lowestBalance()).isEqualByComparingTo("600.00");
+        assertThat(accountForecast.lowestBalanceDate()).isEqualTo(today.plusDays(10));
+        assertThat(accountForecast.projectedBalance()).isEqualByComparingTo("1100.00");
+        assertThat(forecast.projectedBalance()).isEqualByComparingTo("1100.00");
+    }
+
+    @Test
+    void shouldProjectRecurringPatternsUnlessAPendingTransactionCoversThem() {
+        when(forecastRepository.findScheduledFlows(eq(userId), any(), any())).thenReturn(List.of(
+                new ScheduledFlow(account.getId(), today.plusDays(31), new BigDecimal("-1500.00"), "rent")
+        ));
+        when(forecastRepository.findRecurringPatterns(eq(userId), any(), any(), anyInt(), anyInt(), anyInt()))
+                .thenReturn(List.of(
+                        new RecurringPattern(account.getId(), "rent", new BigDecimal("-1500.00"), 30, today.minusDays(29)),
+                        new RecurringPattern(account.getId(), "salary", new BigDecimal("4000.00"), 30, today.minusDays(25))
+                ));
+
+        CashFlowForecastResponse forecast = forecastService.forecast(userId, 60);
+
+        assertThat(forecast.accounts().getFirst().projectedBalance())
+                .isEqualByComparingTo(new BigDecimal("1000.00")
+                        .add(new BigDecimal("-1500.00").multiply(BigDecimal.valueOf(2)))
+                        .add(new BigDecimal("4000.00").multiply(BigDecimal.valueOf(2))));
+    }
+
+    @Test
+    void shouldReuseCachedInputsUntilInvalidated() {
+        when(forecastRepository.findScheduledFlows(eq(userId), any(), any())).thenReturn(List.of());
+        when(forecastRepository.findRecurringPatterns(eq(userId), any(), any(), anyInt(), anyInt(), anyInt()))
+                .thenReturn(List.of());
+
+        forecastService.forecast(userId, 90);
+        forecastService.forecast(userId, 30);
+        cache.invalidateScheduledFlows(userId);
+        forecastService.forecast(userId, 90);
+
+        verify(forecastRepository, times(2)).findScheduledFlows(eq(userId), any(), any());
+        verify(forecastRepository, times(1))
+                .findRecurringPatterns(eq(userId), any(), any(), anyInt(), anyInt(), anyInt());
+        verify(accountRepository, times(3)).findAllByUserId(userId);
+    }
+
+    @Test
+    void shouldRejectHorizonBeyondNinetyDays() {
+        assertThatThrownBy(() -> forecastService.forecast(userId, 91))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Forecast horizon must be between 1 and 90 days");
+    }
+}
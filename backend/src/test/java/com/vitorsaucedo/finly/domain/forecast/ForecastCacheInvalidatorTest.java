@@ -0,0 +1,117 @@
+package com.vitorsaucedo.finly.domain.forecast;
+
+import com.vitorsaucedo.finly.config.OutboxConfig;
+import com.vitorsaucedo.finly.outbox.OutboxEvent;
+import com.vitorsaucedo.finly.outbox.OutboxEventConsumer;
+import com.vitorsaucedo.finly.outbox.OutboxEventRepository;
+import com.vitorsaucedo.finly.outbox.OutboxEventType;
+import com.vitorsaucedo.finly.outbox.OutboxRelay;
+import com.vitorsaucedo.finly.outbox.OutboxService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ForecastCacheInvalidatorTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 15);
+
+    @Mock private OutboxEventRepository sharedOutbox;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private OutboxService outboxService;
+    @Mock private OutboxEventConsumer budgetConsumer;
+
+    private OutboxEvent event;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        lenient().when(budgetConsumer.name()).thenReturn("budget-recalculation");
+        lenient().when(budgetConsumer.eventTypes()).thenReturn(Set.of(OutboxEventType.INSTALLMENT_PAID));
+
+        event = OutboxEvent.builder()
+                .id(UUID.randomUUID())
+                .userId(USER_ID)
+                .eventType(OutboxEventType.INSTALLMENT_PAID)
+                .aggregateId(UUID.randomUUID())
+                .payload("{}")
+                .createdAt(LocalDateTime.now())
+                .availableAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    void shouldInvalidateForecastCacheOnEveryInstanceSharingTheOutbox() {
+        ForecastCache firstCache = new ForecastCache();
+        ForecastCache secondCache = new ForecastCache();
+        OutboxRelay first = relay(firstCache);
+        OutboxRelay second = relay(secondCache);
+        AtomicInteger firstLoads = new AtomicInteger();
+        AtomicInteger secondLoads = new AtomicInteger();
+        load(firstCache, firstLoads);
+        load(secondCache, secondLoads);
+
+        when(sharedOutbox.lockNextBatch(any(), anyInt())).thenReturn(List.of(event), List.of());
+        when(sharedOutbox.findById(event.getId())).thenReturn(Optional.of(event));
+        when(sharedOutbox.markConsumed("budget-recalculation", event.getId())).thenReturn(1);
+        when(sharedOutbox.findCreatedSince(any(), any())).thenReturn(List.of(event));
+
+        first.relay();
+        second.relay();
+        first.broadcast();
+        second.broadcast();
+        load(firstCache, firstLoads);
+        load(secondCache, secondLoads);
+
+        assertThat(firstLoads).hasValue(2);
+        assertThat(secondLoads).hasValue(2);
+        verify(budgetConsumer, times(1)).consume(event);
+        verify(sharedOutbox, never()).markConsumed(eq("forecast-cache"), any());
+    }
+
+    @Test
+    void shouldNotInvalidateAgainWhenTheSameEventIsReadInTheOverlapWindow() {
+        ForecastCache cache = new ForecastCache();
+        OutboxRelay relay = relay(cache);
+        AtomicInteger loads = new AtomicInteger();
+        when(sharedOutbox.findCreatedSince(any(), any())).thenReturn(List.of(event));
+
+        relay.broadcast();
+        load(cache, loads);
+        relay.broadcast();
+        load(cache, loads);
+
+        assertThat(loads).hasValue(1);
+    }
+
+    private OutboxRelay relay(ForecastCache cache) {
+        ForecastCacheInvalidator invalidator = new ForecastCacheInvalidator(cache, outboxService);
+        return new OutboxRelay(sharedOutbox, List.of(budgetConsumer, invalidator), transactionManager,
+                new SimpleMeterRegistry(), new OutboxConfig(10, null, null, null, null, null));
+    }
+
+    private static void load(ForecastCache cache, AtomicInteger loads) {
+        cache.scheduledFlows(USER_ID, TODAY, () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+    }
+}
@@ -0,0 +1,146 @@
+package com.vitorsaucedo.finly.domain.fx;
+
+import com.vitorsaucedo.finly.config.FxConfig;
+import com.vitorsaucedo.finly.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class FxConversionTest {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2025, 1, 1);
+
+    private final FxSeries usd = series(new LocalDate[]{JAN_1, JAN_1.plusDays(3), JAN_1.plusDays(10)},
+            new double[]{5.0, 5.5, 6.0});
+    private final FxSeries eur = series(new LocalDate[]{JAN_1}, new double[]{6.0});
+
+    @Test
+    void shouldCarryLastKnownRateForward() {
+        FxConversion conversion = new FxConversion(usd, null);
+
+        assertThat(conversion.rateOn(JAN_1.plusDays(2))).isEqualTo(5.0);
+        assertThat(conversion.rateOn(JAN_1.plusDays(3))).isEqualTo(5.5);
+        assertThat(conversion.rateOn(JAN_1.plusDays(30))).isEqualTo(6.0);
+    }
+
+    @Test
+    void shouldTreatDatesBeforeFirstRateAsMissing() {
+        FxConversion conversion = new FxConversion(usd, null);
+
+        assertThat(conversion.rateOn(JAN_1.minusDays(5))).isNaN();
+        assertThatThrownBy(() -> conversion.convert(new BigDecimal("10.00"), JAN_1.minusDays(5)))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void shouldCrossRatesThroughReferenceCurrency() {
+        FxConversion eurToUsd = new FxConversion(eur, usd);
+
+        assertThat(eurToUsd.convert(new BigDecimal("100.00"), JAN_1.plusDays(10)))
+                .isEqualByComparingTo("100.00");
+        assertThat(eurToUsd.convert(new BigDecimal("100.00"), JAN_1))
+                .isEqualByComparingTo("120.00");
+    }
+
+    @Test
+    void shouldOnlyTreatSameCurrencyAsIdentity() {
+        assertThat(FxConversion.IDENTITY.isIdentity()).isTrue();
+        assertThat(FxConversion.IDENTITY.convert(new BigDecimal("42.10"), JAN_1)).isEqualByComparingTo("42.10");
+        assertThat(new FxConversion(null, null).isIdentity()).isFalse();
+    }
+
+    @Test
+    void shouldRejectCurrencyWithoutLoadedRates() {
+        FxRateCache cache = new FxRateCache(mock(FxRateRepository.class), new FxConfig(null, "BRL"));
+
+        assertThat(cache.conversion("BRL", "BRL").isIdentity()).isTrue();
+        assertThatThrownBy(() -> cache.conversion("XYZ", "BRL"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("No FX rates available for XYZ");
+        assertThat(cache.findConversion("XYZ", "BRL")).isEmpty();
+        assertThat(cache.findConversion("BRL", "BRL")).contains(FxConversion.IDENTITY);
+    }
+
+    @Test
+    void shouldNotConvertBeforeFirstRate() {
+        FxConversion conversion = new FxConversion(usd, null);
+
+        assertThat(conversion.tryConvert(BigDecimal.TEN, JAN_1.minusDays(1))).isEmpty();
+        assertThat(conversion.tryConvert(BigDecimal.TEN, JAN_1)).isPresent();
+    }
+
+    @Test
+    void shouldFillDailyRatesMatchingPointLookups() {
+        FxConversion conversion = new FxConversion(usd, eur);
+        double[] daily = new double[20];
+
+        conversion.fillDaily(JAN_1.minusDays(2), daily);
+
+        assertThat(daily[0]).isNaN();
+        assertThat(daily[1]).isNaN();
+        for (int i = 2; i < daily.length; i++) {
+            assertThat(daily[i]).isEqualTo(conversion.rateOn(JAN_1.minusDays(2).plusDays(i)));
+        }
+    }
+
+    @Test
+    void shouldLeaveDaysBeforeFirstRateOutOfDailyRates() {
+        FxDailyRates rates = FxDailyRates.of(new String[]{"USD"}, new FxConversion[]{new FxConversion(usd, null)},
+                JAN_1.minusDays(2), JAN_1);
+
+        assertThat(rates.epochDays()).containsExactly((int) JAN_1.toEpochDay());
+    }
+
+    @Test
+    void shouldExpandDailyRatesPerCurrency() {
+        FxDailyRates rates = FxDailyRates.of(new String[]{"USD", "EUR"},
+                new FxConversion[]{new FxConversion(usd, null), new FxConversion(eur, null)},
+                JAN_1, JAN_1.plusDays(4));
+
+        assertThat(rates.rates()).hasSize(10);
+        assertThat(rates.currencies()[4]).isEqualTo("USD");
+        assertThat(rates.currencies()[5]).isEqualTo("EUR");
+        assertThat(rates.epochDays()[9]).isEqualTo((int) JAN_1.plusDays(4).toEpochDay());
+        assertThat(rates.rates()[4]).isEqualTo(5.5);
+        assertThat(rates.rates()[9]).isEqualTo(6.0);
+    }
+
+    @Test
+    void shouldParseRatesFile() {
+        ByteArrayResource file = new ByteArrayResource("""
+                date,currency,rate
+                # fixture
+                2025-01-01,usd,5.1234
+
+                2025-01-02,EUR,6.01
+                """.getBytes(StandardCharsets.UTF_8));
+
+        List<FxRateRow> rows = FxRateLoader.parse(file);
+
+        assertThat(rows).containsExactly(
+                new FxRateRow("USD", JAN_1, new BigDecimal("5.1234")),
+                new FxRateRow("EUR", JAN_1.plusDays(1), new BigDecimal("6.01")));
+    }
+
+    @Test
+    void shouldRejectMalformedRatesFile() {
+        ByteArrayResource file = new ByteArrayResource("2025-01-01,USD\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> FxRateLoader.parse(file))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("Invalid FX rate at line 1");
+    }
+
+    private static FxSeries series(LocalDate[] dates, double[] rates) {
+        int[] days = new int[dates.length];
+        for (int i = 0; i < dates.length; i++) days[i] = (int) dates[i].toEpochDay();
+        return new FxSeries(days, rates);
+    }
+}
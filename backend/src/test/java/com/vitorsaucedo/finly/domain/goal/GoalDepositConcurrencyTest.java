@@ -0,0 +1,132 @@
+package com.vitorsaucedo.finly.domain.goal;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Testcontainers(disabledWithoutDocker = true)
+class GoalDepositConcurrencyTest {
+
+    private static final UUID USER_ID = UUID.fromString("00000000-0000-0000-0000-0000000000c1");
+    private static final int THREADS = 16;
+    private static final int DEPOSITS = 400;
+    private static final BigDecimal AMOUNT = new BigDecimal("10.00");
+
+    @Container
+    static final PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+    private static NamedParameterJdbcTemplate jdbcTemplate;
+    private static GoalLedgerRepository ledgerRepository;
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        jdbcTemplate = new NamedParameterJdbcTemplate(new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()));
+        ledgerRepository = new GoalLedgerRepository(jdbcTemplate);
+
+        jdbcTemplate.update("""
+                INSERT INTO users (id, name, email, password)
+                VALUES (:id, 'Family', 'family@finly.local', 'x')
+                """, Map.of("id", USER_ID));
+    }
+
+    @Test
+    void shouldNotLoseConcurrentDeposits() throws Exception {
+        UUID goalId = insertGoal("1000000.00");
+
+        List<Optional<GoalDepositResult>> results = depositConcurrently(goalId);
+
+        assertThat(results).allMatch(Optional::isPresent);
+        assertThat(currentAmount(goalId)).isEqualByComparingTo(AMOUNT.multiply(BigDecimal.valueOf(DEPOSITS)));
+        assertThat(ledgerCount(goalId)).isEqualTo(DEPOSITS);
+        assertThat(results.stream().map(result -> result.get().currentAmount()).distinct().count())
+                .isEqualTo(DEPOSITS);
+    }
+
+    @Test
+    void shouldCompleteGoalExactlyOnce() throws Exception {
+        UUID goalId = insertGoal("1000.00");
+
+        List<Optional<GoalDepositResult>> results = depositConcurrently(goalId);
+
+        List<GoalDepositResult> accepted = results.stream().flatMap(Optional::stream).toList();
+        assertThat(accepted).hasSize(100);
+        assertThat(accepted).filteredOn(result -> result.status() == GoalStatus.COMPLETED).hasSize(1);
+        assertThat(currentAmount(goalId)).isEqualByComparingTo("1000.00");
+        assertThat(ledgerCount(goalId)).isEqualTo(100);
+        assertThat(jdbcTemplate.queryForObject("SELECT status::text FROM goals WHERE id = :id",
+                Map.of("id", goalId), String.class)).isEqualTo("COMPLETED");
+    }
+
+    private List<Optional<GoalDepositResult>> depositConcurrently(UUID goalId) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<Optional<GoalDepositResult>>> tasks = new ArrayList<>();
+        for (int i = 0; i < DEPOSITS; i++) {
+            tasks.add(() -> {
+                start.await();
+                return ledgerRepository.deposit(goalId, USER_ID, AMOUNT);
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Optional<GoalDepositResult>>> futures = new ArrayList<>();
+            for (Callable<Optional<GoalDepositResult>> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+
+            List<Optional<GoalDepositResult>> results = new ArrayList<>();
+            for (Future<Optional<GoalDepositResult>> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private UUID insertGoal(String target) {
+        UUID goalId = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO goals (id, user_id, name, target_amount)
+                VALUES (:id, :userId, 'Trip', :target)
+                """, Map.of("id", goalId, "userId", USER_ID, "target", new BigDecimal(target)));
+        return goalId;
+    }
+
+    private BigDecimal currentAmount(UUID goalId) {
+        return jdbcTemplate.queryForObject("SELECT current_amount FROM goals WHERE id = :id",
+                Map.of("id", goalId), BigDecimal.class);
+    }
+
+    private int ledgerCount(UUID goalId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM goal_deposits WHERE goal_id = :id",
+                Map.of("id", goalId), Integer.class);
+    }
+}
@@ -0,0 +1,94 @@
+package com.vitorsaucedo.finly.domain.goal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GoalProjectionServiceTest {
+
+    @Mock private GoalProjectionRepository projectionRepository;
+
+    @InjectMocks
+    private GoalProjectionService projectionService;
+
+    @Test
+    void shouldProjectAllGoalsWithSingleAggregateQuery() {
+        LocalDate today = LocalDate.now();
+        Goal onTrack = goal("1000.00", "400.00", today.plusDays(120), today.minusYears(1));
+        Goal behind = goal("1000.00", "100.00", today.plusDays(30), today.minusYears(1));
+        Goal idle = goal("500.00", "0.00", null, today.minusYears(1));
+
+        when(projectionRepository.sumContributionsSince(anyCollection(), any())).thenReturn(Map.of(
+                onTrack.getId(), new BigDecimal("600.00"),
+                behind.getId(), new BigDecimal("90.00")));
+
+        Map<UUID, GoalProjection> projections = projectionService.projectAll(List.of(onTrack, behind, idle));
+
+        GoalProjection first = projections.get(onTrack.getId());
+        assertThat(first.averageMonthlyContribution()).isEqualByComparingTo("200.00");
+        assertThat(first.requiredMonthlyContribution()).isEqualByComparingTo("150.00");
+        assertThat(first.projectedCompletionDate()).isEqualTo(today.plusDays(90));
+        assertThat(first.onTrack()).isTrue();
+
+        GoalProjection second = projections.get(behind.getId());
+        assertThat(second.averageMonthlyContribution()).isEqualByComparingTo("30.00");
+        assertThat(second.projectedCompletionDate()).isEqualTo(today.plusDays(900));
+        assertThat(second.onTrack()).isFalse();
+
+        GoalProjection third = projections.get(idle.getId());
+        assertThat(third.averageMonthlyContribution()).isEqualByComparingTo("0.00");
+        assertThat(third.projectedCompletionDate()).isNull();
+        assertThat(third.onTrack()).isNull();
+
+        verify(projectionRepository, times(1)).sumContributionsSince(anyCollection(), any());
+    }
+
+    @Test
+    void shouldUseGoalAgeWhenGoalIsYoungerThanWindow() {
+        LocalDate today = LocalDate.now();
+        Goal goal = goal("1000.00", "300.00", null, today.minusDays(45));
+
+        when(projectionRepository.sumContributionsSince(anyCollection(), any()))
+                .thenReturn(Map.of(goal.getId(), new BigDecimal("300.00")));
+
+        GoalProjection projection = projectionService.project(goal);
+
+        assertThat(projection.averageMonthlyContribution()).isEqualByComparingTo("200.00");
+        assertThat(projection.projectedCompletionDate()).isEqualTo(today.plusDays(105));
+    }
+
+    @Test
+    void shouldSkipQueryWhenNoGoalIsInProgress() {
+        Goal goal = goal("1000.00", "1000.00", null, LocalDate.now().minusMonths(2));
+        goal.setStatus(GoalStatus.COMPLETED);
+
+        assertThat(projectionService.projectAll(List.of(goal))).isEmpty();
+        verifyNoInteractions(projectionRepository);
+    }
+
+    private Goal goal(String target, String current, LocalDate deadline, LocalDate createdOn) {
+        return Goal.builder()
+                .id(UUID.randomUUID())
+                .name("Goal")
+                .targetAmount(new BigDecimal(target))
+                .currentAmount(new BigDecimal(current))
+                .deadline(deadline)
+                .status(GoalStatus.IN_PROGRESS)
+                .createdAt(createdOn.atStartOfDay())
+                .build();
+    }
+}
@@ -6,12 +6,16 @@ import com.vitorsaucedo.finly.dto.request.GoalRequest;
 import com.vitorsaucedo.finly.dto.response.GoalResponse;
 import com.vitorsaucedo.finly.exception.BusinessException;
 import com.vitorsaucedo.finly.exception.ResourceNotFoundException;
+import com.vitorsaucedo.finly.outbox.OutboxEventType;
+import com.vitorsaucedo.finly.outbox.OutboxService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -27,6 +31,11 @@ class GoalServiceTest {
 
     @Mock private GoalRepository goalRepository;
     @Mock private UserService userService;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private OutboxService outboxService;
+    @Mock private GoalDepositRepository depositRepository;
+    @Mock private GoalLedgerRepository ledgerRepository;
+    @Mock private GoalProjectionService projectionService;
 
     @InjectMocks
     private GoalService goalService;
@@ -42,6 +51,8 @@ class GoalServiceTest {
                 .name("John Doe")
                 .email("john@email.com")
                 .build();
+
+        lenient().when(projectionService.project(any())).thenReturn(GoalProjection.NONE);
     }
 
     @Test
@@ -65,6 +76,11 @@ class GoalServiceTest {
         assertThat(response.currentAmount()).isEqualByComparingTo("1000.00");
         assertThat(response.status()).isEqualTo(GoalStatus.IN_PROGRESS);
         assertThat(response.percentageCompleted()).isEqualTo(10.0);
+
+        ArgumentCaptor<GoalDeposit> deposit = ArgumentCaptor.forClass(GoalDeposit.class);
+        verify(depositRepository).save(deposit.capture());
+        assertThat(deposit.getValue().isOpening()).isTrue();
+        assertThat(deposit.getValue().getAmount()).isEqualByComparingTo("1000.00");
     }
 
     @Test
@@ -74,35 +90,48 @@ class GoalServiceTest {
                 .user(user)
                 .name("Emergency Fund")
                 .targetAmount(new BigDecimal("1000.00"))
-                .currentAmount(new BigDecimal("900.00"))
-                .status(GoalStatus.IN_PROGRESS)
+                .currentAmount(new BigDecimal("1000.00"))
+                .status(GoalStatus.COMPLETED)
                 .build();
 
+        when(ledgerRepository.deposit(goal.getId(), userId, new BigDecimal("100.00"))).thenReturn(Optional.of(
+                new GoalDepositResult(goal.getId(), new BigDecimal("1000.00"), GoalStatus.COMPLETED)));
         when(goalRepository.findByIdAndUserId(goal.getId(), userId)).thenReturn(Optional.of(goal));
-        when(goalRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
 
         GoalResponse response = goalService.addAmount(goal.getId(), new BigDecimal("100.00"), userId);
 
         assertThat(response.status()).isEqualTo(GoalStatus.COMPLETED);
         assertThat(response.currentAmount()).isEqualByComparingTo("1000.00");
+        verify(eventPublisher).publishEvent(new GoalProgressChangedEvent(
+                userId, goal.getId(), new BigDecimal("1000.00"), GoalStatus.COMPLETED));
+        verify(outboxService).append(userId, OutboxEventType.GOAL_DEPOSITED, goal.getId(), new GoalDepositedPayload(
+                goal.getId(), new BigDecimal("100.00"), new BigDecimal("1000.00"), GoalStatus.COMPLETED));
+        verify(goalRepository, never()).save(any());
     }
 
     @Test
     void shouldThrowWhenAddingAmountToCompletedGoal() {
-        Goal goal = Goal.builder()
-                .id(UUID.randomUUID())
-                .user(user)
-                .name("Emergency Fund")
-                .targetAmount(new BigDecimal("1000.00"))
-                .currentAmount(new BigDecimal("1000.00"))
-                .status(GoalStatus.COMPLETED)
-                .build();
+        UUID id = UUID.randomUUID();
 
-        when(goalRepository.findByIdAndUserId(goal.getId(), userId)).thenReturn(Optional.of(goal));
+        when(ledgerRepository.deposit(id, userId, new BigDecimal("100.00"))).thenReturn(Optional.empty());
+        when(goalRepository.existsByIdAndUserId(id, userId)).thenReturn(true);
 
-        assertThatThrownBy(() -> goalService.addAmount(goal.getId(), new BigDecimal("100.00"), userId))
+        assertThatThrownBy(() -> goalService.addAmount(id, new BigDecimal("100.00"), userId))
                 .isInstanceOf(BusinessException.class)
                 .hasMessage("Only in-progress goals can receive deposits");
+        verifyNoInteractions(outboxService, eventPublisher);
+    }
+
+    @Test
+    void shouldThrowWhenDepositingIntoUnknownGoal() {
+        UUID id = UUID.randomUUID();
+
+        when(ledgerRepository.deposit(id, userId, new BigDecimal("100.00"))).thenReturn(Optional.empty());
+        when(goalRepository.existsByIdAndUserId(id, userId)).thenReturn(false);
+
+        assertThatThrownBy(() -> goalService.addAmount(id, new BigDecimal("100.00"), userId))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Goal not found");
     }
 
     @Test
@@ -0,0 +1,121 @@
+package com.vitorsaucedo.finly.domain.installment;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class InstallmentCancellationTest {
+
+    private static final UUID GROUP_ID = UUID.fromString("00000000-0000-0000-0003-0000000000d1");
+    private static final UUID OTHER_GROUP_ID = UUID.fromString("00000000-0000-0000-0003-0000000000d2");
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+    @Autowired private InstallmentRepository installmentRepository;
+    @Autowired private EntityManager entityManager;
+
+    @BeforeEach
+    void seed() {
+        entityManager.createNativeQuery("""
+                INSERT INTO users (id, name, email, password)
+                VALUES ('00000000-0000-0000-0000-0000000000d1', 'Cancel', 'cancel@finly.local', 'x')
+                """).executeUpdate();
+        entityManager.createNativeQuery("""
+                INSERT INTO accounts (id, user_id, name, type)
+                VALUES ('00000000-0000-0000-0001-0000000000d1', '00000000-0000-0000-0000-0000000000d1',
+                        'Card', 'CREDIT_CARD')
+                """).executeUpdate();
+        entityManager.createNativeQuery("""
+                INSERT INTO installment_groups (id, user_id, account_id, description, total_amount,
+                                                installment_count, start_date)
+                SELECT g, '00000000-0000-0000-0000-0000000000d1', '00000000-0000-0000-0001-0000000000d1',
+                       'Plan', 600, 6, DATE '2026-01-10'
+                FROM unnest(ARRAY['00000000-0000-0000-0003-0000000000d1',
+                                  '00000000-0000-0000-0003-0000000000d2']::uuid[]) g
+                """).executeUpdate();
+        entityManager.createNativeQuery("""
+                INSERT INTO installments (group_id, installment_number, amount, due_date, status)
+                SELECT g, n, 100, DATE '2026-01-10' + (n - 1) * INTERVAL '1 month',
+                       (CASE WHEN n = 1 THEN 'COMPLETED' ELSE 'PENDING' END)::installment_status
+                FROM unnest(ARRAY['00000000-0000-0000-0003-0000000000d1',
+                                  '00000000-0000-0000-0003-0000000000d2']::uuid[]) g,
+                     generate_series(1, 6) n
+                """).executeUpdate();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void shouldOnlyCancelPendingInstallmentsOfTheGroup() {
+        int cancelled = installmentRepository.cancelPending(List.of(GROUP_ID), 1, LocalDateTime.now());
+
+        assertThat(cancelled).isEqualTo(5);
+        assertThat(statuses(GROUP_ID)).containsExactly(
+                InstallmentStatus.COMPLETED, InstallmentStatus.CANCELLED, InstallmentStatus.CANCELLED,
+                InstallmentStatus.CANCELLED, InstallmentStatus.CANCELLED, InstallmentStatus.CANCELLED);
+        assertThat(statuses(OTHER_GROUP_ID)).containsOnly(InstallmentStatus.COMPLETED, InstallmentStatus.PENDING);
+    }
+
+    @Test
+    void shouldCancelFromGivenInstallmentOnward() {
+        int cancelled = installmentRepository.cancelPending(List.of(GROUP_ID), 4, LocalDateTime.now());
+
+        assertThat(cancelled).isEqualTo(3);
+        assertThat(statuses(GROUP_ID)).containsExactly(
+                InstallmentStatus.COMPLETED, InstallmentStatus.PENDING, InstallmentStatus.PENDING,
+                InstallmentStatus.CANCELLED, InstallmentStatus.CANCELLED, InstallmentStatus.CANCELLED);
+    }
+
+    @Test
+    void shouldCancelSeveralGroupsInOneStatement() {
+        int cancelled = installmentRepository.cancelPending(
+                List.of(GROUP_ID, OTHER_GROUP_ID), 1, LocalDateTime.now());
+
+        assertThat(cancelled).isEqualTo(10);
+        assertThat(statuses(GROUP_ID)).doesNotContain(InstallmentStatus.PENDING);
+        assertThat(statuses(OTHER_GROUP_ID)).doesNotContain(InstallmentStatus.PENDING);
+    }
+
+    @Test
+    void shouldKeepPersistenceContextConsistent() {
+        Map<Integer, Installment> loaded = installmentRepository.findAllByGroupId(GROUP_ID).stream()
+                .collect(Collectors.toMap(Installment::getInstallmentNumber, installment -> installment));
+        loaded.get(2).setAmount(new BigDecimal("150.00"));
+
+        installmentRepository.cancelPending(List.of(GROUP_ID), 1, LocalDateTime.now());
+
+        assertThat(entityManager.contains(loaded.get(3))).isFalse();
+        Installment second = installmentRepository.findById(loaded.get(2).getId()).orElseThrow();
+        assertThat(second.getStatus()).isEqualTo(InstallmentStatus.CANCELLED);
+        assertThat(second.getAmount()).isEqualByComparingTo("150.00");
+    }
+
+    private List<InstallmentStatus> statuses(UUID groupId) {
+        return installmentRepository.findAllByGroupId(groupId).stream()
+                .sorted(Comparator.comparing(Installment::getInstallmentNumber))
+                .map(Installment::getStatus)
+                .toList();
+    }
+}
@@ -0,0 +1,269 @@
+package com.vitorsaucedo.finly.domain.installment;
+
+import com.vitorsaucedo.finly.domain.account.Account;
+import com.vitorsaucedo.finly.domain.account.AccountService;
+import com.vitorsaucedo.finly.domain.account.AccountType;
+import com.vitorsaucedo.finly.domain.category.Category;
+import com.vitorsaucedo.finly.domain.category.CategoryService;
+import com.vitorsaucedo.finly.domain.category.CategoryType;
+import com.vitorsaucedo.finly.domain.transaction.Transaction;
+import com.vitorsaucedo.finly.domain.transaction.TransactionService;
+import com.vitorsaucedo.finly.domain.transaction.TransactionStatus;
+import com.vitorsaucedo.finly.domain.transaction.TransactionType;
+import com.vitorsaucedo.finly.domain.user.User;
+import com.vitorsaucedo.finly.domain.user.UserService;
+import com.vitorsaucedo.finly.dto.request.InstallmentCancellationRequest;
+import com.vitorsaucedo.finly.dto.request.InstallmentPaymentRequest;
+import com.vitorsaucedo.finly.dto.response.InstallmentGroupResponse;
+import com.vitorsaucedo.finly.dto.response.InstallmentResponse;
+import com.vitorsaucedo.finly.exception.BusinessException;
+import com.vitorsaucedo.finly.exception.ResourceNotFoundException;
+import com.vitorsaucedo.finly.outbox.OutboxEventType;
+import com.vitorsaucedo.finly.outbox.OutboxService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InstallmentServiceTest {
+
+    @Mock private InstallmentGroupRepository installmentGroupRepository;
+    @Mock private InstallmentRepository installmentRepository;
+    @Mock private AccountService accountService;
+    @Mock private CategoryService categoryService;
+    @Mock private UserService userService;
+    @Mock private TransactionService transactionService;
+    @Mock private OutboxService outboxService;
+
+    @InjectMocks
+    private InstallmentService installmentService;
+
+    private UUID userId;
+    private InstallmentGroup group;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        User user = User.builder().id(userId).name("John Doe").email("john@email.com").build();
+
+        group = InstallmentGroup.builder()
+                .id(UUID.randomUUID())
+                .user(user)
+                .account(Account.builder()
+                        .id(UUID.randomUUID())
+                        .user(user)
+                        .name("Credit card")
+                        .type(AccountType.CREDIT_CARD)
+                        .balance(BigDecimal.ZERO)
+                        .currency("BRL")
+                        .build())
+                .category(Category.builder()
+                        .id(UUID.randomUUID())
+                        .user(user)
+                        .name("Electronics")
+                        .type(CategoryType.EXPENSE)
+                        .build())
+                .description("Laptop")
+                .totalAmount(new BigDecimal("1200.00"))
+                .installmentCount(3)
+                .startDate(LocalDate.of(2026, 1, 10))
+                .build();
+    }
+
+    @Test
+    void shouldPaySingleInstallmentWithoutReloadingTheTransaction() {
+        Installment installment = installment(1, InstallmentStatus.PENDING);
+        when(installmentRepository.findByIdAndGroupUserId(installment.getId(), userId))
+                .thenReturn(Optional.of(installment));
+        stubBatch();
+
+        InstallmentResponse response = installmentService.payInstallment(installment.getId(), userId);
+
+        assertThat(response.status()).isEqualTo(InstallmentStatus.COMPLETED);
+        assertThat(response.transactionId()).isEqualTo(installment.getTransaction().getId());
+        verify(outboxService).append(eq(userId), eq(OutboxEventType.INSTALLMENT_PAID), eq(group.getId()),
+                argThat(payload -> payload instanceof InstallmentChangedPayload p
+                        && installment.getId().equals(p.installmentId())));
+    }
+
+    @Test
+    void shouldSettleAllPendingInstallmentsInOneBatch() {
+        List<Installment> pending = List.of(
+                installment(2, InstallmentStatus.PENDING),
+                installment(3, InstallmentStatus.PENDING));
+        when(installmentGroupRepository.findByIdAndUserId(group.getId(), userId)).thenReturn(Optional.of(group));
+        when(installmentRepository.findPendingByGroupId(group.getId())).thenReturn(pending);
+        when(installmentRepository.findAllByGroupId(group.getId())).thenReturn(pending);
+        ArgumentCaptor<List<Transaction>> batch = stubBatch();
+
+        InstallmentGroupResponse response = installmentService.settle(group.getId(), userId);
+
+        assertThat(response.paidCount()).isEqualTo(2);
+        assertThat(batch.getValue())
+                .extracting(Transaction::getDescription)
+                .containsExactly("Laptop (2/3)", "Laptop (3/3)");
+        assertThat(batch.getValue())
+                .allSatisfy(t -> {
+                    assertThat(t.getType()).isEqualTo(TransactionType.EXPENSE);
+                    assertThat(t.getStatus()).isEqualTo(TransactionStatus.COMPLETED);
+                    assertThat(t.getTransactionDate()).isEqualTo(LocalDate.now());
+                });
+        verify(transactionService, times(1)).createBatch(any(), eq(userId));
+        verify(outboxService, times(1)).append(eq(userId), eq(OutboxEventType.INSTALLMENT_PAID), eq(group.getId()),
+                argThat(payload -> payload instanceof InstallmentChangedPayload p
+                        && p.installmentId() == null
+                        && p.amount().compareTo(new BigDecimal("800.00")) == 0));
+    }
+
+    @Test
+    void shouldRejectSettlementWithoutPendingInstallments() {
+        when(installmentGroupRepository.findByIdAndUserId(group.getId(), userId)).thenReturn(Optional.of(group));
+        when(installmentRepository.findPendingByGroupId(group.getId())).thenReturn(List.of());
+
+        assertThatThrownBy(() -> installmentService.settle(group.getId(), userId))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Installment group has no pending installments");
+        verifyNoInteractions(transactionService);
+    }
+
+    @Test
+    void shouldPayManyInstallmentsAndIgnoreDuplicateIds() {
+        Installment first = installment(1, InstallmentStatus.PENDING);
+        Installment second = installment(2, InstallmentStatus.PENDING);
+        when(installmentRepository.findAllForPayment(any(), eq(userId))).thenReturn(List.of(first, second));
+        stubBatch();
+
+        List<InstallmentResponse> responses = installmentService.payInstallments(
+                new InstallmentPaymentRequest(List.of(first.getId(), second.getId(), first.getId())), userId);
+
+        assertThat(responses).extracting(InstallmentResponse::status)
+                .containsOnly(InstallmentStatus.COMPLETED);
+        verify(transactionService, times(1)).createBatch(any(), eq(userId));
+    }
+
+    @Test
+    void shouldFailWholeBatchWhenAnyInstallmentIsMissing() {
+        Installment first = installment(1, InstallmentStatus.PENDING);
+        when(installmentRepository.findAllForPayment(any(), eq(userId))).thenReturn(List.of(first));
+
+        assertThatThrownBy(() -> installmentService.payInstallments(
+                new InstallmentPaymentRequest(List.of(first.getId(), UUID.randomUUID())), userId))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(transactionService);
+    }
+
+    @Test
+    void shouldFailWholeBatchWhenAnyInstallmentIsAlreadyPaid() {
+        Installment pending = installment(1, InstallmentStatus.PENDING);
+        Installment paid = installment(2, InstallmentStatus.COMPLETED);
+        when(installmentRepository.findAllForPayment(any(), eq(userId))).thenReturn(List.of(pending, paid));
+
+        assertThatThrownBy(() -> installmentService.payInstallments(
+                new InstallmentPaymentRequest(List.of(pending.getId(), paid.getId())), userId))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Installment already paid");
+        verifyNoInteractions(transactionService);
+        assertThat(pending.getStatus()).isEqualTo(InstallmentStatus.PENDING);
+    }
+
+    @Test
+    void shouldCancelPendingInstallmentsWithOneSetBasedUpdate() {
+        when(installmentGroupRepository.findByIdAndUserId(group.getId(), userId)).thenReturn(Optional.of(group));
+
+        installmentService.cancel(group.getId(), 1, userId);
+
+        verify(installmentRepository).cancelPending(eq(List.of(group.getId())), eq(1), any());
+        verify(installmentRepository, never()).findAllByGroupId(any());
+        verify(installmentGroupRepository, never()).save(any());
+        verify(outboxService).append(eq(userId), eq(OutboxEventType.INSTALLMENT_GROUP_CANCELLED),
+                eq(group.getId()), any());
+    }
+
+    @Test
+    void shouldCancelFromGivenInstallmentOnward() {
+        when(installmentGroupRepository.findByIdAndUserId(group.getId(), userId)).thenReturn(Optional.of(group));
+
+        installmentService.cancel(group.getId(), 3, userId);
+
+        verify(installmentRepository).cancelPending(eq(List.of(group.getId())), eq(3), any());
+    }
+
+    @Test
+    void shouldRejectCancellationFromInstallmentOutsideThePlan() {
+        when(installmentGroupRepository.findByIdAndUserId(group.getId(), userId)).thenReturn(Optional.of(group));
+
+        assertThatThrownBy(() -> installmentService.cancel(group.getId(), 4, userId))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Installment number must be between 1 and 3");
+        verifyNoInteractions(installmentRepository, outboxService);
+    }
+
+    @Test
+    void shouldCancelSeveralGroupsInOneUpdate() {
+        InstallmentGroup other = InstallmentGroup.builder()
+                .id(UUID.randomUUID())
+                .user(group.getUser())
+                .account(group.getAccount())
+                .description("Phone")
+                .totalAmount(new BigDecimal("600.00"))
+                .installmentCount(6)
+                .startDate(group.getStartDate())
+                .build();
+        when(installmentGroupRepository.findAllByIdInAndUserId(any(), eq(userId))).thenReturn(List.of(group, other));
+
+        installmentService.cancelAll(
+                new InstallmentCancellationRequest(List.of(group.getId(), other.getId())), userId);
+
+        verify(installmentRepository, times(1)).cancelPending(eq(List.of(group.getId(), other.getId())), eq(1), any());
+        verify(outboxService, times(2)).append(eq(userId), eq(OutboxEventType.INSTALLMENT_GROUP_CANCELLED),
+                any(), any());
+    }
+
+    @Test
+    void shouldNotCancelAnythingWhenAGroupIsMissing() {
+        when(installmentGroupRepository.findAllByIdInAndUserId(any(), eq(userId))).thenReturn(List.of(group));
+
+        assertThatThrownBy(() -> installmentService.cancelAll(
+                new InstallmentCancellationRequest(List.of(group.getId(), UUID.randomUUID())), userId))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(installmentRepository, outboxService);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<List<Transaction>> stubBatch() {
+        ArgumentCaptor<List<Transaction>> batch = ArgumentCaptor.forClass(List.class);
+        when(transactionService.createBatch(batch.capture(), eq(userId))).thenAnswer(inv -> {
+            List<Transaction> transactions = new ArrayList<>(inv.<List<Transaction>>getArgument(0));
+            transactions.forEach(t -> t.setId(UUID.randomUUID()));
+            return transactions;
+        });
+        when(installmentRepository.saveAll(any())).thenAnswer(inv -> inv.getArgument(0));
+        return batch;
+    }
+
+    private Installment installment(int number, InstallmentStatus status) {
+        return Installment.builder()
+                .id(UUID.randomUUID())
+                .group(group)
+                .installmentNumber(number)
+                .amount(new BigDecimal("400.00"))
+                .dueDate(group.getStartDate().plusMonths(number - 1))
+                .status(status)
+                .build();
+    }
+}
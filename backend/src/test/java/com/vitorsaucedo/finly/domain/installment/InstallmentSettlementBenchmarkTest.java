@@ -0,0 +1,156 @@
+package com.vitorsaucedo.finly.domain.installment;
+
+import com.vitorsaucedo.finly.domain.account.AccountService;
+import com.vitorsaucedo.finly.domain.account.BalanceHistoryService;
+import com.vitorsaucedo.finly.domain.category.CategoryService;
+import com.vitorsaucedo.finly.domain.transaction.TransactionService;
+import com.vitorsaucedo.finly.domain.user.UserService;
+import com.vitorsaucedo.finly.dto.request.InstallmentRequest;
+import com.vitorsaucedo.finly.dto.response.InstallmentGroupResponse;
+import com.vitorsaucedo.finly.dto.response.InstallmentResponse;
+import com.vitorsaucedo.finly.outbox.OutboxService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({InstallmentService.class, TransactionService.class, AccountService.class, CategoryService.class,
+        UserService.class, BalanceHistoryService.class, OutboxService.class,
+        InstallmentSettlementBenchmarkTest.Beans.class})
+@Testcontainers(disabledWithoutDocker = true)
+class InstallmentSettlementBenchmarkTest {
+
+    private static final UUID USER_ID = UUID.fromString("00000000-0000-0000-0000-0000000000c1");
+    private static final UUID ACCOUNT_ID = UUID.fromString("00000000-0000-0000-0001-0000000000c1");
+    private static final UUID CATEGORY_ID = UUID.fromString("00000000-0000-0000-0002-0000000000c1");
+    private static final int INSTALLMENTS = 48;
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASURED_ITERATIONS = 40;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+    @Autowired private InstallmentService installmentService;
+    @Autowired private EntityManager entityManager;
+
+    @BeforeEach
+    void seed() {
+        entityManager.createNativeQuery("""
+                INSERT INTO users (id, name, email, password)
+                VALUES ('00000000-0000-0000-0000-0000000000c1', 'Bench', 'settle@finly.local', 'x')
+                """).executeUpdate();
+        entityManager.createNativeQuery("""
+                INSERT INTO accounts (id, user_id, name, type, balance)
+                VALUES ('00000000-0000-0000-0001-0000000000c1', '00000000-0000-0000-0000-0000000000c1',
+                        'Card', 'CREDIT_CARD', 0)
+                """).executeUpdate();
+        entityManager.createNativeQuery("""
+                INSERT INTO categories (id, user_id, name, type)
+                VALUES ('00000000-0000-0000-0002-0000000000c1', '00000000-0000-0000-0000-0000000000c1',
+                        'Electronics', 'EXPENSE')
+                """).executeUpdate();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void settlingAGroupShouldIssueFewerStatementsThanPayingEachInstallment() {
+        Result oneByOne = measure("one by one", group -> group.installments().stream()
+                .map(InstallmentResponse::id)
+                .forEach(id -> installmentService.payInstallment(id, USER_ID)));
+        Result settle = measure("settle", group -> installmentService.settle(group.id(), USER_ID));
+
+        System.out.printf("%-12s %14s %16s %14s%n", "path", "statements", "installments/s", "p50 ms");
+        for (Result result : List.of(oneByOne, settle)) {
+            System.out.printf("%-12s %14d %16.1f %14.2f%n",
+                    result.name(), result.statements(), result.installmentsPerSecond(), result.p50Millis());
+        }
+
+        assertThat(settle.statements()).isLessThan(oneByOne.statements());
+        assertThat(settle.installmentsPerSecond()).isPositive();
+    }
+
+    private Result measure(String name, Consumer<InstallmentGroupResponse> payment) {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        long[] samples = new long[MEASURED_ITERATIONS];
+        long statements = 0;
+
+        for (int i = 0; i < WARMUP_ITERATIONS + MEASURED_ITERATIONS; i++) {
+            InstallmentGroupResponse group = createGroup();
+
+            statistics.clear();
+            long start = System.nanoTime();
+            payment.accept(group);
+            entityManager.flush();
+            long elapsed = System.nanoTime() - start;
+            entityManager.clear();
+
+            if (i >= WARMUP_ITERATIONS) {
+                samples[i - WARMUP_ITERATIONS] = elapsed;
+                statements += statistics.getPrepareStatementCount();
+            }
+        }
+
+        long total = 0;
+        for (long sample : samples) total += sample;
+        Arrays.sort(samples);
+
+        return new Result(name, statements / MEASURED_ITERATIONS,
+                MEASURED_ITERATIONS * (double) INSTALLMENTS / (total / 1e9),
+                samples[MEASURED_ITERATIONS / 2] / 1e6);
+    }
+
+    private InstallmentGroupResponse createGroup() {
+        InstallmentGroupResponse group = installmentService.create(new InstallmentRequest(
+                ACCOUNT_ID, CATEGORY_ID, "Laptop", new BigDecimal("9600.00"), INSTALLMENTS,
+                LocalDate.now(), null), USER_ID);
+        entityManager.flush();
+        entityManager.clear();
+        return group;
+    }
+
+    @TestConfiguration
+    static class Beans {
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return JsonMapper.builder().build();
+        }
+
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        }
+    }
+
+    private record Result(String name, long statements, double installmentsPerSecond, double p50Millis) {}
+}
@@ -0,0 +1,217 @@
+package com.vitorsaucedo.finly.domain.report;
+
+import com.vitorsaucedo.finly.config.SpendingReportCacheConfig;
+import com.vitorsaucedo.finly.domain.fx.FxDailyRates;
+import com.vitorsaucedo.finly.domain.fx.FxService;
+import com.vitorsaucedo.finly.dto.response.SpendingReportResponse;
+import com.vitorsaucedo.finly.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SpendingReportServiceTest {
+
+    @Mock private SpendingReportRepository spendingReportRepository;
+    @Mock private FxService fxService;
+
+    private final AtomicLong clock = new AtomicLong();
+    private SpendingReportCache cache;
+    private SpendingReportService spendingReportService;
+    private UUID userId;
+    private UUID categoryId;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SpendingReportCache(new SpendingReportCacheConfig(2, null, Duration.ofHours(1)), clock::get);
+        spendingReportService = new SpendingReportService(spendingReportRepository, cache, fxService);
+        userId = UUID.randomUUID();
+        categoryId = UUID.randomUUID();
+
+        lenient().when(fxService.baseCurrency(userId)).thenReturn("BRL");
+        lenient().when(fxService.dailyRates(eq(userId), eq("BRL"), any(), any())).thenReturn(FxDailyRates.EMPTY);
+    }
+
+    @Test
+    void shouldComputeCategoryDeltasAndTopMerchants() {
+        LocalDate from = LocalDate.of(2025, 3, 1);
+        LocalDate to = LocalDate.of(2025, 3, 31);
+
+        when(spendingReportRepository.findSpending(
+                userId, new SpendingPeriod(from, to), 10, "BRL", FxDailyRates.EMPTY)).thenReturn(List.of(
+                categoryRow(categoryId, "Food", "600.00", "400.00", "0.00", 0.75),
+                categoryRow(UUID.randomUUID(), "Transport", "200.00", "250.00", "100.00", 0.25),
+                new SpendingRow(SpendingRow.Kind.MERCHANT, null, "Uber", null,
+                        new BigDecimal("150.00"), BigDecimal.ZERO, BigDecimal.ZERO, 0, 6)
+        ));
+
+        SpendingReportResponse report = spendingReportService.getSpending(userId, from, to, 10);
+
+        assertThat(report.currency()).isEqualTo("BRL");
+        assertThat(report.totalSpent()).isEqualByComparingTo("800.00");
+        assertThat(report.categories()).extracting(SpendingReportResponse.CategorySpending::categoryName)
+                .containsExactly("Food", "Transport");
+
+        SpendingReportResponse.CategorySpending food = report.categories().getFirst();
+        assertThat(food.share()).isEqualTo(75.0);
+        assertThat(food.monthOverMonthChange()).isEqualByComparingTo("200.00");
+        assertThat(food.monthOverMonthPercentage()).isEqualTo(50.0);
+        assertThat(food.yearOverYearPercentage()).isNull();
+
+        SpendingReportResponse.CategorySpending transport = report.categories().get(1);
+        assertThat(transport.monthOverMonthPercentage()).isEqualTo(-20.0);
+        assertThat(transport.yearOverYearPercentage()).isEqualTo(100.0);
+
+        assertThat(report.topMerchants()).singleElement()
+                .satisfies(m -> assertThat(m.occurrences()).isEqualTo(6));
+    }
+
+    @Test
+    void shouldServeClosedMonthsFromCache() {
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 1, 31);
+        when(spendingReportRepository.findSpending(any(), any(), anyInt(), any(), any())).thenReturn(List.of());
+
+        spendingReportService.getSpending(userId, from, to, 10);
+        spendingReportService.getSpending(userId, from, to, 10);
+
+        verify(spendingReportRepository, times(1)).findSpending(any(), any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void shouldNotReuseCachedReportAfterBaseCurrencyChange() {
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 1, 31);
+        when(spendingReportRepository.findSpending(any(), any(), anyInt(), any(), any())).thenReturn(List.of());
+        when(fxService.dailyRates(eq(userId), eq("USD"), any(), any())).thenReturn(FxDailyRates.EMPTY);
+
+        spendingReportService.getSpending(userId, from, to, 10);
+        when(fxService.baseCurrency(userId)).thenReturn("USD");
+        SpendingReportResponse report = spendingReportService.getSpending(userId, from, to, 10);
+
+        assertThat(report.currency()).isEqualTo("USD");
+        verify(spendingReportRepository, times(2)).findSpending(any(), any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void shouldRecomputeClosedMonthAfterBackDatedChange() {
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 1, 31);
+        when(spendingReportRepository.findSpending(any(), any(), anyInt(), any(), any())).thenReturn(List.of());
+
+        spendingReportService.getSpending(userId, from, to, 10);
+        cache.invalidate(userId, LocalDate.of(2025, 1, 15));
+        spendingReportService.getSpending(userId, from, to, 10);
+
+        verify(spendingReportRepository, times(2)).findSpending(any(), any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void shouldKeepCacheWhenChangeFallsOutsideComparedPeriods() {
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 1, 31);
+        when(spendingReportRepository.findSpending(any(), any(), anyInt(), any(), any())).thenReturn(List.of());
+
+        spendingReportService.getSpending(userId, from, to, 10);
+        cache.invalidate(userId, LocalDate.of(2025, 6, 10));
+        spendingReportService.getSpending(userId, from, to, 10);
+
+        verify(spendingReportRepository, times(1)).findSpending(any(), any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void shouldRecomputeClosedMonthAfterCategoryChange() {
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 1, 31);
+        when(spendingReportRepository.findSpending(any(), any(), anyInt(), any(), any())).thenReturn(List.of());
+
+        spendingReportService.getSpending(userId, from, to, 10);
+        cache.invalidateAll(userId);
+        spendingReportService.getSpending(userId, from, to, 10);
+
+        verify(spendingReportRepository, times(2)).findSpending(any(), any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void shouldExpireCachedReportsAfterTtl() {
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 1, 31);
+        when(spendingReportRepository.findSpending(any(), any(), anyInt(), any(), any())).thenReturn(List.of());
+
+        spendingReportService.getSpending(userId, from, to, 10);
+        clock.addAndGet(Duration.ofHours(2).toNanos());
+        spendingReportService.getSpending(userId, from, to, 10);
+
+        verify(spendingReportRepository, times(2)).findSpending(any(), any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedUsers() {
+        SpendingReportCache.Key key = new SpendingReportCache.Key(
+                new SpendingPeriod(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31)), 10, "BRL");
+        SpendingReportResponse report = new SpendingReportResponse(key.period().from(), key.period().to(), "BRL",
+                BigDecimal.ZERO, List.of(), List.of());
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+
+        cache.put(first, key, report, cache.version(first));
+        cache.put(second, key, report, cache.version(second));
+        cache.put(third, key, report, cache.version(third));
+
+        assertThat(cache.get(first, key)).isEmpty();
+        assertThat(cache.get(third, key)).contains(report);
+    }
+
+    @Test
+    void shouldNotCacheOpenPeriods() {
+        LocalDate today = LocalDate.now();
+        when(spendingReportRepository.findSpending(any(), any(), anyInt(), any(), any())).thenReturn(List.of());
+
+        spendingReportService.getSpending(userId, today.withDayOfMonth(1), today, 10);
+        spendingReportService.getSpending(userId, today.withDayOfMonth(1), today, 10);
+
+        verify(spendingReportRepository, times(2)).findSpending(any(), any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void shouldThrowWhenPeriodIsInverted() {
+        assertThatThrownBy(() -> spendingReportService.getSpending(
+                userId, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1), 10))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Start date must be before end date");
+    }
+
+    @Test
+    void shouldRejectReportWithTransactionsMissingFxRates() {
+        when(spendingReportRepository.findSpending(any(), any(), anyInt(), any(), any())).thenReturn(List.of(
+                categoryRow(categoryId, "Food", "600.00", "0.00", "0.00", 1.0),
+                new SpendingRow(SpendingRow.Kind.UNCONVERTED, null, null, null,
+                        BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, 0, 3)));
+
+        assertThatThrownBy(() -> spendingReportService.getSpending(
+                userId, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31), 10))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("No FX rate available for 3 transactions in the report period");
+    }
+
+    private SpendingRow categoryRow(UUID id, String name, String total, String previousMonth,
+                                    String previousYear, double share) {
+        return new SpendingRow(SpendingRow.Kind.CATEGORY, id, name, "#FF0000",
+                new BigDecimal(total), new BigDecimal(previousMonth), new BigDecimal(previousYear), share, 0);
+    }
+}
@@ -0,0 +1,85 @@
+package com.vitorsaucedo.finly.domain.stream;
+
+import com.vitorsaucedo.finly.config.StreamConfig;
+import com.vitorsaucedo.finly.dto.response.LiveUpdateResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LiveUpdateHubTest {
+
+    private LiveUpdateHub hub;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        hub = new LiveUpdateHub(new StreamConfig(2, Duration.ofMinutes(1), Duration.ofMinutes(1)));
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    void shouldDeliverUpdatesToSubscribersOfTheSameUser() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter(new CountDownLatch(0), 1);
+        hub.subscribe(userId, emitter);
+
+        hub.publish(userId, update());
+        hub.publish(UUID.randomUUID(), update());
+
+        assertThat(emitter.sent.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(emitter.events).hasSize(1);
+        assertThat(hub.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDropSlowConsumerWhenBufferIsFull() {
+        CountDownLatch neverReleased = new CountDownLatch(1);
+        hub.subscribe(userId, new RecordingEmitter(neverReleased, 1));
+
+        for (int i = 0; i < 5; i++) {
+            hub.publish(userId, update());
+        }
+
+        assertThat(hub.droppedSubscriberCount()).isEqualTo(1);
+        assertThat(hub.subscriberCount()).isZero();
+        neverReleased.countDown();
+    }
+
+    private LiveUpdateResponse update() {
+        return new LiveUpdateResponse("account.balance", UUID.randomUUID(), new BigDecimal("10.00"), null);
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch release;
+        private final CountDownLatch sent;
+        private final List<SseEventBuilder> events = new CopyOnWriteArrayList<>();
+
+        RecordingEmitter(CountDownLatch release, int expectedEvents) {
+            this.release = release;
+            this.sent = new CountDownLatch(expectedEvents);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            events.add(builder);
+            sent.countDown();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.vitorsaucedo.finly.domain.transaction;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Testcontainers(disabledWithoutDocker = true)
+class TransactionFilterPlanTest {
+
+    private static final String USER_ID = "00000000-0000-0000-0000-000000000001";
+    private static final String ACCOUNT_ID = "00000000-0000-0000-0001-000000000001";
+    private static final String CATEGORY_ID = "00000000-0000-0000-0002-000000000001";
+
+    @Container
+    static final PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    INSERT INTO users (id, name, email, password)
+                    SELECT ('00000000-0000-0000-0000-' || lpad(u::text, 12, '0'))::uuid,
+                           'User ' || u, 'user' || u || '@finly.local', 'x'
+                    FROM generate_series(1, 50) u
+                    """);
+            statement.execute("""
+                    INSERT INTO accounts (id, user_id, name, type)
+                    SELECT ('00000000-0000-0000-0001-' || lpad(a::text, 12, '0'))::uuid,
+                           ('00000000-0000-0000-0000-' || lpad((1 + a % 50)::text, 12, '0'))::uuid,
+                           'Account ' || a, 'CHECKING'
+                    FROM generate_series(0, 199) a
+                    """);
+            statement.execute("""
+                    INSERT INTO categories (id, user_id, name, type)
+                    SELECT ('00000000-0000-0000-0002-' || lpad(c::text, 12, '0'))::uuid,
+                           ('00000000-0000-0000-0000-' || lpad((1 + c % 50)::text, 12, '0'))::uuid,
+                           'Category ' || c, 'EXPENSE'
+                    FROM generate_series(0, 499) c
+                    """);
+            statement.execute("""
+                    INSERT INTO transactions (user_id, account_id, category_id, description, amount, type, status,
+                                              transaction_date, notes)
+                    SELECT ('00000000-0000-0000-0000-' || lpad((1 + g % 50)::text, 12, '0'))::uuid,
+                           ('00000000-0000-0000-0001-' || lpad((g % 200)::text, 12, '0'))::uuid,
+                           ('00000000-0000-0000-0002-' || lpad((g % 500)::text, 12, '0'))::uuid,
+                           'Purchase ' || g,
+                           (g % 1000) + 0.99,
+                           (ARRAY['INCOME', 'EXPENSE'])[1 + g % 2]::transaction_type,
+                           (ARRAY['PENDING', 'COMPLETED', 'CANCELLED'])[1 + g % 3]::transaction_status,
+                           DATE '2024-01-01' + (g % 730),
+                           CASE WHEN g % 5 = 0 THEN 'note ' || g END
+                    FROM generate_series(1, 200000) g
+                    """);
+            statement.execute("ANALYZE");
+        }
+    }
+
+    static Stream<Arguments> filterCombinations() {
+        return Stream.of(
+                Arguments.of("user only", ""),
+                Arguments.of("account", "AND (t.account_id = '" + ACCOUNT_ID + "' OR t.destination_account_id = '" + ACCOUNT_ID + "')"),
+                Arguments.of("category", "AND t.category_id = '" + CATEGORY_ID + "'"),
+                Arguments.of("type and status", "AND t.type = 'EXPENSE' AND t.status = 'COMPLETED'"),
+                Arguments.of("date range", "AND t.transaction_date BETWEEN DATE '2024-03-01' AND DATE '2024-03-31'"),
+                Arguments.of("amount range", "AND t.amount BETWEEN 100 AND 120"),
+                Arguments.of("text", "AND (t.description ILIKE '%urchase 12%' OR t.notes ILIKE '%urchase 12%')"),
+                Arguments.of("combined", "AND t.category_id = '" + CATEGORY_ID + "' AND t.type = 'EXPENSE'"
+                        + " AND t.transaction_date >= DATE '2024-06-01' AND t.amount <= 500")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("filterCombinations")
+    void shouldServeFilterCombinationFromAnIndex(String name, String predicate) throws SQLException {
+        String plan = explain("""
+                SELECT t.id, a.id, a.name, c.id, c.name, d.id, d.name, t.description, t.amount, t.type,
+                       t.status, t.transaction_date, t.notes, t.created_at
+                FROM transactions t
+                JOIN accounts a ON a.id = t.account_id
+                LEFT JOIN categories c ON c.id = t.category_id
+                LEFT JOIN accounts d ON d.id = t.destination_account_id
+                WHERE t.user_id = '%s' %s
+                ORDER BY t.transaction_date DESC
+                LIMIT 10
+                """.formatted(USER_ID, predicate));
+
+        assertThat(plan).as(plan).doesNotContain("Seq Scan on transactions");
+    }
+
+    private static String explain(String sql) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("EXPLAIN " + sql)) {
+            while (rs.next()) {
+                plan.append(rs.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    }
+}
@@ -0,0 +1,139 @@
+package com.vitorsaucedo.finly.domain.transaction;
+
+import com.vitorsaucedo.finly.dto.response.TransactionResponse;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class TransactionListingBenchmarkTest {
+
+    private static final UUID USER_ID = UUID.fromString("00000000-0000-0000-0000-0000000000b1");
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURED_ITERATIONS = 1000;
+    private static final Pageable PAGE = PageRequest.of(3, 20, Sort.by(Sort.Direction.DESC, "transactionDate"));
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+    @Autowired private TransactionRepository transactionRepository;
+    @Autowired private EntityManager entityManager;
+
+    @BeforeEach
+    void seed() {
+        entityManager.createNativeQuery("""
+                INSERT INTO users (id, name, email, password)
+                VALUES ('00000000-0000-0000-0000-0000000000b1', 'Bench', 'bench@finly.local', 'x')
+                """).executeUpdate();
+        entityManager.createNativeQuery("""
+                INSERT INTO accounts (id, user_id, name, type)
+                SELECT ('00000000-0000-0000-0001-' || lpad(a::text, 12, '0'))::uuid,
+                       '00000000-0000-0000-0000-0000000000b1', 'Account ' || a, 'CHECKING'
+                FROM generate_series(0, 3) a
+                """).executeUpdate();
+        entityManager.createNativeQuery("""
+                INSERT INTO categories (id, user_id, name, type)
+                SELECT ('00000000-0000-0000-0002-' || lpad(c::text, 12, '0'))::uuid,
+                       '00000000-0000-0000-0000-0000000000b1', 'Category ' || c, 'EXPENSE'
+                FROM generate_series(0, 9) c
+                """).executeUpdate();
+        entityManager.createNativeQuery("""
+                INSERT INTO transactions (user_id, account_id, category_id, destination_account_id,
+                                          description, amount, type, status, transaction_date)
+                SELECT '00000000-0000-0000-0000-0000000000b1',
+                       ('00000000-0000-0000-0001-' || lpad((g % 4)::text, 12, '0'))::uuid,
+                       ('00000000-0000-0000-0002-' || lpad((g % 10)::text, 12, '0'))::uuid,
+                       CASE WHEN g % 10 = 0 THEN ('00000000-0000-0000-0001-' || lpad(((g + 1) % 4)::text, 12, '0'))::uuid END,
+                       'Purchase ' || g, (g % 500) + 0.5, 'EXPENSE', 'COMPLETED', DATE '2025-01-01' + (g % 365)
+                FROM generate_series(1, 5000) g
+                """).executeUpdate();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void projectionPathShouldAllocateLessThanEntityPath() {
+        Result entity = measure("entity", () -> entityManager.createQuery(
+                        "SELECT t FROM Transaction t WHERE t.user.id = :userId ORDER BY t.transactionDate DESC",
+                        Transaction.class)
+                .setParameter("userId", USER_ID)
+                .setFirstResult((int) PAGE.getOffset())
+                .setMaxResults(PAGE.getPageSize())
+                .getResultStream()
+                .map(TransactionListingBenchmarkTest::toResponse)
+                .toList());
+        Result projection = measure("projection", () -> transactionRepository.findAllResponsesByUserId(USER_ID, PAGE)
+                .getContent());
+
+        System.out.printf("%-10s %12s %14s%n", "path", "bytes/page", "pages/s");
+        for (Result result : List.of(entity, projection)) {
+            System.out.printf("%-10s %12d %14.1f%n", result.name(), result.bytesPerPage(), result.pagesPerSecond());
+        }
+
+        assertThat(projection.bytesPerPage()).isLessThan(entity.bytesPerPage());
+    }
+
+    private Result measure(String name, Supplier<List<TransactionResponse>> page) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            assertThat(page.get()).hasSize(PAGE.getPageSize());
+            entityManager.clear();
+        }
+
+        long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            page.get();
+            entityManager.clear();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        return new Result(name, allocated / MEASURED_ITERATIONS, MEASURED_ITERATIONS / (elapsed / 1e9));
+    }
+
+    private static TransactionResponse toResponse(Transaction t) {
+        return new TransactionResponse(
+                t.getId(),
+                t.getAccount().getId(),
+                t.getAccount().getName(),
+                t.getCategory() != null ? t.getCategory().getId() : null,
+                t.getCategory() != null ? t.getCategory().getName() : null,
+                t.getDestinationAccount() != null ? t.getDestinationAccount().getId() : null,
+                t.getDestinationAccount() != null ? t.getDestinationAccount().getName() : null,
+                t.getDescription(),
+                t.getAmount(),
+                t.getType(),
+                t.getStatus(),
+                t.getTransactionDate(),
+                t.getNotes(),
+                t.getCreatedAt()
+        );
+    }
+
+    private record Result(String name, long bytesPerPage, double pagesPerSecond) {}
+}
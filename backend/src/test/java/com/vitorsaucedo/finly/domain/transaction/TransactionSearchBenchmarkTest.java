@@ -0,0 +1,112 @@
+package com.vitorsaucedo.finly.domain.transaction;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class TransactionSearchBenchmarkTest {
+
+    private static final UUID USER_ID = UUID.fromString("00000000-0000-0000-0000-0000000000c1");
+    private static final int PAGE_SIZE = 21;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASURED_ITERATIONS = 100;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+    @Autowired private TransactionRepository transactionRepository;
+    @Autowired private EntityManager entityManager;
+
+    @BeforeEach
+    void seed() {
+        entityManager.createNativeQuery("""
+                INSERT INTO users (id, name, email, password)
+                VALUES ('00000000-0000-0000-0000-0000000000c1', 'Bench', 'search@finly.local', 'x')
+                """).executeUpdate();
+        entityManager.createNativeQuery("""
+                INSERT INTO accounts (id, user_id, name, type)
+                VALUES ('00000000-0000-0000-0001-0000000000c1', '00000000-0000-0000-0000-0000000000c1',
+                        'Bench checking', 'CHECKING')
+                """).executeUpdate();
+        entityManager.createNativeQuery("""
+                INSERT INTO transactions (user_id, account_id, description, amount, type, status,
+                                          transaction_date, notes)
+                SELECT '00000000-0000-0000-0000-0000000000c1',
+                       '00000000-0000-0000-0001-0000000000c1',
+                       (ARRAY['Uber trip', 'iFood pedido', 'Supermercado Extra', 'Netflix', 'Posto Shell',
+                              'Farmacia Drogasil', 'Amazon compra', 'Spotify', 'Padaria', 'Aluguel'])[1 + (g % 10)]
+                           || ' #' || g,
+                       (g % 500) + 0.5,
+                       'EXPENSE',
+                       'COMPLETED',
+                       DATE '2020-01-01' + (g % 2190),
+                       CASE WHEN g % 7 = 0 THEN 'reembolso empresa projeto ' || (g % 97) END
+                FROM generate_series(1, 200000) g
+                """).executeUpdate();
+        entityManager.createNativeQuery("ANALYZE transactions").executeUpdate();
+        entityManager.flush();
+    }
+
+    @Test
+    void searchShapesShouldAnswerWithinHundredMilliseconds() {
+        Map<String, TransactionSearchCriteria> shapes = new LinkedHashMap<>();
+        shapes.put("full-text", criteria("uber", null, null, null, null));
+        shapes.put("typo", criteria("drogasill", null, null, null, null));
+        shapes.put("combined", criteria("reembolso", new BigDecimal("100"), new BigDecimal("200"),
+                LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31)));
+
+        System.out.printf("%-10s %10s %10s%n", "shape", "p50 ms", "p95 ms");
+        for (Map.Entry<String, TransactionSearchCriteria> shape : shapes.entrySet()) {
+            long[] latencies = measure(shape.getValue());
+            System.out.printf("%-10s %10.2f %10.2f%n", shape.getKey(), millis(latencies, 0.5), millis(latencies, 0.95));
+
+            assertThat(millis(latencies, 0.95)).as(shape.getKey()).isLessThan(100.0);
+        }
+    }
+
+    private long[] measure(TransactionSearchCriteria criteria) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            assertThat(transactionRepository.search(USER_ID, criteria, null, PAGE_SIZE)).isNotEmpty();
+        }
+
+        long[] latencies = new long[MEASURED_ITERATIONS];
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            transactionRepository.search(USER_ID, criteria, null, PAGE_SIZE);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static TransactionSearchCriteria criteria(String query, BigDecimal minAmount, BigDecimal maxAmount,
+                                                      LocalDate startDate, LocalDate endDate) {
+        return new TransactionSearchCriteria(query, null, null, minAmount, maxAmount, startDate, endDate);
+    }
+
+    private static double millis(long[] sorted, double percentile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.floor(percentile * sorted.length))] / 1e6;
+    }
+}
@@ -4,25 +4,36 @@ import com.vitorsaucedo.finly.domain.account.Account;
 import com.vitorsaucedo.finly.domain.account.AccountRepository;
 import com.vitorsaucedo.finly.domain.account.AccountService;
 import com.vitorsaucedo.finly.domain.account.AccountType;
-import com.vitorsaucedo.finly.domain.budget.BudgetService;
+import com.vitorsaucedo.finly.domain.account.BalanceHistoryService;
 import com.vitorsaucedo.finly.domain.category.Category;
 import com.vitorsaucedo.finly.domain.category.CategoryService;
 import com.vitorsaucedo.finly.domain.category.CategoryType;
 import com.vitorsaucedo.finly.domain.user.User;
 import com.vitorsaucedo.finly.domain.user.UserService;
 import com.vitorsaucedo.finly.dto.request.TransactionRequest;
+import com.vitorsaucedo.finly.dto.response.CursorPageResponse;
 import com.vitorsaucedo.finly.dto.response.TransactionResponse;
 import com.vitorsaucedo.finly.exception.BusinessException;
 import com.vitorsaucedo.finly.exception.ResourceNotFoundException;
+import com.vitorsaucedo.finly.outbox.OutboxEventType;
+import com.vitorsaucedo.finly.outbox.OutboxService;
+import com.vitorsaucedo.finly.util.FieldSelection;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -38,7 +49,9 @@ class TransactionServiceTest {
     @Mock private AccountRepository accountRepository;
     @Mock private CategoryService categoryService;
     @Mock private UserService userService;
-    @Mock private BudgetService budgetService;
+    @Mock private BalanceHistoryService balanceHistoryService;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private OutboxService outboxService;
 
     @InjectMocks
     private TransactionService transactionService;
@@ -98,6 +111,7 @@ class TransactionServiceTest {
         assertThat(response.type()).isEqualTo(TransactionType.INCOME);
         assertThat(account.getBalance()).isEqualByComparingTo("4000.00");
         verify(accountRepository).save(account);
+        verify(balanceHistoryService).recordChange(account, request.transactionDate(), new BigDecimal("3000.00"));
     }
 
     @Test
@@ -122,7 +136,65 @@ class TransactionServiceTest {
 
         assertThat(response.amount()).isEqualByComparingTo("50.00");
         assertThat(account.getBalance()).isEqualByComparingTo("950.00");
-        verify(budgetService).updateSpentAmount(eq(userId), eq(category.getId()), anyInt(), anyInt(), eq(new BigDecimal("50.00")));
+        verify(outboxService).append(eq(userId), eq(OutboxEventType.TRANSACTION_CREATED), eq(response.id()),
+                argThat(payload -> payload instanceof TransactionChangedPayload p
+                        && category.getId().equals(p.categoryId())
+                        && p.amount().compareTo(new BigDecimal("50.00")) == 0));
+    }
+
+    @Test
+    void shouldCreateBatchWithOneBalanceUpdateAndOneEventPerSlice() {
+        LocalDate today = LocalDate.now();
+        List<Transaction> batch = List.of(
+                expense("Phone (1/3)", "100.00", today),
+                expense("Phone (2/3)", "100.00", today),
+                expense("Phone (3/3)", "100.00", today));
+        when(transactionRepository.saveAll(batch)).thenAnswer(inv -> {
+            List<Transaction> transactions = inv.getArgument(0);
+            transactions.forEach(t -> t.setId(UUID.randomUUID()));
+            return transactions;
+        });
+
+        List<Transaction> saved = transactionService.createBatch(batch, userId);
+
+        assertThat(saved).hasSize(3);
+        assertThat(account.getBalance()).isEqualByComparingTo("700.00");
+        verify(accountRepository, times(1)).save(account);
+        verify(balanceHistoryService, times(1)).recordChange(account, today, new BigDecimal("-300.00"));
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+        verify(outboxService, times(1)).append(eq(userId), eq(OutboxEventType.TRANSACTIONS_CREATED),
+                eq(account.getId()),
+                argThat(payload -> payload instanceof TransactionChangedPayload p
+                        && p.transactionId() == null
+                        && category.getId().equals(p.categoryId())
+                        && p.amount().compareTo(new BigDecimal("300.00")) == 0));
+        verify(transactionRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldRejectTransfersInBatch() {
+        Transaction transfer = expense("Move", "10.00", LocalDate.now());
+        transfer.setType(TransactionType.TRANSFER);
+
+        assertThatThrownBy(() -> transactionService.createBatch(List.of(transfer), userId))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Transfers cannot be created in a batch");
+        verifyNoInteractions(transactionRepository, accountRepository, outboxService);
+    }
+
+    @Test
+    void shouldRejectBatchWithAccountOfAnotherUser() {
+        Transaction foreign = expense("Phone (1/3)", "100.00", LocalDate.now());
+        foreign.setAccount(Account.builder()
+                .id(UUID.randomUUID())
+                .user(User.builder().id(UUID.randomUUID()).build())
+                .balance(BigDecimal.ZERO)
+                .build());
+
+        assertThatThrownBy(() -> transactionService.createBatch(List.of(foreign), userId))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Account not found");
+        verifyNoInteractions(transactionRepository, accountRepository, outboxService);
     }
 
     @Test
@@ -156,13 +228,25 @@ class TransactionServiceTest {
     @Test
     void shouldThrowWhenTransactionNotFound() {
         UUID id = UUID.randomUUID();
-        when(transactionRepository.findByIdAndUserId(id, userId)).thenReturn(Optional.empty());
+        when(transactionRepository.findResponseByIdAndUserId(id, userId)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> transactionService.findById(id, userId))
+        assertThatThrownBy(() -> transactionService.findById(id, userId, FieldSelection.all()))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessage("Transaction not found");
     }
 
+    @Test
+    void shouldLoadSingleTransactionThroughProjectionWhenFieldsAreSelected() {
+        UUID id = UUID.randomUUID();
+        FieldSelection fields = FieldSelection.parse("amount", TransactionResponse.class, "id");
+        TransactionResponse sparse = searchHit("Lunch", 0).transaction();
+        when(transactionRepository.findAllProjected(any(), eq(Pageable.unpaged()), eq(fields)))
+                .thenReturn(new PageImpl<>(List.of(sparse)));
+
+        assertThat(transactionService.findById(id, userId, fields)).isSameAs(sparse);
+        verify(transactionRepository, never()).findResponseByIdAndUserId(any(), any());
+    }
+
     @Test
     void shouldNotUpdateBalanceWhenTransactionIsPending() {
         TransactionRequest request = new TransactionRequest(
@@ -184,5 +268,137 @@ class TransactionServiceTest {
 
         assertThat(account.getBalance()).isEqualByComparingTo("1000.00");
         verify(accountRepository, never()).save(account);
+        verify(balanceHistoryService, never()).recordChange(any(), any(), any());
+    }
+
+    @Test
+    void shouldThrowWhenSearchQueryIsBlank() {
+        TransactionSearchCriteria criteria = new TransactionSearchCriteria(
+                "  ", null, null, null, null, null, null);
+
+        assertThatThrownBy(() -> transactionService.search(userId, criteria, null, 20))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Search query must not be blank");
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    void shouldReturnNextCursorWhenMoreSearchResultsExist() {
+        TransactionSearchCriteria criteria = new TransactionSearchCriteria(
+                "uber", null, null, null, null, null, null);
+        List<TransactionSearchHit> hits = List.of(
+                searchHit("Uber trip", 0.9),
+                searchHit("Uber eats", 0.7),
+                searchHit("Uber one", 0.5)
+        );
+
+        when(transactionRepository.search(userId, criteria, null, 3)).thenReturn(hits);
+
+        CursorPageResponse<TransactionResponse> page = transactionService.search(userId, criteria, null, 2);
+
+        assertThat(page.content()).extracting(TransactionResponse::description)
+                .containsExactly("Uber trip", "Uber eats");
+        assertThat(TransactionSearchCursor.decode(page.nextCursor())).isEqualTo(hits.get(1).toCursor());
+    }
+
+    @Test
+    void shouldOmitNextCursorOnLastSearchPage() {
+        TransactionSearchCriteria criteria = new TransactionSearchCriteria(
+                "uber", account.getId(), null, null, null, null, null);
+        TransactionSearchCursor after = new TransactionSearchCursor(0.5, LocalDate.now(), UUID.randomUUID());
+
+        when(transactionRepository.search(userId, criteria, after, 21))
+                .thenReturn(List.of(searchHit("Uber trip", 0.4)));
+
+        CursorPageResponse<TransactionResponse> page =
+                transactionService.search(userId, criteria, after.encode(), 20);
+
+        assertThat(page.content()).hasSize(1);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void shouldRejectMalformedSearchCursor() {
+        TransactionSearchCriteria criteria = new TransactionSearchCriteria(
+                "uber", null, null, null, null, null, null);
+
+        assertThatThrownBy(() -> transactionService.search(userId, criteria, "not-a-cursor", 20))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    void shouldReturnProjectedPageForFilter() {
+        TransactionFilter filter = new TransactionFilter(
+                account.getId(), null, TransactionType.EXPENSE, TransactionStatus.COMPLETED,
+                LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31), null, null, "uber");
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<TransactionResponse> expected = new PageImpl<>(
+                List.of(searchHit("Uber trip", 0).transaction()), pageable, 1);
+
+        when(transactionRepository.findAllProjected(any(), eq(pageable), eq(FieldSelection.all())))
+                .thenReturn(expected);
+
+        Page<TransactionResponse> page = transactionService.filter(userId, filter, pageable, FieldSelection.all());
+
+        assertThat(page).isSameAs(expected);
+    }
+
+    @Test
+    void shouldListTransactionsThroughProjection() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<TransactionResponse> expected = new PageImpl<>(
+                List.of(searchHit("Lunch", 0).transaction()), pageable, 1);
+
+        when(transactionRepository.findAllResponsesByUserId(userId, pageable)).thenReturn(expected);
+
+        assertThat(transactionService.findAll(userId, pageable, FieldSelection.all())).isSameAs(expected);
+    }
+
+    @Test
+    void shouldListSparseFieldsThroughCriteriaProjection() {
+        Pageable pageable = PageRequest.of(0, 10);
+        FieldSelection fields = FieldSelection.parse("amount,transactionDate", TransactionResponse.class, "id");
+        Page<TransactionResponse> expected = new PageImpl<>(
+                List.of(searchHit("Lunch", 0).transaction()), pageable, 1);
+
+        when(transactionRepository.findAllProjected(any(), eq(pageable), eq(fields))).thenReturn(expected);
+
+        assertThat(transactionService.findAll(userId, pageable, fields)).isSameAs(expected);
+        verify(transactionRepository, never()).findAllResponsesByUserId(any(), any());
+    }
+
+    @Test
+    void shouldRejectInvertedAmountRangeInFilter() {
+        TransactionFilter filter = new TransactionFilter(
+                null, null, null, null, null, null,
+                new BigDecimal("200.00"), new BigDecimal("100.00"), null);
+
+        assertThatThrownBy(() -> transactionService.filter(userId, filter, PageRequest.of(0, 10),
+                FieldSelection.all()))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Minimum amount must not exceed maximum amount");
+        verifyNoInteractions(transactionRepository);
+    }
+
+    private Transaction expense(String description, String amount, LocalDate date) {
+        return Transaction.builder()
+                .user(user)
+                .account(account)
+                .category(category)
+                .description(description)
+                .amount(new BigDecimal(amount))
+                .type(TransactionType.EXPENSE)
+                .status(TransactionStatus.COMPLETED)
+                .transactionDate(date)
+                .build();
+    }
+
+    private TransactionSearchHit searchHit(String description, double score) {
+        return new TransactionSearchHit(new TransactionResponse(
+                UUID.randomUUID(), account.getId(), account.getName(), null, null, null, null,
+                description, new BigDecimal("25.00"), TransactionType.EXPENSE, TransactionStatus.COMPLETED,
+                LocalDate.now(), null, LocalDateTime.now()
+        ), score);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,238 @@
+package com.vitorsaucedo.finly.outbox;
+
+import com.vitorsaucedo.finly.config.OutboxConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock private OutboxEventRepository outboxEventRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private OutboxEventConsumer consumer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay relay;
+    private OutboxEvent event;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        lenient().when(consumer.name()).thenReturn("test-consumer");
+        lenient().when(consumer.eventTypes()).thenReturn(Set.of(OutboxEventType.TRANSACTION_CREATED));
+
+        relay = new OutboxRelay(outboxEventRepository, List.of(consumer), transactionManager, meterRegistry,
+                new OutboxConfig(10, Duration.ofSeconds(30), Duration.ofMinutes(5), 3, Duration.ofDays(7), null));
+
+        event = OutboxEvent.builder()
+                .id(UUID.randomUUID())
+                .userId(UUID.randomUUID())
+                .eventType(OutboxEventType.TRANSACTION_CREATED)
+                .aggregateId(UUID.randomUUID())
+                .payload("{}")
+                .createdAt(LocalDateTime.now())
+                .availableAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    void shouldDeliverClaimedEventAndMarkItProcessed() {
+        when(outboxEventRepository.lockNextBatch(any(), eq(10))).thenReturn(List.of(event));
+        when(outboxEventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+        when(outboxEventRepository.markConsumed("test-consumer", event.getId())).thenReturn(1);
+        when(outboxEventRepository.findOldestPendingCreatedAt()).thenReturn(Optional.empty());
+
+        relay.relay();
+
+        verify(consumer).consume(event);
+        assertThat(event.getProcessedAt()).isNotNull();
+        assertThat(meterRegistry.get("finly.outbox.dispatched").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldSkipConsumerThatAlreadyHandledTheEvent() {
+        when(outboxEventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+        when(outboxEventRepository.markConsumed("test-consumer", event.getId())).thenReturn(0);
+
+        relay.dispatch(event.getId());
+
+        verify(consumer, never()).consume(any());
+        assertThat(event.getProcessedAt()).isNotNull();
+    }
+
+    @Test
+    void shouldIgnoreEventTypesTheConsumerDoesNotHandle() {
+        event.setEventType(OutboxEventType.GOAL_DEPOSITED);
+        when(outboxEventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+
+        relay.dispatch(event.getId());
+
+        verify(outboxEventRepository, never()).markConsumed(any(), any());
+        verify(consumer, never()).consume(any());
+        assertThat(event.getProcessedAt()).isNotNull();
+    }
+
+    @Test
+    void shouldScheduleRetryWhenConsumerFails() {
+        when(outboxEventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+        when(outboxEventRepository.markConsumed("test-consumer", event.getId())).thenReturn(1);
+        doThrow(new IllegalStateException("boom")).when(consumer).consume(event);
+
+        LocalDateTime before = LocalDateTime.now();
+        relay.dispatch(event.getId());
+
+        assertThat(event.getAttempts()).isEqualTo(1);
+        assertThat(event.getLastError()).contains("boom");
+        assertThat(event.getAvailableAt()).isAfter(before);
+        assertThat(meterRegistry.get("finly.outbox.failed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldMarkEventFailedOnceAttemptsAreExhausted() {
+        event.setAttempts(2);
+        when(outboxEventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+        when(outboxEventRepository.markConsumed("test-consumer", event.getId())).thenReturn(1);
+        doThrow(new IllegalStateException("poison")).when(consumer).consume(event);
+
+        relay.dispatch(event.getId());
+
+        assertThat(event.getAttempts()).isEqualTo(3);
+        assertThat(event.getFailedAt()).isNotNull();
+        assertThat(event.getProcessedAt()).isNull();
+        assertThat(meterRegistry.get("finly.outbox.dead-lettered").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("finly.outbox.failed").counter().count()).isZero();
+    }
+
+    @Test
+    void shouldSkipFailedEvents() {
+        event.setFailedAt(LocalDateTime.now());
+        when(outboxEventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+
+        relay.dispatch(event.getId());
+
+        verify(outboxEventRepository, never()).markConsumed(any(), any());
+        verify(consumer, never()).consume(any());
+    }
+
+    @Test
+    void shouldNotRerunConsumersThatSucceededWhenAnotherFails() {
+        OutboxEventConsumer failing = mock(OutboxEventConsumer.class);
+        when(failing.name()).thenReturn("failing-consumer");
+        when(failing.eventTypes()).thenReturn(Set.of(OutboxEventType.TRANSACTION_CREATED));
+        doThrow(new IllegalStateException("boom")).doNothing().when(failing).consume(event);
+        relay = new OutboxRelay(outboxEventRepository, List.of(consumer, failing), transactionManager,
+                meterRegistry, new OutboxConfig(10, Duration.ofSeconds(30), Duration.ofMinutes(5), 3, null, null));
+
+        when(outboxEventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+        when(outboxEventRepository.markConsumed("test-consumer", event.getId())).thenReturn(1, 0);
+        when(outboxEventRepository.markConsumed("failing-consumer", event.getId())).thenReturn(1);
+
+        relay.dispatch(event.getId());
+
+        assertThat(event.getProcessedAt()).isNull();
+        assertThat(event.getAttempts()).isEqualTo(1);
+        verify(transactionManager, atLeastOnce()).rollback(any());
+
+        relay.dispatch(event.getId());
+
+        verify(consumer, times(1)).consume(event);
+        verify(failing, times(2)).consume(event);
+        assertThat(event.getProcessedAt()).isNotNull();
+    }
+
+    @Test
+    void shouldLeaseClaimedEvents() {
+        when(outboxEventRepository.lockNextBatch(any(), eq(10))).thenReturn(List.of(event));
+
+        List<UUID> claimed = relay.claimBatch();
+
+        assertThat(claimed).containsExactly(event.getId());
+        assertThat(event.getAvailableAt()).isAfter(LocalDateTime.now().plusSeconds(20));
+    }
+
+    @Test
+    void shouldNotClaimPerInstanceConsumersOnceForTheWholeCluster() {
+        OutboxEventConsumer local = perInstanceConsumer("local-cache");
+        relay = new OutboxRelay(outboxEventRepository, List.of(consumer, local), transactionManager, meterRegistry,
+                new OutboxConfig(10, Duration.ofSeconds(30), Duration.ofMinutes(5), 3, null, null));
+        when(outboxEventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+        when(outboxEventRepository.markConsumed("test-consumer", event.getId())).thenReturn(1);
+
+        relay.dispatch(event.getId());
+
+        verify(consumer).consume(event);
+        verify(outboxEventRepository, never()).markConsumed(eq("local-cache"), any());
+        verify(local, never()).consume(any());
+        assertThat(event.getProcessedAt()).isNotNull();
+    }
+
+    @Test
+    void shouldDeliverPerInstanceConsumersOnEveryRelayAndSharedConsumersOnce() {
+        OutboxEventConsumer firstCache = perInstanceConsumer("local-cache");
+        OutboxEventConsumer secondCache = perInstanceConsumer("local-cache");
+        OutboxRelay first = new OutboxRelay(outboxEventRepository, List.of(consumer, firstCache), transactionManager,
+                meterRegistry, new OutboxConfig(10, Duration.ofSeconds(30), Duration.ofMinutes(5), 3, null, null));
+        OutboxRelay second = new OutboxRelay(outboxEventRepository, List.of(consumer, secondCache), transactionManager,
+                meterRegistry, new OutboxConfig(10, Duration.ofSeconds(30), Duration.ofMinutes(5), 3, null, null));
+        when(outboxEventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+        when(outboxEventRepository.markConsumed("test-consumer", event.getId())).thenReturn(1, 0);
+        when(outboxEventRepository.findCreatedSince(any(), any())).thenReturn(List.of(event));
+
+        first.dispatch(event.getId());
+        second.dispatch(event.getId());
+        first.broadcast();
+        second.broadcast();
+        first.broadcast();
+        second.broadcast();
+
+        verify(consumer, times(1)).consume(event);
+        verify(firstCache, times(1)).consume(event);
+        verify(secondCache, times(1)).consume(event);
+    }
+
+    @Test
+    void shouldKeepBroadcastingWhenPerInstanceConsumerFails() {
+        OutboxEventConsumer local = perInstanceConsumer("local-cache");
+        relay = new OutboxRelay(outboxEventRepository, List.of(local), transactionManager, meterRegistry,
+                new OutboxConfig(10, Duration.ofSeconds(30), Duration.ofMinutes(5), 3, null, null));
+        OutboxEvent next = OutboxEvent.builder()
+                .id(UUID.randomUUID())
+                .userId(event.getUserId())
+                .eventType(OutboxEventType.TRANSACTION_CREATED)
+                .payload("{}")
+                .createdAt(event.getCreatedAt().plusSeconds(1))
+                .build();
+        doThrow(new IllegalStateException("boom")).when(local).consume(event);
+        when(outboxEventRepository.findCreatedSince(any(), any())).thenReturn(List.of(event, next));
+
+        relay.broadcast();
+
+        verify(local).consume(next);
+    }
+
+    private static OutboxEventConsumer perInstanceConsumer(String name) {
+        OutboxEventConsumer local = mock(OutboxEventConsumer.class);
+        lenient().when(local.name()).thenReturn(name);
+        when(local.eventTypes()).thenReturn(Set.of(OutboxEventType.TRANSACTION_CREATED));
+        when(local.perInstance()).thenReturn(true);
+        return local;
+    }
+}
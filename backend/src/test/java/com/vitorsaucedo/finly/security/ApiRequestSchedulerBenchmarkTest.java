@@ -0,0 +1,136 @@
+package com.vitorsaucedo.finly.security;
+
+import com.vitorsaucedo.finly.config.ApiRateLimitConfig;
+import com.vitorsaucedo.finly.exception.ServiceUnavailableException;
+import com.vitorsaucedo.finly.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Tag("benchmark")
+class ApiRequestSchedulerBenchmarkTest {
+
+    private static final int POOL_SIZE = 5;
+    private static final Duration QUERY_TIME = Duration.ofMillis(4);
+    private static final Duration RUN_TIME = Duration.ofSeconds(3);
+    private static final int HEAVY_CLIENTS = 48;
+    private static final int LIGHT_USERS = 4;
+
+    @Test
+    void shouldKeepLightUsersFastWhileOneUserFloodsTheApi() throws Exception {
+        Result unscheduled = run("none", null);
+        Result fairQueue = run("fair queue", new ApiRateLimitConfig(1_000_000, Duration.ofNanos(1), null,
+                POOL_SIZE - 1, 16, Duration.ofSeconds(10), null));
+        Result rateLimited = run("rate limit", new ApiRateLimitConfig(60, Duration.ofMillis(250), null,
+                POOL_SIZE - 1, 16, Duration.ofSeconds(10), null));
+
+        System.out.printf("%-12s %12s %12s %12s %12s %12s%n",
+                "scheduler", "heavy ok", "heavy 429", "light ok", "light p50 ms", "light p99 ms");
+        for (Result result : List.of(unscheduled, fairQueue, rateLimited)) {
+            System.out.printf("%-12s %12d %12d %12d %12.1f %12.1f%n", result.name(), result.heavyServed(),
+                    result.heavyRejected(), result.lightServed(), result.lightP50Millis(), result.lightP99Millis());
+        }
+
+        assertThat(fairQueue.lightP99Millis()).isLessThan(unscheduled.lightP99Millis() / 2);
+        assertThat(fairQueue.lightServed()).isGreaterThan(unscheduled.lightServed());
+        assertThat(rateLimited.heavyRejected()).isPositive();
+    }
+
+    private Result run(String name, ApiRateLimitConfig config) throws Exception {
+        ApiRequestScheduler scheduler = config != null ? new ApiRequestScheduler(config, new SimpleMeterRegistry()) : null;
+        Semaphore connections = new Semaphore(POOL_SIZE, true);
+
+        AtomicInteger heavyServed = new AtomicInteger();
+        AtomicInteger heavyRejected = new AtomicInteger();
+        ConcurrentLinkedQueue<Long> lightLatencies = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            long[] deadline = new long[1];
+            for (int i = 0; i < HEAVY_CLIENTS; i++) {
+                futures.add(clients.submit(() -> {
+                    start.await();
+                    while (System.nanoTime() < deadline[0]) {
+                        if (request(scheduler, connections, "heavy")) {
+                            heavyServed.incrementAndGet();
+                        } else {
+                            heavyRejected.incrementAndGet();
+                            Thread.sleep(1);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (int i = 0; i < LIGHT_USERS; i++) {
+                String subject = "light-" + i;
+                futures.add(clients.submit(() -> {
+                    start.await();
+                    while (System.nanoTime() < deadline[0]) {
+                        long t0 = System.nanoTime();
+                        if (request(scheduler, connections, subject)) {
+                            lightLatencies.add(System.nanoTime() - t0);
+                        }
+                        Thread.sleep(20);
+                    }
+                    return null;
+                }));
+            }
+
+            deadline[0] = System.nanoTime() + RUN_TIME.toNanos();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        long[] sorted = lightLatencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        return new Result(name, heavyServed.get(), heavyRejected.get(), sorted.length,
+                percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.99));
+    }
+
+    private static boolean request(ApiRequestScheduler scheduler, Semaphore connections, String subject)
+            throws InterruptedException {
+        if (scheduler == null) {
+            query(connections);
+            return true;
+        }
+        try (ApiRequestScheduler.Permit permit = scheduler.admit(subject, "/api/dashboard")) {
+            query(connections);
+            return true;
+        } catch (TooManyRequestsException | ServiceUnavailableException e) {
+            return false;
+        }
+    }
+
+    private static void query(Semaphore connections) throws InterruptedException {
+        connections.acquire();
+        try {
+            Thread.sleep(QUERY_TIME);
+        } finally {
+            connections.release();
+        }
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private record Result(String name, int heavyServed, int heavyRejected, int lightServed,
+                          double lightP50Millis, double lightP99Millis) {}
+}
@@ -0,0 +1,184 @@
+package com.vitorsaucedo.finly.security;
+
+import com.vitorsaucedo.finly.config.ApiRateLimitConfig;
+import com.vitorsaucedo.finly.exception.ServiceUnavailableException;
+import com.vitorsaucedo.finly.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ApiRequestSchedulerTest {
+
+    private final AtomicLong clock = new AtomicLong(-5_000_000_000L);
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void shouldRejectUserOverBudgetWithRetryAfter() {
+        ApiRequestScheduler scheduler = scheduler(3, Duration.ofSeconds(2), 10, 10, Map.of());
+
+        for (int i = 0; i < 3; i++) {
+            scheduler.admit("alice", "/api/accounts").close();
+        }
+
+        assertThatThrownBy(() -> scheduler.admit("alice", "/api/accounts"))
+                .isInstanceOfSatisfying(TooManyRequestsException.class,
+                        e -> assertThat(e.getRetryAfter()).isEqualTo(Duration.ofSeconds(2)));
+        assertThat(rejected("rate_limit")).isEqualTo(1);
+
+        scheduler.admit("bob", "/api/accounts").close();
+    }
+
+    @Test
+    void shouldRefillBudgetOverTime() {
+        ApiRequestScheduler scheduler = scheduler(1, Duration.ofSeconds(1), 10, 10, Map.of());
+
+        scheduler.admit("alice", "/api/accounts").close();
+        assertThatThrownBy(() -> scheduler.admit("alice", "/api/accounts"))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        scheduler.admit("alice", "/api/accounts").close();
+    }
+
+    @Test
+    void shouldServeWaitingUsersInFairOrder() throws Exception {
+        ApiRequestScheduler scheduler = scheduler(100, Duration.ofMillis(1), 1, 10, Map.of());
+        ApiRequestScheduler.Permit holder = scheduler.admit("holder", "/api/accounts");
+
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (String subject : List.of("heavy", "heavy", "heavy", "light")) {
+                int expected = futures.size() + 1;
+                futures.add(executor.submit(() -> {
+                    try (ApiRequestScheduler.Permit permit = scheduler.admit(subject, "/api/accounts")) {
+                        order.add(subject);
+                    }
+                }));
+                awaitQueued(scheduler, expected);
+            }
+
+            holder.close();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertThat(order).containsExactly("heavy", "light", "heavy", "heavy");
+    }
+
+    @Test
+    void shouldChargeCostlyPathsMoreOfTheUsersShare() throws Exception {
+        ApiRequestScheduler scheduler = scheduler(100, Duration.ofMillis(1), 1, 10,
+                Map.of("/api/dashboard", 3));
+        ApiRequestScheduler.Permit holder = scheduler.admit("holder", "/api/accounts");
+
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            List<String[]> requests = List.of(
+                    new String[]{"heavy", "/api/dashboard"},
+                    new String[]{"heavy", "/api/dashboard"},
+                    new String[]{"light", "/api/accounts"},
+                    new String[]{"light", "/api/accounts"});
+            for (String[] request : requests) {
+                int expected = futures.size() + 1;
+                futures.add(executor.submit(() -> {
+                    try (ApiRequestScheduler.Permit permit = scheduler.admit(request[0], request[1])) {
+                        order.add(request[0]);
+                    }
+                }));
+                awaitQueued(scheduler, expected);
+            }
+
+            holder.close();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertThat(order).containsExactly("heavy", "light", "light", "heavy");
+    }
+
+    @Test
+    void shouldRejectWhenUserQueueIsFull() throws Exception {
+        ApiRequestScheduler scheduler = scheduler(100, Duration.ofMillis(1), 1, 1, Map.of());
+        ApiRequestScheduler.Permit holder = scheduler.admit("holder", "/api/accounts");
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<?> queued = executor.submit(() -> scheduler.admit("alice", "/api/accounts").close());
+            awaitQueued(scheduler, 1);
+
+            assertThatThrownBy(() -> scheduler.admit("alice", "/api/accounts"))
+                    .isInstanceOf(TooManyRequestsException.class);
+            assertThat(rejected("queue_full")).isEqualTo(1);
+
+            holder.close();
+            queued.get();
+        }
+    }
+
+    @Test
+    void shouldFailWithServiceUnavailableWhenQueueWaitTimesOut() {
+        ApiRateLimitConfig config = new ApiRateLimitConfig(100, Duration.ofMillis(1), 1 << 20, 1, 10,
+                Duration.ofMillis(50), Map.of());
+        ApiRequestScheduler scheduler = new ApiRequestScheduler(config, meterRegistry, clock::get);
+        ApiRequestScheduler.Permit holder = scheduler.admit("holder", "/api/accounts");
+
+        assertThatThrownBy(() -> scheduler.admit("alice", "/api/accounts"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(scheduler.queued()).isZero();
+        assertThat(rejected("queue_timeout")).isEqualTo(1);
+
+        holder.close();
+        scheduler.admit("alice", "/api/accounts").close();
+    }
+
+    @Test
+    void shouldReleasePermitOnlyOnce() {
+        ApiRequestScheduler scheduler = scheduler(100, Duration.ofMillis(1), 1, 10, Map.of());
+
+        ApiRequestScheduler.Permit permit = scheduler.admit("alice", "/api/accounts");
+        permit.close();
+        permit.close();
+
+        scheduler.admit("bob", "/api/accounts");
+        assertThat(meterRegistry.get("finly.api.scheduler.active").gauge().value()).isEqualTo(1);
+    }
+
+    private ApiRequestScheduler scheduler(int burst, Duration interval, int concurrency, int maxQueued,
+                                          Map<String, Integer> costs) {
+        ApiRateLimitConfig config = new ApiRateLimitConfig(burst, interval, 1 << 20, concurrency, maxQueued,
+                Duration.ofSeconds(10), costs);
+        return new ApiRequestScheduler(config, meterRegistry, clock::get);
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get("finly.api.scheduler.rejected").tag("reason", reason).counter().count();
+    }
+
+    private static void awaitQueued(ApiRequestScheduler scheduler, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (scheduler.queued() < expected) {
+            if (System.nanoTime() > deadline) fail("Requests were not queued in time");
+            Thread.sleep(1);
+        }
+    }
+}
@@ -3,19 +3,22 @@ package com.vitorsaucedo.finly.security;
 import com.vitorsaucedo.finly.domain.user.User;
 import com.vitorsaucedo.finly.domain.user.UserRepository;
 import com.vitorsaucedo.finly.dto.request.LoginRequest;
+import com.vitorsaucedo.finly.dto.request.RefreshTokenRequest;
 import com.vitorsaucedo.finly.dto.request.RegisterRequest;
 import com.vitorsaucedo.finly.dto.response.AuthResponse;
 import com.vitorsaucedo.finly.exception.BusinessException;
+import com.vitorsaucedo.finly.exception.InvalidTokenException;
+import com.vitorsaucedo.finly.exception.TooManyRequestsException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -26,18 +29,23 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class AuthServiceTest {
 
+    private static final String CLIENT_IP = "203.0.113.7";
+
     @Mock
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
 
     @Mock
-    private AuthenticationManager authenticationManager;
+    private LoginRateLimiter loginRateLimiter;
 
     @Mock
     private JwtService jwtService;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
     @InjectMocks
     private AuthService authService;
 
@@ -46,13 +54,13 @@ class AuthServiceTest {
         RegisterRequest request = new RegisterRequest("John Doe", "john@email.com", "password123");
 
         when(userRepository.existsByEmail(request.email())).thenReturn(false);
-        when(passwordEncoder.encode(request.password())).thenReturn("encoded_password");
+        when(passwordHasher.encode(request.password())).thenReturn("encoded_password");
         when(userRepository.save(any(User.class))).thenAnswer(inv -> {
             User u = inv.getArgument(0);
             u.setId(UUID.randomUUID());
             return u;
         });
-        when(jwtService.generateToken(any(User.class))).thenReturn("jwt_token");
+        when(jwtService.generateToken(any(User.class), any(UUID.class), any())).thenReturn("jwt_token");
         when(jwtService.getExpirationSeconds()).thenReturn(86400L);
 
         AuthResponse response = authService.register(request);
@@ -79,31 +87,126 @@ class AuthServiceTest {
     @Test
     void shouldLoginSuccessfully() {
         LoginRequest request = new LoginRequest("john@email.com", "password123");
-        User user = User.builder()
-                .id(UUID.randomUUID())
-                .name("John Doe")
-                .email("john@email.com")
-                .password("encoded_password")
-                .build();
+        User user = user("{argon2}encoded_password");
 
         when(userRepository.findByEmail(request.email())).thenReturn(Optional.of(user));
-        when(jwtService.generateToken(user)).thenReturn("jwt_token");
+        when(passwordHasher.matches(request.password(), "{argon2}encoded_password")).thenReturn(true);
+        when(jwtService.generateToken(eq(user), any(UUID.class), any())).thenReturn("jwt_token");
         when(jwtService.getExpirationSeconds()).thenReturn(86400L);
 
-        AuthResponse response = authService.login(request);
+        when(refreshTokenService.issue(eq(user.getId()), any(UUID.class), any())).thenReturn("refresh_token");
+
+        AuthResponse response = authService.login(request, CLIENT_IP);
 
         assertThat(response.accessToken()).isEqualTo("jwt_token");
-        verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
+        assertThat(response.refreshToken()).isEqualTo("refresh_token");
+        verify(userRepository, times(1)).findByEmail(request.email());
+        verify(userRepository, never()).updatePassword(any(), any());
+    }
+
+    @Test
+    void shouldRehashLegacyPasswordOnLogin() {
+        LoginRequest request = new LoginRequest("john@email.com", "password123");
+        User user = user("$2a$10$legacy");
+
+        when(userRepository.findByEmail(request.email())).thenReturn(Optional.of(user));
+        when(passwordHasher.matches(request.password(), "$2a$10$legacy")).thenReturn(true);
+        when(passwordHasher.upgradeEncoding("$2a$10$legacy")).thenReturn(true);
+        when(passwordHasher.encode(request.password())).thenReturn("{argon2}rehashed");
+        when(jwtService.generateToken(eq(user), any(UUID.class), any())).thenReturn("jwt_token");
+        when(jwtService.getExpirationSeconds()).thenReturn(86400L);
+
+        authService.login(request, CLIENT_IP);
+
+        verify(userRepository).updatePassword(user.getId(), "{argon2}rehashed");
+        assertThat(user.getPassword()).isEqualTo("{argon2}rehashed");
     }
 
     @Test
     void shouldThrowWhenCredentialsAreInvalid() {
         LoginRequest request = new LoginRequest("john@email.com", "wrong_password");
 
-        doThrow(new BadCredentialsException("Bad credentials"))
-                .when(authenticationManager).authenticate(any());
+        when(userRepository.findByEmail(request.email())).thenReturn(Optional.of(user("{argon2}encoded_password")));
+        when(passwordHasher.matches(request.password(), "{argon2}encoded_password")).thenReturn(false);
+
+        assertThatThrownBy(() -> authService.login(request, CLIENT_IP))
+                .isInstanceOf(BadCredentialsException.class);
+
+        verify(jwtService, never()).generateToken(any(), any(), any());
+    }
+
+    @Test
+    void shouldStillHashWhenUserDoesNotExist() {
+        LoginRequest request = new LoginRequest("ghost@email.com", "password123");
+
+        when(userRepository.findByEmail(request.email())).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> authService.login(request))
+        assertThatThrownBy(() -> authService.login(request, CLIENT_IP))
                 .isInstanceOf(BadCredentialsException.class);
+
+        verify(passwordHasher).matches(request.password(), null);
+    }
+
+    @Test
+    void shouldRejectRateLimitedLoginBeforeLookupOrHashing() {
+        LoginRequest request = new LoginRequest("john@email.com", "password123");
+
+        doThrow(new TooManyRequestsException("Too many login attempts, please retry later", Duration.ofSeconds(3)))
+                .when(loginRateLimiter).check(CLIENT_IP, request.email());
+
+        assertThatThrownBy(() -> authService.login(request, CLIENT_IP))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        verifyNoInteractions(userRepository, passwordHasher);
+    }
+
+    @Test
+    void shouldRotateRefreshTokenAndIssueAccessTokenWithSameJti() {
+        User user = user("{argon2}encoded_password");
+        Instant expiresAt = Instant.now().plusSeconds(900);
+
+        when(jwtService.expiresAt(any(Instant.class))).thenReturn(expiresAt);
+        when(refreshTokenService.rotate(eq("old_refresh"), any(UUID.class), eq(expiresAt)))
+                .thenReturn(new RotatedRefreshToken(user.getId(), "new_refresh"));
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(jwtService.generateToken(eq(user), any(UUID.class), any(Instant.class))).thenReturn("jwt_token");
+
+        AuthResponse response = authService.refresh(new RefreshTokenRequest("old_refresh"));
+
+        assertThat(response.accessToken()).isEqualTo("jwt_token");
+        assertThat(response.refreshToken()).isEqualTo("new_refresh");
+
+        ArgumentCaptor<UUID> rotatedJti = ArgumentCaptor.forClass(UUID.class);
+        ArgumentCaptor<UUID> issuedJti = ArgumentCaptor.forClass(UUID.class);
+        verify(refreshTokenService).rotate(eq("old_refresh"), rotatedJti.capture(), eq(expiresAt));
+        verify(jwtService).generateToken(eq(user), issuedJti.capture(), any(Instant.class));
+        assertThat(issuedJti.getValue()).isEqualTo(rotatedJti.getValue());
+    }
+
+    @Test
+    void shouldRejectInvalidRefreshToken() {
+        when(refreshTokenService.rotate(eq("stolen"), any(UUID.class), any()))
+                .thenThrow(new InvalidTokenException("Invalid or expired refresh token"));
+
+        assertThatThrownBy(() -> authService.refresh(new RefreshTokenRequest("stolen")))
+                .isInstanceOf(InvalidTokenException.class);
+
+        verify(jwtService, never()).generateToken(any(), any(), any());
+    }
+
+    @Test
+    void shouldRevokeSessionOnLogout() {
+        authService.logout(new RefreshTokenRequest("refresh_token"));
+
+        verify(refreshTokenService).revoke("refresh_token");
+    }
+
+    private User user(String password) {
+        return User.builder()
+                .id(UUID.randomUUID())
+                .name("John Doe")
+                .email("john@email.com")
+                .password(password)
+                .build();
     }
-}
\ No newline at end of file
+}
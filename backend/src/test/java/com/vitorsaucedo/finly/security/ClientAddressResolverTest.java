@@ -0,0 +1,70 @@
+package com.vitorsaucedo.finly.security;
+
+import com.vitorsaucedo.finly.config.LoginRateLimitConfig;
+import com.vitorsaucedo.finly.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ClientAddressResolverTest {
+
+    private static final List<String> TRUSTED = List.of("10.0.0.0/8", "::1");
+
+    private final ClientAddressResolver resolver = new ClientAddressResolver(config(TRUSTED));
+
+    @Test
+    void shouldIgnoreForwardedForFromUntrustedPeer() {
+        assertThat(resolver.resolve(request("203.0.113.7", "198.51.100.1"))).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void shouldTakeRightMostHopNotAddedByTrustedProxy() {
+        assertThat(resolver.resolve(request("10.1.2.3", "1.1.1.1, 203.0.113.7"))).isEqualTo("203.0.113.7");
+        assertThat(resolver.resolve(request("10.1.2.3", "1.1.1.1, 203.0.113.7, 10.9.9.9")))
+                .isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void shouldFallBackToPeerWhenHopIsNotAnAddress() {
+        assertThat(resolver.resolve(request("10.1.2.3", "attacker.example.com"))).isEqualTo("10.1.2.3");
+        assertThat(resolver.resolve(request("10.1.2.3", null))).isEqualTo("10.1.2.3");
+    }
+
+    @Test
+    void shouldMatchIpv6TrustedProxy() {
+        assertThat(resolver.resolve(request("0:0:0:0:0:0:0:1", "203.0.113.7"))).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void shouldNotResetIpBucketWithSpoofedForwardedFor() {
+        AtomicLong clock = new AtomicLong();
+        LoginRateLimiter limiter = new LoginRateLimiter(
+                new LoginRateLimitConfig(3, Duration.ofMinutes(1), 100, Duration.ofSeconds(1), 1 << 10, TRUSTED),
+                clock::get);
+
+        for (int i = 0; i < 3; i++) {
+            limiter.check(resolver.resolve(request("10.1.2.3", "192.0.2." + i + ", 203.0.113.7")),
+                    "user" + i + "@email.com");
+        }
+
+        assertThatThrownBy(() -> limiter.check(
+                resolver.resolve(request("10.1.2.3", "192.0.2.99, 203.0.113.7")), "other@email.com"))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) request.addHeader("X-Forwarded-For", forwardedFor);
+        return request;
+    }
+
+    private static LoginRateLimitConfig config(List<String> trustedProxies) {
+        return new LoginRateLimitConfig(null, null, null, null, null, trustedProxies);
+    }
+}
@@ -0,0 +1,125 @@
+package com.vitorsaucedo.finly.security;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.vitorsaucedo.finly.config.JwtConfig;
+import com.vitorsaucedo.finly.config.RsaKeyConfig;
+import com.vitorsaucedo.finly.config.SecurityConfig;
+import com.vitorsaucedo.finly.domain.user.User;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@Tag("benchmark")
+class JwtIssuanceBenchmarkTest {
+
+    private static final int WARMUP_TOKENS = 500;
+    private static final int TOKENS = 4_000;
+    private static final int THREADS = Runtime.getRuntime().availableProcessors();
+
+    @Test
+    void shouldCompareIssuanceFromParsedKeyRingWithPerTokenParsing() throws Exception {
+        KeyPair keyPair = RsaKeyRingTest.generateKeyPair();
+        Resource publicPem = new ByteArrayResource(
+                RsaKeyRingTest.pem("PUBLIC KEY", keyPair.getPublic().getEncoded()).getBytes());
+        Resource privatePem = new ByteArrayResource(
+                RsaKeyRingTest.pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()).getBytes());
+
+        RsaKeyConfig config = new RsaKeyConfig();
+        config.setPublicKeyLocation(publicPem);
+        config.setPrivateKeyLocation(privatePem);
+        JwtEncoder keyRingEncoder = new SecurityConfig(new RsaKeyRing(config), mock(TokenRevocationList.class))
+                .jwtEncoder();
+        JwtEncoder reparsingEncoder = parameters -> new NimbusJwtEncoder(new ImmutableJWKSet<>(
+                new JWKSet(reparse(publicPem, privatePem)))).encode(parameters);
+
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .name("Bench")
+                .email("bench@finly.local")
+                .build();
+
+        List<Result> results = new ArrayList<>();
+        for (int threads : new int[]{1, THREADS}) {
+            results.add(run("reparse", reparsingEncoder, user, threads));
+            results.add(run("key ring", keyRingEncoder, user, threads));
+        }
+
+        System.out.printf("%-10s %8s %12s %12s%n", "encoder", "threads", "tokens/s", "us/token");
+        results.forEach(result -> System.out.printf("%-10s %8d %12.1f %12.1f%n", result.encoder(), result.threads(),
+                result.tokensPerSecond(), 1_000_000.0 / result.tokensPerSecond() * result.threads()));
+
+        assertThat(results).allSatisfy(result -> assertThat(result.tokensPerSecond()).isPositive());
+    }
+
+    private Result run(String name, JwtEncoder encoder, User user, int threads) throws Exception {
+        JwtService jwtService = new JwtService(encoder, new JwtConfig(null, 900L, null, null));
+        for (int i = 0; i < WARMUP_TOKENS; i++) {
+            jwtService.generateToken(user, UUID.randomUUID(), Instant.now());
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        long elapsed;
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < TOKENS / threads; i++) {
+                        jwtService.generateToken(user, UUID.randomUUID(), Instant.now());
+                    }
+                    return null;
+                }));
+            }
+            long began = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            elapsed = System.nanoTime() - began;
+        }
+
+        int issued = TOKENS / threads * threads;
+        return new Result(name, threads, issued / (elapsed / 1_000_000_000.0));
+    }
+
+    private static RSAKey reparse(Resource publicPem, Resource privatePem) {
+        try {
+            byte[] publicDer = Base64.getDecoder().decode(new String(publicPem.getInputStream().readAllBytes())
+                    .replaceAll("-----.*?-----", "").replaceAll("\\s", ""));
+            byte[] privateDer = Base64.getDecoder().decode(new String(privatePem.getInputStream().readAllBytes())
+                    .replaceAll("-----.*?-----", "").replaceAll("\\s", ""));
+            KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+            return new RSAKey.Builder((RSAPublicKey) keyFactory.generatePublic(new X509EncodedKeySpec(publicDer)))
+                    .privateKey((RSAPrivateKey) keyFactory.generatePrivate(new PKCS8EncodedKeySpec(privateDer)))
+                    .build();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Result(String encoder, int threads, double tokensPerSecond) {}
+}
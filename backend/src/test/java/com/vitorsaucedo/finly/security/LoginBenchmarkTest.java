@@ -0,0 +1,128 @@
+package com.vitorsaucedo.finly.security;
+
+import com.vitorsaucedo.finly.config.PasswordHashingConfig;
+import com.vitorsaucedo.finly.config.SecurityConfig;
+import com.vitorsaucedo.finly.domain.user.User;
+import com.vitorsaucedo.finly.domain.user.UserRepository;
+import com.vitorsaucedo.finly.dto.request.LoginRequest;
+import com.vitorsaucedo.finly.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@Tag("benchmark")
+class LoginBenchmarkTest {
+
+    private static final int CONCURRENT_LOGINS = 500;
+    private static final String PASSWORD = "password123";
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+    @Test
+    void shouldServeConcurrentLoginsThroughBoundedHashingPool() throws Exception {
+        Result result = run(CONCURRENT_LOGINS);
+
+        print(result);
+        assertThat(result.rejected()).isZero();
+        assertThat(result.p99Millis()).isLessThan(TIMEOUT.toMillis());
+    }
+
+    @Test
+    void shouldShedLoadInsteadOfQueueingWithoutBound() throws Exception {
+        Result result = run(CONCURRENT_LOGINS / 4);
+
+        print(result);
+        assertThat(result.rejected()).isPositive();
+        assertThat(result.succeeded() + result.rejected()).isEqualTo(CONCURRENT_LOGINS);
+    }
+
+    private Result run(int queueCapacity) throws Exception {
+        PasswordHashingConfig config = new PasswordHashingConfig(null, null, queueCapacity, TIMEOUT);
+        PasswordEncoder encoder = new SecurityConfig(null, null).passwordEncoder(config);
+        PasswordHasher hasher = new PasswordHasher(encoder, config);
+
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .name("Bench")
+                .email("bench@finly.local")
+                .password(encoder.encode(PASSWORD))
+                .build();
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+        JwtService jwtService = mock(JwtService.class);
+        when(jwtService.generateToken(any(), any(), any())).thenReturn("token");
+
+        AuthService authService = new AuthService(userRepository, hasher, mock(LoginRateLimiter.class), jwtService,
+                mock(RefreshTokenService.class));
+        LoginRequest request = new LoginRequest(user.getEmail(), PASSWORD);
+
+        long[] latencies = new long[CONCURRENT_LOGINS];
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        long began;
+        long elapsed;
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENT_LOGINS; i++) {
+                int index = i;
+                futures.add(clients.submit(() -> {
+                    start.await();
+                    long t0 = System.nanoTime();
+                    try {
+                        authService.login(request, "203.0.113.7");
+                        latencies[index] = System.nanoTime() - t0;
+                    } catch (ServiceUnavailableException e) {
+                        rejected.incrementAndGet();
+                        latencies[index] = -1;
+                    }
+                    return null;
+                }));
+            }
+            began = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            elapsed = System.nanoTime() - began;
+        } finally {
+            hasher.shutdown();
+        }
+
+        long[] succeeded = Arrays.stream(latencies).filter(latency -> latency >= 0).sorted().toArray();
+        verify(userRepository, times(CONCURRENT_LOGINS)).findByEmail(user.getEmail());
+        return new Result(queueCapacity, succeeded.length, rejected.get(),
+                percentileMillis(succeeded, 0.50), percentileMillis(succeeded, 0.99),
+                succeeded.length / (elapsed / 1_000_000_000.0));
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static void print(Result result) {
+        System.out.printf("%-8s %10s %10s %10s %10s %12s%n", "queue", "ok", "rejected", "p50 ms", "p99 ms", "logins/s");
+        System.out.printf("%-8d %10d %10d %10.1f %10.1f %12.1f%n", result.queueCapacity(), result.succeeded(),
+                result.rejected(), result.p50Millis(), result.p99Millis(), result.loginsPerSecond());
+    }
+
+    private record Result(int queueCapacity, int succeeded, int rejected,
+                          double p50Millis, double p99Millis, double loginsPerSecond) {}
+}
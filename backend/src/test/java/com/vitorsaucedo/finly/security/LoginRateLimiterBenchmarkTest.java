@@ -0,0 +1,121 @@
+package com.vitorsaucedo.finly.security;
+
+import com.vitorsaucedo.finly.config.LoginRateLimitConfig;
+import com.vitorsaucedo.finly.config.PasswordHashingConfig;
+import com.vitorsaucedo.finly.domain.user.UserRepository;
+import com.vitorsaucedo.finly.dto.request.LoginRequest;
+import com.vitorsaucedo.finly.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@Tag("benchmark")
+class LoginRateLimiterBenchmarkTest {
+
+    private static final com.sun.management.OperatingSystemMXBean OS =
+            (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+    private static final int ATTACKER_IPS = 16;
+    private static final int CLIENTS = 32;
+    private static final int IP_BURST = 20;
+    private static final Duration IP_INTERVAL = Duration.ofSeconds(3);
+    private static final int[] ATTACK_VOLUMES = {2_000, 20_000, 200_000};
+
+    @Test
+    void cpuShouldStayFlatAsCredentialStuffingVolumeGrows() throws Exception {
+        Phase unprotected = attack(ATTACK_VOLUMES[0], false);
+        List<Phase> protectedPhases = new ArrayList<>();
+        for (int volume : ATTACK_VOLUMES) {
+            protectedPhases.add(attack(volume, true));
+        }
+
+        System.out.printf("%-10s %10s %10s %10s %10s %12s%n", "limiter", "attempts", "limited", "hashes", "lookups", "cpu ms");
+        print(unprotected);
+        protectedPhases.forEach(LoginRateLimiterBenchmarkTest::print);
+
+        for (Phase phase : protectedPhases) {
+            long refills = ATTACKER_IPS * (phase.elapsed().toNanos() / IP_INTERVAL.toNanos() + 1);
+            assertThat(phase.hashes()).isLessThanOrEqualTo(ATTACKER_IPS * IP_BURST + refills);
+            assertThat(phase.lookups()).isEqualTo(phase.hashes());
+        }
+        Phase smallest = protectedPhases.getFirst();
+        Phase largest = protectedPhases.getLast();
+        assertThat(largest.cpu().toNanos()).isLessThan(smallest.cpu().toNanos() * 3);
+        assertThat(largest.cpu().toNanos()).isLessThan(unprotected.cpu().toNanos());
+    }
+
+    private Phase attack(int attempts, boolean limited) throws Exception {
+        AtomicInteger hashes = new AtomicInteger();
+        PasswordEncoder bcrypt = new BCryptPasswordEncoder(8);
+        PasswordEncoder counting = mock(PasswordEncoder.class);
+        when(counting.encode(any())).thenAnswer(inv -> bcrypt.encode(inv.getArgument(0)));
+        when(counting.matches(any(), anyString())).thenAnswer(inv -> {
+            hashes.incrementAndGet();
+            return bcrypt.matches(inv.getArgument(0), inv.getArgument(1));
+        });
+        PasswordHasher hasher = new PasswordHasher(counting,
+                new PasswordHashingConfig(null, null, attempts, Duration.ofMinutes(10)));
+
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+
+        LoginRateLimiter limiter = limited
+                ? new LoginRateLimiter(new LoginRateLimitConfig(
+                        IP_BURST, IP_INTERVAL, 5, Duration.ofSeconds(12), null, null))
+                : mock(LoginRateLimiter.class);
+        AuthService authService = new AuthService(userRepository, hasher, limiter, mock(JwtService.class),
+                mock(RefreshTokenService.class));
+
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger next = new AtomicInteger();
+        long cpuBefore = OS.getProcessCpuTime();
+        long start = System.nanoTime();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < CLIENTS; c++) {
+                clients.submit(() -> {
+                    int i;
+                    while ((i = next.getAndIncrement()) < attempts) {
+                        String ip = "198.51.100." + (i % ATTACKER_IPS);
+                        try {
+                            authService.login(new LoginRequest("leaked" + i + "@email.com", "hunter2"), ip);
+                        } catch (TooManyRequestsException e) {
+                            rejected.incrementAndGet();
+                        } catch (BadCredentialsException ignored) {
+                        }
+                    }
+                });
+            }
+        } finally {
+            hasher.shutdown();
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        Duration cpu = Duration.ofNanos(OS.getProcessCpuTime() - cpuBefore);
+        long lookups = mockingDetails(userRepository).getInvocations().size();
+        return new Phase(limited, attempts, rejected.get(), hashes.get(), lookups, elapsed, cpu);
+    }
+
+    private static void print(Phase phase) {
+        System.out.printf("%-10s %10d %10d %10d %10d %12d%n", phase.limited() ? "on" : "off", phase.attempts(),
+                phase.rejected(), phase.hashes(), phase.lookups(), phase.cpu().toMillis());
+    }
+
+    private record Phase(boolean limited, int attempts, int rejected, long hashes, long lookups,
+                         Duration elapsed, Duration cpu) {}
+}
@@ -0,0 +1,104 @@
+package com.vitorsaucedo.finly.security;
+
+import com.vitorsaucedo.finly.config.LoginRateLimitConfig;
+import com.vitorsaucedo.finly.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LoginRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(-5_000_000_000L);
+
+    @Test
+    void shouldAllowBurstThenRejectWithRetryAfter() {
+        LoginRateLimiter limiter = limiter(3, Duration.ofSeconds(2), 100, Duration.ofSeconds(1));
+
+        for (int i = 0; i < 3; i++) {
+            limiter.check("10.0.0.1", "user" + i + "@email.com");
+        }
+
+        assertThatThrownBy(() -> limiter.check("10.0.0.1", "other@email.com"))
+                .isInstanceOfSatisfying(TooManyRequestsException.class,
+                        e -> assertThat(e.getRetryAfter()).isEqualTo(Duration.ofSeconds(2)));
+    }
+
+    @Test
+    void shouldRefillOneAttemptPerInterval() {
+        LoginRateLimiter limiter = limiter(2, Duration.ofSeconds(2), 100, Duration.ofSeconds(1));
+
+        limiter.check("10.0.0.1", "a@email.com");
+        limiter.check("10.0.0.1", "a@email.com");
+        assertThatThrownBy(() -> limiter.check("10.0.0.1", "a@email.com"))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        advance(Duration.ofSeconds(2));
+        limiter.check("10.0.0.1", "a@email.com");
+        assertThatThrownBy(() -> limiter.check("10.0.0.1", "a@email.com"))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    void shouldLimitEmailAcrossDifferentAddresses() {
+        LoginRateLimiter limiter = limiter(100, Duration.ofSeconds(1), 2, Duration.ofSeconds(10));
+
+        limiter.check("10.0.0.1", "victim@email.com");
+        limiter.check("10.0.0.2", "Victim@Email.com ");
+
+        assertThatThrownBy(() -> limiter.check("10.0.0.3", "victim@email.com"))
+                .isInstanceOfSatisfying(TooManyRequestsException.class,
+                        e -> assertThat(e.getRetryAfter()).isEqualTo(Duration.ofSeconds(10)));
+    }
+
+    @Test
+    void shouldNotSpendEmailAttemptsWhenAddressIsLimited() {
+        LoginRateLimiter limiter = limiter(1, Duration.ofSeconds(60), 1, Duration.ofSeconds(60));
+
+        limiter.check("10.0.0.1", "first@email.com");
+        assertThatThrownBy(() -> limiter.check("10.0.0.1", "victim@email.com"))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        limiter.check("10.0.0.2", "victim@email.com");
+    }
+
+    @Test
+    void shouldGrantExactlyTheBurstUnderContention() throws InterruptedException {
+        LoginRateLimiter limiter = limiter(500, Duration.ofHours(1), 10_000, Duration.ofSeconds(1));
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < 2_000; i++) {
+                int attempt = i;
+                executor.submit(() -> {
+                    start.await();
+                    try {
+                        limiter.check("10.0.0.1", "user" + attempt + "@email.com");
+                        allowed.incrementAndGet();
+                    } catch (TooManyRequestsException ignored) {
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        assertThat(allowed.get()).isEqualTo(500);
+    }
+
+    private LoginRateLimiter limiter(int ipBurst, Duration ipInterval, int emailBurst, Duration emailInterval) {
+        return new LoginRateLimiter(
+                new LoginRateLimitConfig(ipBurst, ipInterval, emailBurst, emailInterval, 1 << 20, null), clock::get);
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,106 @@
+package com.vitorsaucedo.finly.security;
+
+import com.vitorsaucedo.finly.config.PasswordHashingConfig;
+import com.vitorsaucedo.finly.config.SecurityConfig;
+import com.vitorsaucedo.finly.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PasswordHasherTest {
+
+    private PasswordHasher hasher;
+
+    @AfterEach
+    void tearDown() {
+        if (hasher != null) hasher.shutdown();
+    }
+
+    @Test
+    void shouldEncodeNewPasswordsWithArgon2AndAcceptLegacyBcrypt() {
+        PasswordEncoder encoder = new SecurityConfig(null, null)
+                .passwordEncoder(new PasswordHashingConfig(null, null, null, null));
+        hasher = new PasswordHasher(encoder, new PasswordHashingConfig(null, 1, 4, null));
+
+        String legacy = new BCryptPasswordEncoder(4).encode("password123");
+        String encoded = hasher.encode("password123");
+
+        assertThat(encoded).startsWith("{argon2}");
+        assertThat(hasher.matches("password123", encoded)).isTrue();
+        assertThat(hasher.matches("password123", legacy)).isTrue();
+        assertThat(hasher.matches("wrong", legacy)).isFalse();
+        assertThat(hasher.upgradeEncoding(legacy)).isTrue();
+        assertThat(hasher.upgradeEncoding(encoded)).isFalse();
+    }
+
+    @Test
+    void shouldRejectUnknownUsersAfterHashing() {
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        when(encoder.encode(any())).thenReturn("dummy");
+        hasher = new PasswordHasher(encoder, new PasswordHashingConfig(null, 1, 4, null));
+
+        assertThat(hasher.matches("password123", null)).isFalse();
+
+        verify(encoder).matches("password123", "dummy");
+    }
+
+    @Test
+    void shouldRejectWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        when(encoder.encode(any())).thenAnswer(inv -> {
+            started.countDown();
+            release.await();
+            return "hash";
+        });
+        hasher = new PasswordHasher(encoder, new PasswordHashingConfig(null, 1, 1, Duration.ofSeconds(5)));
+
+        Thread busy = Thread.ofVirtual().start(() -> hasher.encode("first"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread queued = Thread.ofVirtual().start(() -> hasher.encode("second"));
+        await(() -> hasher.queuedTasks() == 1);
+
+        assertThatThrownBy(() -> hasher.encode("third"))
+                .isInstanceOf(ServiceUnavailableException.class);
+
+        release.countDown();
+        busy.join();
+        queued.join();
+    }
+
+    @Test
+    void shouldGiveUpAfterTimeout() {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        when(encoder.encode(any())).thenAnswer(inv -> {
+            release.await();
+            return "hash";
+        });
+        hasher = new PasswordHasher(encoder, new PasswordHashingConfig(null, 1, 1, Duration.ofMillis(50)));
+
+        assertThatThrownBy(() -> hasher.encode("slow"))
+                .isInstanceOfSatisfying(ServiceUnavailableException.class,
+                        e -> assertThat(e.getRetryAfter()).isPositive());
+
+        release.countDown();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) fail("Condition not met in time");
+            Thread.sleep(5);
+        }
+    }
+}
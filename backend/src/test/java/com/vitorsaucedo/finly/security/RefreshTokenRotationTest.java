@@ -0,0 +1,181 @@
+package com.vitorsaucedo.finly.security;
+
+import com.vitorsaucedo.finly.config.JwtConfig;
+import com.vitorsaucedo.finly.config.TokenRevocationConfig;
+import com.vitorsaucedo.finly.exception.InvalidTokenException;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Testcontainers(disabledWithoutDocker = true)
+class RefreshTokenRotationTest {
+
+    private static final UUID USER_ID = UUID.fromString("00000000-0000-0000-0000-0000000000d1");
+    private static final int THREADS = 8;
+
+    @Container
+    static final PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+    private static NamedParameterJdbcTemplate jdbcTemplate;
+    private static RefreshTokenService refreshTokenService;
+    private static TokenRevocationList revocationList;
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        jdbcTemplate = new NamedParameterJdbcTemplate(new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()));
+        RevokedAccessTokenRepository revokedRepository = new RevokedAccessTokenRepository(jdbcTemplate);
+        revocationList = new TokenRevocationList(revokedRepository, new TokenRevocationConfig(null, null, null));
+        refreshTokenService = new RefreshTokenService(new RefreshTokenRepository(jdbcTemplate), revokedRepository,
+                revocationList, new JwtConfig(null, 900L, 3600L, null));
+
+        jdbcTemplate.update("""
+                INSERT INTO users (id, name, email, password)
+                VALUES (:id, 'Refresh', 'refresh@finly.local', 'x')
+                """, Map.of("id", USER_ID));
+    }
+
+    @Test
+    void shouldRotateIntoNewTokenOfSameFamily() {
+        String first = refreshTokenService.issue(USER_ID, UUID.randomUUID(), accessExpiry());
+
+        RotatedRefreshToken rotated = refreshTokenService.rotate(first, UUID.randomUUID(), accessExpiry());
+
+        assertThat(rotated.userId()).isEqualTo(USER_ID);
+        assertThat(rotated.token()).isNotEqualTo(first);
+        assertThat(familyOf(rotated.token())).isEqualTo(familyOf(first));
+        assertThatThrownBy(() -> refreshTokenService.rotate(first, UUID.randomUUID(), accessExpiry()))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    void shouldRevokeWholeFamilyWhenRotatedTokenIsReused() {
+        UUID firstJti = UUID.randomUUID();
+        UUID secondJti = UUID.randomUUID();
+        String first = refreshTokenService.issue(USER_ID, firstJti, accessExpiry());
+        RotatedRefreshToken second = refreshTokenService.rotate(first, secondJti, accessExpiry());
+        backdate("rotated_at", first);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(first, UUID.randomUUID(), accessExpiry()))
+                .isInstanceOf(InvalidTokenException.class);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(second.token(), UUID.randomUUID(), accessExpiry()))
+                .isInstanceOf(InvalidTokenException.class);
+        assertThat(revocationList.isRevoked(firstJti)).isTrue();
+        assertThat(revocationList.isRevoked(secondJti)).isTrue();
+    }
+
+    @Test
+    void shouldNotRevokeFamilyWhenConcurrentRefreshLosesWithinGrace() {
+        UUID secondJti = UUID.randomUUID();
+        String first = refreshTokenService.issue(USER_ID, UUID.randomUUID(), accessExpiry());
+        RotatedRefreshToken second = refreshTokenService.rotate(first, secondJti, accessExpiry());
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(first, UUID.randomUUID(), accessExpiry()))
+                .isInstanceOf(InvalidTokenException.class);
+
+        assertThat(revocationList.isRevoked(secondJti)).isFalse();
+        assertThat(refreshTokenService.rotate(second.token(), UUID.randomUUID(), accessExpiry()).userId())
+                .isEqualTo(USER_ID);
+    }
+
+    @Test
+    void shouldRejectExpiredTokenWithoutRevokingFamily() {
+        UUID jti = UUID.randomUUID();
+        String token = refreshTokenService.issue(USER_ID, jti, accessExpiry());
+        backdate("expires_at", token);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(token, UUID.randomUUID(), accessExpiry()))
+                .isInstanceOf(InvalidTokenException.class);
+
+        assertThat(revocationList.isRevoked(jti)).isFalse();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT revoked_at IS NULL FROM refresh_tokens WHERE token_hash = :hash",
+                Map.of("hash", RefreshTokenService.hash(token)), Boolean.class)).isTrue();
+    }
+
+    @Test
+    void shouldLetOnlyOneConcurrentRotationWin() throws Exception {
+        String token = refreshTokenService.issue(USER_ID, UUID.randomUUID(), accessExpiry());
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            tasks.add(() -> {
+                start.await();
+                try {
+                    refreshTokenService.rotate(token, UUID.randomUUID(), accessExpiry());
+                    return true;
+                } catch (InvalidTokenException e) {
+                    return false;
+                }
+            });
+        }
+
+        List<Boolean> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            List<Future<Boolean>> futures = tasks.stream().map(executor::submit).toList();
+            start.countDown();
+            for (Future<Boolean> future : futures) {
+                results.add(future.get());
+            }
+        }
+
+        assertThat(results).containsOnlyOnce(true);
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM refresh_tokens
+                WHERE family_id = :familyId AND revoked_at IS NULL
+                """, Map.of("familyId", familyOf(token)), Integer.class)).isOne();
+    }
+
+    @Test
+    void shouldRevokeAllSessionsOfUser() {
+        UUID jti = UUID.randomUUID();
+        String token = refreshTokenService.issue(USER_ID, jti, accessExpiry());
+
+        refreshTokenService.revokeAll(USER_ID);
+
+        assertThat(revocationList.isRevoked(jti)).isTrue();
+        assertThatThrownBy(() -> refreshTokenService.rotate(token, UUID.randomUUID(), accessExpiry()))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    private static Instant accessExpiry() {
+        return Instant.now().plusSeconds(900);
+    }
+
+    private static void backdate(String column, String token) {
+        jdbcTemplate.update("UPDATE refresh_tokens SET %s = :at WHERE token_hash = :hash".formatted(column),
+                Map.of("at", LocalDateTime.now().minusHours(1), "hash", RefreshTokenService.hash(token)));
+    }
+
+    private static UUID familyOf(String token) {
+        return jdbcTemplate.queryForObject("SELECT family_id FROM refresh_tokens WHERE token_hash = :hash",
+                Map.of("hash", RefreshTokenService.hash(token)), UUID.class);
+    }
+}
@@ -0,0 +1,180 @@
+package com.vitorsaucedo.finly.security;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.vitorsaucedo.finly.config.RsaKeyConfig;
+import com.vitorsaucedo.finly.config.SecurityConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RsaKeyRingTest {
+
+    @TempDir
+    Path dir;
+
+    private RsaKeyConfig config;
+    private RsaKeyRing keyRing;
+    private JwtEncoder encoder;
+    private JwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        writeKeyPair(generateKeyPair());
+
+        config = new RsaKeyConfig();
+        config.setPublicKeyLocation(new FileSystemResource(dir.resolve("public.pem")));
+        config.setPrivateKeyLocation(new FileSystemResource(dir.resolve("private.pem")));
+        keyRing = new RsaKeyRing(config);
+
+        SecurityConfig securityConfig = new SecurityConfig(keyRing, mock(TokenRevocationList.class));
+        encoder = securityConfig.jwtEncoder();
+        decoder = securityConfig.jwtDecoder();
+    }
+
+    @Test
+    void shouldIssueTokensWithKeyIdAndVerifyThem() {
+        String token = issue(encoder);
+
+        assertThat(decoder.decode(token).getHeaders()).containsEntry("kid", keyRing.signingKeyId());
+        assertThat(decoder.decode(token).getSubject()).isEqualTo("user");
+    }
+
+    @Test
+    void shouldKeepParsedKeysWhenSourceDisappears() throws Exception {
+        String before = issue(encoder);
+
+        Files.delete(dir.resolve("public.pem"));
+        Files.delete(dir.resolve("private.pem"));
+        keyRing.reload();
+
+        assertThat(decoder.decode(before).getSubject()).isEqualTo("user");
+        assertThat(decoder.decode(issue(encoder)).getSubject()).isEqualTo("user");
+    }
+
+    @Test
+    void shouldRotateSigningKeyWithoutRestart() throws Exception {
+        String oldToken = issue(encoder);
+        String oldKeyId = keyRing.signingKeyId();
+
+        Files.move(dir.resolve("public.pem"), dir.resolve("previous.pem"));
+        writeKeyPair(generateKeyPair());
+        config.setPreviousPublicKeyLocations(List.of(new FileSystemResource(dir.resolve("previous.pem"))));
+        keyRing.reload();
+
+        String newToken = issue(encoder);
+
+        assertThat(keyRing.signingKeyId()).isNotEqualTo(oldKeyId);
+        assertThat(decoder.decode(newToken).getHeaders()).containsEntry("kid", keyRing.signingKeyId());
+        assertThat(decoder.decode(oldToken).getHeaders()).containsEntry("kid", oldKeyId);
+    }
+
+    @Test
+    void shouldRejectTokensFromRetiredKeyOnceItLeavesTheRing() throws Exception {
+        String oldToken = issue(encoder);
+
+        writeKeyPair(generateKeyPair());
+        keyRing.reload();
+
+        assertThatThrownBy(() -> decoder.decode(oldToken)).isInstanceOf(JwtException.class);
+        assertThat(decoder.decode(issue(encoder)).getSubject()).isEqualTo("user");
+    }
+
+    @Test
+    void shouldAcceptTokensIssuedWithoutKeyId() throws Exception {
+        RSAPublicKey publicKey = readPublicKey();
+        RSAPrivateKey privateKey = readPrivateKey();
+        JwtEncoder legacy = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(
+                new RSAKey.Builder(publicKey).privateKey(privateKey).build())));
+
+        String token = issue(legacy);
+
+        assertThat(decoder.decode(token).getHeaders()).doesNotContainKey("kid");
+        assertThat(decoder.decode(token).getSubject()).isEqualTo("user");
+    }
+
+    @Test
+    void shouldRejectTokensSignedByUnknownKey() throws Exception {
+        KeyPair other = generateKeyPair();
+        JwtEncoder foreign = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(
+                new RSAKey.Builder((RSAPublicKey) other.getPublic()).privateKey(other.getPrivate()).build())));
+
+        String token = issue(foreign);
+
+        assertThatThrownBy(() -> decoder.decode(token)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void shouldFailFastWhenNoKeyIsConfigured() {
+        assertThatThrownBy(() -> new RsaKeyRing(new RsaKeyConfig()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Nenhuma chave RSA configurada");
+    }
+
+    private static String issue(JwtEncoder jwtEncoder) {
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .subject("user")
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(60))
+                .build();
+        return jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+    }
+
+    private RSAPublicKey readPublicKey() throws Exception {
+        return (RSAPublicKey) KeyFactory.getInstance("RSA").generatePublic(
+                new X509EncodedKeySpec(readDer("public.pem")));
+    }
+
+    private RSAPrivateKey readPrivateKey() throws Exception {
+        return (RSAPrivateKey) KeyFactory.getInstance("RSA").generatePrivate(
+                new PKCS8EncodedKeySpec(readDer("private.pem")));
+    }
+
+    private byte[] readDer(String file) throws IOException {
+        return Base64.getMimeDecoder().decode(Files.readString(dir.resolve(file))
+                .replaceAll("-----.*?-----", ""));
+    }
+
+    private void writeKeyPair(KeyPair keyPair) throws IOException {
+        Files.writeString(dir.resolve("public.pem"), pem("PUBLIC KEY", keyPair.getPublic().getEncoded()));
+        Files.writeString(dir.resolve("private.pem"), pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+    }
+
+    static KeyPair generateKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+
+    static String pem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, "\n".getBytes()).encodeToString(der)
+                + "\n-----END " + type + "-----\n";
+    }
+}
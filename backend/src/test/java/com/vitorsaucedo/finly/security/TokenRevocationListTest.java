@@ -0,0 +1,107 @@
+package com.vitorsaucedo.finly.security;
+
+import com.vitorsaucedo.finly.config.TokenRevocationConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationListTest {
+
+    @Mock
+    private RevokedAccessTokenRepository repository;
+
+    private TokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        revocationList = new TokenRevocationList(repository,
+                new TokenRevocationConfig(Duration.ofMinutes(10), 1_000, 100));
+    }
+
+    @Test
+    void shouldFallBackToDatabaseBeforeFirstLoad() {
+        UUID jti = UUID.randomUUID();
+        when(repository.isRevoked(eq(jti), any(LocalDateTime.class))).thenReturn(true);
+
+        assertThat(revocationList.isRevoked(jti)).isTrue();
+        assertThat(revocationList.isRevoked(jti)).isTrue();
+
+        verify(repository, times(1)).isRevoked(eq(jti), any(LocalDateTime.class));
+    }
+
+    @Test
+    void shouldAnswerNotRevokedFromFilterWithoutQueryingDatabase() {
+        List<UUID> revoked = IntStream.range(0, 200).mapToObj(i -> UUID.randomUUID()).toList();
+        when(repository.findActiveRevokedSince(any(), any())).thenReturn(revoked);
+        lenient().when(repository.isRevoked(any(), any())).thenReturn(false);
+
+        revocationList.refresh();
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(revocationList.isRevoked(UUID.randomUUID())).isFalse();
+        }
+
+        long databaseLookups = mockingDetails(repository).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("isRevoked"))
+                .count();
+        assertThat(databaseLookups).isLessThan(300);
+    }
+
+    @Test
+    void shouldConfirmRevokedTokensLoadedFromDatabase() {
+        UUID jti = UUID.randomUUID();
+        when(repository.findActiveRevokedSince(any(), any())).thenReturn(List.of(jti));
+        when(repository.isRevoked(eq(jti), any(LocalDateTime.class))).thenReturn(true);
+
+        revocationList.refresh();
+
+        assertThat(revocationList.isRevoked(jti)).isTrue();
+    }
+
+    @Test
+    void shouldPickUpRevocationsFromIncrementalPoll() {
+        UUID jti = UUID.randomUUID();
+        when(repository.findActiveRevokedSince(any(), any())).thenReturn(List.of(), List.of(jti));
+
+        revocationList.refresh();
+        revocationList.refresh();
+
+        assertThat(revocationList.isRevoked(jti)).isTrue();
+        verify(repository, never()).isRevoked(any(), any());
+    }
+
+    @Test
+    void shouldRejectLocallyRevokedTokensImmediately() {
+        UUID jti = UUID.randomUUID();
+        when(repository.findActiveRevokedSince(any(), any())).thenReturn(List.of());
+
+        revocationList.refresh();
+        revocationList.revoked(List.of(jti));
+
+        assertThat(revocationList.isRevoked(jti)).isTrue();
+        verify(repository, never()).isRevoked(any(), any());
+    }
+
+    @Test
+    void shouldKeepServingWhenRefreshFails() {
+        UUID jti = UUID.randomUUID();
+        when(repository.findActiveRevokedSince(any(), any())).thenThrow(new IllegalStateException("db down"));
+        when(repository.isRevoked(eq(jti), any(LocalDateTime.class))).thenReturn(false);
+
+        assertThatCode(revocationList::refresh).doesNotThrowAnyException();
+        assertThat(revocationList.isRevoked(jti)).isFalse();
+    }
+}
@@ -0,0 +1,63 @@
+package com.vitorsaucedo.finly.util;
+
+import com.vitorsaucedo.finly.domain.transaction.TransactionStatus;
+import com.vitorsaucedo.finly.domain.transaction.TransactionType;
+import com.vitorsaucedo.finly.dto.response.TransactionResponse;
+import com.vitorsaucedo.finly.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FieldSelectionTest {
+
+    @Test
+    void shouldSelectEverythingWhenFieldsAreMissing() {
+        assertThat(FieldSelection.parse(null, TransactionResponse.class).isAll()).isTrue();
+        assertThat(FieldSelection.parse("  ", TransactionResponse.class).isAll()).isTrue();
+        assertThat(FieldSelection.all().includes("amount")).isTrue();
+    }
+
+    @Test
+    void shouldKeepRequiredFieldsAndDeclarationOrder() {
+        FieldSelection fields = FieldSelection.parse(" amount, description ,", TransactionResponse.class, "id");
+
+        assertThat(fields.isAll()).isFalse();
+        assertThat(fields.names()).containsExactly("id", "description", "amount");
+        assertThat(fields.includes("accountName")).isFalse();
+        assertThat(fields.includesAny("notes", "amount")).isTrue();
+    }
+
+    @Test
+    void shouldPruneRecordToSelectedFields() {
+        UUID id = UUID.randomUUID();
+        TransactionResponse transaction = new TransactionResponse(
+                id, UUID.randomUUID(), "Checking", null, null, null, null,
+                "Groceries", new BigDecimal("120.50"), TransactionType.EXPENSE, TransactionStatus.COMPLETED,
+                LocalDate.of(2026, 3, 10), null, LocalDateTime.now());
+
+        FieldSelection fields = FieldSelection.parse("amount,notes", TransactionResponse.class, "id");
+
+        assertThat(fields.prune(transaction))
+                .containsExactly(entry("id", id), entry("amount", new BigDecimal("120.50")), entry("notes", null));
+    }
+
+    @Test
+    void shouldCollapseToAllWhenEveryFieldIsRequested() {
+        String every = "id,accountId,accountName,categoryId,categoryName,destinationAccountId,"
+                + "destinationAccountName,description,amount,type,status,transactionDate,notes,createdAt";
+
+        assertThat(FieldSelection.parse(every, TransactionResponse.class).isAll()).isTrue();
+    }
+
+    @Test
+    void shouldRejectUnknownFields() {
+        assertThatThrownBy(() -> FieldSelection.parse("amount,password", TransactionResponse.class))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageStartingWith("Unknown field 'password'");
+    }
+}
@@ -0,0 +1,95 @@
+package com.vitorsaucedo.finly.util;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.IntToDoubleFunction;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Tag("benchmark")
+class MoneyBenchmarkTest {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final int ROWS = 1_000_000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURED_ITERATIONS = 10;
+
+    private static BigDecimal[] spent;
+    private static BigDecimal[] amounts;
+
+    @BeforeAll
+    static void seed() {
+        SplittableRandom random = new SplittableRandom(2024);
+        spent = new BigDecimal[ROWS];
+        amounts = new BigDecimal[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            spent[i] = BigDecimal.valueOf(random.nextLong(0, 500_000), 2);
+            amounts[i] = BigDecimal.valueOf(random.nextLong(1, 500_000), 2);
+        }
+    }
+
+    @Test
+    void scaledLongPathShouldAllocateLessThanBigDecimalPath() {
+        Result bigDecimal = measure("bigdecimal", MoneyBenchmarkTest::bigDecimalRow);
+        Result money = measure("money", MoneyBenchmarkTest::moneyRow);
+
+        System.out.printf("%-12s %14s %14s%n", "path", "bytes/row", "rows/ms");
+        for (Result result : List.of(bigDecimal, money)) {
+            System.out.printf("%-12s %14.1f %14.1f%n", result.name(), result.bytesPerRow(), result.rowsPerMillisecond());
+        }
+
+        assertThat(money.checksum()).isEqualTo(bigDecimal.checksum());
+        assertThat(money.bytesPerRow()).isLessThan(bigDecimal.bytesPerRow());
+    }
+
+    private static double bigDecimalRow(int i) {
+        BigDecimal remaining = amounts[i].subtract(spent[i]);
+        double percentage = spent[i]
+                .divide(amounts[i], 4, RoundingMode.HALF_UP)
+                .multiply(BigDecimal.valueOf(100))
+                .doubleValue();
+        return percentage + remaining.signum();
+    }
+
+    private static double moneyRow(int i) {
+        long amount = Money.cents(amounts[i]);
+        long used = Money.cents(spent[i]);
+        return Money.percentage(used, amount) + Long.signum(amount - used);
+    }
+
+    private Result measure(String name, IntToDoubleFunction row) {
+        double checksum = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            checksum = run(row);
+        }
+
+        long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            checksum = run(row);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        long rows = (long) ROWS * MEASURED_ITERATIONS;
+        return new Result(name, (double) allocated / rows, rows / (elapsed / 1e6), checksum);
+    }
+
+    private static double run(IntToDoubleFunction row) {
+        double checksum = 0;
+        for (int i = 0; i < ROWS; i++) {
+            checksum += row.applyAsDouble(i);
+        }
+        return checksum;
+    }
+
+    private record Result(String name, double bytesPerRow, double rowsPerMillisecond, double checksum) {}
+}
@@ -0,0 +1,114 @@
+package com.vitorsaucedo.finly.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MoneyTest {
+
+    private static final int SAMPLES = 200_000;
+    private static final long MAX_NUMERIC_15_2 = 999_999_999_999_999L;
+
+    @Test
+    void percentageShouldMatchBigDecimalMathForRandomAmounts() {
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            long part = amount(random);
+            long whole = amount(random);
+            if (whole == 0) continue;
+
+            assertThat(Money.percentage(part, whole))
+                    .as("%d / %d", part, whole)
+                    .isEqualTo(reference(part, whole));
+        }
+    }
+
+    @Test
+    void percentageShouldMatchBigDecimalMathOnRoundingTies() {
+        SplittableRandom random = new SplittableRandom(7);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            long unit = random.nextLong(1, 1_000_000);
+            long whole = 20_000 * unit;
+            long part = (random.nextBoolean() ? 1 : -1) * (2 * random.nextLong(0, 1_000_000) + 1) * unit;
+
+            assertThat(Money.percentage(part, whole))
+                    .as("%d / %d", part, whole)
+                    .isEqualTo(reference(part, whole));
+            assertThat(Money.percentage(part, -whole))
+                    .as("%d / %d", part, -whole)
+                    .isEqualTo(reference(part, -whole));
+        }
+    }
+
+    @Test
+    void addAndSubtractShouldMatchBigDecimalMath() {
+        SplittableRandom random = new SplittableRandom(1234);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            BigDecimal a = BigDecimal.valueOf(amount(random), 2);
+            BigDecimal b = BigDecimal.valueOf(amount(random), 2);
+
+            assertThat(Money.of(a).add(Money.of(b)).toBigDecimal()).isEqualTo(a.add(b));
+            assertThat(Money.of(a).subtract(Money.of(b)).toBigDecimal()).isEqualTo(a.subtract(b));
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1, 3, 33.33",
+            "2, 3, 66.67",
+            "1, 8, 12.5",
+            "-1, 8, -12.5",
+            "5, 100000, 0.01",
+            "-5, 100000, -0.01",
+            "4, 100000, 0.0",
+            "150000, 100000, 150.0"
+    })
+    void shouldRoundHalfUpAtFourDecimals(long part, long whole, double expected) {
+        assertThat(Money.percentage(part, whole)).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldConvertBetweenBigDecimalAndCents() {
+        assertThat(Money.cents(new BigDecimal("1234.56"))).isEqualTo(123_456);
+        assertThat(Money.cents(new BigDecimal("10"))).isEqualTo(1_000);
+        assertThat(Money.cents(new BigDecimal("0.5000"))).isEqualTo(50);
+        assertThat(Money.toBigDecimal(-1_999)).isEqualTo(new BigDecimal("-19.99"));
+    }
+
+    @Test
+    void shouldRejectSubCentAmounts() {
+        assertThatThrownBy(() -> Money.cents(new BigDecimal("0.005")))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void shouldRejectOverflow() {
+        assertThatThrownBy(() -> new Money(Long.MAX_VALUE).add(new Money(1)))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    private static long amount(SplittableRandom random) {
+        return switch (random.nextInt(4)) {
+            case 0 -> random.nextLong(-10_000, 10_000);
+            case 1 -> random.nextLong(-10_000_000, 10_000_000);
+            case 2 -> random.nextLong(-MAX_NUMERIC_15_2, MAX_NUMERIC_15_2);
+            default -> random.nextLong(0, 100) * 100;
+        };
+    }
+
+    private static double reference(long part, long whole) {
+        return BigDecimal.valueOf(part, 2)
+                .divide(BigDecimal.valueOf(whole, 2), 4, RoundingMode.HALF_UP)
+                .multiply(BigDecimal.valueOf(100))
+                .doubleValue();
+    }
+}
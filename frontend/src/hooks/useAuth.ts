@@ -5,14 +5,18 @@ import type { LoginRequest, RegisterRequest } from "../types/auth";
 
 export const useAuth = () => {
   const dispatch = useAppDispatch();
-  const { user, token, isAuthenticated } = useAppSelector(
+  const { user, token, refreshToken, isAuthenticated } = useAppSelector(
     (state) => state.auth,
   );
 
   const login = async (data: LoginRequest) => {
     const response = await authService.login(data);
     dispatch(
-      setCredentials({ user: response.user, token: response.accessToken }),
+      setCredentials({
+        user: response.user,
+        token: response.accessToken,
+        refreshToken: response.refreshToken,
+      }),
     );
     return response;
   };
@@ -20,12 +24,19 @@ export const useAuth = () => {
   const register = async (data: RegisterRequest) => {
     const response = await authService.register(data);
     dispatch(
-      setCredentials({ user: response.user, token: response.accessToken }),
+      setCredentials({
+        user: response.user,
+        token: response.accessToken,
+        refreshToken: response.refreshToken,
+      }),
     );
     return response;
   };
 
   const signOut = () => {
+    if (refreshToken) {
+      authService.logout({ refreshToken }).catch(() => undefined);
+    }
     dispatch(logout());
   };
 
@@ -31,6 +31,9 @@ const DashboardPage = () => {
     );
   }
 
+  const amount = (value: number | null | undefined) =>
+    value == null ? "—" : formatCurrency(value, data?.baseCurrency);
+
   const greeting = () => {
     const hour = new Date().getHours();
     if (hour < 12) return "Good morning";
@@ -54,28 +57,28 @@ const DashboardPage = () => {
       <div className="grid grid-cols-1 sm:grid-cols-2 xl:grid-cols-4 gap-4">
         <SummaryCard
           title="Total Balance"
-          value={formatCurrency(data?.totalBalance ?? 0)}
+          value={amount(data?.totalBalance)}
           icon={<Wallet size={18} />}
           iconBg="bg-emerald-50 text-emerald-600"
           trend={null}
         />
         <SummaryCard
           title="Monthly Income"
-          value={formatCurrency(data?.totalIncome ?? 0)}
+          value={amount(data?.totalIncome)}
           icon={<TrendingUp size={18} />}
           iconBg="bg-blue-50 text-blue-600"
           trend="up"
         />
         <SummaryCard
           title="Monthly Expenses"
-          value={formatCurrency(data?.totalExpenses ?? 0)}
+          value={amount(data?.totalExpenses)}
           icon={<TrendingDown size={18} />}
           iconBg="bg-red-50 text-red-600"
           trend="down"
         />
         <SummaryCard
           title="Net Balance"
-          value={formatCurrency(data?.netBalance ?? 0)}
+          value={amount(data?.netBalance)}
           icon={<ArrowLeftRight size={18} />}
           iconBg="bg-purple-50 text-purple-600"
           trend={(data?.netBalance ?? 0) >= 0 ? "up" : "down"}
@@ -122,7 +125,7 @@ const DashboardPage = () => {
                 No transactions yet
               </p>
             ) : (
-              data?.recentTransactions.map((t) => (
+              (data?.recentTransactions ?? []).map((t) => (
                 <TransactionRow key={t.id} transaction={t} />
               ))
             )}
@@ -148,7 +151,7 @@ const DashboardPage = () => {
                   No budgets this month
                 </p>
               ) : (
-                data?.budgets
+                (data?.budgets ?? [])
                   .slice(0, 4)
                   .map((b) => <BudgetRow key={b.id} budget={b} />)
               )}
@@ -172,7 +175,7 @@ const DashboardPage = () => {
                   No goals yet
                 </p>
               ) : (
-                data?.goals
+                (data?.goals ?? [])
                   .slice(0, 3)
                   .map((g) => <GoalRow key={g.id} goal={g} />)
               )}
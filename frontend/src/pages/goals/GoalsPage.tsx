@@ -259,6 +259,32 @@ const GoalCard = ({
       </div>
     </div>
 
+    {/* Projection */}
+    {g.status === "IN_PROGRESS" && (
+      <div className="flex items-center justify-between mb-3">
+        <div>
+          <p className="text-xs text-gray-400">Projected</p>
+          <p
+            className={`text-sm font-semibold ${
+              g.onTrack === false ? "text-red-500" : "text-gray-900"
+            }`}
+          >
+            {g.projectedCompletionDate
+              ? formatDate(g.projectedCompletionDate)
+              : "No recent deposits"}
+          </p>
+        </div>
+        {g.requiredMonthlyContribution !== null && (
+          <div className="text-right">
+            <p className="text-xs text-gray-400">Needed / month</p>
+            <p className="text-sm font-semibold text-gray-900 font-mono">
+              {formatCurrency(g.requiredMonthlyContribution)}
+            </p>
+          </div>
+        )}
+      </div>
+    )}
+
     {/* Remaining + deposit button */}
     <div className="flex items-center justify-between pt-3 border-t border-gray-100">
       <span className="text-xs text-gray-400">
@@ -1,4 +1,8 @@
 import axios from "axios";
+import type { AxiosError, InternalAxiosRequestConfig } from "axios";
+import { store } from "../store";
+import { logout, setCredentials } from "../store/authSlice";
+import type { AuthResponse } from "../types/auth";
 
 // Em dev: VITE_API_URL não está definido → baseURL fica vazio → o proxy do Vite
 //         intercepta as chamadas para /api e repassa para http://localhost:8080.
@@ -7,8 +11,10 @@ import axios from "axios";
 //          ex: https://finly-backend.onrender.com
 //          O axios chama o backend diretamente pela URL completa.
 
+const baseURL = import.meta.env.VITE_API_URL ?? "";
+
 const api = axios.create({
-  baseURL: import.meta.env.VITE_API_URL ?? "",
+  baseURL,
   headers: {
     "Content-Type": "application/json",
   },
@@ -22,11 +28,66 @@ api.interceptors.request.use((config) => {
   return config;
 });
 
+// Access tokens duram poucos minutos. Em um 401, uma única chamada de refresh
+// é compartilhada entre as requisições em voo (o backend invalida a sessão se o
+// mesmo refresh token for usado duas vezes) e as requisições são repetidas.
+let refreshing: Promise<string> | null = null;
+
+const refreshAccessToken = (): Promise<string> => {
+  if (!refreshing) {
+    const refreshToken = localStorage.getItem("finly_refresh_token");
+    refreshing = (
+      refreshToken
+        ? axios
+            .post<AuthResponse>(`${baseURL}/api/auth/refresh`, { refreshToken })
+            .then(({ data }) => {
+              store.dispatch(
+                setCredentials({
+                  user: data.user,
+                  token: data.accessToken,
+                  refreshToken: data.refreshToken,
+                }),
+              );
+              return data.accessToken;
+            })
+        : Promise.reject(new Error("No refresh token"))
+    ).finally(() => {
+      refreshing = null;
+    });
+  }
+  return refreshing;
+};
+
+const isAuthRequest = (url?: string) =>
+  !!url && /\/api\/auth\/(login|register|refresh|logout)$/.test(url);
+
 api.interceptors.response.use(
   (response) => response,
-  (error) => {
-    if (error.response?.status === 401) {
-      localStorage.removeItem("finly_token");
+  async (error: AxiosError) => {
+    const original = error.config as
+      | (InternalAxiosRequestConfig & { _retry?: boolean })
+      | undefined;
+
+    if (
+      error.response?.status === 401 &&
+      original &&
+      !original._retry &&
+      !isAuthRequest(original.url)
+    ) {
+      original._retry = true;
+      try {
+        const token = await refreshAccessToken();
+        original.headers.Authorization = `Bearer ${token}`;
+        return api(original);
+      } catch {
+        store.dispatch(logout());
+        window.location.href = "/login";
+        return Promise.reject(error);
+      }
+    }
+
+    if (error.response?.status === 401 && !isAuthRequest(original?.url)) {
+      store.dispatch(logout());
       window.location.href = "/login";
     }
     return Promise.reject(error);
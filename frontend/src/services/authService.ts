@@ -2,6 +2,7 @@ import api from "./api";
 import type {
   AuthResponse,
   LoginRequest,
+  RefreshTokenRequest,
   RegisterRequest,
 } from "../types/auth";
 
@@ -15,4 +16,13 @@ export const authService = {
     const response = await api.post<AuthResponse>("/api/auth/register", data);
     return response.data;
   },
+
+  refresh: async (data: RefreshTokenRequest): Promise<AuthResponse> => {
+    const response = await api.post<AuthResponse>("/api/auth/refresh", data);
+    return response.data;
+  },
+
+  logout: async (data: RefreshTokenRequest): Promise<void> => {
+    await api.post("/api/auth/logout", data);
+  },
 };
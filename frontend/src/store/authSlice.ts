@@ -11,15 +11,18 @@ interface UserState {
 interface AuthState {
   user: UserState | null;
   token: string | null;
+  refreshToken: string | null;
   isAuthenticated: boolean;
 }
 
 const token = localStorage.getItem("finly_token");
+const refreshToken = localStorage.getItem("finly_refresh_token");
 const storedUser = localStorage.getItem("finly_user");
 
 const initialState: AuthState = {
   user: storedUser ? JSON.parse(storedUser) : null,
   token: token,
+  refreshToken: refreshToken,
   isAuthenticated: !!token,
 };
 
@@ -29,19 +32,29 @@ const authSlice = createSlice({
   reducers: {
     setCredentials: (
       state,
-      action: PayloadAction<{ user: UserState; token: string }>,
+      action: PayloadAction<{
+        user: UserState;
+        token: string;
+        refreshToken?: string;
+      }>,
     ) => {
       state.user = action.payload.user;
       state.token = action.payload.token;
       state.isAuthenticated = true;
       localStorage.setItem("finly_token", action.payload.token);
       localStorage.setItem("finly_user", JSON.stringify(action.payload.user));
+      if (action.payload.refreshToken) {
+        state.refreshToken = action.payload.refreshToken;
+        localStorage.setItem("finly_refresh_token", action.payload.refreshToken);
+      }
     },
     logout: (state) => {
       state.user = null;
       state.token = null;
+      state.refreshToken = null;
       state.isAuthenticated = false;
       localStorage.removeItem("finly_token");
+      localStorage.removeItem("finly_refresh_token");
       localStorage.removeItem("finly_user");
     },
   },
@@ -2,6 +2,7 @@ export interface UserResponse {
   id: string;
   name: string;
   email: string;
+  baseCurrency: string;
   createdAt: string;
 }
 
@@ -9,6 +10,8 @@ export interface AuthResponse {
   accessToken: string;
   tokenType: string;
   expiresIn: number;
+  refreshToken: string;
+  refreshExpiresIn: number;
   user: UserResponse;
 }
 
@@ -17,6 +20,10 @@ export interface LoginRequest {
   password: string;
 }
 
+export interface RefreshTokenRequest {
+  refreshToken: string;
+}
+
 export interface RegisterRequest {
   name: string;
   email: string;
@@ -4,12 +4,14 @@ import type { GoalResponse } from "./goal";
 import type { TransactionResponse } from "./transaction";
 
 export interface DashboardResponse {
-  totalBalance: number;
-  totalIncome: number;
-  totalExpenses: number;
-  netBalance: number;
-  accounts: AccountResponse[];
-  budgets: BudgetResponse[];
-  goals: GoalResponse[];
-  recentTransactions: TransactionResponse[];
+  baseCurrency: string;
+  totalBalance: number | null;
+  totalIncome: number | null;
+  totalExpenses: number | null;
+  netBalance: number | null;
+  accounts: AccountResponse[] | null;
+  budgets: BudgetResponse[] | null;
+  goals: GoalResponse[] | null;
+  recentTransactions: TransactionResponse[] | null;
+  unavailableSections: string[];
 }
@@ -11,6 +11,10 @@ export interface GoalResponse {
   status: GoalStatus;
   notes: string | null;
   createdAt: string;
+  averageMonthlyContribution: number | null;
+  requiredMonthlyContribution: number | null;
+  projectedCompletionDate: string | null;
+  onTrack: boolean | null;
 }
 
 export interface GoalRequest {